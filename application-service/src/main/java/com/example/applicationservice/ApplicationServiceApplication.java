@@ -2,15 +2,20 @@ package com.example.applicationservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
-@SpringBootApplication
+// R2DBC настраивается вручную в R2dbcConfig (только профиль r2dbc), чтобы не конфликтовать с JPA
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 @EnableDiscoveryClient
 @EnableFeignClients
+@EnableScheduling
 public class ApplicationServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(ApplicationServiceApplication.class, args);
     }
-}
\ No newline at end of file
+}
@@ -7,19 +7,22 @@ import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
+/**
+ * Кладёт Authorization входящего запроса в Reactor Context (см. ReactorAuthContext).
+ * ThreadLocal здесь не заполняется: обработка запроса не привязана к потоку event loop,
+ * блокирующие вызовы выставляют AuthHeaderHolder сами на своём потоке.
+ */
 @Component
-public class AuthHeaderThreadLocalFilter implements WebFilter {
+public class AuthHeaderContextFilter implements WebFilter {
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
         String auth = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
         if (auth != null && !auth.isBlank()) {
-            AuthHeaderHolder.set(auth);
             return chain.filter(exchange)
-                    .doFinally(sig -> AuthHeaderHolder.clear());
+                    .contextWrite(ReactorAuthContext.with(auth));
         } else {
             return chain.filter(exchange);
         }
     }
 }
-
@@ -0,0 +1,41 @@
+package com.example.applicationservice.adapters.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Пул для параллельных блокирующих вызовов в соседние сервисы (Feign).
+ * Authorization из AuthHeaderHolder переносится в рабочий поток, чтобы FeignAuthRequestInterceptor его увидел.
+ */
+@Configuration
+public class DownstreamExecutorConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor downstreamExecutor(@Value("${application.downstream.pool-size:32}") int poolSize,
+                                                     @Value("${application.downstream.queue-capacity:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("downstream-");
+        // при переполнении выполняем в вызывающем потоке (как раньше — последовательно), а не падаем
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(task -> {
+            String auth = AuthHeaderHolder.get();
+            return () -> {
+                String previous = AuthHeaderHolder.get();
+                AuthHeaderHolder.set(auth);
+                try {
+                    task.run();
+                } finally {
+                    if (previous != null) AuthHeaderHolder.set(previous); else AuthHeaderHolder.clear();
+                }
+            };
+        });
+        return executor;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.applicationservice.adapters.config;
+
+import com.example.applicationservice.adapters.outbound.limit.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Адаптивные лимиты одновременных вызовов — по одному на соседний сервис, общие для Feign- и WebClient-адаптеров.
+ */
+@Configuration
+public class DownstreamLimiterConfig {
+
+    @Value("${application.downstream.limit.initial:20}")
+    private int initialLimit;
+
+    @Value("${application.downstream.limit.min:2}")
+    private int minLimit;
+
+    @Value("${application.downstream.limit.max:200}")
+    private int maxLimit;
+
+    @Value("${application.downstream.limit.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${application.downstream.limit.latency-threshold:PT1S}")
+    private Duration latencyThreshold;
+
+    @Bean
+    public AdaptiveConcurrencyLimiter userServiceLimiter(MeterRegistry meterRegistry) {
+        return limiter("user-service", "User service is unavailable now", meterRegistry);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter productServiceLimiter(MeterRegistry meterRegistry) {
+        return limiter("product-service", "Product service is unavailable now", meterRegistry);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter fileServiceLimiter(MeterRegistry meterRegistry) {
+        return limiter("file-service", "File service is unavailable now", meterRegistry);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(String downstream, String unavailableMessage, MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter(downstream, unavailableMessage, meterRegistry,
+                initialLimit, minLimit, maxLimit, backoffRatio, latencyThreshold);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.applicationservice.adapters.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC batching для Hibernate: INSERT-ы строк истории (и каскадные строки новой заявки) копятся до flush
+ * и уходят пачками; order_inserts группирует их по таблицам, иначе чередование сущностей рвёт batch.
+ * Значения из spring.jpa.properties.* (config-server) имеют приоритет над этими умолчаниями.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(@Value("${application.jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.applicationservice.adapters.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.time.Duration;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    /**
+     * Фабрика для batch-листенеров: весь poll приходит одним списком, offset коммитится после успешной обработки пачки.
+     * При исключении пачка повторяется с экспоненциальным backoff (до max-interval) без ограничения по числу попыток
+     * и по времени: offset не коммитится, пока пачка не обработана, удаления по user/product не теряются.
+     * Некорректные id отбрасывают сами листенеры, поэтому до повторов доходят только временные ошибки (БД).
+     * Обычные (поштучные) листенеры используют фабрику Spring Boot по умолчанию.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            @Value("${application.kafka.batch.retry-interval:PT1S}") Duration retryInterval,
+            @Value("${application.kafka.batch.max-retry-interval:PT1M}") Duration maxRetryInterval) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+
+        ExponentialBackOff backOff = new ExponentialBackOff(retryInterval.toMillis(), 2.0);
+        backOff.setMaxInterval(Math.max(retryInterval.toMillis(), maxRetryInterval.toMillis()));
+        backOff.setMaxElapsedTime(ExponentialBackOff.DEFAULT_MAX_ELAPSED_TIME);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(backOff));
+        return factory;
+    }
+}
@@ -5,8 +5,10 @@ import org.apache.kafka.common.serialization.StringSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import reactor.kafka.sender.KafkaSender;
 import reactor.kafka.sender.SenderOptions;
 
@@ -21,25 +23,55 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    // батчинг продюсера: outbox-relay отдаёт записи пачкой, продюсер собирает их в запросы по партициям
+    @Value("${spring.kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${spring.kafka.producer.properties.linger.ms:10}")
+    private int lingerMs;
+
+    @Value("${spring.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    // OutboxRelay ждёт подтверждений не меньше этого времени, иначе откатывал бы ещё доставляемые записи
+    @Value("${spring.kafka.producer.properties.delivery.timeout.ms:120000}")
+    private int deliveryTimeoutMs;
+
     @Bean
+    @Primary
     public KafkaSender<String, String> kafkaSender() {
+        log.info("Configuring Kafka Producer for application-service with bootstrap servers: {}", bootstrapServers);
+        return KafkaSender.create(SenderOptions.create(producerProps()));
+    }
+
+    /**
+     * Отдельный продюсер для OutboxRelay: stopOnError(false) — ошибка одной записи приходит в её SenderResult
+     * и не обрывает отправку остальных записей пачки.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "application.outbox.enabled", havingValue = "true", matchIfMissing = true)
+    public KafkaSender<String, String> outboxKafkaSender() {
+        SenderOptions<String, String> senderOptions = SenderOptions.<String, String>create(producerProps()).stopOnError(false);
+        return KafkaSender.create(senderOptions);
+    }
+
+    private Map<String, Object> producerProps() {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         props.put(ProducerConfig.RETRIES_CONFIG, 10);
         props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
-        props.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 120000);
+        props.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, deliveryTimeoutMs);
         props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, 60000);
         props.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, 30000);
 
         props.put(ProducerConfig.RETRY_BACKOFF_MS_CONFIG, 1000);
         props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
         props.put(ProducerConfig.ACKS_CONFIG, "all");
-
-        log.info("Configuring Kafka Producer for application-service with bootstrap servers: {}", bootstrapServers);
-
-        SenderOptions<String, String> senderOptions = SenderOptions.create(props);
-        return KafkaSender.create(senderOptions);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        return props;
     }
 }
\ No newline at end of file
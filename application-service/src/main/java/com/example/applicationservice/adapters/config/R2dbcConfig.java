@@ -0,0 +1,63 @@
+package com.example.applicationservice.adapters.config;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+/**
+ * Реактивный доступ к БД (профиль r2dbc).
+ * R2dbcTransactionManager намеренно не регистрируется бином: блокирующие @Transactional-декораторы
+ * продолжают работать через JPA, а реактивные используют TransactionalOperator явно.
+ */
+@Configuration
+@Profile("r2dbc")
+public class R2dbcConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(R2dbcConfig.class);
+
+    @Value("${spring.r2dbc.url}")
+    private String url;
+
+    @Value("${spring.r2dbc.username:}")
+    private String username;
+
+    @Value("${spring.r2dbc.password:}")
+    private String password;
+
+    @Bean
+    public ConnectionFactory connectionFactory() {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isBlank()) options.option(ConnectionFactoryOptions.USER, username);
+        if (!password.isBlank()) options.option(ConnectionFactoryOptions.PASSWORD, password);
+
+        log.info("Configuring R2DBC connection factory for application-service: {}", url);
+        return ConnectionFactories.get(options.build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    @Bean
+    public TransactionalOperator r2dbcTransactionalOperator(ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    @Bean
+    public TransactionalOperator r2dbcReadOnlyTransactionalOperator(ConnectionFactory connectionFactory) {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setReadOnly(true);
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory), definition);
+    }
+}
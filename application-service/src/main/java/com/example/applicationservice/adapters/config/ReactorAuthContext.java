@@ -0,0 +1,70 @@
+package com.example.applicationservice.adapters.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Authorization входящего запроса в Reactor Context.
+ * В отличие от AuthHeaderHolder (ThreadLocal) переживает смену потоков: boundedElastic, event loop WebClient.
+ */
+public final class ReactorAuthContext {
+
+    private static final String KEY = ReactorAuthContext.class.getName() + ".authorization";
+
+    private ReactorAuthContext() {}
+
+    public static Context with(String authHeader) {
+        return Context.of(KEY, authHeader);
+    }
+
+    public static Optional<String> get(ContextView context) {
+        return context.getOrEmpty(KEY);
+    }
+
+    /**
+     * Фильтр WebClient: подставляет Authorization из контекста подписчика.
+     */
+    public static ExchangeFilterFunction propagate() {
+        return (request, next) -> Mono.deferContextual(ctx -> get(ctx)
+                .map(auth -> next.exchange(ClientRequest.from(request).header(HttpHeaders.AUTHORIZATION, auth).build()))
+                .orElseGet(() -> next.exchange(request)));
+    }
+
+    /**
+     * Блокирующий вызов на boundedElastic с Authorization в AuthHeaderHolder —
+     * для Feign-клиентов, которые читают заголовок из ThreadLocal (FeignAuthRequestInterceptor).
+     */
+    public static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.deferContextual(ctx -> {
+                    String auth = get(ctx).orElse(null);
+                    return Mono.fromCallable(() -> {
+                        if (auth == null) return call.call();
+                        AuthHeaderHolder.set(auth);
+                        try {
+                            return call.call();
+                        } finally {
+                            AuthHeaderHolder.clear();
+                        }
+                    });
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * То же для вызова без результата.
+     */
+    public static Mono<Void> blocking(Runnable call) {
+        return blocking(() -> {
+            call.run();
+            return null;
+        }).then();
+    }
+}
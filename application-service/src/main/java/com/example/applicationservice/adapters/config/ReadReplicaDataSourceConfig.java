@@ -0,0 +1,87 @@
+package com.example.applicationservice.adapters.config;
+
+import com.example.applicationservice.adapters.outbound.persistence.routing.ReadReplicaRoutingDataSource;
+import com.example.applicationservice.adapters.outbound.persistence.routing.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Чтение с реплик PostgreSQL для блокирующих декораторов (включается заданием application.datasource.replicas.urls).
+ * primary настраивается как обычно через spring.datasource.*, реплики — списком URL с теми же учётными данными,
+ * если не заданы свои. У каждого маршрута свой пул Hikari: метрики hikaricp.* с тегом pool (primary, replica-0, ...).
+ * Настройки пулов (таймауты, max-lifetime, leak detection и т.д.) берутся из spring.datasource.hikari.*,
+ * как у пула Spring Boot по умолчанию; для реплик переопределяется только размер (replicas.pool-size).
+ * Реактивный доступ профиля r2dbc этим не затрагивается.
+ */
+@Configuration
+@ConditionalOnProperty(name = "application.datasource.replicas.urls")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariConfig readReplicaHikariConfig() {
+        return new HikariConfig();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+            DataSourceProperties properties,
+            HikariConfig readReplicaHikariConfig,
+            MeterRegistry meterRegistry,
+            @Value("${application.datasource.replicas.urls}") String[] replicaUrls,
+            @Value("${application.datasource.replicas.username:}") String replicaUsername,
+            @Value("${application.datasource.replicas.password:}") String replicaPassword,
+            @Value("${application.datasource.replicas.pool-size:0}") int replicaPoolSize,
+            @Value("${application.datasource.replicas.read-your-writes-window:PT5S}") Duration readYourWritesWindow) {
+        String username = replicaUsername.isBlank() ? properties.determineUsername() : replicaUsername;
+        String password = replicaPassword.isBlank() ? properties.determinePassword() : replicaPassword;
+
+        HikariDataSource primary = pool(readReplicaHikariConfig, "primary", properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword(), properties.determineDriverClassName(), meterRegistry);
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.length; i++) {
+            HikariDataSource replica = pool(readReplicaHikariConfig, "replica-" + i, replicaUrls[i].trim(), username, password,
+                    properties.determineDriverClassName(), meterRegistry);
+            if (replicaPoolSize > 0) replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReadReplicaRoutingDataSource(primary, replicas,
+                new ReadYourWritesTracker(readYourWritesWindow), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    // копия общих настроек spring.datasource.hikari.*; пул стартует лениво, при первом getConnection
+    static HikariDataSource pool(HikariConfig template, String name, String url, String username, String password,
+                                 String driverClassName, MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        template.copyStateTo(pool);
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        if (driverClassName != null) pool.setDriverClassName(driverClassName);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
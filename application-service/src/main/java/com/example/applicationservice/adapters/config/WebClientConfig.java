@@ -0,0 +1,77 @@
+package com.example.applicationservice.adapters.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Неблокирующий клиент для соседних сервисов (adapters/outbound/webclient).
+ * Адреса вида http://user-service разрешаются через Eureka (LoadBalancedExchangeFilterFunction),
+ * Authorization берётся из Reactor Context (ReactorAuthContext).
+ * Пул соединений общий; metrics(true) публикует reactor.netty.connection.provider.* с тегом remote.address —
+ * активные, простаивающие и ожидающие соединения по каждому инстансу.
+ */
+@Configuration
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider downstreamConnectionProvider(
+            @Value("${application.webclient.max-connections:200}") int maxConnections,
+            @Value("${application.webclient.pending-acquire-timeout:PT5S}") Duration pendingAcquireTimeout,
+            @Value("${application.webclient.max-idle-time:PT30S}") Duration maxIdleTime) {
+        return ConnectionProvider.builder("downstream")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(maxIdleTime)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient downstreamWebClient(WebClient.Builder builder,
+                                         ConnectionProvider downstreamConnectionProvider,
+                                         LoadBalancedExchangeFilterFunction loadBalancer,
+                                         @Value("${application.webclient.connect-timeout:PT2S}") Duration connectTimeout,
+                                         @Value("${application.webclient.response-timeout:PT5S}") Duration responseTimeout) {
+        return builder
+                .clientConnector(connector(downstreamConnectionProvider, connectTimeout, responseTimeout))
+                .filter(loadBalancer)
+                .filter(ReactorAuthContext.propagate())
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+
+    /**
+     * Клиент без балансировщика: адрес конкретного инстанса выбирает вызывающий (HedgedFileCheckClient).
+     */
+    @Bean
+    public WebClient directWebClient(WebClient.Builder builder,
+                                     ConnectionProvider downstreamConnectionProvider,
+                                     @Value("${application.webclient.connect-timeout:PT2S}") Duration connectTimeout,
+                                     @Value("${application.webclient.response-timeout:PT5S}") Duration responseTimeout) {
+        return builder
+                .clientConnector(connector(downstreamConnectionProvider, connectTimeout, responseTimeout))
+                .filter(ReactorAuthContext.propagate())
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+
+    private static ReactorClientHttpConnector connector(ConnectionProvider connectionProvider,
+                                                        Duration connectTimeout, Duration responseTimeout) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+        return new ReactorClientHttpConnector(httpClient);
+    }
+}
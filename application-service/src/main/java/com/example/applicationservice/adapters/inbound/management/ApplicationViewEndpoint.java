@@ -0,0 +1,31 @@
+package com.example.applicationservice.adapters.inbound.management;
+
+import com.example.applicationservice.adapters.outbound.persistence.ApplicationViewProjector;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * POST /actuator/applicationview — полная пересборка application_view (backfill после включения
+ * read-модели или ручных правок БД). Заявки ставятся в очередь, проектор догоняет их в фоне.
+ * Доступность задаётся обычными настройками management.endpoints.
+ */
+@Component
+@Endpoint(id = "applicationview")
+@ConditionalOnProperty(name = "application.read-model.enabled", havingValue = "true")
+public class ApplicationViewEndpoint {
+
+    private final ApplicationViewProjector projector;
+
+    public ApplicationViewEndpoint(ApplicationViewProjector projector) {
+        this.projector = projector;
+    }
+
+    @WriteOperation
+    public Map<String, Integer> rebuild() {
+        return Map.of("enqueued", projector.rebuild());
+    }
+}
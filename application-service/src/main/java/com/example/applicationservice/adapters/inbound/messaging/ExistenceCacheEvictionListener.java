@@ -0,0 +1,50 @@
+package com.example.applicationservice.adapters.inbound.messaging;
+
+import com.example.applicationservice.adapters.outbound.cache.CachingProductServiceAdapter;
+import com.example.applicationservice.adapters.outbound.cache.CachingUserServiceAdapter;
+import org.slf4j.*;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+public class ExistenceCacheEvictionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ExistenceCacheEvictionListener.class);
+
+    private final CachingUserServiceAdapter userExistenceCache;
+    private final CachingProductServiceAdapter productExistenceCache;
+
+    public ExistenceCacheEvictionListener(CachingUserServiceAdapter userExistenceCache,
+                                          CachingProductServiceAdapter productExistenceCache) {
+        this.userExistenceCache = userExistenceCache;
+        this.productExistenceCache = productExistenceCache;
+    }
+
+    // удаление заявок обрабатывает один инстанс (UserDeletedEventListener), а кэш чистит каждый — отдельная группа на инстанс
+    @KafkaListener(topics = "${spring.kafka.topics.user-deleted:user.deleted}",
+            groupId = "${spring.kafka.consumer.group-id}-user-cache-${random.uuid}")
+    public void handleUserDeleted(@Payload String userIdString) {
+        try {
+            UUID userId = UUID.fromString(userIdString);
+            userExistenceCache.evict(userId);
+            log.debug("Evicted user {} from existence cache", userId);
+        } catch (Exception e) {
+            log.error("Error handling user.deleted message for cache: {}", userIdString, e);
+        }
+    }
+
+    @KafkaListener(topics = "${spring.kafka.topics.product-deleted:product.deleted}",
+            groupId = "${spring.kafka.consumer.group-id}-product-cache-${random.uuid}")
+    public void handleProductDeleted(@Payload String productIdString) {
+        try {
+            UUID productId = UUID.fromString(productIdString);
+            productExistenceCache.evict(productId);
+            log.debug("Evicted product {} from existence cache", productId);
+        } catch (Exception e) {
+            log.error("Error handling product.deleted message for cache: {}", productIdString, e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.applicationservice.adapters.inbound.messaging;
+
+import com.example.applicationservice.adapters.outbound.cache.CachingFileServiceAdapter;
+import com.example.applicationservice.adapters.outbound.persistence.ApplicationViewProjector;
+import org.slf4j.*;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+public class FileDeletedEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(FileDeletedEventListener.class);
+
+    private final CachingFileServiceAdapter fileExistenceCache;
+    private final ObjectProvider<ApplicationViewProjector> viewProjector;
+
+    public FileDeletedEventListener(CachingFileServiceAdapter fileExistenceCache,
+                                    ObjectProvider<ApplicationViewProjector> viewProjector) {
+        this.fileExistenceCache = fileExistenceCache;
+        this.viewProjector = viewProjector;
+    }
+
+    // кэш у каждого инстанса свой, поэтому событие должен получить каждый — отдельная группа на инстанс
+    @KafkaListener(topics = "${spring.kafka.topics.file-deleted:file.deleted}",
+            groupId = "${spring.kafka.consumer.group-id}-file-cache-${random.uuid}")
+    public void handle(@Payload String fileIdString) {
+        try {
+            UUID fileId = UUID.fromString(fileIdString);
+            log.info("Received file.deleted for {}", fileId);
+            fileExistenceCache.markDeleted(fileId);
+            // постановка в очередь идемпотентна, поэтому повтор с каждого инстанса безвреден
+            viewProjector.ifAvailable(projector -> projector.enqueueByFile(fileId));
+        } catch (Exception e) {
+            log.error("Error handling file.deleted message: {}", fileIdString, e);
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.example.applicationservice.adapters.inbound.messaging;
 
 import com.example.applicationservice.domain.port.inbound.DeleteApplicationsByProductIdUseCasePort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.*;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -14,23 +20,38 @@ public class ProductDeletedEventListener {
     private static final Logger log = LoggerFactory.getLogger(ProductDeletedEventListener.class);
 
     private final DeleteApplicationsByProductIdUseCasePort deleteByProductPort;
+    private final DistributionSummary batchSize;
+    private final Timer batchLatency;
 
-    public ProductDeletedEventListener(DeleteApplicationsByProductIdUseCasePort deleteByProductPort) {
+    public ProductDeletedEventListener(DeleteApplicationsByProductIdUseCasePort deleteByProductPort, MeterRegistry meterRegistry) {
         this.deleteByProductPort = deleteByProductPort;
+        this.batchSize = DistributionSummary.builder("application.kafka.batch.size")
+                .tag("topic", "product.deleted")
+                .register(meterRegistry);
+        this.batchLatency = Timer.builder("application.kafka.batch.latency")
+                .tag("topic", "product.deleted")
+                .register(meterRegistry);
     }
 
+    // весь poll одним списком: одна транзакция и один set-based DELETE на пачку;
+    // исключение не глотаем — пачка перечитается, offset не закоммитится (см. KafkaConsumerConfig)
     @KafkaListener(topics = "${spring.kafka.topics.product-deleted:product.deleted}",
-            groupId = "${spring.kafka.consumer.group-id}")
-    public void handle(@Payload String productIdString) {
-        try {
-            UUID productId = UUID.fromString(productIdString);
-            log.info("Received product.deleted for {}", productId);
-            // call sync method on port (already transactional via decorator)
-            deleteByProductPort.deleteApplicationsByProductId(productId);
-            log.info("Deleted applications for product {}", productId);
-        } catch (Exception e) {
-            log.error("Error handling product.deleted message: {}", productIdString, e);
-            // consider dead-lettering / retry in production
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void handle(@Payload List<String> productIdStrings) {
+        Set<UUID> productIds = new LinkedHashSet<>();
+        for (String productIdString : productIdStrings) {
+            try {
+                productIds.add(UUID.fromString(productIdString));
+            } catch (IllegalArgumentException e) {
+                log.error("Skipping malformed product.deleted message: {}", productIdString);
+            }
         }
+        batchSize.record(productIds.size());
+        if (productIds.isEmpty()) return;
+
+        log.info("Received product.deleted batch: {} records, {} distinct products", productIdStrings.size(), productIds.size());
+        batchLatency.record(() -> deleteByProductPort.deleteApplicationsByProductIds(productIds));
+        log.info("Deleted applications for {} products", productIds.size());
     }
 }
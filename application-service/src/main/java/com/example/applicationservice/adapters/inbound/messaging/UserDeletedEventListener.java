@@ -1,11 +1,17 @@
 package com.example.applicationservice.adapters.inbound.messaging;
 
 import com.example.applicationservice.domain.port.inbound.DeleteApplicationsByUserIdUseCasePort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.*;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -14,21 +20,38 @@ public class UserDeletedEventListener {
     private static final Logger log = LoggerFactory.getLogger(UserDeletedEventListener.class);
 
     private final DeleteApplicationsByUserIdUseCasePort deleteByUserPort;
+    private final DistributionSummary batchSize;
+    private final Timer batchLatency;
 
-    public UserDeletedEventListener(DeleteApplicationsByUserIdUseCasePort deleteByUserPort) {
+    public UserDeletedEventListener(DeleteApplicationsByUserIdUseCasePort deleteByUserPort, MeterRegistry meterRegistry) {
         this.deleteByUserPort = deleteByUserPort;
+        this.batchSize = DistributionSummary.builder("application.kafka.batch.size")
+                .tag("topic", "user.deleted")
+                .register(meterRegistry);
+        this.batchLatency = Timer.builder("application.kafka.batch.latency")
+                .tag("topic", "user.deleted")
+                .register(meterRegistry);
     }
 
+    // весь poll одним списком: одна транзакция и один set-based DELETE на пачку;
+    // исключение не глотаем — пачка перечитается, offset не закоммитится (см. KafkaConsumerConfig)
     @KafkaListener(topics = "${spring.kafka.topics.user-deleted:user.deleted}",
-            groupId = "${spring.kafka.consumer.group-id}")
-    public void handle(@Payload String userIdString) {
-        try {
-            UUID userId = UUID.fromString(userIdString);
-            log.info("Received user.deleted for {}", userId);
-            deleteByUserPort.deleteApplicationsByUserId(userId);
-            log.info("Deleted applications for user {}", userId);
-        } catch (Exception e) {
-            log.error("Error handling user.deleted message: {}", userIdString, e);
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void handle(@Payload List<String> userIdStrings) {
+        Set<UUID> userIds = new LinkedHashSet<>();
+        for (String userIdString : userIdStrings) {
+            try {
+                userIds.add(UUID.fromString(userIdString));
+            } catch (IllegalArgumentException e) {
+                log.error("Skipping malformed user.deleted message: {}", userIdString);
+            }
         }
+        batchSize.record(userIds.size());
+        if (userIds.isEmpty()) return;
+
+        log.info("Received user.deleted batch: {} records, {} distinct users", userIdStrings.size(), userIds.size());
+        batchLatency.record(() -> deleteByUserPort.deleteApplicationsByUserIds(userIds));
+        log.info("Deleted applications for {} users", userIds.size());
     }
 }
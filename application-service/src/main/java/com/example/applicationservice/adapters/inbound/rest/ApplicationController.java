@@ -1,15 +1,21 @@
 package com.example.applicationservice.adapters.inbound.rest;
 
+import com.example.applicationservice.adapters.config.ReactorAuthContext;
 import com.example.applicationservice.application.dto.*;
 import com.example.applicationservice.application.mapper.ApplicationMapper;
 import com.example.applicationservice.domain.dto.ApplicationCreateCommand;
+import com.example.applicationservice.domain.dto.ApplicationFilter;
 import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
 import com.example.applicationservice.domain.port.inbound.*;
 import com.example.applicationservice.application.exception.*;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
@@ -17,6 +23,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -28,45 +35,51 @@ public class ApplicationController {
     private static final Logger log = LoggerFactory.getLogger(ApplicationController.class);
     private static final int MAX_PAGE_SIZE = 50;
 
-    private final CreateApplicationUseCasePort createPort;
-    private final ListApplicationsUseCasePort listPort;
-    private final GetApplicationUseCasePort getPort;
-    private final StreamApplicationsUseCasePort streamPort;
+    private final ReactiveCreateApplicationUseCasePort createPort;
+    private final CreateApplicationsBatchUseCasePort createBatchPort;
+    private final ReactiveListApplicationsUseCasePort listPort;
+    private final ReactiveGetApplicationUseCasePort getPort;
+    private final ReactiveStreamApplicationsUseCasePort streamPort;
+    private final ExportApplicationsUseCasePort exportPort;
     private final AttachTagsUseCasePort attachTagsPort;
     private final RemoveTagsUseCasePort removeTagsPort;
     private final AttachFilesUseCasePort attachFilesPort;
     private final RemoveFilesUseCasePort removeFilesPort;
-    private final ChangeStatusUseCasePort changeStatusPort;
+    private final ReactiveChangeStatusUseCasePort changeStatusPort;
     private final DeleteApplicationUseCasePort deletePort;
     private final DeleteApplicationsByUserIdUseCasePort deleteByUserPort;
     private final DeleteApplicationsByProductIdUseCasePort deleteByProductPort;
     private final FindApplicationsByTagUseCasePort findByTagPort;
     private final FindApplicationsByFileUseCasePort findByFilePort;
-    private final ListHistoryUseCasePort listHistoryPort;
+    private final ReactiveListHistoryUseCasePort listHistoryPort;
     private final CountApplicationsUseCasePort countPort;
 
     public ApplicationController(
-            CreateApplicationUseCasePort createPort,
-            ListApplicationsUseCasePort listPort,
-            GetApplicationUseCasePort getPort,
-            StreamApplicationsUseCasePort streamPort,
+            ReactiveCreateApplicationUseCasePort createPort,
+            CreateApplicationsBatchUseCasePort createBatchPort,
+            ReactiveListApplicationsUseCasePort listPort,
+            ReactiveGetApplicationUseCasePort getPort,
+            ReactiveStreamApplicationsUseCasePort streamPort,
+            ExportApplicationsUseCasePort exportPort,
             AttachTagsUseCasePort attachTagsPort,
             RemoveTagsUseCasePort removeTagsPort,
             AttachFilesUseCasePort attachFilesPort,
             RemoveFilesUseCasePort removeFilesPort,
-            ChangeStatusUseCasePort changeStatusPort,
+            ReactiveChangeStatusUseCasePort changeStatusPort,
             DeleteApplicationUseCasePort deletePort,
             DeleteApplicationsByUserIdUseCasePort deleteByUserPort,
             DeleteApplicationsByProductIdUseCasePort deleteByProductPort,
             FindApplicationsByTagUseCasePort findByTagPort,
             FindApplicationsByFileUseCasePort findByFilePort,
-            ListHistoryUseCasePort listHistoryPort,
+            ReactiveListHistoryUseCasePort listHistoryPort,
             CountApplicationsUseCasePort countPort
     ) {
         this.createPort = createPort;
+        this.createBatchPort = createBatchPort;
         this.listPort = listPort;
         this.getPort = getPort;
         this.streamPort = streamPort;
+        this.exportPort = exportPort;
         this.attachTagsPort = attachTagsPort;
         this.removeTagsPort = removeTagsPort;
         this.attachFilesPort = attachFilesPort;
@@ -101,11 +114,43 @@ public class ApplicationController {
         cmd.setFiles(request.getFiles());
         cmd.setTags(request.getTags());
 
-        return Mono.fromCallable(() -> createPort.createApplication(cmd, actorId, roleStr))
-                .subscribeOn(Schedulers.boundedElastic())
+        return createPort.createApplication(cmd, actorId, roleStr)
                 .map(ApplicationMapper::toDto);
     }
 
+    @PostMapping("/batch")
+    public Mono<List<ApplicationBatchItemDto>> createApplicationsBatch(
+            @RequestBody List<com.example.applicationservice.application.dto.ApplicationRequest> requests,
+            @AuthenticationPrincipal Jwt jwt) {
+
+        if (jwt == null) {
+            return Mono.error(new UnauthorizedException("Authentication required"));
+        }
+        String uid = jwt.getClaimAsString("uid");
+        if (uid == null) uid = jwt.getSubject();
+        UUID actorId = UUID.fromString(uid);
+        String roleStr = jwt.getClaimAsString("role");
+
+        List<ApplicationCreateCommand> commands = new ArrayList<>(requests.size());
+        for (var request : requests) {
+            if (request == null) {
+                commands.add(null);
+                continue;
+            }
+            ApplicationCreateCommand cmd = new ApplicationCreateCommand();
+            cmd.setApplicantId(request.getApplicantId());
+            cmd.setProductId(request.getProductId());
+            cmd.setFiles(request.getFiles());
+            cmd.setTags(request.getTags());
+            commands.add(cmd);
+        }
+
+        // ошибки по элементам — в теле ответа; исключение только если отклонён весь пакет.
+        // Проверки user/product идут через Feign, поэтому Authorization переносится в AuthHeaderHolder
+        return ReactorAuthContext.blocking(() -> createBatchPort.createApplications(commands, actorId, roleStr))
+                .map(results -> results.stream().map(ApplicationMapper::toBatchItemDto).collect(Collectors.toList()));
+    }
+
     @GetMapping
     public Flux<ApplicationDto> listApplications(@RequestParam(defaultValue = "0") int page,
                                                  @RequestParam(defaultValue = "20") int size) {
@@ -113,31 +158,46 @@ public class ApplicationController {
             return Flux.error(new BadRequestException(String.format("Page size cannot be greater than %d", MAX_PAGE_SIZE)));
         }
 
-        return Mono.fromCallable(() -> listPort.listApplications(page, size))
-                .subscribeOn(Schedulers.boundedElastic())
-                .flatMapMany(Flux::fromIterable)
+        return listPort.listApplications(page, size)
                 .map(ApplicationMapper::toDto);
     }
 
+    // ETag — версия заявки; при совпадении If-None-Match отвечаем 304 по одной колонке version, агрегат не собирается
     @GetMapping("/{id}")
-    public Mono<ApplicationDto> getApplication(@PathVariable UUID id) {
-        return Mono.fromCallable(() -> getPort.findById(id))
-                .subscribeOn(Schedulers.boundedElastic())
-                .flatMap(opt -> opt.map(app -> Mono.just(ApplicationMapper.toDto(app))).orElseGet(() -> Mono.error(new com.example.applicationservice.application.exception.NotFoundException("Application with this ID not found"))));
+    public Mono<ResponseEntity<ApplicationDto>> getApplication(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) List<String> ifNoneMatch) {
+        Mono<ResponseEntity<ApplicationDto>> full = Mono.defer(() -> getPort.findById(id))
+                .map(app -> ResponseEntity.ok().eTag(ETags.of(app.getVersion())).body(ApplicationMapper.toDto(app)))
+                .switchIfEmpty(Mono.error(new NotFoundException("Application with this ID not found")));
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) return full;
+
+        return getPort.findVersion(id)
+                .map(ETags::of)
+                .filter(etag -> ETags.matches(ifNoneMatch, etag))
+                .map(etag -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<ApplicationDto>build())
+                .switchIfEmpty(full);
     }
 
     @GetMapping("/stream")
     public Mono<com.example.applicationservice.domain.util.ApplicationPage> streamApplications(
             @RequestParam(required = false) String cursor,
-            @RequestParam(defaultValue = "20") int limit) {
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) UUID productId,
+            @RequestParam(required = false) UUID applicantId) {
 
         if (limit > MAX_PAGE_SIZE) {
             return Mono.error(new BadRequestException(String.format("Limit cannot be greater than %d", MAX_PAGE_SIZE)));
         }
 
+        ApplicationFilter filter = new ApplicationFilter();
+        filter.setStatus(status);
+        filter.setProductId(productId);
+        filter.setApplicantId(applicantId);
+
         // We keep cursor handling in adapter (controller) for compatibility with previous implementation.
-        return Mono.fromCallable(() -> streamPort.streamWithNextCursor(cursor, limit))
-                .subscribeOn(Schedulers.boundedElastic())
+        return streamPort.streamWithNextCursor(filter, cursor, limit)
                 .map(domainPage -> {
                     // map domain.ApplicationInfo -> application.dto.ApplicationInfoDto
                     List<ApplicationInfo> items = domainPage.getItems();
@@ -145,6 +205,24 @@ public class ApplicationController {
                 });
     }
 
+    // вся таблица одним ответом (NDJSON или SSE); страницы читаются из БД по мере того, как клиент забирает данные
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<ApplicationInfo> exportApplications(
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) UUID productId,
+            @RequestParam(required = false) UUID applicantId,
+            @RequestParam(required = false) Instant createdFrom,
+            @RequestParam(required = false) Instant createdTo) {
+
+        ApplicationFilter filter = new ApplicationFilter();
+        filter.setStatus(status);
+        filter.setProductId(productId);
+        filter.setApplicantId(applicantId);
+        filter.setCreatedFrom(createdFrom);
+        filter.setCreatedTo(createdTo);
+        return exportPort.exportApplications(filter);
+    }
+
     @PutMapping("/{id}/tags")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public Mono<Void> addTags(@PathVariable UUID id, @RequestBody List<String> tags, @AuthenticationPrincipal Jwt jwt) {
@@ -154,9 +232,7 @@ public class ApplicationController {
         UUID actorId = UUID.fromString(uid);
         String roleStr = jwt.getClaimAsString("role");
 
-        return Mono.fromRunnable(() -> attachTagsPort.attachTags(id, tags, actorId, roleStr))
-                .subscribeOn(Schedulers.boundedElastic())
-                .then();
+        return ReactorAuthContext.blocking(() -> attachTagsPort.attachTags(id, tags, actorId, roleStr));
     }
 
     @DeleteMapping("/{id}/tags")
@@ -168,9 +244,7 @@ public class ApplicationController {
         UUID actorId = UUID.fromString(uid);
         String roleStr = jwt.getClaimAsString("role");
 
-        return Mono.fromRunnable(() -> removeTagsPort.removeTags(id, tags, actorId, roleStr))
-                .subscribeOn(Schedulers.boundedElastic())
-                .then();
+        return ReactorAuthContext.blocking(() -> removeTagsPort.removeTags(id, tags, actorId, roleStr));
     }
 
     @PutMapping("/{id}/files")
@@ -182,9 +256,7 @@ public class ApplicationController {
         UUID actorId = UUID.fromString(uid);
         String roleStr = jwt.getClaimAsString("role");
 
-        return Mono.fromRunnable(() -> attachFilesPort.attachFiles(id, files, actorId, roleStr))
-                .subscribeOn(Schedulers.boundedElastic())
-                .then();
+        return ReactorAuthContext.blocking(() -> attachFilesPort.attachFiles(id, files, actorId, roleStr));
     }
 
     @DeleteMapping("/{id}/files")
@@ -196,9 +268,7 @@ public class ApplicationController {
         UUID actorId = UUID.fromString(uid);
         String roleStr = jwt.getClaimAsString("role");
 
-        return Mono.fromRunnable(() -> removeFilesPort.removeFiles(id, files, actorId, roleStr))
-                .subscribeOn(Schedulers.boundedElastic())
-                .then();
+        return ReactorAuthContext.blocking(() -> removeFilesPort.removeFiles(id, files, actorId, roleStr));
     }
 
     @PutMapping("/{id}/status")
@@ -209,8 +279,7 @@ public class ApplicationController {
         UUID actorId = UUID.fromString(uid);
         String roleStr = jwt.getClaimAsString("role");
 
-        return Mono.fromCallable(() -> changeStatusPort.changeStatus(id, status, actorId, roleStr))
-                .subscribeOn(Schedulers.boundedElastic())
+        return changeStatusPort.changeStatus(id, status, actorId, roleStr)
                 .map(ApplicationMapper::toDto);
     }
 
@@ -223,9 +292,7 @@ public class ApplicationController {
         UUID actorId = UUID.fromString(uid);
         String roleStr = jwt.getClaimAsString("role");
 
-        return Mono.fromRunnable(() -> deletePort.deleteApplication(id, actorId, roleStr))
-                .subscribeOn(Schedulers.boundedElastic())
-                .then();
+        return ReactorAuthContext.blocking(() -> deletePort.deleteApplication(id, actorId, roleStr));
     }
 
     // Internal endpoints
@@ -245,47 +312,77 @@ public class ApplicationController {
                 .then();
     }
 
+    // постраничный обратный поиск; тело остаётся массивом, курсор следующей страницы — в заголовке X-Next-Cursor
     @GetMapping("/by-tag")
-    public Mono<List<ApplicationInfoDto>> getApplicationsByTag(@RequestParam("tag") String tagName) {
-        return Mono.fromCallable(() -> findByTagPort.findApplicationsByTag(tagName))
-                .subscribeOn(Schedulers.boundedElastic())
-                .map(list -> list.stream().map(ai -> {
-                    ApplicationInfoDto dto = new ApplicationInfoDto();
-                    dto.setId(ai.getId());
-                    dto.setApplicantId(ai.getApplicantId());
-                    dto.setProductId(ai.getProductId());
-                    dto.setStatus(ai.getStatus());
-                    dto.setCreatedAt(ai.getCreatedAt());
-                    return dto;
-                }).collect(Collectors.toList()));
+    public Mono<ResponseEntity<List<ApplicationInfoDto>>> getApplicationsByTag(
+            @RequestParam("tag") String tagName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        if (limit > MAX_PAGE_SIZE) {
+            return Mono.error(new BadRequestException(String.format("Limit cannot be greater than %d", MAX_PAGE_SIZE)));
+        }
+        return ReactorAuthContext.blocking(() -> findByTagPort.findApplicationsByTag(tagName, cursor, limit))
+                .map(ApplicationController::toInfoPageResponse);
     }
 
     @GetMapping("/by-file")
-    public Mono<List<ApplicationInfoDto>> getApplicationsByFile(@RequestParam("file") UUID fileId) {
-        return Mono.fromCallable(() -> findByFilePort.findApplicationsByFile(fileId))
-                .subscribeOn(Schedulers.boundedElastic())
-                .map(list -> list.stream().map(ai -> {
-                    ApplicationInfoDto dto = new ApplicationInfoDto();
-                    dto.setId(ai.getId());
-                    dto.setApplicantId(ai.getApplicantId());
-                    dto.setProductId(ai.getProductId());
-                    dto.setStatus(ai.getStatus());
-                    dto.setCreatedAt(ai.getCreatedAt());
-                    return dto;
-                }).collect(Collectors.toList()));
+    public Mono<ResponseEntity<List<ApplicationInfoDto>>> getApplicationsByFile(
+            @RequestParam("file") UUID fileId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        if (limit > MAX_PAGE_SIZE) {
+            return Mono.error(new BadRequestException(String.format("Limit cannot be greater than %d", MAX_PAGE_SIZE)));
+        }
+        return ReactorAuthContext.blocking(() -> findByFilePort.findApplicationsByFile(fileId, cursor, limit))
+                .map(ApplicationController::toInfoPageResponse);
+    }
+
+    private static ResponseEntity<List<ApplicationInfoDto>> toInfoPageResponse(
+            com.example.applicationservice.domain.util.ApplicationPage page) {
+        List<ApplicationInfoDto> body = page.getItems().stream()
+                .map(ApplicationMapper::toInfoDto)
+                .collect(Collectors.toList());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) response.header("X-Next-Cursor", page.getNextCursor());
+        return response.body(body);
     }
 
+    // keyset-страницы от новых к старым; тело — массив, курсор следующей страницы — в заголовке X-Next-Cursor.
+    // ETag — версия заявки и число строк истории: смена статуса повышает версию, срок хранения уменьшает число строк.
+    // 304 не читает страницу истории, только count по индексу
     @GetMapping("/{id}/history")
-    public Flux<ApplicationHistoryDto> getApplicationHistory(@PathVariable UUID id, @AuthenticationPrincipal Jwt jwt) {
-        if (jwt == null) return Flux.error(new UnauthorizedException("Authentication required"));
+    public Mono<ResponseEntity<List<ApplicationHistoryDto>>> getApplicationHistory(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) List<String> ifNoneMatch,
+            @AuthenticationPrincipal Jwt jwt) {
+        if (jwt == null) return Mono.error(new UnauthorizedException("Authentication required"));
+        if (limit > MAX_PAGE_SIZE) {
+            return Mono.error(new BadRequestException(String.format("Limit cannot be greater than %d", MAX_PAGE_SIZE)));
+        }
         String uid = jwt.getClaimAsString("uid");
         if (uid == null) uid = jwt.getSubject();
         UUID actorId = UUID.fromString(uid);
         String roleStr = jwt.getClaimAsString("role");
 
-        return Mono.fromCallable(() -> listHistoryPort.listHistory(id, actorId, roleStr))
-                .subscribeOn(Schedulers.boundedElastic())
-                .flatMapMany(Flux::fromIterable)
-                .map(ApplicationMapper::toHistoryDto);
+        Mono<ResponseEntity<List<ApplicationHistoryDto>>> full =
+                Mono.defer(() -> listHistoryPort.listHistory(id, cursor, limit, actorId, roleStr))
+                .map(page -> {
+                    List<ApplicationHistoryDto> body = page.getItems().stream()
+                            .map(ApplicationMapper::toHistoryDto)
+                            .collect(Collectors.toList());
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                    if (page.getNextCursor() != null) response.header("X-Next-Cursor", page.getNextCursor());
+                    if (page.getVersion() != null) response.eTag(ETags.ofHistory(page.getVersion()));
+                    return response.body(body);
+                });
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) return full;
+
+        return listHistoryPort.findVersion(id, actorId, roleStr)
+                .map(ETags::ofHistory)
+                .filter(etag -> ETags.matches(ifNoneMatch, etag))
+                .map(etag -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<List<ApplicationHistoryDto>>build())
+                .switchIfEmpty(full);
     }
 }
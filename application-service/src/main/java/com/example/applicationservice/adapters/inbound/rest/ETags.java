@@ -0,0 +1,40 @@
+package com.example.applicationservice.adapters.inbound.rest;
+
+import com.example.applicationservice.domain.dto.HistoryVersion;
+
+import java.util.List;
+
+/**
+ * Сильные ETag из колонки version заявки. Версия растёт при каждом изменении статуса, файлов и тегов,
+ * поэтому одинаковая версия означает одинаковое представление по тому же URL.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + (version != null ? version : 0L) + "\"";
+    }
+
+    /**
+     * ETag истории: версия заявки и число строк истории (см. HistoryVersion).
+     */
+    static String ofHistory(HistoryVersion version) {
+        return "\"" + version.getApplicationVersion() + "-" + version.getRows() + "\"";
+    }
+
+    /**
+     * Сравнение для If-None-Match — слабое (RFC 9110, 13.1.2): префикс W/ игнорируется, * совпадает с любой версией.
+     */
+    static boolean matches(List<String> ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag)) return true;
+        }
+        return false;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.applicationservice.adapters.inbound.transaction;
 
 import com.example.applicationservice.application.usecase.AttachFilesUseCase;
 import com.example.applicationservice.domain.port.inbound.AttachFilesUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.EventPublisherPort;
 import org.springframework.stereotype.Service;
@@ -17,8 +18,9 @@ public class AttachFilesUseCaseTransactionalDecorator implements AttachFilesUseC
     private final AttachFilesUseCase delegate;
 
     public AttachFilesUseCaseTransactionalDecorator(ApplicationRepositoryPort applicationRepositoryPort,
-                                                    EventPublisherPort eventPublisherPort) {
-        this.delegate = new AttachFilesUseCase(applicationRepositoryPort, eventPublisherPort);
+                                                    EventPublisherPort eventPublisherPort,
+                                                    ApplicationCachePort applicationCachePort) {
+        this.delegate = new AttachFilesUseCase(applicationRepositoryPort, eventPublisherPort, applicationCachePort);
     }
 
     @Override
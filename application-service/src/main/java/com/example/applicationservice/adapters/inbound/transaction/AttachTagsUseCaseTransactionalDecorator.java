@@ -2,6 +2,7 @@ package com.example.applicationservice.adapters.inbound.transaction;
 
 import com.example.applicationservice.application.usecase.AttachTagsUseCase;
 import com.example.applicationservice.domain.port.inbound.AttachTagsUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.EventPublisherPort;
 import org.springframework.stereotype.Service;
@@ -17,8 +18,9 @@ public class AttachTagsUseCaseTransactionalDecorator implements AttachTagsUseCas
     private final AttachTagsUseCase delegate;
 
     public AttachTagsUseCaseTransactionalDecorator(ApplicationRepositoryPort applicationRepositoryPort,
-                                                   EventPublisherPort eventPublisherPort) {
-        this.delegate = new AttachTagsUseCase(applicationRepositoryPort, eventPublisherPort);
+                                                   EventPublisherPort eventPublisherPort,
+                                                   ApplicationCachePort applicationCachePort) {
+        this.delegate = new AttachTagsUseCase(applicationRepositoryPort, eventPublisherPort, applicationCachePort);
     }
 
     @Override
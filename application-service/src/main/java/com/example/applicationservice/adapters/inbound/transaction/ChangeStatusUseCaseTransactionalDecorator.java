@@ -3,8 +3,11 @@ package com.example.applicationservice.adapters.inbound.transaction;
 import com.example.applicationservice.application.usecase.ChangeStatusUseCase;
 import com.example.applicationservice.domain.model.entity.Application;
 import com.example.applicationservice.domain.port.inbound.ChangeStatusUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.IdGeneratorPort;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,8 +20,12 @@ public class ChangeStatusUseCaseTransactionalDecorator implements ChangeStatusUs
     private final ChangeStatusUseCase delegate;
 
     public ChangeStatusUseCaseTransactionalDecorator(ApplicationRepositoryPort applicationRepositoryPort,
-                                                     ApplicationHistoryRepositoryPort historyRepositoryPort) {
-        this.delegate = new ChangeStatusUseCase(applicationRepositoryPort, historyRepositoryPort);
+                                                     ApplicationHistoryRepositoryPort historyRepositoryPort,
+                                                     ApplicationCachePort applicationCachePort,
+                                                     IdGeneratorPort idGeneratorPort,
+                                                     @Value("${application.status-change.max-attempts:3}") int maxAttempts) {
+        this.delegate = new ChangeStatusUseCase(applicationRepositoryPort, historyRepositoryPort, applicationCachePort, maxAttempts,
+                idGeneratorPort);
     }
 
     @Override
@@ -4,8 +4,10 @@ import com.example.applicationservice.application.usecase.CountApplicationsUseCa
 import com.example.applicationservice.domain.port.inbound.CountApplicationsUseCasePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Transactional(readOnly = true)
 public class CountApplicationsUseCaseTransactionalDecorator implements CountApplicationsUseCasePort {
 
     private final CountApplicationsUseCase delegate;
@@ -5,10 +5,12 @@ import com.example.applicationservice.domain.dto.ApplicationCreateCommand;
 import com.example.applicationservice.domain.model.entity.Application;
 import com.example.applicationservice.domain.port.inbound.CreateApplicationUseCasePort;
 import com.example.applicationservice.domain.port.outbound.*;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 /**
  * Transactional decorator for CreateApplicationUseCasePort.
@@ -26,7 +28,9 @@ public class CreateApplicationUseCaseTransactionalDecorator implements CreateApp
             UserServicePort userServicePort,
             ProductServicePort productServicePort,
             FileServicePort fileServicePort,
-            EventPublisherPort eventPublisherPort
+            EventPublisherPort eventPublisherPort,
+            @Qualifier("downstreamExecutor") Executor downstreamExecutor,
+            IdGeneratorPort idGeneratorPort
     ) {
         this.delegate = new CreateApplicationUseCase(
                 applicationRepositoryPort,
@@ -34,7 +38,9 @@ public class CreateApplicationUseCaseTransactionalDecorator implements CreateApp
                 userServicePort,
                 productServicePort,
                 fileServicePort,
-                eventPublisherPort
+                eventPublisherPort,
+                downstreamExecutor,
+                idGeneratorPort
         );
     }
 
@@ -42,4 +48,9 @@ public class CreateApplicationUseCaseTransactionalDecorator implements CreateApp
     public Application createApplication(ApplicationCreateCommand command, UUID actorId, String actorRoleClaim) {
         return delegate.createApplication(command, actorId, actorRoleClaim);
     }
+
+    @Override
+    public Application createVerifiedApplication(ApplicationCreateCommand command, UUID actorId, String actorRoleClaim) {
+        return delegate.createVerifiedApplication(command, actorId, actorRoleClaim);
+    }
 }
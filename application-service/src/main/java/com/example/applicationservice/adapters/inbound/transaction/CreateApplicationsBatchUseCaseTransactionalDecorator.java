@@ -0,0 +1,53 @@
+package com.example.applicationservice.adapters.inbound.transaction;
+
+import com.example.applicationservice.application.usecase.CreateApplicationsBatchUseCase;
+import com.example.applicationservice.domain.dto.ApplicationBatchItemResult;
+import com.example.applicationservice.domain.dto.ApplicationCreateCommand;
+import com.example.applicationservice.domain.port.inbound.CreateApplicationsBatchUseCasePort;
+import com.example.applicationservice.domain.port.outbound.*;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * Transactional decorator for CreateApplicationsBatchUseCasePort.
+ * Все вставки пакета — в одной транзакции.
+ */
+@Service
+@Transactional
+public class CreateApplicationsBatchUseCaseTransactionalDecorator implements CreateApplicationsBatchUseCasePort {
+
+    private final CreateApplicationsBatchUseCase delegate;
+
+    public CreateApplicationsBatchUseCaseTransactionalDecorator(
+            ApplicationRepositoryPort applicationRepositoryPort,
+            ApplicationHistoryRepositoryPort applicationHistoryRepositoryPort,
+            UserServicePort userServicePort,
+            ProductServicePort productServicePort,
+            EventPublisherPort eventPublisherPort,
+            @Qualifier("downstreamExecutor") Executor downstreamExecutor,
+            @Value("${application.batch.max-size:500}") int maxBatchSize,
+            IdGeneratorPort idGeneratorPort
+    ) {
+        this.delegate = new CreateApplicationsBatchUseCase(
+                applicationRepositoryPort,
+                applicationHistoryRepositoryPort,
+                userServicePort,
+                productServicePort,
+                eventPublisherPort,
+                downstreamExecutor,
+                maxBatchSize,
+                idGeneratorPort
+        );
+    }
+
+    @Override
+    public List<ApplicationBatchItemResult> createApplications(List<ApplicationCreateCommand> commands, UUID actorId, String actorRoleClaim) {
+        return delegate.createApplications(commands, actorId, actorRoleClaim);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.applicationservice.adapters.inbound.transaction;
 
 import com.example.applicationservice.application.usecase.DeleteApplicationUseCase;
 import com.example.applicationservice.domain.port.inbound.DeleteApplicationUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import org.springframework.stereotype.Service;
@@ -16,8 +17,9 @@ public class DeleteApplicationUseCaseTransactionalDecorator implements DeleteApp
     private final DeleteApplicationUseCase delegate;
 
     public DeleteApplicationUseCaseTransactionalDecorator(ApplicationRepositoryPort applicationRepositoryPort,
-                                                          ApplicationHistoryRepositoryPort historyRepositoryPort) {
-        this.delegate = new DeleteApplicationUseCase(applicationRepositoryPort, historyRepositoryPort);
+                                                          ApplicationHistoryRepositoryPort historyRepositoryPort,
+                                                          ApplicationCachePort applicationCachePort) {
+        this.delegate = new DeleteApplicationUseCase(applicationRepositoryPort, historyRepositoryPort, applicationCachePort);
     }
 
     @Override
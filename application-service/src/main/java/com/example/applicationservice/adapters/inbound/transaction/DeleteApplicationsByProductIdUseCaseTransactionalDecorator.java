@@ -2,11 +2,14 @@ package com.example.applicationservice.adapters.inbound.transaction;
 
 import com.example.applicationservice.application.usecase.DeleteApplicationsByProductIdUseCase;
 import com.example.applicationservice.domain.port.inbound.DeleteApplicationsByProductIdUseCasePort;
-import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ApplicationBulkDeletionPort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.UUID;
 
 @Service
@@ -16,12 +19,19 @@ public class DeleteApplicationsByProductIdUseCaseTransactionalDecorator implemen
     private final DeleteApplicationsByProductIdUseCase delegate;
 
     public DeleteApplicationsByProductIdUseCaseTransactionalDecorator(ApplicationRepositoryPort applicationRepositoryPort,
-                                                                      ApplicationHistoryRepositoryPort historyRepositoryPort) {
-        this.delegate = new DeleteApplicationsByProductIdUseCase(applicationRepositoryPort, historyRepositoryPort);
+                                                                      ApplicationCachePort applicationCachePort,
+                                                                      ApplicationBulkDeletionPort bulkDeletionPort,
+                                                                      @Value("${application.bulk-delete.chunk-size:1000}") int chunkSize) {
+        this.delegate = new DeleteApplicationsByProductIdUseCase(applicationRepositoryPort, applicationCachePort, bulkDeletionPort, chunkSize);
     }
 
     @Override
     public void deleteApplicationsByProductId(UUID productId) {
         delegate.deleteApplicationsByProductId(productId);
     }
+
+    @Override
+    public void deleteApplicationsByProductIds(Collection<UUID> productIds) {
+        delegate.deleteApplicationsByProductIds(productIds);
+    }
 }
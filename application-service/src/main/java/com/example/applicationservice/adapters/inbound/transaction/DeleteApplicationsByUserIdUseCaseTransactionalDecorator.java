@@ -2,11 +2,14 @@ package com.example.applicationservice.adapters.inbound.transaction;
 
 import com.example.applicationservice.application.usecase.DeleteApplicationsByUserIdUseCase;
 import com.example.applicationservice.domain.port.inbound.DeleteApplicationsByUserIdUseCasePort;
-import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ApplicationBulkDeletionPort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.UUID;
 
 @Service
@@ -16,12 +19,19 @@ public class DeleteApplicationsByUserIdUseCaseTransactionalDecorator implements
     private final DeleteApplicationsByUserIdUseCase delegate;
 
     public DeleteApplicationsByUserIdUseCaseTransactionalDecorator(ApplicationRepositoryPort applicationRepositoryPort,
-                                                                   ApplicationHistoryRepositoryPort historyRepositoryPort) {
-        this.delegate = new DeleteApplicationsByUserIdUseCase(applicationRepositoryPort, historyRepositoryPort);
+                                                                   ApplicationCachePort applicationCachePort,
+                                                                   ApplicationBulkDeletionPort bulkDeletionPort,
+                                                                   @Value("${application.bulk-delete.chunk-size:1000}") int chunkSize) {
+        this.delegate = new DeleteApplicationsByUserIdUseCase(applicationRepositoryPort, applicationCachePort, bulkDeletionPort, chunkSize);
     }
 
     @Override
     public void deleteApplicationsByUserId(UUID userId) {
         delegate.deleteApplicationsByUserId(userId);
     }
+
+    @Override
+    public void deleteApplicationsByUserIds(Collection<UUID> userIds) {
+        delegate.deleteApplicationsByUserIds(userIds);
+    }
 }
@@ -1,13 +1,12 @@
 package com.example.applicationservice.adapters.inbound.transaction;
 
 import com.example.applicationservice.application.usecase.FindApplicationsByFileUseCase;
-import com.example.applicationservice.domain.dto.ApplicationInfo;
 import com.example.applicationservice.domain.port.inbound.FindApplicationsByFileUseCasePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import com.example.applicationservice.domain.util.ApplicationPage;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -21,7 +20,7 @@ public class FindApplicationsByFileUseCaseTransactionalDecorator implements Find
     }
 
     @Override
-    public List<ApplicationInfo> findApplicationsByFile(UUID fileId) {
-        return delegate.findApplicationsByFile(fileId);
+    public ApplicationPage findApplicationsByFile(UUID fileId, String cursor, int limit) {
+        return delegate.findApplicationsByFile(fileId, cursor, limit);
     }
 }
@@ -1,14 +1,12 @@
 package com.example.applicationservice.adapters.inbound.transaction;
 
 import com.example.applicationservice.application.usecase.FindApplicationsByTagUseCase;
-import com.example.applicationservice.domain.dto.ApplicationInfo;
 import com.example.applicationservice.domain.port.inbound.FindApplicationsByTagUseCasePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import com.example.applicationservice.domain.util.ApplicationPage;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @Transactional(readOnly = true)
 public class FindApplicationsByTagUseCaseTransactionalDecorator implements FindApplicationsByTagUseCasePort {
@@ -20,7 +18,7 @@ public class FindApplicationsByTagUseCaseTransactionalDecorator implements FindA
     }
 
     @Override
-    public List<ApplicationInfo> findApplicationsByTag(String tagName) {
-        return delegate.findApplicationsByTag(tagName);
+    public ApplicationPage findApplicationsByTag(String tagName, String cursor, int limit) {
+        return delegate.findApplicationsByTag(tagName, cursor, limit);
     }
 }
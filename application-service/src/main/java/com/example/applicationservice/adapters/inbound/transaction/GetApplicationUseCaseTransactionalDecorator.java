@@ -1,8 +1,10 @@
 package com.example.applicationservice.adapters.inbound.transaction;
 
+import com.example.applicationservice.adapters.outbound.persistence.routing.ReadReplicaRoutingDataSource;
 import com.example.applicationservice.application.usecase.GetApplicationUseCase;
 import com.example.applicationservice.domain.model.entity.Application;
 import com.example.applicationservice.domain.port.inbound.GetApplicationUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,12 +18,21 @@ public class GetApplicationUseCaseTransactionalDecorator implements GetApplicati
 
     private final GetApplicationUseCase delegate;
 
-    public GetApplicationUseCaseTransactionalDecorator(ApplicationRepositoryPort applicationRepositoryPort) {
-        this.delegate = new GetApplicationUseCase(applicationRepositoryPort);
+    public GetApplicationUseCaseTransactionalDecorator(ApplicationRepositoryPort applicationRepositoryPort,
+                                                       ApplicationCachePort applicationCachePort) {
+        this.delegate = new GetApplicationUseCase(applicationRepositoryPort, applicationCachePort);
     }
 
+    /**
+     * Промах кэша загружается с primary: результат кладётся в общий кэш и не должен приходить с отстающей реплики.
+     */
     @Override
     public Optional<Application> findById(UUID id) {
-        return delegate.findById(id);
+        return ReadReplicaRoutingDataSource.onPrimary(() -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<Long> findVersion(UUID id) {
+        return delegate.findVersion(id);
     }
 }
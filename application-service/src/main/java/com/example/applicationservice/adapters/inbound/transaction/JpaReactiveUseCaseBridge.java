@@ -0,0 +1,126 @@
+package com.example.applicationservice.adapters.inbound.transaction;
+
+import com.example.applicationservice.adapters.config.ReactorAuthContext;
+import com.example.applicationservice.application.usecase.ReactiveCreateApplicationChecks;
+import com.example.applicationservice.application.usecase.ReactiveFileFilter;
+import com.example.applicationservice.domain.dto.ApplicationCreateCommand;
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.HistoryVersion;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.inbound.*;
+import com.example.applicationservice.domain.port.outbound.ApplicationReadModelPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveFileServicePort;
+import com.example.applicationservice.domain.port.outbound.ReactiveProductServicePort;
+import com.example.applicationservice.domain.port.outbound.ReactiveUserServicePort;
+import com.example.applicationservice.domain.util.ApplicationPage;
+import com.example.applicationservice.domain.util.HistoryPage;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Реактивные порты поверх блокирующих JPA-декораторов (профиль по умолчанию).
+ * Блокирующий вызов уводится на boundedElastic — так же, как раньше это делал контроллер.
+ * На boundedElastic остаётся только работа с БД: проверки user/product при создании и файлов в list/stream
+ * выполняются неблокирующими портами (WebClient) до или после блокирующего вызова, а не Feign внутри него.
+ * Блокирующие вызовы получают Authorization из Reactor Context через ReactorAuthContext.blocking —
+ * для read-your-writes при чтении с реплик (ReadYourWritesTracker).
+ * В профиле r2dbc вместо этого моста работают Reactive*UseCaseTransactionalDecorator.
+ */
+@Service
+@Profile("!r2dbc")
+public class JpaReactiveUseCaseBridge implements ReactiveCreateApplicationUseCasePort,
+        ReactiveGetApplicationUseCasePort,
+        ReactiveListApplicationsUseCasePort,
+        ReactiveStreamApplicationsUseCasePort,
+        ReactiveChangeStatusUseCasePort,
+        ReactiveListHistoryUseCasePort {
+
+    private final CreateApplicationUseCasePort createPort;
+    private final GetApplicationUseCasePort getPort;
+    private final ListApplicationsUseCasePort listPort;
+    private final StreamApplicationsUseCasePort streamPort;
+    private final ChangeStatusUseCasePort changeStatusPort;
+    private final ListHistoryUseCasePort listHistoryPort;
+    private final ReactiveCreateApplicationChecks createChecks;
+    private final ReactiveFileFilter fileFilter;
+    private final boolean readModelEnabled;
+
+    public JpaReactiveUseCaseBridge(CreateApplicationUseCasePort createPort,
+                                    GetApplicationUseCasePort getPort,
+                                    ListApplicationsUseCasePort listPort,
+                                    StreamApplicationsUseCasePort streamPort,
+                                    ChangeStatusUseCasePort changeStatusPort,
+                                    ListHistoryUseCasePort listHistoryPort,
+                                    ReactiveUserServicePort userService,
+                                    ReactiveProductServicePort productService,
+                                    ReactiveFileServicePort fileService,
+                                    ObjectProvider<ApplicationReadModelPort> readModel) {
+        this.createPort = createPort;
+        this.getPort = getPort;
+        this.listPort = listPort;
+        this.streamPort = streamPort;
+        this.changeStatusPort = changeStatusPort;
+        this.listHistoryPort = listHistoryPort;
+        this.createChecks = new ReactiveCreateApplicationChecks(userService, productService);
+        this.fileFilter = new ReactiveFileFilter(fileService);
+        // с read-моделью файлы в страницах уже проверены проектором
+        this.readModelEnabled = readModel.getIfAvailable() != null;
+    }
+
+    @Override
+    public Mono<Application> createApplication(ApplicationCreateCommand command, UUID actorId, String actorRoleClaim) {
+        return createChecks.verify(command, actorId, actorRoleClaim)
+                .then(ReactorAuthContext.blocking(() -> createPort.createVerifiedApplication(command, actorId, actorRoleClaim)));
+    }
+
+    @Override
+    public Mono<Application> findById(UUID id) {
+        return ReactorAuthContext.blocking(() -> getPort.findById(id))
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    @Override
+    public Mono<Long> findVersion(UUID id) {
+        return ReactorAuthContext.blocking(() -> getPort.findVersion(id))
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    @Override
+    public Flux<Application> listApplications(int page, int size) {
+        return ReactorAuthContext.blocking(() -> listPort.listApplicationsUnfiltered(page, size))
+                .flatMap(applications -> readModelEnabled ? Mono.just(applications) : fileFilter.filterApplications(applications))
+                .flatMapMany(Flux::fromIterable);
+    }
+
+    @Override
+    public Mono<ApplicationPage> streamWithNextCursor(String cursor, int limit) {
+        return streamWithNextCursor(ApplicationFilter.none(), cursor, limit);
+    }
+
+    @Override
+    public Mono<ApplicationPage> streamWithNextCursor(ApplicationFilter filter, String cursor, int limit) {
+        return ReactorAuthContext.blocking(() -> streamPort.streamUnfiltered(filter, cursor, limit))
+                .flatMap(page -> readModelEnabled || page.getItems().isEmpty() ? Mono.just(page)
+                        : fileFilter.filterInfos(page.getItems()).thenReturn(page));
+    }
+
+    @Override
+    public Mono<Application> changeStatus(UUID applicationId, String status, UUID actorId, String actorRoleClaim) {
+        return ReactorAuthContext.blocking(() -> changeStatusPort.changeStatus(applicationId, status, actorId, actorRoleClaim));
+    }
+
+    @Override
+    public Mono<HistoryPage> listHistory(UUID applicationId, String cursor, int limit, UUID actorId, String actorRoleClaim) {
+        return ReactorAuthContext.blocking(() -> listHistoryPort.listHistory(applicationId, cursor, limit, actorId, actorRoleClaim));
+    }
+
+    @Override
+    public Mono<HistoryVersion> findVersion(UUID applicationId, UUID actorId, String actorRoleClaim) {
+        return ReactorAuthContext.blocking(() -> listHistoryPort.findVersion(applicationId, actorId, actorRoleClaim));
+    }
+}
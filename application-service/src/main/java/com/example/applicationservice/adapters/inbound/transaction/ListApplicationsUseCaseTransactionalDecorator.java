@@ -3,8 +3,10 @@ package com.example.applicationservice.adapters.inbound.transaction;
 import com.example.applicationservice.application.usecase.ListApplicationsUseCase;
 import com.example.applicationservice.domain.model.entity.Application;
 import com.example.applicationservice.domain.port.inbound.ListApplicationsUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationReadModelPort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.FileServicePort;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,12 +19,18 @@ public class ListApplicationsUseCaseTransactionalDecorator implements ListApplic
     private final ListApplicationsUseCase delegate;
 
     public ListApplicationsUseCaseTransactionalDecorator(ApplicationRepositoryPort applicationRepositoryPort,
-                                                         FileServicePort fileServicePort) {
-        this.delegate = new ListApplicationsUseCase(applicationRepositoryPort, fileServicePort);
+                                                         FileServicePort fileServicePort,
+                                                         ObjectProvider<ApplicationReadModelPort> readModel) {
+        this.delegate = new ListApplicationsUseCase(applicationRepositoryPort, fileServicePort, readModel.getIfAvailable());
     }
 
     @Override
     public List<Application> listApplications(int page, int size) {
         return delegate.listApplications(page, size);
     }
+
+    @Override
+    public List<Application> listApplicationsUnfiltered(int page, int size) {
+        return delegate.listApplicationsUnfiltered(page, size);
+    }
 }
@@ -1,14 +1,14 @@
 package com.example.applicationservice.adapters.inbound.transaction;
 
 import com.example.applicationservice.application.usecase.ListHistoryUseCase;
-import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+import com.example.applicationservice.domain.dto.HistoryVersion;
 import com.example.applicationservice.domain.port.inbound.ListHistoryUseCasePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import com.example.applicationservice.domain.util.HistoryPage;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -23,7 +23,12 @@ public class ListHistoryUseCaseTransactionalDecorator implements ListHistoryUseC
     }
 
     @Override
-    public List<ApplicationHistory> listHistory(UUID applicationId, UUID actorId, String actorRoleClaim) {
-        return delegate.listHistory(applicationId, actorId, actorRoleClaim);
+    public HistoryPage listHistory(UUID applicationId, String cursor, int limit, UUID actorId, String actorRoleClaim) {
+        return delegate.listHistory(applicationId, cursor, limit, actorId, actorRoleClaim);
+    }
+
+    @Override
+    public HistoryVersion findVersion(UUID applicationId, UUID actorId, String actorRoleClaim) {
+        return delegate.findVersion(applicationId, actorId, actorRoleClaim);
     }
 }
@@ -0,0 +1,46 @@
+package com.example.applicationservice.adapters.inbound.transaction;
+
+import com.example.applicationservice.application.usecase.ReactiveChangeStatusUseCase;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.inbound.ReactiveChangeStatusUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
+import com.example.applicationservice.domain.port.outbound.IdGeneratorPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationHistoryRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+@Profile("r2dbc")
+public class ReactiveChangeStatusUseCaseTransactionalDecorator implements ReactiveChangeStatusUseCasePort {
+
+    private final ReactiveChangeStatusUseCase delegate;
+    private final ApplicationCachePort applicationCachePort;
+    private final TransactionalOperator tx;
+
+    public ReactiveChangeStatusUseCaseTransactionalDecorator(ReactiveApplicationRepositoryPort applicationRepositoryPort,
+                                                             ReactiveApplicationHistoryRepositoryPort historyRepositoryPort,
+                                                             ApplicationCachePort applicationCachePort,
+                                                             IdGeneratorPort idGeneratorPort,
+                                                             @Qualifier("r2dbcTransactionalOperator") TransactionalOperator tx,
+                                                             @Value("${application.status-change.max-attempts:3}") int maxAttempts) {
+        this.delegate = new ReactiveChangeStatusUseCase(applicationRepositoryPort, historyRepositoryPort, applicationCachePort, maxAttempts,
+                idGeneratorPort);
+        this.applicationCachePort = applicationCachePort;
+        this.tx = tx;
+    }
+
+    @Override
+    public Mono<Application> changeStatus(UUID applicationId, String status, UUID actorId, String actorRoleClaim) {
+        // повторная инвалидация после коммита: чтение до коммита могло вернуть в кэш старую версию
+        return delegate.changeStatus(applicationId, status, actorId, actorRoleClaim)
+                .as(tx::transactional)
+                .doOnSuccess(app -> applicationCachePort.evict(applicationId));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.applicationservice.adapters.inbound.transaction;
+
+import com.example.applicationservice.application.usecase.ReactiveCreateApplicationUseCase;
+import com.example.applicationservice.domain.dto.ApplicationCreateCommand;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.inbound.ReactiveCreateApplicationUseCasePort;
+import com.example.applicationservice.domain.port.outbound.*;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive transactional decorator for ReactiveCreateApplicationUseCasePort (R2DBC).
+ * Проверки user/product идут вне транзакции (как в JpaReactiveUseCaseBridge): в транзакции только запись и outbox.
+ */
+@Service
+@Profile("r2dbc")
+public class ReactiveCreateApplicationUseCaseTransactionalDecorator implements ReactiveCreateApplicationUseCasePort {
+
+    private final ReactiveCreateApplicationUseCase delegate;
+    private final TransactionalOperator tx;
+
+    public ReactiveCreateApplicationUseCaseTransactionalDecorator(
+            ReactiveApplicationRepositoryPort applicationRepositoryPort,
+            ReactiveApplicationHistoryRepositoryPort historyRepositoryPort,
+            ReactiveUserServicePort userServicePort,
+            ReactiveProductServicePort productServicePort,
+            ReactiveEventPublisherPort eventPublisherPort,
+            @Qualifier("r2dbcTransactionalOperator") TransactionalOperator tx,
+            IdGeneratorPort idGeneratorPort
+    ) {
+        this.delegate = new ReactiveCreateApplicationUseCase(
+                applicationRepositoryPort,
+                historyRepositoryPort,
+                userServicePort,
+                productServicePort,
+                eventPublisherPort,
+                idGeneratorPort
+        );
+        this.tx = tx;
+    }
+
+    @Override
+    public Mono<Application> createApplication(ApplicationCreateCommand command, UUID actorId, String actorRoleClaim) {
+        return delegate.checks().verify(command, actorId, actorRoleClaim)
+                .then(Mono.defer(() -> delegate.createVerifiedApplication(command, actorId).as(tx::transactional)));
+    }
+}
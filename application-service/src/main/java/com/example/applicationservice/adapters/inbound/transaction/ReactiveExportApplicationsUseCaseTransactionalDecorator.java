@@ -0,0 +1,32 @@
+package com.example.applicationservice.adapters.inbound.transaction;
+
+import com.example.applicationservice.application.usecase.ReactiveExportApplicationsUseCase;
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.port.inbound.ExportApplicationsUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Без транзакции намеренно: выгрузка может идти долго, а общая транзакция держала бы соединение всё это время.
+ * Каждая keyset-страница — самостоятельный запрос.
+ */
+@Service
+@Profile("r2dbc")
+public class ReactiveExportApplicationsUseCaseTransactionalDecorator implements ExportApplicationsUseCasePort {
+
+    private final ReactiveExportApplicationsUseCase delegate;
+
+    public ReactiveExportApplicationsUseCaseTransactionalDecorator(ReactiveApplicationRepositoryPort applicationRepositoryPort,
+                                                                   @Value("${application.export.page-size:500}") int pageSize) {
+        this.delegate = new ReactiveExportApplicationsUseCase(applicationRepositoryPort, pageSize);
+    }
+
+    @Override
+    public Flux<ApplicationInfo> exportApplications(ApplicationFilter filter) {
+        return delegate.exportApplications(filter);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.applicationservice.adapters.inbound.transaction;
+
+import com.example.applicationservice.application.usecase.ReactiveGetApplicationUseCase;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.inbound.ReactiveGetApplicationUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+@Profile("r2dbc")
+public class ReactiveGetApplicationUseCaseTransactionalDecorator implements ReactiveGetApplicationUseCasePort {
+
+    private final ReactiveGetApplicationUseCase delegate;
+    private final TransactionalOperator tx;
+
+    public ReactiveGetApplicationUseCaseTransactionalDecorator(ReactiveApplicationRepositoryPort applicationRepositoryPort,
+                                                               ApplicationCachePort applicationCachePort,
+                                                               @Qualifier("r2dbcReadOnlyTransactionalOperator") TransactionalOperator tx) {
+        this.delegate = new ReactiveGetApplicationUseCase(applicationRepositoryPort, applicationCachePort);
+        this.tx = tx;
+    }
+
+    @Override
+    public Mono<Application> findById(UUID id) {
+        return delegate.findById(id).as(tx::transactional);
+    }
+
+    @Override
+    public Mono<Long> findVersion(UUID id) {
+        return delegate.findVersion(id).as(tx::transactional);
+    }
+}
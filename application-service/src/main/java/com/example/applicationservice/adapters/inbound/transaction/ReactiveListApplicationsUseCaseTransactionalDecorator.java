@@ -0,0 +1,35 @@
+package com.example.applicationservice.adapters.inbound.transaction;
+
+import com.example.applicationservice.application.usecase.ReactiveListApplicationsUseCase;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.inbound.ReactiveListApplicationsUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationReadModelPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveFileServicePort;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+
+@Service
+@Profile("r2dbc")
+public class ReactiveListApplicationsUseCaseTransactionalDecorator implements ReactiveListApplicationsUseCasePort {
+
+    private final ReactiveListApplicationsUseCase delegate;
+    private final TransactionalOperator tx;
+
+    public ReactiveListApplicationsUseCaseTransactionalDecorator(ReactiveApplicationRepositoryPort applicationRepositoryPort,
+                                                                 ReactiveFileServicePort fileServicePort,
+                                                                 ObjectProvider<ReactiveApplicationReadModelPort> readModel,
+                                                                 @Qualifier("r2dbcReadOnlyTransactionalOperator") TransactionalOperator tx) {
+        this.delegate = new ReactiveListApplicationsUseCase(applicationRepositoryPort, fileServicePort, readModel.getIfAvailable());
+        this.tx = tx;
+    }
+
+    @Override
+    public Flux<Application> listApplications(int page, int size) {
+        return delegate.listApplications(page, size).as(tx::transactional);
+    }
+}
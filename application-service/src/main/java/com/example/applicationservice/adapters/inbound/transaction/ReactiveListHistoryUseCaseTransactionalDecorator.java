@@ -0,0 +1,40 @@
+package com.example.applicationservice.adapters.inbound.transaction;
+
+import com.example.applicationservice.application.usecase.ReactiveListHistoryUseCase;
+import com.example.applicationservice.domain.dto.HistoryVersion;
+import com.example.applicationservice.domain.port.inbound.ReactiveListHistoryUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationHistoryRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import com.example.applicationservice.domain.util.HistoryPage;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+@Profile("r2dbc")
+public class ReactiveListHistoryUseCaseTransactionalDecorator implements ReactiveListHistoryUseCasePort {
+
+    private final ReactiveListHistoryUseCase delegate;
+    private final TransactionalOperator tx;
+
+    public ReactiveListHistoryUseCaseTransactionalDecorator(ReactiveApplicationRepositoryPort applicationRepositoryPort,
+                                                            ReactiveApplicationHistoryRepositoryPort historyRepositoryPort,
+                                                            @Qualifier("r2dbcReadOnlyTransactionalOperator") TransactionalOperator tx) {
+        this.delegate = new ReactiveListHistoryUseCase(applicationRepositoryPort, historyRepositoryPort);
+        this.tx = tx;
+    }
+
+    @Override
+    public Mono<HistoryPage> listHistory(UUID applicationId, String cursor, int limit, UUID actorId, String actorRoleClaim) {
+        return delegate.listHistory(applicationId, cursor, limit, actorId, actorRoleClaim).as(tx::transactional);
+    }
+
+    @Override
+    public Mono<HistoryVersion> findVersion(UUID applicationId, UUID actorId, String actorRoleClaim) {
+        return delegate.findVersion(applicationId, actorId, actorRoleClaim).as(tx::transactional);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.applicationservice.adapters.inbound.transaction;
+
+import com.example.applicationservice.application.usecase.ReactiveStreamApplicationsUseCase;
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.port.inbound.ReactiveStreamApplicationsUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationReadModelPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveFileServicePort;
+import com.example.applicationservice.domain.util.ApplicationPage;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("r2dbc")
+public class ReactiveStreamApplicationsUseCaseTransactionalDecorator implements ReactiveStreamApplicationsUseCasePort {
+
+    private final ReactiveStreamApplicationsUseCase delegate;
+    private final TransactionalOperator tx;
+
+    public ReactiveStreamApplicationsUseCaseTransactionalDecorator(ReactiveApplicationRepositoryPort applicationRepositoryPort,
+                                                                   ReactiveFileServicePort fileServicePort,
+                                                                   ObjectProvider<ReactiveApplicationReadModelPort> readModel,
+                                                                   @Qualifier("r2dbcReadOnlyTransactionalOperator") TransactionalOperator tx) {
+        this.delegate = new ReactiveStreamApplicationsUseCase(applicationRepositoryPort, fileServicePort, readModel.getIfAvailable());
+        this.tx = tx;
+    }
+
+    @Override
+    public Mono<ApplicationPage> streamWithNextCursor(String cursor, int limit) {
+        return delegate.streamWithNextCursor(cursor, limit).as(tx::transactional);
+    }
+
+    @Override
+    public Mono<ApplicationPage> streamWithNextCursor(ApplicationFilter filter, String cursor, int limit) {
+        return delegate.streamWithNextCursor(filter, cursor, limit).as(tx::transactional);
+    }
+}
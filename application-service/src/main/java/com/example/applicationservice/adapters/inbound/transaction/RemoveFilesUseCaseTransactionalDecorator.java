@@ -2,6 +2,7 @@ package com.example.applicationservice.adapters.inbound.transaction;
 
 import com.example.applicationservice.application.usecase.RemoveFilesUseCase;
 import com.example.applicationservice.domain.port.inbound.RemoveFilesUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,8 +16,9 @@ public class RemoveFilesUseCaseTransactionalDecorator implements RemoveFilesUseC
 
     private final RemoveFilesUseCase delegate;
 
-    public RemoveFilesUseCaseTransactionalDecorator(ApplicationRepositoryPort applicationRepositoryPort) {
-        this.delegate = new RemoveFilesUseCase(applicationRepositoryPort);
+    public RemoveFilesUseCaseTransactionalDecorator(ApplicationRepositoryPort applicationRepositoryPort,
+                                                    ApplicationCachePort applicationCachePort) {
+        this.delegate = new RemoveFilesUseCase(applicationRepositoryPort, applicationCachePort);
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.example.applicationservice.adapters.inbound.transaction;
 
 import com.example.applicationservice.application.usecase.RemoveTagsUseCase;
 import com.example.applicationservice.domain.port.inbound.RemoveTagsUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,8 +16,9 @@ public class RemoveTagsUseCaseTransactionalDecorator implements RemoveTagsUseCas
 
     private final RemoveTagsUseCase delegate;
 
-    public RemoveTagsUseCaseTransactionalDecorator(ApplicationRepositoryPort applicationRepositoryPort) {
-        this.delegate = new RemoveTagsUseCase(applicationRepositoryPort);
+    public RemoveTagsUseCaseTransactionalDecorator(ApplicationRepositoryPort applicationRepositoryPort,
+                                                   ApplicationCachePort applicationCachePort) {
+        this.delegate = new RemoveTagsUseCase(applicationRepositoryPort, applicationCachePort);
     }
 
     @Override
@@ -1,10 +1,13 @@
 package com.example.applicationservice.adapters.inbound.transaction;
 
 import com.example.applicationservice.application.usecase.StreamApplicationsUseCase;
+import com.example.applicationservice.domain.dto.ApplicationFilter;
 import com.example.applicationservice.domain.util.ApplicationPage;
 import com.example.applicationservice.domain.port.inbound.StreamApplicationsUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationReadModelPort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.FileServicePort;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,12 +18,23 @@ public class StreamApplicationsUseCaseTransactionalDecorator implements StreamAp
     private final StreamApplicationsUseCase delegate;
 
     public StreamApplicationsUseCaseTransactionalDecorator(ApplicationRepositoryPort applicationRepositoryPort,
-                                                           FileServicePort fileServicePort) {
-        this.delegate = new StreamApplicationsUseCase(applicationRepositoryPort, fileServicePort);
+                                                           FileServicePort fileServicePort,
+                                                           ObjectProvider<ApplicationReadModelPort> readModel) {
+        this.delegate = new StreamApplicationsUseCase(applicationRepositoryPort, fileServicePort, readModel.getIfAvailable());
     }
 
     @Override
     public ApplicationPage streamWithNextCursor(String cursor, int limit) {
         return delegate.streamWithNextCursor(cursor, limit);
     }
+
+    @Override
+    public ApplicationPage streamWithNextCursor(ApplicationFilter filter, String cursor, int limit) {
+        return delegate.streamWithNextCursor(filter, cursor, limit);
+    }
+
+    @Override
+    public ApplicationPage streamUnfiltered(ApplicationFilter filter, String cursor, int limit) {
+        return delegate.streamUnfiltered(filter, cursor, limit);
+    }
 }
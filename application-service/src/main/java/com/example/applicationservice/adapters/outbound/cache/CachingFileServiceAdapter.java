@@ -0,0 +1,112 @@
+package com.example.applicationservice.adapters.outbound.cache;
+
+import com.example.applicationservice.adapters.outbound.feign.FileServiceAdapter;
+import com.example.applicationservice.domain.port.outbound.FileServicePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Кэширующий декоратор FileServicePort: помнит и «есть», и «нет» (разные TTL),
+ * в file-service уходят только неизвестные id одним батчем.
+ * Удалённые файлы помечаются по событию file.deleted (см. FileDeletedEventListener).
+ */
+@Component
+@Primary
+public class CachingFileServiceAdapter implements FileServicePort {
+
+    private final FileServiceAdapter delegate;
+    private final Cache<UUID, Boolean> cache;
+
+    @Autowired
+    public CachingFileServiceAdapter(FileServiceAdapter delegate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${application.file-cache.maximum-size:100000}") long maximumSize,
+                                     @Value("${application.file-cache.positive-ttl:PT10M}") Duration positiveTtl,
+                                     @Value("${application.file-cache.negative-ttl:PT1M}") Duration negativeTtl) {
+        this(delegate, meterRegistry, maximumSize, positiveTtl, negativeTtl, Ticker.systemTicker());
+    }
+
+    CachingFileServiceAdapter(FileServiceAdapter delegate, MeterRegistry meterRegistry, long maximumSize,
+                              Duration positiveTtl, Duration negativeTtl, Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .ticker(ticker)
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<UUID, Boolean>() {
+                    @Override
+                    public long expireAfterCreate(UUID key, Boolean exists, long currentTime) {
+                        return (exists ? positiveTtl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(UUID key, Boolean exists, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, exists, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(UUID key, Boolean exists, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "file-existence");
+    }
+
+    @Override
+    public List<UUID> checkFilesExist(List<UUID> fileIds) {
+        if (fileIds == null || fileIds.isEmpty()) return new ArrayList<>();
+
+        Map<UUID, Boolean> known = known(fileIds);
+        List<UUID> unknown = unknown(fileIds, known);
+
+        if (!unknown.isEmpty()) {
+            // ошибки и null от file-service не кэшируем — use case сам решает, что с ними делать
+            List<UUID> existing = delegate.checkFilesExist(unknown);
+            if (existing == null) return null;
+            remember(unknown, existing, known);
+        }
+
+        return existing(fileIds, known);
+    }
+
+    /**
+     * Файл удалён в file-service: id больше не появится, запоминаем как отсутствующий.
+     */
+    public void markDeleted(UUID fileId) {
+        cache.put(fileId, false);
+    }
+
+    // шаги checkFilesExist, общие с ReactiveFileServiceCachingAdapter
+    Map<UUID, Boolean> known(List<UUID> fileIds) {
+        return new HashMap<>(cache.getAllPresent(fileIds));
+    }
+
+    static List<UUID> unknown(List<UUID> fileIds, Map<UUID, Boolean> known) {
+        return fileIds.stream().distinct().filter(id -> !known.containsKey(id)).toList();
+    }
+
+    void remember(List<UUID> requested, List<UUID> existing, Map<UUID, Boolean> known) {
+        Set<UUID> existingSet = new HashSet<>(existing);
+        for (UUID id : requested) {
+            boolean exists = existingSet.contains(id);
+            cache.put(id, exists);
+            known.put(id, exists);
+        }
+    }
+
+    static List<UUID> existing(List<UUID> fileIds, Map<UUID, Boolean> known) {
+        return fileIds.stream().distinct().filter(id -> known.getOrDefault(id, false)).toList();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.applicationservice.adapters.outbound.cache;
+
+import com.example.applicationservice.adapters.outbound.feign.ProductServiceAdapter;
+import com.example.applicationservice.domain.port.outbound.ProductServicePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Кэширующий декоратор ProductServicePort: помнит только «продукт есть».
+ * Удаление приходит событием product.deleted (см. ExistenceCacheEvictionListener), TTL — страховка на пропущенные события.
+ */
+@Component
+@Primary
+public class CachingProductServiceAdapter implements ProductServicePort {
+
+    private final ProductServiceAdapter delegate;
+    private final Cache<UUID, Boolean> cache;
+
+    @Autowired
+    public CachingProductServiceAdapter(ProductServiceAdapter delegate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${application.product-cache.maximum-size:100000}") long maximumSize,
+                                     @Value("${application.product-cache.ttl:PT30M}") Duration ttl) {
+        this(delegate, meterRegistry, maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    CachingProductServiceAdapter(ProductServiceAdapter delegate, MeterRegistry meterRegistry, long maximumSize,
+                                 Duration ttl, Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .ticker(ticker)
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product-existence");
+    }
+
+    @Override
+    public Boolean productExists(UUID productId) {
+        if (knownToExist(productId)) return true;
+
+        // false, null и ошибки не кэшируем: отрицательный ответ и недоступность решает use case
+        Boolean exists = delegate.productExists(productId);
+        if (Boolean.TRUE.equals(exists)) rememberExists(productId);
+        return exists;
+    }
+
+    public void evict(UUID productId) {
+        cache.invalidate(productId);
+    }
+
+    // общий кэш с ReactiveProductServiceCachingAdapter: события product.deleted чистят оба пути
+    boolean knownToExist(UUID productId) {
+        return cache.getIfPresent(productId) != null;
+    }
+
+    void rememberExists(UUID productId) {
+        cache.put(productId, true);
+    }
+}
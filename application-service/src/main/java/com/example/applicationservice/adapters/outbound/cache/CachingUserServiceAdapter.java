@@ -0,0 +1,71 @@
+package com.example.applicationservice.adapters.outbound.cache;
+
+import com.example.applicationservice.adapters.outbound.feign.UserServiceAdapter;
+import com.example.applicationservice.domain.port.outbound.UserServicePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Кэширующий декоратор UserServicePort: помнит только «пользователь есть».
+ * Удаление приходит событием user.deleted (см. ExistenceCacheEvictionListener), TTL — страховка на пропущенные события.
+ */
+@Component
+@Primary
+public class CachingUserServiceAdapter implements UserServicePort {
+
+    private final UserServiceAdapter delegate;
+    private final Cache<UUID, Boolean> cache;
+
+    @Autowired
+    public CachingUserServiceAdapter(UserServiceAdapter delegate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${application.user-cache.maximum-size:100000}") long maximumSize,
+                                     @Value("${application.user-cache.ttl:PT30M}") Duration ttl) {
+        this(delegate, meterRegistry, maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    CachingUserServiceAdapter(UserServiceAdapter delegate, MeterRegistry meterRegistry, long maximumSize,
+                              Duration ttl, Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .ticker(ticker)
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user-existence");
+    }
+
+    @Override
+    public Boolean userExists(UUID userId) {
+        if (knownToExist(userId)) return true;
+
+        // false, null и ошибки не кэшируем: отрицательный ответ и недоступность решает use case
+        Boolean exists = delegate.userExists(userId);
+        if (Boolean.TRUE.equals(exists)) rememberExists(userId);
+        return exists;
+    }
+
+    public void evict(UUID userId) {
+        cache.invalidate(userId);
+    }
+
+    // общий кэш с ReactiveUserServiceCachingAdapter: события user.deleted чистят оба пути
+    boolean knownToExist(UUID userId) {
+        return cache.getIfPresent(userId) != null;
+    }
+
+    void rememberExists(UUID userId) {
+        cache.put(userId, true);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.applicationservice.adapters.outbound.cache;
+
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Caffeine-кэш заявок: ограничен по размеру и TTL, метрики cache.* (name=applications) в actuator.
+ * Хранит и отдаёт копии, чтобы вызывающий код не менял закэшированный объект.
+ */
+@Component
+public class CaffeineApplicationCacheAdapter implements ApplicationCachePort {
+
+    private final Cache<UUID, Application> cache;
+
+    @Autowired
+    public CaffeineApplicationCacheAdapter(MeterRegistry meterRegistry,
+                                           @Value("${application.cache.maximum-size:10000}") long maximumSize,
+                                           @Value("${application.cache.ttl:PT5M}") Duration ttl) {
+        this(meterRegistry, maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    CaffeineApplicationCacheAdapter(MeterRegistry meterRegistry, long maximumSize, Duration ttl, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .ticker(ticker)
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "applications");
+    }
+
+    @Override
+    public Optional<Application> get(UUID id) {
+        return Optional.ofNullable(cache.getIfPresent(id)).map(CaffeineApplicationCacheAdapter::copy);
+    }
+
+    @Override
+    public void put(Application application) {
+        if (application == null || application.getId() == null) return;
+        // не затираем более новую версию (@Version) устаревшим чтением
+        cache.asMap().merge(application.getId(), copy(application),
+                (cached, loaded) -> version(loaded) >= version(cached) ? loaded : cached);
+    }
+
+    @Override
+    public void evict(UUID id) {
+        cache.invalidate(id);
+        // параллельное чтение до коммита может снова положить старые данные — сбрасываем после коммита
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    private static long version(Application a) {
+        return a.getVersion() != null ? a.getVersion() : 0L;
+    }
+
+    private static Application copy(Application src) {
+        Application a = new Application();
+        a.setId(src.getId());
+        a.setApplicantId(src.getApplicantId());
+        a.setProductId(src.getProductId());
+        a.setStatus(src.getStatus());
+        a.setCreatedAt(src.getCreatedAt());
+        a.setUpdatedAt(src.getUpdatedAt());
+        a.setVersion(src.getVersion());
+        a.setFiles(src.getFiles() != null ? new HashSet<>(src.getFiles()) : new HashSet<>());
+        a.setTags(src.getTags() != null ? new HashSet<>(src.getTags()) : new HashSet<>());
+        a.setHistory(src.getHistory() != null ? new ArrayList<>(src.getHistory()) : new ArrayList<>());
+        return a;
+    }
+}
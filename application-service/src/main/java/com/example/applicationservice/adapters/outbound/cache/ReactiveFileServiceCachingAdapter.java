@@ -0,0 +1,45 @@
+package com.example.applicationservice.adapters.outbound.cache;
+
+import com.example.applicationservice.adapters.outbound.webclient.FileServiceWebClientAdapter;
+import com.example.applicationservice.domain.port.outbound.ReactiveFileServicePort;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Кэширующий декоратор ReactiveFileServicePort поверх того же кэша, что и CachingFileServiceAdapter:
+ * в file-service уходят только неизвестные id, пометки file.deleted видны обоим путям.
+ */
+@Component
+@Primary
+public class ReactiveFileServiceCachingAdapter implements ReactiveFileServicePort {
+
+    private final FileServiceWebClientAdapter delegate;
+    private final CachingFileServiceAdapter cache;
+
+    public ReactiveFileServiceCachingAdapter(FileServiceWebClientAdapter delegate, CachingFileServiceAdapter cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Mono<List<UUID>> checkFilesExist(List<UUID> fileIds) {
+        if (fileIds == null || fileIds.isEmpty()) return Mono.just(new ArrayList<>());
+
+        Map<UUID, Boolean> known = cache.known(fileIds);
+        List<UUID> unknown = CachingFileServiceAdapter.unknown(fileIds, known);
+        if (unknown.isEmpty()) return Mono.just(CachingFileServiceAdapter.existing(fileIds, known));
+
+        // ошибки и пустой ответ не кэшируем — как в блокирующем варианте
+        return delegate.checkFilesExist(unknown)
+                .map(existing -> {
+                    cache.remember(unknown, existing, known);
+                    return CachingFileServiceAdapter.existing(fileIds, known);
+                });
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.applicationservice.adapters.outbound.cache;
+
+import com.example.applicationservice.adapters.outbound.webclient.ProductServiceWebClientAdapter;
+import com.example.applicationservice.domain.port.outbound.ReactiveProductServicePort;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Кэширующий декоратор ReactiveProductServicePort поверх того же кэша, что и CachingProductServiceAdapter.
+ */
+@Component
+@Primary
+public class ReactiveProductServiceCachingAdapter implements ReactiveProductServicePort {
+
+    private final ProductServiceWebClientAdapter delegate;
+    private final CachingProductServiceAdapter cache;
+
+    public ReactiveProductServiceCachingAdapter(ProductServiceWebClientAdapter delegate, CachingProductServiceAdapter cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Mono<Boolean> productExists(UUID productId) {
+        if (cache.knownToExist(productId)) return Mono.just(true);
+        return delegate.productExists(productId)
+                .doOnNext(exists -> { if (Boolean.TRUE.equals(exists)) cache.rememberExists(productId); });
+    }
+}
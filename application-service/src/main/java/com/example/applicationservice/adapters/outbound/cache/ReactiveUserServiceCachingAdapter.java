@@ -0,0 +1,32 @@
+package com.example.applicationservice.adapters.outbound.cache;
+
+import com.example.applicationservice.adapters.outbound.webclient.UserServiceWebClientAdapter;
+import com.example.applicationservice.domain.port.outbound.ReactiveUserServicePort;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Кэширующий декоратор ReactiveUserServicePort поверх того же кэша, что и CachingUserServiceAdapter.
+ */
+@Component
+@Primary
+public class ReactiveUserServiceCachingAdapter implements ReactiveUserServicePort {
+
+    private final UserServiceWebClientAdapter delegate;
+    private final CachingUserServiceAdapter cache;
+
+    public ReactiveUserServiceCachingAdapter(UserServiceWebClientAdapter delegate, CachingUserServiceAdapter cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Mono<Boolean> userExists(UUID userId) {
+        if (cache.knownToExist(userId)) return Mono.just(true);
+        return delegate.userExists(userId)
+                .doOnNext(exists -> { if (Boolean.TRUE.equals(exists)) cache.rememberExists(userId); });
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.applicationservice.adapters.outbound.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Реактивный single-flight: одновременные подписки с одним ключом получают результат одного вызова.
+ * Вызов идёт с Reactor Context первого подписчика (в том числе его Authorization) и после старта
+ * не отменяется отпиской отдельных ожидающих — его ограничивает response-timeout WebClient.
+ * Поэтому ожидающим достаётся только успешный непустой результат: при ошибке или пустом ответе каждый
+ * ожидающий повторяет вызов сам, в своём Context (со своим Authorization).
+ * Метрики те же, что у SingleFlight.
+ */
+public class ReactiveSingleFlight<K, V> {
+
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter calls;
+    private final Counter coalesced;
+
+    public ReactiveSingleFlight(String name, MeterRegistry meterRegistry) {
+        this.calls = meterRegistry.counter("application.downstream.calls", "call", name);
+        this.coalesced = meterRegistry.counter("application.downstream.coalesced", "call", name);
+    }
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.deferContextual(ctx -> {
+            Mono<V> mine = start(List.of(key), ignored -> call.get().contextWrite(ctx));
+            Mono<V> running = inFlight.putIfAbsent(key, mine);
+            if (running != null) {
+                coalesced.increment();
+                return running.onErrorResume(e -> Mono.empty())
+                        .switchIfEmpty(Mono.defer(() -> {
+                            calls.increment();
+                            return call.get();
+                        }));
+            }
+            calls.increment();
+            return mine;
+        });
+    }
+
+    /**
+     * Батчевый вариант, см. SingleFlight#executeAll. Пустой результат вызова (Mono.empty) даёт null для его ключей.
+     * Ключи, чей чужой вызов завершился ошибкой или пустым ответом, запрашиваются ещё раз одним своим вызовом.
+     */
+    public Mono<Map<K, V>> executeAll(Collection<K> keys, Function<List<K>, Mono<V>> call) {
+        return Mono.deferContextual(ctx -> {
+            List<K> own = new ArrayList<>();
+            Map<K, Mono<V>> joined = new HashMap<>();
+            Mono<V> mine = start(own, k -> call.apply(k).contextWrite(ctx));
+            for (K key : new LinkedHashSet<>(keys)) {
+                Mono<V> running = inFlight.putIfAbsent(key, mine);
+                if (running == null) own.add(key); else joined.put(key, running);
+            }
+            if (!own.isEmpty()) calls.increment();
+            if (!joined.isEmpty()) coalesced.increment(joined.size());
+
+            List<Mono<Map<K, V>>> parts = new ArrayList<>();
+            if (!own.isEmpty()) parts.add(collect(own, mine));
+            if (!joined.isEmpty()) parts.add(joinSuccess(joined, call));
+            return Mono.zip(parts, results -> {
+                Map<K, V> merged = new HashMap<>();
+                for (Object part : results) {
+                    @SuppressWarnings("unchecked")
+                    Map<K, V> map = (Map<K, V>) part;
+                    merged.putAll(map);
+                }
+                return merged;
+            }).defaultIfEmpty(new HashMap<>());
+        });
+    }
+
+    // общий Mono вызова: ключи освобождаются по завершении/отмене, опоздавшие подписчики получают уже готовый результат
+    private Mono<V> start(List<K> keys, Function<List<K>, Mono<V>> call) {
+        @SuppressWarnings("unchecked")
+        Mono<V>[] self = new Mono[1];
+        self[0] = Mono.defer(() -> call.apply(keys))
+                .doFinally(signal -> keys.forEach(key -> inFlight.remove(key, self[0])))
+                .share();
+        return self[0];
+    }
+
+    // успешные чужие результаты как есть; остальные ключи — одним своим вызовом в Context этого подписчика
+    private Mono<Map<K, V>> joinSuccess(Map<K, Mono<V>> joined, Function<List<K>, Mono<V>> call) {
+        return Flux.fromIterable(joined.entrySet())
+                .flatMap(entry -> entry.getValue()
+                        .map(Optional::of)
+                        .onErrorResume(e -> Mono.just(Optional.empty()))
+                        .defaultIfEmpty(Optional.empty())
+                        .map(value -> Map.entry(entry.getKey(), value)))
+                .collectList()
+                .flatMap(entries -> {
+                    Map<K, V> shared = new HashMap<>();
+                    List<K> retry = new ArrayList<>();
+                    entries.forEach(e -> {
+                        if (e.getValue().isPresent()) shared.put(e.getKey(), e.getValue().get()); else retry.add(e.getKey());
+                    });
+                    if (retry.isEmpty()) return Mono.just(shared);
+                    calls.increment();
+                    return collect(retry, Mono.defer(() -> call.apply(retry))).map(own -> {
+                        shared.putAll(own);
+                        return shared;
+                    });
+                });
+    }
+
+    private static <K, V> Mono<Map<K, V>> collect(List<K> keys, Mono<V> result) {
+        return result.map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .map(value -> {
+                    Map<K, V> map = new HashMap<>();
+                    keys.forEach(key -> map.put(key, value.orElse(null)));
+                    return map;
+                });
+    }
+}
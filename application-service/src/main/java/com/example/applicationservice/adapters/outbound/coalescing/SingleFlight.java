@@ -0,0 +1,110 @@
+package com.example.applicationservice.adapters.outbound.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight для блокирующих вызовов в соседние сервисы: одновременные запросы с одним ключом
+ * ждут результат уже идущего вызова, а не делают свой. Результат не кэшируется — ключ освобождается
+ * сразу по завершении вызова (кэшированием занимаются Caching*Adapter).
+ * Ожидающим достаётся только успешный непустой результат: ошибка или null (fallback «сервис недоступен»)
+ * могли быть вызваны авторизацией ведущего, поэтому каждый ожидающий повторяет вызов сам, со своим Authorization.
+ * Метрики: application.downstream.calls (реальные вызовы) и application.downstream.coalesced
+ * (запросы, присоединившиеся к чужому вызову), тег call.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter calls;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.calls = meterRegistry.counter("application.downstream.calls", "call", name);
+        this.coalesced = meterRegistry.counter("application.downstream.coalesced", "call", name);
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            V shared = joinSuccess(running);
+            if (shared != null) return shared;
+            calls.increment();
+            return call.get();
+        }
+        try {
+            calls.increment();
+            V result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Батчевый вариант: ключи, по которым уже идёт вызов, ждут его; остальные уходят одним вызовом.
+     * Возвращает для каждого ключа результат вызова, который его покрыл (свой или чужой).
+     * Ключи, чей чужой вызов завершился ошибкой или null, запрашиваются ещё раз одним своим вызовом.
+     */
+    public Map<K, V> executeAll(Collection<K> keys, Function<List<K>, V> call) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        List<K> own = new ArrayList<>();
+        Map<K, CompletableFuture<V>> joined = new HashMap<>();
+        for (K key : new LinkedHashSet<>(keys)) {
+            CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+            if (running == null) own.add(key); else joined.put(key, running);
+        }
+
+        Map<K, V> results = new HashMap<>();
+        if (!own.isEmpty()) {
+            try {
+                calls.increment();
+                V result = call.apply(own);
+                mine.complete(result);
+                own.forEach(key -> results.put(key, result));
+            } catch (RuntimeException | Error e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                own.forEach(key -> inFlight.remove(key, mine));
+            }
+        }
+        if (!joined.isEmpty()) {
+            coalesced.increment(joined.size());
+            List<K> retry = new ArrayList<>();
+            joined.forEach((key, future) -> {
+                V shared = joinSuccess(future);
+                if (shared != null) results.put(key, shared); else retry.add(key);
+            });
+            if (!retry.isEmpty()) {
+                calls.increment();
+                // HashMap допускает null-результат (например, «сервис недоступен» от адаптера)
+                V result = call.apply(retry);
+                retry.forEach(key -> results.put(key, result));
+            }
+        }
+        return results;
+    }
+
+    // null — чужой вызов не дал пригодного для всех результата
+    private static <V> V joinSuccess(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            return null;
+        }
+    }
+}
@@ -6,14 +6,24 @@ import com.example.applicationservice.domain.port.outbound.EventPublisherPort;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.*;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.kafka.sender.KafkaSender;
 import reactor.kafka.sender.SenderRecord;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
+/**
+ * Прямая отправка в Kafka из вызывающего потока (fire-and-forget).
+ * Используется только при application.outbox.enabled=false; по умолчанию события идут через OutboxEventPublisherAdapter.
+ */
 @Component
+@ConditionalOnProperty(name = "application.outbox.enabled", havingValue = "false")
 public class KafkaEventPublisherAdapter implements EventPublisherPort {
 
     private static final Logger log = LoggerFactory.getLogger(KafkaEventPublisherAdapter.class);
@@ -78,4 +88,37 @@ public class KafkaEventPublisherAdapter implements EventPublisherPort {
             log.error("Error serializing FileEvent", e);
         }
     }
+
+    @Override
+    public void publishTagCreateRequests(List<TagEvent> events) {
+        sendAll(tagCreateTopic, events, TagEvent::getEventId);
+    }
+
+    @Override
+    public void publishFileAttachRequests(List<FileEvent> events) {
+        sendAll(fileAttachTopic, events, FileEvent::getEventId);
+    }
+
+    // один send() на весь список: продюсер сам собирает записи в батчи
+    private <T> void sendAll(String topic, List<T> events, Function<T, UUID> eventId) {
+        if (events.isEmpty()) return;
+        List<SenderRecord<String, String, String>> records = new ArrayList<>(events.size());
+        for (T event : events) {
+            try {
+                String id = eventId.apply(event).toString();
+                records.add(SenderRecord.create(topic, null, System.currentTimeMillis(), id,
+                        objectMapper.writeValueAsString(event), id));
+            } catch (Exception e) {
+                log.error("Error serializing event for {}", topic, e);
+            }
+        }
+        kafkaSender.send(Flux.fromIterable(records))
+                .doOnNext(r -> {
+                    if (r.exception() != null) {
+                        log.error("Failed sending {} event {}: {}", topic, r.correlationMetadata(), r.exception().getMessage());
+                    }
+                })
+                .doOnComplete(() -> log.info("Sent {} events to {}", records.size(), topic))
+                .subscribe();
+    }
 }
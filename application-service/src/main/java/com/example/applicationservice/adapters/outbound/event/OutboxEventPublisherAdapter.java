@@ -0,0 +1,116 @@
+package com.example.applicationservice.adapters.outbound.event;
+
+import com.example.applicationservice.domain.event.FileEvent;
+import com.example.applicationservice.domain.event.TagEvent;
+import com.example.applicationservice.domain.port.outbound.EventPublisherPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Transactional outbox: события пишутся в outbox_event в транзакции вызывающего use case
+ * и попадают в Kafka только после коммита (см. OutboxRelay). При откате события исчезают вместе с данными.
+ */
+@Component
+@ConditionalOnProperty(name = "application.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxEventPublisherAdapter implements EventPublisherPort {
+
+    private static final String INSERT_OUTBOX =
+            "INSERT INTO outbox_event (id, topic, event_key, payload, created_at) VALUES (:id, :topic, :key, :payload, :createdAt)";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.kafka.topics.tag-create-request:tag.create.request}")
+    private String tagCreateTopic;
+
+    @Value("${spring.kafka.topics.tag-attach-request:tag.attach.request}")
+    private String tagAttachTopic;
+
+    @Value("${spring.kafka.topics.file-attach-request:file.attach.request}")
+    private String fileAttachTopic;
+
+    public OutboxEventPublisherAdapter(NamedParameterJdbcTemplate jdbc, ObjectMapper objectMapper) {
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publishTagCreateRequest(TagEvent event) {
+        publishTagCreateRequests(List.of(event));
+    }
+
+    @Override
+    public void publishTagAttachRequest(TagEvent event) {
+        append(tagAttachTopic, List.of(event), TagEvent::getEventId);
+    }
+
+    @Override
+    public void publishFileAttachRequest(FileEvent event) {
+        publishFileAttachRequests(List.of(event));
+    }
+
+    @Override
+    public void publishTagCreateRequests(List<TagEvent> events) {
+        append(tagCreateTopic, events, TagEvent::getEventId);
+    }
+
+    @Override
+    public void publishFileAttachRequests(List<FileEvent> events) {
+        append(fileAttachTopic, events, FileEvent::getEventId);
+    }
+
+    private <T> void append(String topic, List<T> events, Function<T, UUID> eventId) {
+        if (events.isEmpty()) return;
+        try {
+            insert(topic, events, eventId);
+        } catch (RuntimeException e) {
+            // use case глотает ошибки публикации, а коммитить данные без outbox-записи нельзя — откатываем транзакцию
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            }
+            throw e;
+        }
+    }
+
+    private <T> void insert(String topic, List<T> events, Function<T, UUID> eventId) {
+        Instant now = Instant.now();
+        List<SqlParameterSource> rows = new ArrayList<>(events.size());
+        for (T event : events) {
+            UUID id = eventId.apply(event);
+            rows.add(new MapSqlParameterSource()
+                    .addValue("id", id)
+                    .addValue("topic", topic)
+                    .addValue("key", id.toString())
+                    .addValue("payload", toJson(event))
+                    .addValue("createdAt", now.atOffset(ZoneOffset.UTC)));
+        }
+        if (rows.size() == 1) {
+            jdbc.update(INSERT_OUTBOX, rows.get(0));
+        } else {
+            jdbc.batchUpdate(INSERT_OUTBOX, rows.toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize event " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
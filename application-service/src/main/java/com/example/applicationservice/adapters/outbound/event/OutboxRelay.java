@@ -0,0 +1,156 @@
+package com.example.applicationservice.adapters.outbound.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.*;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Переносит события из outbox_event в Kafka пачками через outboxKafkaSender (stopOnError(false)).
+ * Пачка арендуется (claimed_until) короткой транзакцией с FOR UPDATE SKIP LOCKED и отправляется уже после коммита,
+ * поэтому несколько инстансов не отправляют одно и то же, а блокировки не держатся на время ответа брокера.
+ * Удаляются только подтверждённые брокером записи, неподтверждённые сразу освобождаются;
+ * если инстанс упал посреди отправки, строки снова берутся по истечении аренды (at-least-once).
+ * Метрики: application.outbox.depth (gauge), application.outbox.relay.lag (timer: created_at -> ack),
+ * application.outbox.relay.sent / .failed (counters).
+ */
+@Component
+@ConditionalOnProperty(name = "application.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String CLAIM_BATCH =
+            "UPDATE outbox_event SET claimed_until = now() + :lease * interval '1 millisecond' WHERE id IN (" +
+            "SELECT id FROM outbox_event WHERE claimed_until IS NULL OR claimed_until < now() " +
+            "ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+            "RETURNING id, topic, event_key, payload, created_at";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final KafkaSender<String, String> kafkaSender;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration lease;
+    private final Timer lag;
+    private final Counter sent;
+    private final Counter failed;
+
+    public OutboxRelay(NamedParameterJdbcTemplate jdbc,
+                       PlatformTransactionManager transactionManager,
+                       @Qualifier("outboxKafkaSender") KafkaSender<String, String> kafkaSender,
+                       MeterRegistry meterRegistry,
+                       @Value("${application.outbox.batch-size:500}") int batchSize,
+                       @Value("${application.outbox.send-timeout:PT130S}") Duration sendTimeout,
+                       @Value("${spring.kafka.producer.properties.delivery.timeout.ms:120000}") long deliveryTimeoutMs,
+                       @Value("${application.outbox.claim-lease:PT5M}") Duration lease) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.kafkaSender = kafkaSender;
+        this.batchSize = batchSize;
+        // раньше delivery.timeout.ms продюсер ещё может доставить запись, которую relay счёл неотправленной
+        Duration deliveryTimeout = Duration.ofMillis(deliveryTimeoutMs);
+        this.sendTimeout = sendTimeout.compareTo(deliveryTimeout) < 0 ? deliveryTimeout : sendTimeout;
+        // аренда переживает ожидание подтверждений, иначе другой инстанс взял бы ещё отправляемые строки
+        this.lease = lease.compareTo(this.sendTimeout) <= 0 ? this.sendTimeout.multipliedBy(2) : lease;
+        this.lag = Timer.builder("application.outbox.relay.lag").register(meterRegistry);
+        this.sent = meterRegistry.counter("application.outbox.relay.sent");
+        this.failed = meterRegistry.counter("application.outbox.relay.failed");
+        // считается при снятии метрик, а не на каждом цикле relay
+        Gauge.builder("application.outbox.depth", this, OutboxRelay::depth).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${application.outbox.poll-interval:PT0.2S}")
+    public void relay() {
+        try {
+            // полная пачка — скорее всего есть ещё, разбираем без ожидания следующего тика
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (Exception e) {
+            log.error("Outbox relay failed, will retry on next tick", e);
+        }
+    }
+
+    int relayBatch() {
+        // аренда коммитится до отправки: FOR UPDATE и соединение не держатся на время ответа брокера
+        List<OutboxRow> rows = tx.execute(status -> jdbc.query(CLAIM_BATCH,
+                new MapSqlParameterSource("limit", batchSize).addValue("lease", lease.toMillis()),
+                (rs, i) -> new OutboxRow(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("topic"),
+                        rs.getString("event_key"),
+                        rs.getString("payload"),
+                        rs.getObject("created_at", OffsetDateTime.class).toInstant())));
+        if (rows == null || rows.isEmpty()) return 0;
+        rows = rows.stream().sorted(Comparator.comparing(OutboxRow::createdAt).thenComparing(OutboxRow::id)).toList();
+
+        List<SenderRecord<String, String, OutboxRow>> records = new ArrayList<>(rows.size());
+        for (OutboxRow row : rows) {
+            records.add(SenderRecord.create(row.topic(), null, row.createdAt().toEpochMilli(), row.key(), row.payload(), row));
+        }
+
+        // stopOnError(false): ошибка записи приходит в её SenderResult, остальные записи пачки продолжают отправляться.
+        // Таймаут не короче delivery.timeout.ms; если он всё же истёк, строки остаются арендованными до конца аренды
+        List<SenderResult<OutboxRow>> results = kafkaSender.send(Flux.fromIterable(records))
+                .collectList()
+                .block(sendTimeout);
+
+        List<UUID> acked = new ArrayList<>();
+        List<UUID> notSent = new ArrayList<>();
+        Instant now = Instant.now();
+        if (results != null) {
+            for (SenderResult<OutboxRow> r : results) {
+                if (r.exception() == null) {
+                    acked.add(r.correlationMetadata().id());
+                    lag.record(Duration.between(r.correlationMetadata().createdAt(), now));
+                } else {
+                    notSent.add(r.correlationMetadata().id());
+                    log.warn("Outbox event {} to {} not sent: {}", r.correlationMetadata().id(),
+                            r.correlationMetadata().topic(), r.exception().getMessage());
+                }
+            }
+        }
+        if (!acked.isEmpty()) {
+            jdbc.update("DELETE FROM outbox_event WHERE id IN (:ids)", new MapSqlParameterSource("ids", acked));
+        }
+        // неотправленные сразу возвращаются в очередь и уйдут на следующем тике
+        if (!notSent.isEmpty()) {
+            jdbc.update("UPDATE outbox_event SET claimed_until = NULL WHERE id IN (:ids)", new MapSqlParameterSource("ids", notSent));
+        }
+        sent.increment(acked.size());
+        failed.increment(notSent.size());
+        return notSent.isEmpty() ? rows.size() : 0;
+    }
+
+    private double depth() {
+        Long count = jdbc.getJdbcTemplate().queryForObject("SELECT count(*) FROM outbox_event", Long.class);
+        return count != null ? count : 0;
+    }
+
+    private record OutboxRow(UUID id, String topic, String key, String payload, Instant createdAt) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.applicationservice.adapters.outbound.event;
+
+import com.example.applicationservice.domain.event.FileEvent;
+import com.example.applicationservice.domain.event.TagEvent;
+import com.example.applicationservice.domain.port.outbound.ReactiveEventPublisherPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Transactional outbox для профиля r2dbc: запись в outbox_event идёт через DatabaseClient
+ * и поэтому попадает в ту же реактивную транзакцию (TransactionalOperator), что и заявка.
+ * Дальше события забирает тот же OutboxRelay.
+ */
+@Component
+@Profile("r2dbc")
+@ConditionalOnProperty(name = "application.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class R2dbcOutboxEventPublisherAdapter implements ReactiveEventPublisherPort {
+
+    private static final String INSERT_OUTBOX =
+            "INSERT INTO outbox_event (id, topic, event_key, payload, created_at) VALUES (:id, :topic, :key, :payload, :createdAt)";
+
+    private final DatabaseClient db;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.kafka.topics.tag-create-request:tag.create.request}")
+    private String tagCreateTopic;
+
+    @Value("${spring.kafka.topics.file-attach-request:file.attach.request}")
+    private String fileAttachTopic;
+
+    public R2dbcOutboxEventPublisherAdapter(DatabaseClient db, ObjectMapper objectMapper) {
+        this.db = db;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> publishTagCreateRequest(TagEvent event) {
+        return append(tagCreateTopic, event.getEventId(), event);
+    }
+
+    @Override
+    public Mono<Void> publishFileAttachRequest(FileEvent event) {
+        return append(fileAttachTopic, event.getEventId(), event);
+    }
+
+    private Mono<Void> append(String topic, UUID id, Object event) {
+        return Mono.fromCallable(() -> toJson(event))
+                .flatMap(payload -> db.sql(INSERT_OUTBOX)
+                        .bind("id", id)
+                        .bind("topic", topic)
+                        .bind("key", id.toString())
+                        .bind("payload", payload)
+                        .bind("createdAt", Instant.now().atOffset(ZoneOffset.UTC))
+                        .fetch().rowsUpdated())
+                .then();
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize event " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
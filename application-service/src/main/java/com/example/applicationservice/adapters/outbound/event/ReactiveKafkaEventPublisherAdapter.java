@@ -0,0 +1,35 @@
+package com.example.applicationservice.adapters.outbound.event;
+
+import com.example.applicationservice.domain.event.FileEvent;
+import com.example.applicationservice.domain.event.TagEvent;
+import com.example.applicationservice.domain.port.outbound.ReactiveEventPublisherPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Профиль r2dbc при application.outbox.enabled=false: прямая fire-and-forget отправка через KafkaEventPublisherAdapter,
+ * без транзакционных гарантий — как и в блокирующем профиле с выключенным outbox.
+ */
+@Component
+@Profile("r2dbc")
+@ConditionalOnProperty(name = "application.outbox.enabled", havingValue = "false")
+public class ReactiveKafkaEventPublisherAdapter implements ReactiveEventPublisherPort {
+
+    private final KafkaEventPublisherAdapter kafka;
+
+    public ReactiveKafkaEventPublisherAdapter(KafkaEventPublisherAdapter kafka) {
+        this.kafka = kafka;
+    }
+
+    @Override
+    public Mono<Void> publishTagCreateRequest(TagEvent event) {
+        return Mono.fromRunnable(() -> kafka.publishTagCreateRequest(event));
+    }
+
+    @Override
+    public Mono<Void> publishFileAttachRequest(FileEvent event) {
+        return Mono.fromRunnable(() -> kafka.publishFileAttachRequest(event));
+    }
+}
@@ -1,23 +1,61 @@
 package com.example.applicationservice.adapters.outbound.feign;
 
+import com.example.applicationservice.adapters.config.AuthHeaderHolder;
+import com.example.applicationservice.adapters.config.ReactorAuthContext;
+import com.example.applicationservice.adapters.outbound.coalescing.SingleFlight;
+import com.example.applicationservice.adapters.outbound.limit.AdaptiveConcurrencyLimiter;
+import com.example.applicationservice.adapters.outbound.webclient.HedgedFileCheckClient;
+import com.example.applicationservice.application.exception.ServiceUnavailableException;
 import com.example.applicationservice.domain.port.outbound.FileServicePort;
 import com.example.applicationservice.adapters.outbound.feign.client.FileServiceClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 @Component
 public class FileServiceAdapter implements FileServicePort {
 
     private final FileServiceClient client;
+    private final SingleFlight<UUID, Set<UUID>> singleFlight;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final HedgedFileCheckClient hedged;
 
-    public FileServiceAdapter(FileServiceClient client) {
+    public FileServiceAdapter(FileServiceClient client, MeterRegistry meterRegistry,
+                              @Qualifier("fileServiceLimiter") AdaptiveConcurrencyLimiter limiter,
+                              ObjectProvider<HedgedFileCheckClient> hedged) {
         this.client = client;
+        this.singleFlight = new SingleFlight<>("files-check", meterRegistry);
+        this.limiter = limiter;
+        this.hedged = hedged.getIfAvailable();
     }
 
     @Override
     public List<UUID> checkFilesExist(List<UUID> fileIds) {
-        return client.checkFilesExist(fileIds);
+        if (fileIds == null || fileIds.isEmpty()) return new ArrayList<>();
+
+        // пересекающиеся страницы: id, которые уже проверяются чужим запросом, ждут его; остальные — одним запросом
+        Map<UUID, Set<UUID>> found = singleFlight.executeAll(fileIds, ids -> {
+            List<UUID> existing = limiter.call(() -> check(ids));
+            return existing != null ? new HashSet<>(existing) : null;
+        });
+        if (found.containsValue(null)) return null;
+        return fileIds.stream().distinct().filter(id -> found.get(id).contains(id)).toList();
+    }
+
+    // Feign-клиент балансирует сам и не даёт выбрать инстанс, поэтому с хеджированием запрос идёт через HedgedFileCheckClient
+    private List<UUID> check(List<UUID> ids) {
+        if (hedged == null) return client.checkFilesExist(ids);
+        String auth = AuthHeaderHolder.get();
+        Mono<List<UUID>> call = hedged.checkFilesExist(ids);
+        if (auth != null) call = call.contextWrite(ReactorAuthContext.with(auth));
+        try {
+            return call.block();
+        } catch (RuntimeException e) {
+            throw new ServiceUnavailableException("File service is unavailable now");
+        }
     }
 }
@@ -1,7 +1,11 @@
 package com.example.applicationservice.adapters.outbound.feign;
 
+import com.example.applicationservice.adapters.outbound.coalescing.SingleFlight;
+import com.example.applicationservice.adapters.outbound.limit.AdaptiveConcurrencyLimiter;
 import com.example.applicationservice.domain.port.outbound.ProductServicePort;
 import com.example.applicationservice.adapters.outbound.feign.client.ProductServiceClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -10,13 +14,19 @@ import java.util.UUID;
 public class ProductServiceAdapter implements ProductServicePort {
 
     private final ProductServiceClient client;
+    private final SingleFlight<UUID, Boolean> singleFlight;
+    private final AdaptiveConcurrencyLimiter limiter;
 
-    public ProductServiceAdapter(ProductServiceClient client) {
+    public ProductServiceAdapter(ProductServiceClient client, MeterRegistry meterRegistry,
+                                 @Qualifier("productServiceLimiter") AdaptiveConcurrencyLimiter limiter) {
         this.client = client;
+        this.singleFlight = new SingleFlight<>("product-exists", meterRegistry);
+        this.limiter = limiter;
     }
 
     @Override
     public Boolean productExists(UUID productId) {
-        return client.productExists(productId);
+        // одновременные проверки одного id (всплеск создания заявок) делят один запрос
+        return singleFlight.execute(productId, () -> limiter.call(() -> client.productExists(productId)));
     }
 }
@@ -1,7 +1,11 @@
 package com.example.applicationservice.adapters.outbound.feign;
 
+import com.example.applicationservice.adapters.outbound.coalescing.SingleFlight;
+import com.example.applicationservice.adapters.outbound.limit.AdaptiveConcurrencyLimiter;
 import com.example.applicationservice.domain.port.outbound.UserServicePort;
 import com.example.applicationservice.adapters.outbound.feign.client.UserServiceClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -14,13 +18,19 @@ import java.util.UUID;
 public class UserServiceAdapter implements UserServicePort {
 
     private final UserServiceClient client;
+    private final SingleFlight<UUID, Boolean> singleFlight;
+    private final AdaptiveConcurrencyLimiter limiter;
 
-    public UserServiceAdapter(UserServiceClient client) {
+    public UserServiceAdapter(UserServiceClient client, MeterRegistry meterRegistry,
+                              @Qualifier("userServiceLimiter") AdaptiveConcurrencyLimiter limiter) {
         this.client = client;
+        this.singleFlight = new SingleFlight<>("user-exists", meterRegistry);
+        this.limiter = limiter;
     }
 
     @Override
     public Boolean userExists(UUID userId) {
-        return client.userExists(userId);
+        // одновременные проверки одного id (всплеск создания заявок) делят один запрос
+        return singleFlight.execute(userId, () -> limiter.call(() -> client.userExists(userId)));
     }
 }
@@ -0,0 +1,110 @@
+package com.example.applicationservice.adapters.outbound.hedge;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Hedged request: если первая попытка не ответила за задержку, равную перцентилю недавних задержек
+ * (в пределах minDelay..maxDelay), отправляется вторая, и побеждает первый ответ; проигравшая попытка отменяется.
+ * Ошибка второй попытки игнорируется, ошибка первой отдаётся сразу — хеджирование сокращает хвост задержек, а не заменяет ретраи.
+ * Бюджет: каждый вызов добавляет budgetRatio жетона (не больше MAX_TOKENS), каждая вторая попытка тратит один —
+ * при отказе соседа дублей не больше budgetRatio от числа вызовов.
+ * Метрики с тегом call: application.downstream.hedge.delay, application.downstream.hedged,
+ * application.downstream.hedge.wins, application.downstream.hedge.denied.
+ */
+public class Hedger {
+
+    private static final int WINDOW = 512;
+    private static final int RECOMPUTE_EVERY = 16;
+    private static final double MAX_TOKENS = 10;
+
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final double budgetRatio;
+
+    private final long[] samples = new long[WINDOW];
+    private int recorded;
+    private double tokens;
+    private volatile long delayNanos;
+
+    private final Counter hedged;
+    private final Counter wins;
+    private final Counter denied;
+
+    public Hedger(String name, MeterRegistry meterRegistry, double percentile,
+                  Duration minDelay, Duration maxDelay, double budgetRatio) {
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = Math.max(minDelayNanos, maxDelay.toNanos());
+        this.budgetRatio = budgetRatio;
+        this.delayNanos = maxDelayNanos; // пока нет замеров — самая осторожная задержка
+
+        TimeGauge.builder("application.downstream.hedge.delay", this, TimeUnit.NANOSECONDS, h -> h.delayNanos)
+                .tag("call", name).register(meterRegistry);
+        this.hedged = meterRegistry.counter("application.downstream.hedged", "call", name);
+        this.wins = meterRegistry.counter("application.downstream.hedge.wins", "call", name);
+        this.denied = meterRegistry.counter("application.downstream.hedge.denied", "call", name);
+    }
+
+    /**
+     * attempt получает номер попытки: 0 — основная, 1 — дубль (вызывающий отправляет его на другой инстанс).
+     */
+    public <T> Mono<T> execute(IntFunction<Mono<T>> attempt) {
+        return Mono.defer(() -> {
+            deposit();
+            Mono<T> primary = timed(Mono.defer(() -> attempt.apply(0)));
+            Mono<T> hedge = Mono.delay(Duration.ofNanos(delayNanos))
+                    .flatMap(tick -> {
+                        if (!withdraw()) {
+                            denied.increment();
+                            return Mono.never();
+                        }
+                        hedged.increment();
+                        return timed(Mono.defer(() -> attempt.apply(1)))
+                                .doOnSuccess(v -> wins.increment())
+                                .onErrorResume(e -> Mono.never());
+                    });
+            return Mono.firstWithSignal(primary, hedge);
+        });
+    }
+
+    public Duration currentDelay() {
+        return Duration.ofNanos(delayNanos);
+    }
+
+    // отменённые попытки не попадают в окно: задержка отражает скорость здоровых инстансов
+    private <T> Mono<T> timed(Mono<T> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call.doOnSuccess(v -> record(System.nanoTime() - start));
+        });
+    }
+
+    private synchronized void record(long nanos) {
+        samples[recorded % WINDOW] = nanos;
+        recorded++;
+        if (recorded % RECOMPUTE_EVERY != 0) return;
+        long[] sorted = Arrays.copyOf(samples, Math.min(recorded, WINDOW));
+        Arrays.sort(sorted);
+        long value = sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+        delayNanos = Math.min(maxDelayNanos, Math.max(minDelayNanos, value));
+    }
+
+    private synchronized void deposit() {
+        tokens = Math.min(MAX_TOKENS, tokens + budgetRatio);
+    }
+
+    private synchronized boolean withdraw() {
+        if (tokens < 1) return false;
+        tokens -= 1;
+        return true;
+    }
+}
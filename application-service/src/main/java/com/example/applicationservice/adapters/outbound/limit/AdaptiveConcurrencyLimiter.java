@@ -0,0 +1,126 @@
+package com.example.applicationservice.adapters.outbound.limit;
+
+import com.example.applicationservice.application.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Адаптивный лимит одновременных вызовов в один соседний сервис (AIMD).
+ * Ошибка или ответ дольше latencyThreshold — лимит умножается на backoffRatio;
+ * быстрый успешный ответ при загрузке не меньше половины лимита — лимит растёт на 1.
+ * Сверх лимита вызов сразу отклоняется ServiceUnavailableException, а не ждёт в очереди boundedElastic/downstream-пула.
+ * Метрики с тегом downstream: application.downstream.limit, application.downstream.in-flight, application.downstream.rejected.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final String unavailableMessage;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(String downstream, String unavailableMessage, MeterRegistry meterRegistry,
+                                      int initialLimit, int minLimit, int maxLimit,
+                                      double backoffRatio, Duration latencyThreshold) {
+        this(downstream, unavailableMessage, meterRegistry, initialLimit, minLimit, maxLimit,
+                backoffRatio, latencyThreshold, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(String downstream, String unavailableMessage, MeterRegistry meterRegistry,
+                               int initialLimit, int minLimit, int maxLimit,
+                               double backoffRatio, Duration latencyThreshold, LongSupplier nanoClock) {
+        this.unavailableMessage = unavailableMessage;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.nanoClock = nanoClock;
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+
+        Gauge.builder("application.downstream.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("downstream", downstream).register(meterRegistry);
+        Gauge.builder("application.downstream.in-flight", inFlight, AtomicInteger::get)
+                .tag("downstream", downstream).register(meterRegistry);
+        this.rejected = meterRegistry.counter("application.downstream.rejected", "downstream", downstream);
+    }
+
+    public <T> T call(Supplier<T> call) {
+        int load = acquire();
+        long start = nanoClock.getAsLong();
+        boolean ok = false;
+        try {
+            T result = call.get();
+            ok = true;
+            return result;
+        } finally {
+            release(load, start, ok);
+        }
+    }
+
+    /**
+     * Разрешение берётся при подписке и возвращается при завершении; отмена возвращает его без пересчёта лимита.
+     */
+    public <T> Mono<T> callReactive(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            int load = acquire();
+            long start = nanoClock.getAsLong();
+            AtomicBoolean released = new AtomicBoolean();
+            Mono<T> source;
+            try {
+                source = call.get();
+            } catch (RuntimeException e) {
+                release(load, start, false);
+                return Mono.error(e);
+            }
+            return source
+                    .doOnSuccess(v -> { if (released.compareAndSet(false, true)) release(load, start, true); })
+                    .doOnError(e -> { if (released.compareAndSet(false, true)) release(load, start, false); })
+                    .doOnCancel(() -> { if (released.compareAndSet(false, true)) inFlight.decrementAndGet(); });
+        });
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private int acquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                throw new ServiceUnavailableException(unavailableMessage);
+            }
+            if (inFlight.compareAndSet(current, current + 1)) return current + 1;
+        }
+    }
+
+    private void release(int load, long start, boolean ok) {
+        inFlight.decrementAndGet();
+        long rtt = nanoClock.getAsLong() - start;
+        synchronized (this) {
+            if (!ok || rtt > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (load * 2 >= limit) {
+                // растём только когда лимит реально используется, иначе он уползёт вверх на холостом ходу
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.applicationservice.adapters.outbound.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Обслуживание месячных секций application_history (changeset 9).
+ * Заранее создаёт секции на monthsAhead месяцев вперёд, чтобы новые строки не копились в DEFAULT
+ * (секцию, пересекающуюся со строками в DEFAULT, создать уже нельзя).
+ * Если задан retentionMonths > 0, секции старше этого срока отсоединяются (DETACH PARTITION):
+ * таблица остаётся в схеме для архивации/удаления, но больше не участвует в запросах, vacuum и индексах истории.
+ */
+@Component
+@ConditionalOnProperty(name = "application.history.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationHistoryPartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationHistoryPartitionMaintenance.class);
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("application_history_p(\\d{6})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String SELECT_PARTITIONS =
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = 'application_history'";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public ApplicationHistoryPartitionMaintenance(NamedParameterJdbcTemplate jdbc,
+                                                  @Value("${application.history.partitions.months-ahead:3}") int monthsAhead,
+                                                  @Value("${application.history.partitions.retention-months:0}") int retentionMonths) {
+        this.jdbc = jdbc;
+        this.monthsAhead = Math.max(1, monthsAhead);
+        this.retentionMonths = retentionMonths;
+    }
+
+    @Scheduled(cron = "${application.history.partitions.cron:0 15 3 * * *}", zone = "UTC")
+    public void maintain() {
+        try {
+            createUpcoming(YearMonth.now(ZoneOffset.UTC));
+            if (retentionMonths > 0) detachOlderThan(YearMonth.now(ZoneOffset.UTC).minusMonths(retentionMonths));
+        } catch (Exception e) {
+            log.error("application_history partition maintenance failed, will retry on next run", e);
+        }
+    }
+
+    void createUpcoming(YearMonth current) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            LocalDate month = current.plusMonths(i).atDay(1);
+            jdbc.queryForObject("SELECT create_application_history_partition(:month)",
+                    new MapSqlParameterSource("month", month), String.class);
+        }
+    }
+
+    /**
+     * Отсоединяет секции, целиком лежащие раньше cutoff. Возвращает имена отсоединённых таблиц.
+     */
+    List<String> detachOlderThan(YearMonth cutoff) {
+        List<String> detached = new ArrayList<>();
+        for (String name : jdbc.getJdbcTemplate().queryForList(SELECT_PARTITIONS, String.class)) {
+            Matcher m = PARTITION_NAME.matcher(name);
+            if (!m.matches()) continue; // DEFAULT и посторонние таблицы не трогаем
+            YearMonth month = YearMonth.parse(m.group(1), SUFFIX);
+            if (!month.isBefore(cutoff)) continue;
+            // имя проверено регулярным выражением выше, поэтому подставляется в DDL напрямую
+            jdbc.getJdbcTemplate().execute("ALTER TABLE application_history DETACH PARTITION " + name);
+            detached.add(name);
+            log.info("Detached application_history partition {}", name);
+        }
+        return detached;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.applicationservice.adapters.outbound.persistence;
+
+/**
+ * SQL keyset-страницы истории заявки (changed_at DESC, id DESC). Общий для JDBC- и R2DBC-адаптеров;
+ * именованные параметры: applicationId, ts, id, limit. Порядок совпадает с idx_history_application_changed (changeset 9).
+ */
+public final class ApplicationHistoryQuery {
+
+    public static final String SELECT_HISTORY =
+            "SELECT id, application_id, old_status, new_status, changed_by, changed_at FROM application_history ";
+
+    private ApplicationHistoryQuery() {
+    }
+
+    public static String page(boolean afterCursor) {
+        StringBuilder sql = new StringBuilder(SELECT_HISTORY).append("WHERE application_id = :applicationId ");
+        // changed_at <= :ts дублирует сравнение строк: по нему планировщик отсекает более новые партиции
+        if (afterCursor) sql.append("AND changed_at <= :ts AND (changed_at, id) < (:ts, :id) ");
+        return sql.append("ORDER BY changed_at DESC, id DESC LIMIT :limit").toString();
+    }
+}
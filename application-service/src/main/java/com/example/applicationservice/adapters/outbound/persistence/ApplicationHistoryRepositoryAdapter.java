@@ -5,10 +5,19 @@ import com.example.applicationservice.adapters.outbound.persistence.entity.Appli
 import com.example.applicationservice.adapters.outbound.persistence.jpa.ApplicationHistoryJpaRepository;
 import com.example.applicationservice.adapters.outbound.persistence.jpa.ApplicationJpaRepository;
 import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import com.example.applicationservice.domain.model.enums.UserRole;
 import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -17,55 +26,80 @@ public class ApplicationHistoryRepositoryAdapter implements ApplicationHistoryRe
 
     private final ApplicationHistoryJpaRepository jpa;
     private final ApplicationJpaRepository applicationJpa;
+    private final NamedParameterJdbcTemplate jdbc;
 
-    public ApplicationHistoryRepositoryAdapter(ApplicationHistoryJpaRepository jpa, ApplicationJpaRepository applicationJpa) {
+    public ApplicationHistoryRepositoryAdapter(ApplicationHistoryJpaRepository jpa,
+                                               ApplicationJpaRepository applicationJpa,
+                                               NamedParameterJdbcTemplate jdbc) {
         this.jpa = jpa;
         this.applicationJpa = applicationJpa;
+        this.jdbc = jdbc;
     }
 
     @Override
-    public ApplicationHistory save(ApplicationHistory history) {
+    public List<ApplicationHistory> saveAll(List<ApplicationHistory> history) {
+        if (history.isEmpty()) return List.of();
+        // одна ссылка на заявку на всю пачку: при массовой смене статуса строки истории часто относятся к одной заявке
+        Map<UUID, ApplicationEntity> parents = new HashMap<>();
+        List<ApplicationHistoryEntity> entities = history.stream()
+                .map(h -> toEntity(h, parents))
+                .collect(Collectors.toList());
+        return jpa.saveAll(entities).stream().map(this::toDomain).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ApplicationHistory> findPageByApplicationId(UUID applicationId, Instant changedAt, UUID id, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("applicationId", applicationId).addValue("limit", limit);
+        if (changedAt != null) params.addValue("ts", changedAt.atOffset(ZoneOffset.UTC)).addValue("id", id);
+        return jdbc.query(ApplicationHistoryQuery.page(changedAt != null), params, (rs, i) -> {
+            ApplicationHistory dh = new ApplicationHistory();
+            dh.setId(rs.getObject("id", UUID.class));
+            dh.setApplicationId(rs.getObject("application_id", UUID.class));
+            String oldStatus = rs.getString("old_status");
+            String newStatus = rs.getString("new_status");
+            String changedBy = rs.getString("changed_by");
+            dh.setOldStatus(oldStatus != null ? ApplicationStatus.valueOf(oldStatus) : null);
+            dh.setNewStatus(newStatus != null ? ApplicationStatus.valueOf(newStatus) : null);
+            dh.setChangedBy(changedBy != null ? UserRole.valueOf(changedBy) : null);
+            dh.setChangedAt(rs.getObject("changed_at", OffsetDateTime.class).toInstant());
+            return dh;
+        });
+    }
+
+    @Override
+    public long countByApplicationId(UUID applicationId) {
+        Long rows = jdbc.queryForObject("SELECT count(*) FROM application_history WHERE application_id = :applicationId",
+                new MapSqlParameterSource("applicationId", applicationId), Long.class);
+        return rows != null ? rows : 0L;
+    }
+
+    @Override
+    public void deleteByApplicationId(UUID applicationId) {
+        jpa.deleteByApplicationId(applicationId);
+    }
+
+    private ApplicationHistoryEntity toEntity(ApplicationHistory history, Map<UUID, ApplicationEntity> parents) {
         ApplicationHistoryEntity e = new ApplicationHistoryEntity();
         e.setId(history.getId());
-        // ====== ВАЖНО: установить parent entity ======
         if (history.getApplicationId() != null) {
-            // Лучше использовать getReferenceById (не делает select), но можно и findById
-            ApplicationEntity parent = applicationJpa.getReferenceById(history.getApplicationId());
-            e.setApplication(parent);
+            // getReferenceById не делает select — нужен только FK
+            e.setApplication(parents.computeIfAbsent(history.getApplicationId(), applicationJpa::getReferenceById));
         }
         e.setOldStatus(history.getOldStatus());
         e.setNewStatus(history.getNewStatus());
         e.setChangedBy(history.getChangedBy());
         e.setChangedAt(history.getChangedAt());
+        return e;
+    }
 
-        ApplicationHistoryEntity saved = jpa.save(e);
-
+    private ApplicationHistory toDomain(ApplicationHistoryEntity e) {
         ApplicationHistory dh = new ApplicationHistory();
-        dh.setId(saved.getId());
-        dh.setApplicationId(saved.getApplication() != null ? saved.getApplication().getId() : null);
-        dh.setOldStatus(saved.getOldStatus());
-        dh.setNewStatus(saved.getNewStatus());
-        dh.setChangedBy(saved.getChangedBy());
-        dh.setChangedAt(saved.getChangedAt());
+        dh.setId(e.getId());
+        dh.setApplicationId(e.getApplication() != null ? e.getApplication().getId() : null);
+        dh.setOldStatus(e.getOldStatus());
+        dh.setNewStatus(e.getNewStatus());
+        dh.setChangedBy(e.getChangedBy());
+        dh.setChangedAt(e.getChangedAt());
         return dh;
     }
-
-    @Override
-    public List<ApplicationHistory> findByApplicationIdOrderByChangedAtDesc(UUID applicationId) {
-        return jpa.findByApplicationIdOrderByChangedAtDesc(applicationId).stream().map(e -> {
-            ApplicationHistory dh = new ApplicationHistory();
-            dh.setId(e.getId());
-            dh.setApplicationId(e.getApplication().getId());
-            dh.setOldStatus(e.getOldStatus());
-            dh.setNewStatus(e.getNewStatus());
-            dh.setChangedBy(e.getChangedBy());
-            dh.setChangedAt(e.getChangedAt());
-            return dh;
-        }).collect(Collectors.toList());
-    }
-
-    @Override
-    public void deleteByApplicationId(UUID applicationId) {
-        jpa.deleteByApplicationId(applicationId);
-    }
 }
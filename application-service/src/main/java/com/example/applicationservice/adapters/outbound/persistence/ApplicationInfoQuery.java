@@ -0,0 +1,52 @@
+package com.example.applicationservice.adapters.outbound.persistence;
+
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL keyset-страницы ApplicationInfo (created_at DESC, id DESC) с необязательными фильтрами.
+ * Общий для JDBC- и R2DBC-адаптеров; именованные параметры: status, productId, applicantId, createdFrom, createdTo, ts, id, limit.
+ * Порядок совпадает с индексами changeset 7 ((status|product_id|applicant_id)?, created_at DESC, id DESC),
+ * поэтому страница читается диапазоном индекса без сортировки.
+ */
+public final class ApplicationInfoQuery {
+
+    // файлы и теги агрегируются коррелированными подзапросами — страница за один round trip
+    public static final String SELECT_INFO =
+            "SELECT a.id, a.applicant_id, a.product_id, a.status, a.created_at, " +
+            "ARRAY(SELECT f.file_id FROM application_file f WHERE f.application_id = a.id ORDER BY f.file_id) AS files, " +
+            "ARRAY(SELECT t.tag_name FROM application_tag t WHERE t.application_id = a.id ORDER BY t.tag_name) AS tags " +
+            "FROM application a ";
+
+    // read-модель (changeset 10): файлы и теги уже лежат в строке, файлы проверены в file-service при проекции
+    public static final String SELECT_VIEW =
+            "SELECT a.id, a.applicant_id, a.product_id, a.status, a.created_at, a.updated_at, a.version, a.files, a.tags " +
+            "FROM application_view a ";
+
+    private ApplicationInfoQuery() {
+    }
+
+    public static String page(ApplicationFilter filter, boolean afterCursor) {
+        return page(SELECT_INFO, filter, afterCursor);
+    }
+
+    /**
+     * То же поверх другого SELECT с алиасом a (SELECT_VIEW — те же индексы на application_view).
+     */
+    public static String page(String select, ApplicationFilter filter, boolean afterCursor) {
+        List<String> where = new ArrayList<>();
+        if (filter.getStatus() != null) where.add("a.status = :status");
+        if (filter.getProductId() != null) where.add("a.product_id = :productId");
+        if (filter.getApplicantId() != null) where.add("a.applicant_id = :applicantId");
+        if (filter.getCreatedFrom() != null) where.add("a.created_at >= :createdFrom");
+        if (filter.getCreatedTo() != null) where.add("a.created_at < :createdTo");
+        // сравнение строк, а не OR: PostgreSQL превращает его в границу диапазона индекса
+        if (afterCursor) where.add("(a.created_at, a.id) < (:ts, :id)");
+
+        StringBuilder sql = new StringBuilder(select);
+        if (!where.isEmpty()) sql.append("WHERE ").append(String.join(" AND ", where)).append(' ');
+        return sql.append("ORDER BY a.created_at DESC, a.id DESC LIMIT :limit").toString();
+    }
+}
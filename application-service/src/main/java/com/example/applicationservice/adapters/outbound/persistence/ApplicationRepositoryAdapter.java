@@ -2,14 +2,26 @@ package com.example.applicationservice.adapters.outbound.persistence;
 
 import com.example.applicationservice.adapters.outbound.persistence.entity.ApplicationEntity;
 import com.example.applicationservice.adapters.outbound.persistence.entity.ApplicationHistoryEntity;
-import com.example.applicationservice.adapters.outbound.persistence.jpa.ApplicationHistoryJpaRepository;
 import com.example.applicationservice.adapters.outbound.persistence.jpa.ApplicationJpaRepository;
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.dto.ApplicationVersion;
 import com.example.applicationservice.domain.model.entity.Application;
 import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Component;
 
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
 import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -19,26 +31,80 @@ import java.util.stream.Collectors;
 @Component
 public class ApplicationRepositoryAdapter implements ApplicationRepositoryPort {
 
+    private static final String INSERT_APPLICATION =
+            "INSERT INTO application (id, applicant_id, product_id, status, created_at, updated_at, version) " +
+            "VALUES (:id, :applicantId, :productId, :status, :createdAt, :updatedAt, :version)";
+    private static final String INSERT_FILE = "INSERT INTO application_file (application_id, file_id) VALUES (:applicationId, :fileId)";
+    private static final String INSERT_TAG = "INSERT INTO application_tag (application_id, tag_name) VALUES (:applicationId, :tagName)";
+    private static final String SELECT_SNAPSHOT =
+            "SELECT a.id, a.applicant_id, a.product_id, a.status, a.created_at, a.updated_at, a.version, " +
+            "ARRAY(SELECT f.file_id FROM application_file f WHERE f.application_id = a.id) AS files, " +
+            "ARRAY(SELECT t.tag_name FROM application_tag t WHERE t.application_id = a.id) AS tags " +
+            "FROM application a WHERE a.id = :id";
+    private static final String UPDATE_STATUS =
+            "UPDATE application SET status = :status, updated_at = :updatedAt, version = COALESCE(version, 0) + 1 " +
+            "WHERE id = :id AND COALESCE(version, 0) = :version";
+    // повторно присланные теги/файлы пропускаются по первичному ключу (application_id, tag_name|file_id)
+    private static final String ADD_TAGS = "INSERT INTO application_tag (application_id, tag_name) VALUES :rows ON CONFLICT DO NOTHING";
+    private static final String ADD_FILES = "INSERT INTO application_file (application_id, file_id) VALUES :rows ON CONFLICT DO NOTHING";
+    private static final String REMOVE_TAGS = "DELETE FROM application_tag WHERE application_id = :id AND tag_name IN (:values)";
+    private static final String REMOVE_FILES = "DELETE FROM application_file WHERE application_id = :id AND file_id IN (:values)";
+    // изменение коллекции увеличивало @Version и при сохранении через JPA — оставляем это поведение
+    private static final String BUMP_VERSION = "UPDATE application SET version = COALESCE(version, 0) + 1 WHERE id = :id";
+    // обратные выборки идут по (tag_name|file_id, application_id): диапазон индекса + LIMIT обращений к application по PK
+    private static final String SELECT_SUMMARY = "SELECT a.id, a.applicant_id, a.product_id, a.status, a.created_at ";
+    private static final String SELECT_BY_TAG = SELECT_SUMMARY +
+            "FROM application_tag t JOIN application a ON a.id = t.application_id WHERE t.tag_name = :key ";
+    private static final String SELECT_BY_FILE = SELECT_SUMMARY +
+            "FROM application_file t JOIN application a ON a.id = t.application_id WHERE t.file_id = :key ";
+
     private final ApplicationJpaRepository jpa;
-    private final ApplicationHistoryJpaRepository historyJpa;
+    private final NamedParameterJdbcTemplate jdbc;
 
-    public ApplicationRepositoryAdapter(ApplicationJpaRepository jpa, ApplicationHistoryJpaRepository historyJpa) {
+    public ApplicationRepositoryAdapter(ApplicationJpaRepository jpa,
+                                        NamedParameterJdbcTemplate jdbc) {
         this.jpa = jpa;
-        this.historyJpa = historyJpa;
+        this.jdbc = jdbc;
     }
 
     @Override
     public Application save(Application application) {
         ApplicationEntity entity = toEntity(application);
+        // история пишется каскадом из toEntity; INSERT-ы группируются в batch при flush (JpaBatchConfig)
         ApplicationEntity saved = jpa.save(entity);
-        // also persist history entities if present
-        if (application.getHistory() != null && !application.getHistory().isEmpty()) {
-            for (ApplicationHistory h : application.getHistory()) {
-                ApplicationHistoryEntity he = toHistoryEntity(h, saved);
-                historyJpa.save(he);
+        return toDomain(saved);
+    }
+
+    @Override
+    public void insertAll(List<Application> applications) {
+        if (applications.isEmpty()) return;
+        List<SqlParameterSource> rows = new ArrayList<>();
+        List<SqlParameterSource> files = new ArrayList<>();
+        List<SqlParameterSource> tags = new ArrayList<>();
+        for (Application a : applications) {
+            rows.add(new MapSqlParameterSource()
+                    .addValue("id", a.getId())
+                    .addValue("applicantId", a.getApplicantId())
+                    .addValue("productId", a.getProductId())
+                    .addValue("status", a.getStatus().name())
+                    .addValue("createdAt", a.getCreatedAt().atOffset(ZoneOffset.UTC))
+                    .addValue("updatedAt", a.getUpdatedAt() != null ? a.getUpdatedAt().atOffset(ZoneOffset.UTC) : null, Types.TIMESTAMP_WITH_TIMEZONE)
+                    .addValue("version", a.getVersion() != null ? a.getVersion() : 0L));
+            if (a.getFiles() != null) {
+                for (UUID fileId : a.getFiles()) {
+                    files.add(new MapSqlParameterSource("applicationId", a.getId()).addValue("fileId", fileId));
+                }
+            }
+            if (a.getTags() != null) {
+                for (String tag : a.getTags()) {
+                    tags.add(new MapSqlParameterSource("applicationId", a.getId()).addValue("tagName", tag));
+                }
             }
         }
-        return toDomain(saved);
+        // порядок важен из-за FK: сначала заявки, потом дочерние строки
+        jdbc.batchUpdate(INSERT_APPLICATION, rows.toArray(SqlParameterSource[]::new));
+        if (!files.isEmpty()) jdbc.batchUpdate(INSERT_FILE, files.toArray(SqlParameterSource[]::new));
+        if (!tags.isEmpty()) jdbc.batchUpdate(INSERT_TAG, tags.toArray(SqlParameterSource[]::new));
     }
 
     @Override
@@ -56,6 +122,71 @@ public class ApplicationRepositoryAdapter implements ApplicationRepositoryPort {
         return jpa.findByIdWithTags(id).map(this::toDomain);
     }
 
+    @Override
+    public Optional<UUID> findApplicantIdById(UUID id) {
+        return jdbc.queryForList("SELECT applicant_id FROM application WHERE id = :id",
+                new MapSqlParameterSource("id", id), UUID.class).stream().findFirst();
+    }
+
+    @Override
+    public Optional<ApplicationVersion> findVersionById(UUID id) {
+        return jdbc.query("SELECT applicant_id, COALESCE(version, 0) AS version FROM application WHERE id = :id",
+                new MapSqlParameterSource("id", id),
+                (rs, rowNum) -> new ApplicationVersion(rs.getObject("applicant_id", UUID.class), rs.getLong("version")))
+                .stream().findFirst();
+    }
+
+    @Override
+    public int addTags(UUID applicationId, Collection<String> tagNames) {
+        return changeElements(ADD_TAGS, applicationId, tagNames, true);
+    }
+
+    @Override
+    public int removeTags(UUID applicationId, Collection<String> tagNames) {
+        return changeElements(REMOVE_TAGS, applicationId, tagNames, false);
+    }
+
+    @Override
+    public int addFiles(UUID applicationId, Collection<UUID> fileIds) {
+        return changeElements(ADD_FILES, applicationId, fileIds, true);
+    }
+
+    @Override
+    public int removeFiles(UUID applicationId, Collection<UUID> fileIds) {
+        return changeElements(REMOVE_FILES, applicationId, fileIds, false);
+    }
+
+    private int changeElements(String sql, UUID applicationId, Collection<?> values, boolean insert) {
+        Set<Object> distinct = new LinkedHashSet<>(values);
+        distinct.remove(null);
+        if (distinct.isEmpty()) return 0;
+
+        MapSqlParameterSource params = new MapSqlParameterSource("id", applicationId);
+        if (insert) {
+            params.addValue("rows", distinct.stream().map(v -> new Object[]{applicationId, v}).collect(Collectors.toList()));
+        } else {
+            params.addValue("values", distinct);
+        }
+        int changed = jdbc.update(sql, params);
+        if (changed > 0) jdbc.update(BUMP_VERSION, new MapSqlParameterSource("id", applicationId));
+        return changed;
+    }
+
+    @Override
+    public Optional<Application> findSnapshotById(UUID id) {
+        return jdbc.query(SELECT_SNAPSHOT, new MapSqlParameterSource("id", id), (rs, rowNum) -> toSnapshot(rs))
+                .stream().findFirst();
+    }
+
+    @Override
+    public boolean updateStatus(UUID id, ApplicationStatus status, Instant updatedAt, Long expectedVersion) {
+        return jdbc.update(UPDATE_STATUS, new MapSqlParameterSource()
+                .addValue("status", status.name())
+                .addValue("updatedAt", updatedAt.atOffset(ZoneOffset.UTC))
+                .addValue("id", id)
+                .addValue("version", expectedVersion != null ? expectedVersion : 0L)) > 0;
+    }
+
     @Override
     public List<Application> findAll(int page, int size) {
         var pageable = org.springframework.data.domain.PageRequest.of(page, size);
@@ -64,13 +195,26 @@ public class ApplicationRepositoryAdapter implements ApplicationRepositoryPort {
     }
 
     @Override
-    public List<UUID> findIdsFirstPage(int limit) {
-        return jpa.findIdsFirstPage(limit);
+    public List<ApplicationInfo> findInfoPage(Instant timestamp, UUID id, int limit) {
+        return findInfoPage(ApplicationFilter.none(), timestamp, id, limit);
     }
 
     @Override
-    public List<UUID> findIdsByKeyset(Instant timestamp, UUID id, int limit) {
-        return jpa.findIdsByKeyset(timestamp, id, limit);
+    public List<ApplicationInfo> findInfoPage(ApplicationFilter filter, Instant timestamp, UUID id, int limit) {
+        return jdbc.query(ApplicationInfoQuery.page(filter, timestamp != null), pageParams(filter, timestamp, id, limit),
+                (rs, rowNum) -> toInfo(rs));
+    }
+
+    // параметры ApplicationInfoQuery.page; общие с ApplicationViewRepositoryAdapter
+    static MapSqlParameterSource pageParams(ApplicationFilter filter, Instant timestamp, UUID id, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        if (filter.getStatus() != null) params.addValue("status", filter.getStatus().name());
+        if (filter.getProductId() != null) params.addValue("productId", filter.getProductId());
+        if (filter.getApplicantId() != null) params.addValue("applicantId", filter.getApplicantId());
+        if (filter.getCreatedFrom() != null) params.addValue("createdFrom", filter.getCreatedFrom().atOffset(ZoneOffset.UTC));
+        if (filter.getCreatedTo() != null) params.addValue("createdTo", filter.getCreatedTo().atOffset(ZoneOffset.UTC));
+        if (timestamp != null) params.addValue("ts", timestamp.atOffset(ZoneOffset.UTC)).addValue("id", id);
+        return params;
     }
 
     @Override
@@ -84,13 +228,23 @@ public class ApplicationRepositoryAdapter implements ApplicationRepositoryPort {
     }
 
     @Override
-    public List<Application> findByTag(String tagName) {
-        return jpa.findByTag(tagName).stream().map(this::toDomain).collect(Collectors.toList());
+    public List<ApplicationInfo> findInfoPageByTag(String tagName, UUID afterId, int limit) {
+        return findReversePage(SELECT_BY_TAG, tagName, afterId, limit);
     }
 
     @Override
-    public List<Application> findByFile(UUID fileId) {
-        return jpa.findByFile(fileId).stream().map(this::toDomain).collect(Collectors.toList());
+    public List<ApplicationInfo> findInfoPageByFile(UUID fileId, UUID afterId, int limit) {
+        return findReversePage(SELECT_BY_FILE, fileId, afterId, limit);
+    }
+
+    private List<ApplicationInfo> findReversePage(String select, Object key, UUID afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("key", key).addValue("limit", limit);
+        String sql = select;
+        if (afterId != null) {
+            sql += "AND t.application_id > :afterId ";
+            params.addValue("afterId", afterId);
+        }
+        return jdbc.query(sql + "ORDER BY t.application_id LIMIT :limit", params, (rs, rowNum) -> toSummary(rs));
     }
 
     @Override
@@ -113,6 +267,22 @@ public class ApplicationRepositoryAdapter implements ApplicationRepositoryPort {
         return jpa.findIdsByApplicantId(applicantId);
     }
 
+    @Override
+    public List<UUID> deleteByApplicantIds(Collection<UUID> applicantIds, int limit) {
+        return jdbc.queryForList(
+                "DELETE FROM application WHERE id IN " +
+                "(SELECT id FROM application WHERE applicant_id IN (:ownerIds) LIMIT :limit) RETURNING id",
+                new MapSqlParameterSource("ownerIds", applicantIds).addValue("limit", limit), UUID.class);
+    }
+
+    @Override
+    public List<UUID> deleteByProductIds(Collection<UUID> productIds, int limit) {
+        return jdbc.queryForList(
+                "DELETE FROM application WHERE id IN " +
+                "(SELECT id FROM application WHERE product_id IN (:ownerIds) LIMIT :limit) RETURNING id",
+                new MapSqlParameterSource("ownerIds", productIds).addValue("limit", limit), UUID.class);
+    }
+
     @Override
     public List<UUID> findIdsByProductId(UUID productId) {
         return jpa.findIdsByProductId(productId);
@@ -124,6 +294,45 @@ public class ApplicationRepositoryAdapter implements ApplicationRepositoryPort {
     }
 
     // mapping helpers
+    private ApplicationInfo toInfo(ResultSet rs) throws SQLException {
+        ApplicationInfo ai = toSummary(rs);
+        ai.setFiles(arrayToList(rs.getArray("files"), UUID.class));
+        ai.setTags(arrayToList(rs.getArray("tags"), String.class));
+        return ai;
+    }
+
+    private ApplicationInfo toSummary(ResultSet rs) throws SQLException {
+        ApplicationInfo ai = new ApplicationInfo();
+        ai.setId(rs.getObject("id", UUID.class));
+        ai.setApplicantId(rs.getObject("applicant_id", UUID.class));
+        ai.setProductId(rs.getObject("product_id", UUID.class));
+        ai.setStatus(rs.getString("status"));
+        ai.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class).toInstant());
+        return ai;
+    }
+
+    private Application toSnapshot(ResultSet rs) throws SQLException {
+        Application d = new Application();
+        d.setId(rs.getObject("id", UUID.class));
+        d.setApplicantId(rs.getObject("applicant_id", UUID.class));
+        d.setProductId(rs.getObject("product_id", UUID.class));
+        d.setStatus(ApplicationStatus.valueOf(rs.getString("status")));
+        d.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class).toInstant());
+        OffsetDateTime updatedAt = rs.getObject("updated_at", OffsetDateTime.class);
+        d.setUpdatedAt(updatedAt != null ? updatedAt.toInstant() : null);
+        d.setVersion(rs.getLong("version"));
+        d.setFiles(new HashSet<>(arrayToList(rs.getArray("files"), UUID.class)));
+        d.setTags(new HashSet<>(arrayToList(rs.getArray("tags"), String.class)));
+        return d;
+    }
+
+    static <T> List<T> arrayToList(Array array, Class<T> type) throws SQLException {
+        if (array == null) return new ArrayList<>();
+        List<T> result = new ArrayList<>();
+        for (Object o : (Object[]) array.getArray()) result.add(type.cast(o));
+        return result;
+    }
+
     private Application toDomain(ApplicationEntity e) {
         Application d = new Application();
         d.setId(e.getId());
@@ -181,15 +390,4 @@ public class ApplicationRepositoryAdapter implements ApplicationRepositoryPort {
         }
         return e;
     }
-
-    private ApplicationHistoryEntity toHistoryEntity(ApplicationHistory h, ApplicationEntity parent) {
-        ApplicationHistoryEntity he = new ApplicationHistoryEntity();
-        he.setId(h.getId());
-        he.setApplication(parent);
-        he.setOldStatus(h.getOldStatus());
-        he.setNewStatus(h.getNewStatus());
-        he.setChangedBy(h.getChangedBy());
-        he.setChangedAt(h.getChangedAt());
-        return he;
-    }
 }
@@ -0,0 +1,259 @@
+package com.example.applicationservice.adapters.outbound.persistence;
+
+import com.example.applicationservice.domain.port.outbound.FileServicePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проектор read-модели application_view (changeset 10). Триггеры ставят id изменённых заявок в application_view_pending;
+ * они существуют, только пока read-модель включена (ставит их installTriggers, см. ApplicationViewTriggers),
+ * проектор пачками пересобирает их строки из application/application_file/application_tag и удаляет из очереди.
+ * Как и OutboxRelay, арендует пачку (claimed_until, FOR UPDATE SKIP LOCKED) — несколько инстансов не проверяют
+ * и не проецируют одни и те же заявки. Пачка проходит две короткие транзакции: в первой арендуются id и снимается
+ * снимок файлов, затем вне транзакции файлы проверяются через FileServicePort, во второй пачка блокируется заново
+ * и проецируется. Новое изменение заявки снимает аренду (триггер), упавший инстанс отпускает её по истечении. Запись в заявку ждёт коммита проектора
+ * (см. триггер) только на время второй транзакции, а не на время HTTP-вызова.
+ * Если file service недоступен, файлы попадают в модель без проверки —
+ * как list/stream и раньше вели себя при его ошибке — и пересматриваются по file.deleted (enqueueByFile).
+ * Метрики: application.read-model.lag (timer: изменение -> проекция), application.read-model.pending,
+ * application.read-model.staleness (возраст самого старого непрочитанного изменения), .projected, .unvalidated.
+ */
+@Component
+@ConditionalOnProperty(name = "application.read-model.enabled", havingValue = "true")
+public class ApplicationViewProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationViewProjector.class);
+
+    private static final String CLAIM_BATCH =
+            "UPDATE application_view_pending SET claimed_until = now() + :lease * interval '1 millisecond' " +
+            "WHERE application_id IN (SELECT application_id FROM application_view_pending " +
+            "WHERE claimed_until IS NULL OR claimed_until < now() " +
+            "ORDER BY enqueued_at LIMIT :limit FOR UPDATE SKIP LOCKED) RETURNING application_id";
+    private static final String RELOCK_BATCH =
+            "SELECT application_id, enqueued_at FROM application_view_pending " +
+            "WHERE application_id IN (:ids) FOR UPDATE SKIP LOCKED";
+    private static final String SELECT_FILES = "SELECT application_id, file_id FROM application_file WHERE application_id IN (:ids)";
+    private static final String UPSERT_VIEW =
+            "INSERT INTO application_view (id, applicant_id, product_id, status, created_at, updated_at, version, tags, files, projected_at) " +
+            "SELECT a.id, a.applicant_id, a.product_id, a.status, a.created_at, a.updated_at, a.version, " +
+            "ARRAY(SELECT t.tag_name FROM application_tag t WHERE t.application_id = a.id ORDER BY t.tag_name), " +
+            "ARRAY(SELECT f.file_id FROM application_file f WHERE f.application_id = a.id %s ORDER BY f.file_id), " +
+            "now() FROM application a WHERE a.id IN (:ids) " +
+            "ON CONFLICT (id) DO UPDATE SET applicant_id = EXCLUDED.applicant_id, product_id = EXCLUDED.product_id, " +
+            "status = EXCLUDED.status, created_at = EXCLUDED.created_at, updated_at = EXCLUDED.updated_at, " +
+            "version = EXCLUDED.version, tags = EXCLUDED.tags, files = EXCLUDED.files, projected_at = EXCLUDED.projected_at";
+    private static final String DELETE_REMOVED =
+            "DELETE FROM application_view v WHERE v.id IN (:ids) AND NOT EXISTS (SELECT 1 FROM application a WHERE a.id = v.id)";
+    private static final String RELEASE_PENDING = "UPDATE application_view_pending SET claimed_until = NULL WHERE application_id IN (:ids)";
+    private static final String DELETE_PENDING = "DELETE FROM application_view_pending WHERE application_id IN (:ids)";
+    // тот же ON CONFLICT, что в триггере enqueue_application_view
+    private static final String ENQUEUE_CONFLICT =
+            " ON CONFLICT (application_id) DO UPDATE SET enqueued_at = application_view_pending.enqueued_at, claimed_until = NULL";
+    private static final String ENQUEUE_ALL =
+            "INSERT INTO application_view_pending (application_id, enqueued_at) SELECT id, now() FROM application" + ENQUEUE_CONFLICT;
+    private static final String ENQUEUE_BY_FILE =
+            "INSERT INTO application_view_pending (application_id, enqueued_at) " +
+            "SELECT application_id, now() FROM application_file WHERE file_id = :fileId" + ENQUEUE_CONFLICT;
+    private static final String DELETE_ORPHANS =
+            "DELETE FROM application_view v WHERE NOT EXISTS (SELECT 1 FROM application a WHERE a.id = v.id)";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final FileServicePort fileService;
+    private final int batchSize;
+    private final Duration claimLease;
+    private final Timer lag;
+    private final Counter projected;
+    private final Counter unvalidated;
+
+    public ApplicationViewProjector(NamedParameterJdbcTemplate jdbc,
+                                    PlatformTransactionManager transactionManager,
+                                    FileServicePort fileService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${application.read-model.batch-size:200}") int batchSize,
+                                    @Value("${application.read-model.claim-lease:PT1M}") Duration claimLease) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.fileService = fileService;
+        this.batchSize = batchSize;
+        this.claimLease = claimLease;
+        this.lag = Timer.builder("application.read-model.lag").register(meterRegistry);
+        this.projected = meterRegistry.counter("application.read-model.projected");
+        this.unvalidated = meterRegistry.counter("application.read-model.unvalidated");
+        // считаются при снятии метрик, а не на каждом цикле
+        Gauge.builder("application.read-model.pending", this, ApplicationViewProjector::pending).register(meterRegistry);
+        TimeGauge.builder("application.read-model.staleness", this, TimeUnit.SECONDS, ApplicationViewProjector::staleness)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ставит триггеры очереди (их нет, пока read-модель выключена) и, если их не было, ставит в очередь все заявки —
+     * в той же транзакции, поэтому записи, сделанные до установки, не теряются.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void installTriggers() {
+        tx.executeWithoutResult(status -> {
+            if (ApplicationViewTriggers.install(jdbc.getJdbcTemplate())) {
+                log.info("application_view triggers installed, rebuilding the view");
+                rebuild();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${application.read-model.poll-interval:PT0.5S}")
+    public void project() {
+        try {
+            int projectedNow;
+            do {
+                projectedNow = projectBatch();
+            } while (projectedNow == batchSize);
+        } catch (Exception e) {
+            log.error("application_view projection failed, will retry on next tick", e);
+        }
+    }
+
+    int projectBatch() {
+        // первая короткая транзакция: арендовать пачку и снять снимок её файлов; коммит снимает блокировки до похода
+        // в file service, а аренда не даёт другим инстансам взять и проверять те же заявки
+        Batch batch = tx.execute(status -> {
+            List<UUID> ids = jdbc.query(CLAIM_BATCH,
+                    new MapSqlParameterSource("limit", batchSize).addValue("lease", claimLease.toMillis()),
+                    (rs, i) -> rs.getObject("application_id", UUID.class));
+            return ids.isEmpty() ? null : new Batch(ids, filesByApplication(ids));
+        });
+        if (batch == null) return 0;
+
+        // проверка вне транзакции: запись в заявки пачки не ждёт file service
+        Set<UUID> files = new HashSet<>();
+        batch.files().values().forEach(files::addAll);
+        Set<UUID> existing = files.isEmpty() ? Set.of() : existingFiles(new ArrayList<>(files));
+
+        tx.executeWithoutResult(status -> project(batch, existing));
+        return batch.ids().size();
+    }
+
+    // вторая короткая транзакция: заново блокирует пачку и проецирует то, что не изменилось по файлам
+    private void project(Batch batch, Set<UUID> existing) {
+        List<Pending> locked = jdbc.query(RELOCK_BATCH, new MapSqlParameterSource("ids", batch.ids()),
+                (rs, i) -> new Pending(rs.getObject("application_id", UUID.class),
+                        rs.getObject("enqueued_at", OffsetDateTime.class).toInstant()));
+        if (locked.isEmpty()) return;
+
+        // заявки, у которых файлы поменялись после снимка, остаются в очереди до следующего цикла:
+        // их новые файлы ещё не проверены. Прочие изменения за это время попадут в проекцию — она читает текущие строки
+        Map<UUID, Set<UUID>> current = filesByApplication(locked.stream().map(Pending::applicationId).toList());
+        List<Pending> ready = locked.stream()
+                .filter(row -> current.getOrDefault(row.applicationId(), Set.of())
+                        .equals(batch.files().getOrDefault(row.applicationId(), Set.of())))
+                .toList();
+        if (ready.size() < locked.size()) {
+            List<UUID> deferred = locked.stream().filter(row -> !ready.contains(row)).map(Pending::applicationId).toList();
+            jdbc.update(RELEASE_PENDING, new MapSqlParameterSource("ids", deferred));
+        }
+        if (ready.isEmpty()) return;
+
+        List<UUID> ids = ready.stream().map(Pending::applicationId).toList();
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        Set<UUID> missing = new HashSet<>();
+        if (existing != null) {
+            ids.forEach(id -> missing.addAll(current.getOrDefault(id, Set.of())));
+            missing.removeAll(existing);
+        }
+
+        String filesFilter = "";
+        if (!missing.isEmpty()) {
+            filesFilter = "AND f.file_id NOT IN (:missing)";
+            params.addValue("missing", missing);
+        }
+        jdbc.update(String.format(UPSERT_VIEW, filesFilter), params);
+        jdbc.update(DELETE_REMOVED, params);
+        jdbc.update(DELETE_PENDING, params);
+
+        Instant now = Instant.now();
+        ready.forEach(row -> lag.record(Duration.between(row.enqueuedAt(), now)));
+        projected.increment(ready.size());
+    }
+
+    private Map<UUID, Set<UUID>> filesByApplication(List<UUID> ids) {
+        Map<UUID, Set<UUID>> files = new HashMap<>();
+        jdbc.query(SELECT_FILES, new MapSqlParameterSource("ids", ids), rs -> {
+            files.computeIfAbsent(rs.getObject("application_id", UUID.class), id -> new HashSet<>())
+                    .add(rs.getObject("file_id", UUID.class));
+        });
+        return files;
+    }
+
+    /**
+     * Ставит в очередь все заявки и удаляет строки удалённых — для первичного заполнения и после ручных правок БД.
+     * Возвращает число поставленных в очередь заявок.
+     */
+    public int rebuild() {
+        int orphans = jdbc.getJdbcTemplate().update(DELETE_ORPHANS);
+        int enqueued = jdbc.getJdbcTemplate().update(ENQUEUE_ALL);
+        log.info("application_view rebuild: {} applications enqueued, {} orphan rows removed", enqueued, orphans);
+        return enqueued;
+    }
+
+    /**
+     * Пересобрать строки заявок с этим файлом — после file.deleted его нужно убрать из модели.
+     */
+    public void enqueueByFile(UUID fileId) {
+        jdbc.update(ENQUEUE_BY_FILE, new MapSqlParameterSource("fileId", fileId));
+    }
+
+    // null — file service недоступен, файлы считаются существующими
+    private Set<UUID> existingFiles(List<UUID> fileIds) {
+        try {
+            List<UUID> existing = fileService.checkFilesExist(fileIds);
+            if (existing != null) return new HashSet<>(existing);
+        } catch (Exception e) {
+            log.debug("File service check failed during projection: {}", e.getMessage());
+        }
+        unvalidated.increment();
+        return null;
+    }
+
+    private double pending() {
+        Long count = jdbc.getJdbcTemplate().queryForObject("SELECT count(*) FROM application_view_pending", Long.class);
+        return count != null ? count : 0;
+    }
+
+    private double staleness() {
+        Double seconds = jdbc.getJdbcTemplate().queryForObject(
+                "SELECT EXTRACT(EPOCH FROM now() - min(enqueued_at)) FROM application_view_pending", Double.class);
+        return seconds != null ? seconds : 0;
+    }
+
+    private record Pending(UUID applicationId, Instant enqueuedAt) {
+    }
+
+    private record Batch(List<UUID> ids, Map<UUID, Set<UUID>> files) {
+    }
+}
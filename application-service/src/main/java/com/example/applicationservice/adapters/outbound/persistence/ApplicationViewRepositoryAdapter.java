@@ -0,0 +1,72 @@
+package com.example.applicationservice.adapters.outbound.persistence;
+
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import com.example.applicationservice.domain.port.outbound.ApplicationReadModelPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Чтение read-модели application_view (changeset 10) — одна таблица без join-ов и без вызова file-service.
+ */
+@Component
+@ConditionalOnProperty(name = "application.read-model.enabled", havingValue = "true")
+public class ApplicationViewRepositoryAdapter implements ApplicationReadModelPort {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public ApplicationViewRepositoryAdapter(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public List<ApplicationInfo> findInfoPage(ApplicationFilter filter, Instant timestamp, UUID id, int limit) {
+        return jdbc.query(ApplicationInfoQuery.page(ApplicationInfoQuery.SELECT_VIEW, filter, timestamp != null),
+                ApplicationRepositoryAdapter.pageParams(filter, timestamp, id, limit), (rs, rowNum) -> toInfo(rs));
+    }
+
+    @Override
+    public List<Application> findAll(int page, int size) {
+        return jdbc.query(ApplicationInfoQuery.SELECT_VIEW + "ORDER BY a.created_at DESC, a.id DESC LIMIT :limit OFFSET :offset",
+                new MapSqlParameterSource("limit", size).addValue("offset", (long) page * size), (rs, rowNum) -> toDomain(rs));
+    }
+
+    private static ApplicationInfo toInfo(ResultSet rs) throws SQLException {
+        ApplicationInfo ai = new ApplicationInfo();
+        ai.setId(rs.getObject("id", UUID.class));
+        ai.setApplicantId(rs.getObject("applicant_id", UUID.class));
+        ai.setProductId(rs.getObject("product_id", UUID.class));
+        ai.setStatus(rs.getString("status"));
+        ai.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class).toInstant());
+        ai.setFiles(ApplicationRepositoryAdapter.arrayToList(rs.getArray("files"), UUID.class));
+        ai.setTags(ApplicationRepositoryAdapter.arrayToList(rs.getArray("tags"), String.class));
+        return ai;
+    }
+
+    private static Application toDomain(ResultSet rs) throws SQLException {
+        Application d = new Application();
+        d.setId(rs.getObject("id", UUID.class));
+        d.setApplicantId(rs.getObject("applicant_id", UUID.class));
+        d.setProductId(rs.getObject("product_id", UUID.class));
+        d.setStatus(ApplicationStatus.valueOf(rs.getString("status")));
+        d.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class).toInstant());
+        OffsetDateTime updatedAt = rs.getObject("updated_at", OffsetDateTime.class);
+        d.setUpdatedAt(updatedAt != null ? updatedAt.toInstant() : null);
+        d.setVersion(rs.getLong("version"));
+        d.setFiles(new HashSet<>(ApplicationRepositoryAdapter.arrayToList(rs.getArray("files"), UUID.class)));
+        d.setTags(new HashSet<>(ApplicationRepositoryAdapter.arrayToList(rs.getArray("tags"), String.class)));
+        return d;
+    }
+}
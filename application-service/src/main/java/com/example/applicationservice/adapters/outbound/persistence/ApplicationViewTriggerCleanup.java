@@ -0,0 +1,40 @@
+package com.example.applicationservice.adapters.outbound.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * При выключенной read-модели снимает триггеры application_view и очищает очередь, оставшиеся с её прошлого включения.
+ * application.read-model.enabled задаётся для всего деплоя: инстанс с выключенным флагом снимет триггеры и у остальных.
+ */
+@Component
+@ConditionalOnProperty(name = "application.read-model.enabled", havingValue = "false", matchIfMissing = true)
+public class ApplicationViewTriggerCleanup {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationViewTriggerCleanup.class);
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+
+    public ApplicationViewTriggerCleanup(NamedParameterJdbcTemplate jdbc, PlatformTransactionManager transactionManager) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void dropTriggers() {
+        try {
+            Boolean dropped = tx.execute(status -> ApplicationViewTriggers.drop(jdbc.getJdbcTemplate()));
+            if (Boolean.TRUE.equals(dropped)) log.info("application_view triggers dropped: read model is disabled");
+        } catch (Exception e) {
+            log.warn("Cannot drop application_view triggers: {}", e.getMessage());
+        }
+    }
+}
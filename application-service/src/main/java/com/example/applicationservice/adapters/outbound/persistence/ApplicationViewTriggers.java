@@ -0,0 +1,65 @@
+package com.example.applicationservice.adapters.outbound.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Триггеры, ставящие изменённые заявки в application_view_pending (функция enqueue_application_view, changesets 10 и 14).
+ * Ставятся только при включённой read-модели (ApplicationViewProjector), иначе снимаются (ApplicationViewTriggerCleanup):
+ * без проектора очередь никто не разбирает, а каждая запись в application/application_file/application_tag
+ * платила бы лишним upsert. Вызывать в транзакции: DDL и пересборка видны другим сессиям только вместе.
+ */
+final class ApplicationViewTriggers {
+
+    // один ключ на все инстансы: установка и снятие не гоняются друг с другом
+    private static final String LOCK = "SELECT pg_advisory_xact_lock(hashtext('application_view_triggers'))";
+
+    private static final List<String> NAMES = List.of("trg_application_view", "trg_application_file_view", "trg_application_tag_view");
+
+    private static final String COUNT =
+            "SELECT count(*) FROM pg_trigger WHERE NOT tgisinternal AND tgname IN " +
+            "('trg_application_view', 'trg_application_file_view', 'trg_application_tag_view')";
+
+    private static final List<String> CREATE = List.of(
+            "CREATE TRIGGER trg_application_view AFTER INSERT OR UPDATE OR DELETE ON application " +
+            "FOR EACH ROW EXECUTE FUNCTION enqueue_application_view('id')",
+            "CREATE TRIGGER trg_application_file_view AFTER INSERT OR UPDATE OR DELETE ON application_file " +
+            "FOR EACH ROW EXECUTE FUNCTION enqueue_application_view('application_id')",
+            "CREATE TRIGGER trg_application_tag_view AFTER INSERT OR UPDATE OR DELETE ON application_tag " +
+            "FOR EACH ROW EXECUTE FUNCTION enqueue_application_view('application_id')");
+
+    private static final List<String> DROP = List.of(
+            "DROP TRIGGER IF EXISTS trg_application_view ON application",
+            "DROP TRIGGER IF EXISTS trg_application_file_view ON application_file",
+            "DROP TRIGGER IF EXISTS trg_application_tag_view ON application_tag");
+
+    private ApplicationViewTriggers() {}
+
+    /**
+     * Ставит недостающие триггеры. true — их не было: изменения за это время в очередь не попали, нужна пересборка.
+     */
+    static boolean install(JdbcTemplate jdbc) {
+        jdbc.query(LOCK, rs -> {});
+        if (installed(jdbc) == NAMES.size()) return false;
+        DROP.forEach(jdbc::execute);
+        CREATE.forEach(jdbc::execute);
+        return true;
+    }
+
+    /**
+     * Снимает триггеры и очищает очередь. true — было что снимать.
+     */
+    static boolean drop(JdbcTemplate jdbc) {
+        jdbc.query(LOCK, rs -> {});
+        if (installed(jdbc) == 0) return false;
+        DROP.forEach(jdbc::execute);
+        jdbc.execute("TRUNCATE application_view_pending");
+        return true;
+    }
+
+    private static int installed(JdbcTemplate jdbc) {
+        Integer count = jdbc.queryForObject(COUNT, Integer.class);
+        return count != null ? count : 0;
+    }
+}
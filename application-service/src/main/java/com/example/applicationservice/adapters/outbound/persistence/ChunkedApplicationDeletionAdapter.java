@@ -0,0 +1,128 @@
+package com.example.applicationservice.adapters.outbound.persistence;
+
+import com.example.applicationservice.domain.port.outbound.ApplicationBulkDeletionPort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Порционное удаление заявок по applicant_id / product_id через очередь application_bulk_delete_pending (changeset 11).
+ * schedule* вставляет строку в транзакции вызывающего — вместе с первой порцией, поэтому после коммита
+ * (и ack события) остаток не теряется ни при рестарте, ни при ошибке. Как и OutboxRelay, очередь разбирается
+ * FOR UPDATE SKIP LOCKED: владельца обрабатывает один инстанс, каждая порция — отдельная короткая транзакция,
+ * строка очереди удаляется в транзакции последней (неполной) порции. Ошибка — повтор на следующем тике.
+ * Метрики: application.bulk-delete.deleted (count), .chunk (timer), тег by=applicant|product; .pending (gauge).
+ */
+@Component
+public class ChunkedApplicationDeletionAdapter implements ApplicationBulkDeletionPort {
+
+    private static final Logger log = LoggerFactory.getLogger(ChunkedApplicationDeletionAdapter.class);
+
+    static final String BY_APPLICANT = "applicant";
+    static final String BY_PRODUCT = "product";
+
+    private static final String ENQUEUE =
+            "INSERT INTO application_bulk_delete_pending (owner_type, owner_id, enqueued_at) VALUES (:by, :ownerId, now()) " +
+            "ON CONFLICT (owner_type, owner_id) DO NOTHING";
+    private static final String LOCK_NEXT =
+            "SELECT owner_type, owner_id FROM application_bulk_delete_pending ORDER BY enqueued_at LIMIT 1 FOR UPDATE SKIP LOCKED";
+    private static final String DEQUEUE =
+            "DELETE FROM application_bulk_delete_pending WHERE owner_type = :by AND owner_id = :ownerId";
+
+    private final ApplicationRepositoryPort applicationRepository;
+    private final ApplicationCachePort applicationCache;
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final Duration pause;
+
+    public ChunkedApplicationDeletionAdapter(ApplicationRepositoryPort applicationRepository,
+                                             ApplicationCachePort applicationCache,
+                                             NamedParameterJdbcTemplate jdbc,
+                                             PlatformTransactionManager transactionManager,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${application.bulk-delete.chunk-size:1000}") int chunkSize,
+                                             @Value("${application.bulk-delete.pause:PT0.05S}") Duration pause) {
+        this.applicationRepository = applicationRepository;
+        this.applicationCache = applicationCache;
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+
+        Gauge.builder("application.bulk-delete.pending", this, ChunkedApplicationDeletionAdapter::pending).register(meterRegistry);
+    }
+
+    @Override
+    public void scheduleDeleteByApplicantId(UUID applicantId) {
+        enqueue(BY_APPLICANT, applicantId);
+    }
+
+    @Override
+    public void scheduleDeleteByProductId(UUID productId) {
+        enqueue(BY_PRODUCT, productId);
+    }
+
+    @Scheduled(fixedDelayString = "${application.bulk-delete.poll-interval:PT1S}")
+    public void drain() {
+        try {
+            while (deleteNextChunk()) {
+                Thread.sleep(pause.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Bulk delete failed, will retry on next tick", e);
+        }
+    }
+
+    /**
+     * Одна порция для самого старого незаблокированного владельца. Возвращает false, если очередь пуста.
+     */
+    boolean deleteNextChunk() {
+        Boolean worked = tx.execute(status -> {
+            List<Object[]> next = jdbc.getJdbcTemplate().query(LOCK_NEXT,
+                    (rs, i) -> new Object[]{rs.getString("owner_type"), rs.getObject("owner_id", UUID.class)});
+            if (next.isEmpty()) return false;
+            String by = (String) next.get(0)[0];
+            UUID ownerId = (UUID) next.get(0)[1];
+
+            List<UUID> deleted = meterRegistry.timer("application.bulk-delete.chunk", "by", by).record(() ->
+                    BY_PRODUCT.equals(by)
+                            ? applicationRepository.deleteByProductIds(List.of(ownerId), chunkSize)
+                            : applicationRepository.deleteByApplicantIds(List.of(ownerId), chunkSize));
+            deleted.forEach(applicationCache::evict);
+            meterRegistry.counter("application.bulk-delete.deleted", "by", by).increment(deleted.size());
+            if (deleted.size() < chunkSize) {
+                jdbc.update(DEQUEUE, new MapSqlParameterSource("by", by).addValue("ownerId", ownerId));
+                log.info("Bulk delete by {} {} finished", by, ownerId);
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(worked);
+    }
+
+    private void enqueue(String by, UUID ownerId) {
+        jdbc.update(ENQUEUE, new MapSqlParameterSource("by", by).addValue("ownerId", ownerId));
+    }
+
+    private double pending() {
+        Long count = jdbc.getJdbcTemplate().queryForObject("SELECT count(*) FROM application_bulk_delete_pending", Long.class);
+        return count != null ? count : 0;
+    }
+}
@@ -3,13 +3,14 @@ package com.example.applicationservice.adapters.outbound.persistence.entity;
 import com.example.applicationservice.domain.model.enums.ApplicationStatus;
 import com.example.applicationservice.domain.model.enums.UserRole;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.UUID;
 
 @Entity
 @Table(name = "application_history")
-public class ApplicationHistoryEntity {
+public class ApplicationHistoryEntity implements Persistable<UUID> {
     @Id
     @Column(nullable = false, updatable = false)
     private UUID id;
@@ -33,6 +34,10 @@ public class ApplicationHistoryEntity {
     @Column(name = "changed_at", nullable = false)
     private Instant changedAt;
 
+    // id назначается приложением: без флага SimpleJpaRepository.save уходит в merge и делает SELECT на каждую строку
+    @Transient
+    private boolean isNew = true;
+
     public ApplicationHistoryEntity() {}
 
     // getters/setters
@@ -54,4 +59,10 @@ public class ApplicationHistoryEntity {
     public Instant getChangedAt() { return changedAt; }
     public void setChangedAt(Instant changedAt) { this.changedAt = changedAt; }
 
+    @Override
+    public boolean isNew() { return isNew; }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
 }
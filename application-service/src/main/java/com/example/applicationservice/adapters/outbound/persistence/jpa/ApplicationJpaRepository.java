@@ -1,8 +1,6 @@
 package com.example.applicationservice.adapters.outbound.persistence.jpa;
 
 import com.example.applicationservice.adapters.outbound.persistence.entity.ApplicationEntity;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,7 +8,6 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -47,32 +44,6 @@ public interface ApplicationJpaRepository extends JpaRepository<ApplicationEntit
     @Query(value = "DELETE FROM application_file WHERE application_id = :applicationId", nativeQuery = true)
     void deleteFilesByApplicationId(@Param("applicationId") UUID applicationId);
 
-    // Методы для получения ID с пагинацией
-    @Query("SELECT a.id FROM ApplicationEntity a " +
-            "ORDER BY a.createdAt DESC, a.id DESC")
-    List<UUID> findIdsFirstPage(Pageable pageable);  // Используем Pageable вместо @Param
-
-    @Query("SELECT a.id FROM ApplicationEntity a " +
-            "WHERE (a.createdAt < :timestamp OR (a.createdAt = :timestamp AND a.id < :id)) " +
-            "ORDER BY a.createdAt DESC, a.id DESC")
-    List<UUID> findIdsByKeyset(@Param("timestamp") Instant timestamp,
-                               @Param("id") UUID id,
-                               Pageable pageable);
-
-    default List<UUID> findIdsFirstPage(int limit) {
-        return findIdsFirstPage(PageRequest.of(0, limit));
-    }
-
-    default List<UUID> findIdsByKeyset(Instant timestamp, UUID id, int limit) {
-        return findIdsByKeyset(timestamp, id, PageRequest.of(0, limit));
-    }
-
-    @Query("SELECT DISTINCT a FROM ApplicationEntity a LEFT JOIN FETCH a.tags t WHERE t = :tagName")
-    List<ApplicationEntity> findByTag(@Param("tagName") String tagName);
-
-    @Query("SELECT DISTINCT a FROM ApplicationEntity a LEFT JOIN FETCH a.files f WHERE f = :fileId")
-    List<ApplicationEntity> findByFile(@Param("fileId") UUID fileId);
-
     long countByApplicantId(UUID applicantId);
 
     long countByProductId(UUID productId);
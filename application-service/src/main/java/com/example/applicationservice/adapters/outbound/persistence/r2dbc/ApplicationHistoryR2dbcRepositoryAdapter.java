@@ -0,0 +1,75 @@
+package com.example.applicationservice.adapters.outbound.persistence.r2dbc;
+
+import com.example.applicationservice.adapters.outbound.persistence.ApplicationHistoryQuery;
+import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import com.example.applicationservice.domain.model.enums.UserRole;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationHistoryRepositoryPort;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Component
+@Profile("r2dbc")
+public class ApplicationHistoryR2dbcRepositoryAdapter implements ReactiveApplicationHistoryRepositoryPort {
+
+    private final DatabaseClient db;
+
+    public ApplicationHistoryR2dbcRepositoryAdapter(DatabaseClient db) {
+        this.db = db;
+    }
+
+    @Override
+    public Mono<ApplicationHistory> save(ApplicationHistory history) {
+        return db.sql("INSERT INTO application_history (id, application_id, old_status, new_status, changed_by, changed_at) " +
+                        "VALUES (:id, :applicationId, :oldStatus, :newStatus, :changedBy, :changedAt)")
+                .bind("id", history.getId())
+                .bind("applicationId", history.getApplicationId())
+                .bind("oldStatus", Parameter.fromOrEmpty(history.getOldStatus() != null ? history.getOldStatus().name() : null, String.class))
+                .bind("newStatus", Parameter.fromOrEmpty(history.getNewStatus() != null ? history.getNewStatus().name() : null, String.class))
+                .bind("changedBy", Parameter.fromOrEmpty(history.getChangedBy() != null ? history.getChangedBy().name() : null, String.class))
+                .bind("changedAt", history.getChangedAt())
+                .fetch().rowsUpdated()
+                .thenReturn(history);
+    }
+
+    @Override
+    public Flux<ApplicationHistory> findPageByApplicationId(UUID applicationId, Instant changedAt, UUID id, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = db.sql(ApplicationHistoryQuery.page(changedAt != null))
+                .bind("applicationId", applicationId);
+        if (changedAt != null) spec = spec.bind("ts", changedAt).bind("id", id);
+        return spec.bind("limit", limit)
+                .map(this::toDomain)
+                .all();
+    }
+
+    @Override
+    public Mono<Long> countByApplicationId(UUID applicationId) {
+        return db.sql("SELECT count(*) AS rows FROM application_history WHERE application_id = :applicationId")
+                .bind("applicationId", applicationId)
+                .map(row -> row.get("rows", Long.class))
+                .one()
+                .defaultIfEmpty(0L);
+    }
+
+    private ApplicationHistory toDomain(Readable row) {
+        ApplicationHistory dh = new ApplicationHistory();
+        dh.setId(row.get("id", UUID.class));
+        dh.setApplicationId(row.get("application_id", UUID.class));
+        String oldStatus = row.get("old_status", String.class);
+        String newStatus = row.get("new_status", String.class);
+        String changedBy = row.get("changed_by", String.class);
+        dh.setOldStatus(oldStatus != null ? ApplicationStatus.valueOf(oldStatus) : null);
+        dh.setNewStatus(newStatus != null ? ApplicationStatus.valueOf(newStatus) : null);
+        dh.setChangedBy(changedBy != null ? UserRole.valueOf(changedBy) : null);
+        dh.setChangedAt(row.get("changed_at", Instant.class));
+        return dh;
+    }
+}
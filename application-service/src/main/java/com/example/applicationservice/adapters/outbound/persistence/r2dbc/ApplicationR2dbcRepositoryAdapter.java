@@ -0,0 +1,207 @@
+package com.example.applicationservice.adapters.outbound.persistence.r2dbc;
+
+import com.example.applicationservice.adapters.outbound.persistence.ApplicationInfoQuery;
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.dto.ApplicationVersion;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * R2DBC-реализация репозитория заявок (профиль r2dbc).
+ * Заявка собирается из трёх запросов: строки application + application_file + application_tag
+ * (для страниц — батчем по списку id, без N+1). Страница стрима (findInfoPage) и снимок для смены статуса
+ * (findSnapshotById) — одним запросом.
+ */
+@Component
+@Profile("r2dbc")
+public class ApplicationR2dbcRepositoryAdapter implements ReactiveApplicationRepositoryPort {
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, applicant_id, product_id, status, created_at, updated_at, version FROM application ";
+
+    private static final String SELECT_SNAPSHOT =
+            "SELECT a.id, a.applicant_id, a.product_id, a.status, a.created_at, a.updated_at, a.version, " +
+            "ARRAY(SELECT f.file_id FROM application_file f WHERE f.application_id = a.id) AS files, " +
+            "ARRAY(SELECT t.tag_name FROM application_tag t WHERE t.application_id = a.id) AS tags " +
+            "FROM application a WHERE a.id = :id";
+
+    private final DatabaseClient db;
+
+    public ApplicationR2dbcRepositoryAdapter(DatabaseClient db) {
+        this.db = db;
+    }
+
+    @Override
+    public Mono<Application> insert(Application application) {
+        Mono<Long> insertRow = db.sql("INSERT INTO application (id, applicant_id, product_id, status, created_at, updated_at, version) " +
+                        "VALUES (:id, :applicantId, :productId, :status, :createdAt, :updatedAt, 0)")
+                .bind("id", application.getId())
+                .bind("applicantId", application.getApplicantId())
+                .bind("productId", application.getProductId())
+                .bind("status", application.getStatus().name())
+                .bind("createdAt", application.getCreatedAt())
+                .bind("updatedAt", Parameter.fromOrEmpty(application.getUpdatedAt(), Instant.class))
+                .fetch().rowsUpdated();
+
+        Flux<Long> insertFiles = Flux.fromIterable(application.getFiles())
+                .concatMap(fileId -> db.sql("INSERT INTO application_file (application_id, file_id) VALUES (:applicationId, :fileId)")
+                        .bind("applicationId", application.getId())
+                        .bind("fileId", fileId)
+                        .fetch().rowsUpdated());
+
+        Flux<Long> insertTags = Flux.fromIterable(application.getTags())
+                .concatMap(tag -> db.sql("INSERT INTO application_tag (application_id, tag_name) VALUES (:applicationId, :tagName)")
+                        .bind("applicationId", application.getId())
+                        .bind("tagName", tag)
+                        .fetch().rowsUpdated());
+
+        return insertRow
+                .thenMany(insertFiles)
+                .thenMany(insertTags)
+                .then(Mono.fromSupplier(() -> {
+                    application.setVersion(0L);
+                    return application;
+                }));
+    }
+
+    @Override
+    public Mono<Application> findById(UUID id) {
+        return db.sql(SELECT_COLUMNS + "WHERE id = :id")
+                .bind("id", id)
+                .map(this::toDomain)
+                .one()
+                .flatMap(app -> assemble(List.of(app)).next());
+    }
+
+    @Override
+    public Mono<Application> findSnapshotById(UUID id) {
+        return db.sql(SELECT_SNAPSHOT)
+                .bind("id", id)
+                .map(row -> {
+                    Application app = toDomain(row);
+                    UUID[] files = row.get("files", UUID[].class);
+                    String[] tags = row.get("tags", String[].class);
+                    app.setFiles(files != null ? new HashSet<>(List.of(files)) : new HashSet<>());
+                    app.setTags(tags != null ? new HashSet<>(List.of(tags)) : new HashSet<>());
+                    return app;
+                })
+                .one();
+    }
+
+    @Override
+    public Mono<ApplicationVersion> findVersionById(UUID id) {
+        return db.sql("SELECT applicant_id, COALESCE(version, 0) AS version FROM application WHERE id = :id")
+                .bind("id", id)
+                .map(row -> new ApplicationVersion(row.get("applicant_id", UUID.class), row.get("version", Long.class)))
+                .one();
+    }
+
+    @Override
+    public Flux<Application> findAll(int page, int size) {
+        return db.sql(SELECT_COLUMNS + "ORDER BY created_at DESC, id DESC LIMIT :limit OFFSET :offset")
+                .bind("limit", size)
+                .bind("offset", (long) page * size)
+                .map(this::toDomain)
+                .all()
+                .collectList()
+                .flatMapMany(this::assemble);
+    }
+
+    @Override
+    public Flux<ApplicationInfo> findInfoPage(Instant timestamp, UUID id, int limit) {
+        return findInfoPage(ApplicationFilter.none(), timestamp, id, limit);
+    }
+
+    @Override
+    public Flux<ApplicationInfo> findInfoPage(ApplicationFilter filter, Instant timestamp, UUID id, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = db.sql(ApplicationInfoQuery.page(filter, timestamp != null));
+        if (filter.getStatus() != null) spec = spec.bind("status", filter.getStatus().name());
+        if (filter.getProductId() != null) spec = spec.bind("productId", filter.getProductId());
+        if (filter.getApplicantId() != null) spec = spec.bind("applicantId", filter.getApplicantId());
+        if (filter.getCreatedFrom() != null) spec = spec.bind("createdFrom", filter.getCreatedFrom());
+        if (filter.getCreatedTo() != null) spec = spec.bind("createdTo", filter.getCreatedTo());
+        if (timestamp != null) spec = spec.bind("ts", timestamp).bind("id", id);
+        return spec.bind("limit", limit)
+                .map(this::toInfo)
+                .all();
+    }
+
+    @Override
+    public Mono<Boolean> updateStatus(UUID id, ApplicationStatus status, Instant updatedAt, Long expectedVersion) {
+        return db.sql("UPDATE application SET status = :status, updated_at = :updatedAt, version = COALESCE(version, 0) + 1 " +
+                        "WHERE id = :id AND COALESCE(version, 0) = :version")
+                .bind("status", status.name())
+                .bind("updatedAt", updatedAt)
+                .bind("id", id)
+                .bind("version", expectedVersion != null ? expectedVersion : 0L)
+                .fetch().rowsUpdated()
+                .map(rows -> rows > 0);
+    }
+
+    /**
+     * Догружает файлы и теги для списка заявок двумя запросами и сохраняет исходный порядок.
+     */
+    private Flux<Application> assemble(List<Application> apps) {
+        if (apps.isEmpty()) return Flux.empty();
+        List<UUID> ids = apps.stream().map(Application::getId).toList();
+
+        Mono<Map<UUID, Collection<UUID>>> files = db.sql("SELECT application_id, file_id FROM application_file WHERE application_id IN (:ids)")
+                .bind("ids", ids)
+                .map(row -> Map.entry(row.get("application_id", UUID.class), row.get("file_id", UUID.class)))
+                .all()
+                .collectMultimap(Map.Entry::getKey, Map.Entry::getValue);
+
+        Mono<Map<UUID, Collection<String>>> tags = db.sql("SELECT application_id, tag_name FROM application_tag WHERE application_id IN (:ids)")
+                .bind("ids", ids)
+                .map(row -> Map.entry(row.get("application_id", UUID.class), row.get("tag_name", String.class)))
+                .all()
+                .collectMultimap(Map.Entry::getKey, Map.Entry::getValue);
+
+        return Mono.zip(files, tags).flatMapMany(t -> {
+            for (Application app : apps) {
+                app.setFiles(new HashSet<>(t.getT1().getOrDefault(app.getId(), List.of())));
+                app.setTags(new HashSet<>(t.getT2().getOrDefault(app.getId(), List.of())));
+            }
+            return Flux.fromIterable(apps);
+        });
+    }
+
+    private ApplicationInfo toInfo(Readable row) {
+        ApplicationInfo ai = new ApplicationInfo();
+        ai.setId(row.get("id", UUID.class));
+        ai.setApplicantId(row.get("applicant_id", UUID.class));
+        ai.setProductId(row.get("product_id", UUID.class));
+        ai.setStatus(row.get("status", String.class));
+        ai.setCreatedAt(row.get("created_at", Instant.class));
+        UUID[] files = row.get("files", UUID[].class);
+        String[] tags = row.get("tags", String[].class);
+        ai.setFiles(files != null ? List.of(files) : List.of());
+        ai.setTags(tags != null ? List.of(tags) : List.of());
+        return ai;
+    }
+
+    private Application toDomain(Readable row) {
+        Application d = new Application();
+        d.setId(row.get("id", UUID.class));
+        d.setApplicantId(row.get("applicant_id", UUID.class));
+        d.setProductId(row.get("product_id", UUID.class));
+        String status = row.get("status", String.class);
+        d.setStatus(status != null ? ApplicationStatus.valueOf(status) : null);
+        d.setCreatedAt(row.get("created_at", Instant.class));
+        d.setUpdatedAt(row.get("updated_at", Instant.class));
+        d.setVersion(row.get("version", Long.class));
+        return d;
+    }
+}
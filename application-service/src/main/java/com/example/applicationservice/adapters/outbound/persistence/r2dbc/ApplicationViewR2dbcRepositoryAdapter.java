@@ -0,0 +1,93 @@
+package com.example.applicationservice.adapters.outbound.persistence.r2dbc;
+
+import com.example.applicationservice.adapters.outbound.persistence.ApplicationInfoQuery;
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationReadModelPort;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * R2DBC-чтение read-модели application_view (профиль r2dbc), см. ApplicationViewRepositoryAdapter.
+ */
+@Component
+@Profile("r2dbc")
+@ConditionalOnProperty(name = "application.read-model.enabled", havingValue = "true")
+public class ApplicationViewR2dbcRepositoryAdapter implements ReactiveApplicationReadModelPort {
+
+    private final DatabaseClient db;
+
+    public ApplicationViewR2dbcRepositoryAdapter(DatabaseClient db) {
+        this.db = db;
+    }
+
+    @Override
+    public Flux<ApplicationInfo> findInfoPage(ApplicationFilter filter, Instant timestamp, UUID id, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = db.sql(ApplicationInfoQuery.page(ApplicationInfoQuery.SELECT_VIEW, filter, timestamp != null));
+        if (filter.getStatus() != null) spec = spec.bind("status", filter.getStatus().name());
+        if (filter.getProductId() != null) spec = spec.bind("productId", filter.getProductId());
+        if (filter.getApplicantId() != null) spec = spec.bind("applicantId", filter.getApplicantId());
+        if (filter.getCreatedFrom() != null) spec = spec.bind("createdFrom", filter.getCreatedFrom());
+        if (filter.getCreatedTo() != null) spec = spec.bind("createdTo", filter.getCreatedTo());
+        if (timestamp != null) spec = spec.bind("ts", timestamp).bind("id", id);
+        return spec.bind("limit", limit)
+                .map(this::toInfo)
+                .all();
+    }
+
+    @Override
+    public Flux<Application> findAll(int page, int size) {
+        return db.sql(ApplicationInfoQuery.SELECT_VIEW + "ORDER BY a.created_at DESC, a.id DESC LIMIT :limit OFFSET :offset")
+                .bind("limit", size)
+                .bind("offset", (long) page * size)
+                .map(this::toDomain)
+                .all();
+    }
+
+    private ApplicationInfo toInfo(Readable row) {
+        ApplicationInfo ai = new ApplicationInfo();
+        ai.setId(row.get("id", UUID.class));
+        ai.setApplicantId(row.get("applicant_id", UUID.class));
+        ai.setProductId(row.get("product_id", UUID.class));
+        ai.setStatus(row.get("status", String.class));
+        ai.setCreatedAt(row.get("created_at", Instant.class));
+        ai.setFiles(files(row));
+        ai.setTags(tags(row));
+        return ai;
+    }
+
+    private Application toDomain(Readable row) {
+        Application d = new Application();
+        d.setId(row.get("id", UUID.class));
+        d.setApplicantId(row.get("applicant_id", UUID.class));
+        d.setProductId(row.get("product_id", UUID.class));
+        d.setStatus(ApplicationStatus.valueOf(row.get("status", String.class)));
+        d.setCreatedAt(row.get("created_at", Instant.class));
+        d.setUpdatedAt(row.get("updated_at", Instant.class));
+        d.setVersion(row.get("version", Long.class));
+        d.setFiles(new HashSet<>(files(row)));
+        d.setTags(new HashSet<>(tags(row)));
+        return d;
+    }
+
+    private static List<UUID> files(Readable row) {
+        UUID[] files = row.get("files", UUID[].class);
+        return files != null ? List.of(files) : List.of();
+    }
+
+    private static List<String> tags(Readable row) {
+        String[] tags = row.get("tags", String[].class);
+        return tags != null ? List.of(tags) : List.of();
+    }
+}
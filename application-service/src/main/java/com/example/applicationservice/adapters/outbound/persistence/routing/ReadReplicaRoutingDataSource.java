@@ -0,0 +1,106 @@
+package com.example.applicationservice.adapters.outbound.persistence.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Маршрутизация JDBC-соединений: read-only транзакции (@Transactional(readOnly = true) декораторов чтения)
+ * уходят на реплики по кругу, всё остальное — на primary. Читатель в окне read-your-writes идёт на primary.
+ * Маршрут выбирается при получении физического соединения, поэтому снаружи нужен LazyConnectionDataSourceProxy:
+ * JpaTransactionManager берёт соединение раньше, чем флаг readOnly попадает в TransactionSynchronizationManager.
+ * Чтение, результат которого попадает в общий кэш, закрепляется на primary через onPrimary.
+ * Метрика application.datasource.routed с тегами route (primary/replica) и reason (write/read/read-your-writes/pinned).
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> pinnedToPrimary = new ThreadLocal<>();
+
+    private final List<DataSource> pools = new ArrayList<>();
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final ReadYourWritesTracker readYourWrites;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter writes;
+    private final Counter reads;
+    private final Counter readYourWritesReads;
+    private final Counter pinnedReads;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                        ReadYourWritesTracker readYourWrites, MeterRegistry meterRegistry) {
+        this.readYourWrites = readYourWrites;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        pools.add(primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            targets.put(key, replicas.get(i));
+            replicaKeys.add(key);
+            pools.add(replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+
+        this.writes = meterRegistry.counter("application.datasource.routed", "route", "primary", "reason", "write");
+        this.reads = meterRegistry.counter("application.datasource.routed", "route", "replica", "reason", "read");
+        this.readYourWritesReads = meterRegistry.counter("application.datasource.routed", "route", "primary", "reason", "read-your-writes");
+        this.pinnedReads = meterRegistry.counter("application.datasource.routed", "route", "primary", "reason", "pinned");
+    }
+
+    /**
+     * Выполняет action так, что соединения внутри него берутся с primary даже в read-only транзакции.
+     * Для загрузок, которые наполняют общий кэш: отстающая реплика вернула бы версию старше уже вытесненной
+     * после коммита, и она жила бы в кэше до следующего изменения заявки. Соединение берётся лениво,
+     * поэтому попадание в кэш внутри action primary не нагружает.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = pinnedToPrimary.get();
+        pinnedToPrimary.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) pinnedToPrimary.remove();
+            else pinnedToPrimary.set(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            readYourWrites.onWriteTransaction();
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty()) return PRIMARY;
+        if (pinnedToPrimary.get() != null) {
+            pinnedReads.increment();
+            return PRIMARY;
+        }
+        if (readYourWrites.recentlyWrote()) {
+            readYourWritesReads.increment();
+            return PRIMARY;
+        }
+        reads.increment();
+        return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource pool : pools) {
+            if (pool instanceof AutoCloseable closeable) closeable.close();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.applicationservice.adapters.outbound.persistence.routing;
+
+import com.example.applicationservice.adapters.config.AuthHeaderHolder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Окно read-your-writes: после коммита пишущей транзакции её автор ещё window читает с primary,
+ * чтобы не увидеть на реплике состояние до своего же изменения.
+ * Автор определяется по Authorization из AuthHeaderHolder (его выставляет ReactorAuthContext.blocking);
+ * вызовы без заголовка (Kafka, внутренние эндпоинты) окно не открывают.
+ */
+public class ReadYourWritesTracker {
+
+    private static final long MAX_ACTORS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, Ticker.systemTicker());
+    }
+
+    ReadYourWritesTracker(Duration window, Ticker ticker) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(MAX_ACTORS)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Открывает окно для текущего автора после коммита текущей транзакции.
+     */
+    void onWriteTransaction() {
+        String actor = AuthHeaderHolder.get();
+        if (actor == null || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(actor, Boolean.TRUE);
+            }
+        });
+    }
+
+    boolean recentlyWrote() {
+        String actor = AuthHeaderHolder.get();
+        return actor != null && recentWriters.getIfPresent(actor) != null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.applicationservice.adapters.outbound.webclient;
+
+import com.example.applicationservice.adapters.outbound.coalescing.ReactiveSingleFlight;
+import com.example.applicationservice.adapters.outbound.limit.AdaptiveConcurrencyLimiter;
+import com.example.applicationservice.application.exception.ServiceUnavailableException;
+import com.example.applicationservice.domain.port.outbound.ReactiveFileServicePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+
+@Component
+public class FileServiceWebClientAdapter implements ReactiveFileServicePort {
+
+    private static final ParameterizedTypeReference<List<UUID>> UUID_LIST = new ParameterizedTypeReference<>() {};
+
+    private final WebClient client;
+    private final ReactiveSingleFlight<UUID, Set<UUID>> singleFlight;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final HedgedFileCheckClient hedged;
+
+    public FileServiceWebClientAdapter(@Qualifier("downstreamWebClient") WebClient client,
+                                       MeterRegistry meterRegistry,
+                                       @Qualifier("fileServiceLimiter") AdaptiveConcurrencyLimiter limiter,
+                                       ObjectProvider<HedgedFileCheckClient> hedged) {
+        this.client = client;
+        this.singleFlight = new ReactiveSingleFlight<>("files-check", meterRegistry);
+        this.limiter = limiter;
+        this.hedged = hedged.getIfAvailable();
+    }
+
+    @Override
+    public Mono<List<UUID>> checkFilesExist(List<UUID> fileIds) {
+        if (fileIds == null || fileIds.isEmpty()) return Mono.just(new ArrayList<>());
+
+        // пересекающиеся страницы: id, которые уже проверяются чужим запросом, ждут его; остальные — одним запросом
+        return singleFlight.executeAll(fileIds, ids -> limiter.callReactive(() -> check(ids))
+                        .map(existing -> (Set<UUID>) new HashSet<>(existing)))
+                .onErrorMap(e -> new ServiceUnavailableException("File service is unavailable now"))
+                .flatMap(found -> found.containsValue(null)
+                        ? Mono.empty()
+                        : Mono.just(fileIds.stream().distinct().filter(id -> found.get(id).contains(id)).toList()));
+    }
+
+    private Mono<List<UUID>> check(List<UUID> ids) {
+        if (hedged != null) return hedged.checkFilesExist(ids);
+        return client.post()
+                .uri("http://file-service/api/v1/files/check")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToMono(UUID_LIST);
+    }
+}
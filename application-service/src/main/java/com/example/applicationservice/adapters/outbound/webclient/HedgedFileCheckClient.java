@@ -0,0 +1,75 @@
+package com.example.applicationservice.adapters.outbound.webclient;
+
+import com.example.applicationservice.adapters.outbound.hedge.Hedger;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Проверка файлов с хеджированием: основная попытка и дубль уходят на разные инстансы file-service из Eureka
+ * (балансировщик не гарантирует, что повторный запрос не попадёт на тот же медленный инстанс).
+ * Используется FileServiceAdapter и FileServiceWebClientAdapter при application.downstream.hedge.enabled=true.
+ * С одним инстансом хеджировать некуда — запрос уходит без дубля.
+ */
+@Component
+@ConditionalOnProperty(name = "application.downstream.hedge.enabled", havingValue = "true")
+public class HedgedFileCheckClient {
+
+    static final String SERVICE_ID = "file-service";
+
+    private static final ParameterizedTypeReference<List<UUID>> UUID_LIST = new ParameterizedTypeReference<>() {};
+
+    private final WebClient client;
+    private final DiscoveryClient discoveryClient;
+    private final Hedger hedger;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public HedgedFileCheckClient(@Qualifier("directWebClient") WebClient client,
+                                 DiscoveryClient discoveryClient,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${application.downstream.hedge.percentile:0.95}") double percentile,
+                                 @Value("${application.downstream.hedge.min-delay:PT0.01S}") Duration minDelay,
+                                 @Value("${application.downstream.hedge.max-delay:PT0.2S}") Duration maxDelay,
+                                 @Value("${application.downstream.hedge.budget-ratio:0.1}") double budgetRatio) {
+        this(client, discoveryClient, new Hedger("files-check", meterRegistry, percentile, minDelay, maxDelay, budgetRatio));
+    }
+
+    HedgedFileCheckClient(WebClient client, DiscoveryClient discoveryClient, Hedger hedger) {
+        this.client = client;
+        this.discoveryClient = discoveryClient;
+        this.hedger = hedger;
+    }
+
+    public Mono<List<UUID>> checkFilesExist(List<UUID> fileIds) {
+        return Mono.defer(() -> {
+            // Eureka отдаёт инстансы из локального кэша реестра, без сетевого вызова
+            List<ServiceInstance> instances = discoveryClient.getInstances(SERVICE_ID);
+            if (instances.isEmpty()) return Mono.error(new IllegalStateException("No instances of " + SERVICE_ID));
+            int first = Math.floorMod(next.getAndIncrement(), instances.size());
+            if (instances.size() == 1) return check(instances.get(0), fileIds);
+            return hedger.execute(attempt -> check(instances.get((first + attempt) % instances.size()), fileIds));
+        });
+    }
+
+    private Mono<List<UUID>> check(ServiceInstance instance, List<UUID> fileIds) {
+        return client.post()
+                .uri(instance.getUri() + "/api/v1/files/check")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(fileIds)
+                .retrieve()
+                .bodyToMono(UUID_LIST);
+    }
+}
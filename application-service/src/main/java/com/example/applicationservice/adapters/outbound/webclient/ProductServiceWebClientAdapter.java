@@ -0,0 +1,38 @@
+package com.example.applicationservice.adapters.outbound.webclient;
+
+import com.example.applicationservice.adapters.outbound.coalescing.ReactiveSingleFlight;
+import com.example.applicationservice.adapters.outbound.limit.AdaptiveConcurrencyLimiter;
+import com.example.applicationservice.application.exception.ServiceUnavailableException;
+import com.example.applicationservice.domain.port.outbound.ReactiveProductServicePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Component
+public class ProductServiceWebClientAdapter implements ReactiveProductServicePort {
+
+    private final WebClient client;
+    private final ReactiveSingleFlight<UUID, Boolean> singleFlight;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ProductServiceWebClientAdapter(@Qualifier("downstreamWebClient") WebClient client,
+                                          MeterRegistry meterRegistry,
+                                          @Qualifier("productServiceLimiter") AdaptiveConcurrencyLimiter limiter) {
+        this.client = client;
+        this.singleFlight = new ReactiveSingleFlight<>("product-exists", meterRegistry);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Mono<Boolean> productExists(UUID productId) {
+        return singleFlight.execute(productId, () -> limiter.callReactive(() -> client.get()
+                .uri("http://product-service/api/v1/products/{id}/exists", productId)
+                .retrieve()
+                .bodyToMono(Boolean.class)))
+                .onErrorMap(e -> new ServiceUnavailableException("Product service is unavailable now"));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.applicationservice.adapters.outbound.webclient;
+
+import com.example.applicationservice.adapters.outbound.coalescing.ReactiveSingleFlight;
+import com.example.applicationservice.adapters.outbound.limit.AdaptiveConcurrencyLimiter;
+import com.example.applicationservice.application.exception.ServiceUnavailableException;
+import com.example.applicationservice.domain.port.outbound.ReactiveUserServicePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Неблокирующий адаптер user-service. Любая ошибка вызова — ServiceUnavailableException,
+ * как у Feign-клиента с UserServiceClientFallbackFactory.
+ */
+@Component
+public class UserServiceWebClientAdapter implements ReactiveUserServicePort {
+
+    private final WebClient client;
+    private final ReactiveSingleFlight<UUID, Boolean> singleFlight;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public UserServiceWebClientAdapter(@Qualifier("downstreamWebClient") WebClient client,
+                                       MeterRegistry meterRegistry,
+                                       @Qualifier("userServiceLimiter") AdaptiveConcurrencyLimiter limiter) {
+        this.client = client;
+        this.singleFlight = new ReactiveSingleFlight<>("user-exists", meterRegistry);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Mono<Boolean> userExists(UUID userId) {
+        return singleFlight.execute(userId, () -> limiter.callReactive(() -> client.get()
+                .uri("http://user-service/api/v1/users/{id}/exists", userId)
+                .retrieve()
+                .bodyToMono(Boolean.class)))
+                .onErrorMap(e -> new ServiceUnavailableException("User service is unavailable now"));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.applicationservice.application.dto;
+
+public class ApplicationBatchItemDto {
+    private int index;
+    private String status;
+    private ApplicationDto application;
+    private String error;
+    private String message;
+
+    public ApplicationBatchItemDto() {}
+
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public ApplicationDto getApplication() { return application; }
+    public void setApplication(ApplicationDto application) { this.application = application; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
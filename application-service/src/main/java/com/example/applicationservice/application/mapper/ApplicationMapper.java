@@ -1,6 +1,8 @@
 package com.example.applicationservice.application.mapper;
 
 import com.example.applicationservice.application.dto.*;
+import com.example.applicationservice.domain.dto.ApplicationBatchItemResult;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
 import com.example.applicationservice.domain.model.entity.Application;
 import com.example.applicationservice.domain.model.entity.ApplicationHistory;
 
@@ -29,6 +31,21 @@ public class ApplicationMapper {
         return dto;
     }
 
+    public static ApplicationBatchItemDto toBatchItemDto(ApplicationBatchItemResult result) {
+        if (result == null) return null;
+        ApplicationBatchItemDto dto = new ApplicationBatchItemDto();
+        dto.setIndex(result.getIndex());
+        if (result.isCreated()) {
+            dto.setStatus("CREATED");
+            dto.setApplication(toDto(result.getApplication()));
+        } else {
+            dto.setStatus("FAILED");
+            dto.setError(result.getErrorCode());
+            dto.setMessage(result.getErrorMessage());
+        }
+        return dto;
+    }
+
     public static ApplicationInfoDto toInfoDto(Application app) {
         if (app == null) return null;
         ApplicationInfoDto dto = new ApplicationInfoDto();
@@ -40,6 +57,17 @@ public class ApplicationMapper {
         return dto;
     }
 
+    public static ApplicationInfoDto toInfoDto(ApplicationInfo info) {
+        if (info == null) return null;
+        ApplicationInfoDto dto = new ApplicationInfoDto();
+        dto.setId(info.getId());
+        dto.setApplicantId(info.getApplicantId());
+        dto.setProductId(info.getProductId());
+        dto.setStatus(info.getStatus());
+        dto.setCreatedAt(info.getCreatedAt());
+        return dto;
+    }
+
     public static ApplicationHistoryDto toHistoryDto(ApplicationHistory history) {
         if (history == null) return null;
         ApplicationHistoryDto dto = new ApplicationHistoryDto();
@@ -2,39 +2,41 @@ package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.application.exception.*;
 import com.example.applicationservice.domain.event.FileEvent;
-import com.example.applicationservice.domain.model.entity.Application;
 import com.example.applicationservice.domain.port.inbound.AttachFilesUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.EventPublisherPort;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Attach files — adds file ids to application and publishes file attach event.
+ * Вставляются только новые строки application_file, агрегат не загружается.
  */
 public class AttachFilesUseCase implements AttachFilesUseCasePort {
 
     private final ApplicationRepositoryPort applicationRepository;
     private final EventPublisherPort eventPublisher;
+    private final ApplicationCachePort applicationCache;
 
-    public AttachFilesUseCase(ApplicationRepositoryPort applicationRepository, EventPublisherPort eventPublisher) {
+    public AttachFilesUseCase(ApplicationRepositoryPort applicationRepository, EventPublisherPort eventPublisher, ApplicationCachePort applicationCache) {
         this.applicationRepository = applicationRepository;
         this.eventPublisher = eventPublisher;
+        this.applicationCache = applicationCache;
     }
 
     @Override
     public void attachFiles(UUID applicationId, List<UUID> fileIds, UUID actorId, String actorRoleClaim) {
-        Application app = applicationRepository.findByIdWithFiles(applicationId)
+        UUID applicantId = applicationRepository.findApplicantIdById(applicationId)
                 .orElseThrow(() -> new NotFoundException("Application not found"));
 
-        boolean allowed = app.getApplicantId().equals(actorId) || "ROLE_ADMIN".equals(actorRoleClaim) || "ROLE_MANAGER".equals(actorRoleClaim);
+        boolean allowed = applicantId.equals(actorId) || "ROLE_ADMIN".equals(actorRoleClaim) || "ROLE_MANAGER".equals(actorRoleClaim);
         if (!allowed) throw new ForbiddenException("Insufficient permissions");
 
-        if (app.getFiles() == null) app.setFiles(new HashSet<>());
-        app.getFiles().addAll(fileIds);
-        applicationRepository.save(app);
+        if (applicationRepository.addFiles(applicationId, fileIds) > 0) {
+            applicationCache.evict(applicationId);
+        }
 
         try {
             FileEvent fe = new FileEvent(UUID.randomUUID(), "FILE_ATTACH_REQUEST", applicationId, actorId, fileIds);
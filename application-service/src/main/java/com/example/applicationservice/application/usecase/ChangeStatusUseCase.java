@@ -6,24 +6,38 @@ import com.example.applicationservice.domain.model.entity.ApplicationHistory;
 import com.example.applicationservice.domain.model.enums.ApplicationStatus;
 import com.example.applicationservice.domain.model.enums.UserRole;
 import com.example.applicationservice.domain.port.inbound.ChangeStatusUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.IdGeneratorPort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 
 import java.time.Instant;
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Change status of application.
+ * Узкий UPDATE статуса с проверкой версии (compare-and-set) + строка истории; при конфликте
+ * заявка перечитывается и попытка повторяется, пока не кончится maxAttempts.
  */
 public class ChangeStatusUseCase implements ChangeStatusUseCasePort {
 
     private final ApplicationRepositoryPort applicationRepository;
     private final ApplicationHistoryRepositoryPort historyRepository;
+    private final ApplicationCachePort applicationCache;
+    private final int maxAttempts;
+    private final IdGeneratorPort idGenerator;
 
-    public ChangeStatusUseCase(ApplicationRepositoryPort applicationRepository, ApplicationHistoryRepositoryPort historyRepository) {
+    public ChangeStatusUseCase(ApplicationRepositoryPort applicationRepository,
+                               ApplicationHistoryRepositoryPort historyRepository,
+                               ApplicationCachePort applicationCache,
+                               int maxAttempts,
+                               IdGeneratorPort idGenerator) {
         this.applicationRepository = applicationRepository;
         this.historyRepository = historyRepository;
+        this.applicationCache = applicationCache;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.idGenerator = idGenerator;
     }
 
     @Override
@@ -34,16 +48,12 @@ public class ChangeStatusUseCase implements ChangeStatusUseCasePort {
         boolean isAdmin = "ROLE_ADMIN".equals(actorRoleClaim);
         if (!isManager && !isAdmin) throw new ForbiddenException("Only admin or manager can change application status");
 
-        Application basicApp = applicationRepository.findById(applicationId).orElseThrow(() -> new NotFoundException("Application not found"));
+        Application app = load(applicationId);
 
-        if (basicApp.getApplicantId().equals(actorId) && isManager) {
+        if (app.getApplicantId().equals(actorId) && isManager) {
             throw new ConflictException("Managers cannot change status of their own applications");
         }
 
-        Optional<Application> appWithDocs = applicationRepository.findByIdWithFiles(applicationId);
-        Application app = appWithDocs.orElse(basicApp);
-        applicationRepository.findByIdWithTags(applicationId).ifPresent(a -> app.setTags(a.getTags()));
-
         ApplicationStatus newStatus;
         try {
             newStatus = ApplicationStatus.valueOf(status.trim().toUpperCase());
@@ -51,23 +61,40 @@ public class ChangeStatusUseCase implements ChangeStatusUseCasePort {
             throw new ConflictException("Invalid status. Valid values: DRAFT, SUBMITTED, IN_REVIEW, APPROVED, REJECTED");
         }
 
-        ApplicationStatus oldStatus = app.getStatus();
-        if (oldStatus != newStatus) {
-            app.setStatus(newStatus);
-            app.setUpdatedAt(Instant.now());
-            applicationRepository.save(app);
-
-            ApplicationHistory hist = new ApplicationHistory();
-            hist.setId(UUID.randomUUID());
-            hist.setApplicationId(app.getId());
-            hist.setOldStatus(oldStatus);
-            hist.setNewStatus(newStatus);
-            hist.setChangedBy(enumFromRoleString(actorRoleClaim));
-            hist.setChangedAt(Instant.now());
-            historyRepository.save(hist);
+        for (int attempt = 1; ; attempt++) {
+            ApplicationStatus oldStatus = app.getStatus();
+            // в том числе если параллельный запрос уже выставил этот статус
+            if (oldStatus == newStatus) return app;
+
+            Instant now = Instant.now();
+            long version = app.getVersion() != null ? app.getVersion() : 0L;
+            if (applicationRepository.updateStatus(app.getId(), newStatus, now, version)) {
+                applicationCache.evict(app.getId());
+                app.setStatus(newStatus);
+                app.setUpdatedAt(now);
+                app.setVersion(version + 1);
+
+                ApplicationHistory hist = new ApplicationHistory();
+                hist.setId(idGenerator.newId());
+                hist.setApplicationId(app.getId());
+                hist.setOldStatus(oldStatus);
+                hist.setNewStatus(newStatus);
+                hist.setChangedBy(enumFromRoleString(actorRoleClaim));
+                hist.setChangedAt(now);
+                historyRepository.saveAll(List.of(hist));
+                return app;
+            }
+
+            if (attempt >= maxAttempts) {
+                throw new ConflictException("Application was modified concurrently, retry the request");
+            }
+            app = load(applicationId);
         }
+    }
 
-        return app;
+    private Application load(UUID applicationId) {
+        return applicationRepository.findSnapshotById(applicationId)
+                .orElseThrow(() -> new NotFoundException("Application not found"));
     }
 
     private UserRole enumFromRoleString(String roleStr) {
@@ -13,6 +13,8 @@ import com.example.applicationservice.domain.port.inbound.CreateApplicationUseCa
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class CreateApplicationUseCase implements CreateApplicationUseCasePort {
 
@@ -22,6 +24,8 @@ public class CreateApplicationUseCase implements CreateApplicationUseCasePort {
     private final ProductServicePort productService;
     private final FileServicePort fileService;
     private final EventPublisherPort eventPublisher;
+    private final Executor downstreamExecutor;
+    private final IdGeneratorPort idGenerator;
 
     public CreateApplicationUseCase(
             ApplicationRepositoryPort applicationRepository,
@@ -29,25 +33,51 @@ public class CreateApplicationUseCase implements CreateApplicationUseCasePort {
             UserServicePort userService,
             ProductServicePort productService,
             FileServicePort fileService,
-            EventPublisherPort eventPublisher) {
+            EventPublisherPort eventPublisher,
+            Executor downstreamExecutor,
+            IdGeneratorPort idGenerator) {
         this.applicationRepository = applicationRepository;
         this.historyRepository = historyRepository;
         this.userService = userService;
         this.productService = productService;
         this.fileService = fileService;
         this.eventPublisher = eventPublisher;
+        this.downstreamExecutor = downstreamExecutor;
+        this.idGenerator = idGenerator;
     }
 
     @Override
     public Application createApplication(ApplicationCreateCommand command, UUID actorId, String actorRoleClaim) {
-        if (command == null) throw new BadRequestException("Request is required");
-
+        validate(command, actorId, actorRoleClaim);
         UUID applicantId = command.getApplicantId();
         UUID productId = command.getProductId();
-        List<UUID> files = command.getFiles() != null ? command.getFiles() : List.of();
-        List<String> tags = command.getTags() != null ? command.getTags() : List.of();
 
-        if (applicantId == null || productId == null) {
+        // user и product проверяются параллельно; ошибки разбираем в прежнем порядке — сначала user
+        CompletableFuture<Boolean> userCheck = CompletableFuture.supplyAsync(() -> userService.userExists(applicantId), downstreamExecutor);
+        CompletableFuture<Boolean> productCheck = CompletableFuture.supplyAsync(() -> productService.productExists(productId), downstreamExecutor);
+
+        // check user exists
+        Boolean userExists = await(userCheck, "User service is unavailable now");
+        if (!userExists) throw new NotFoundException("Applicant with this ID not found");
+
+        // check product exists
+        Boolean productExists = await(productCheck, "Product service is unavailable now");
+        if (!productExists) throw new NotFoundException("Product with this ID not found");
+
+        return persist(command, actorId);
+    }
+
+    @Override
+    public Application createVerifiedApplication(ApplicationCreateCommand command, UUID actorId, String actorRoleClaim) {
+        validate(command, actorId, actorRoleClaim);
+        return persist(command, actorId);
+    }
+
+    private static void validate(ApplicationCreateCommand command, UUID actorId, String actorRoleClaim) {
+        if (command == null) throw new BadRequestException("Request is required");
+
+        UUID applicantId = command.getApplicantId();
+        if (applicantId == null || command.getProductId() == null) {
             throw new BadRequestException("Applicant ID and Product ID are required");
         }
 
@@ -55,32 +85,17 @@ public class CreateApplicationUseCase implements CreateApplicationUseCasePort {
         if (!isAdmin && !actorId.equals(applicantId)) {
             throw new ForbiddenException("You can create an application only for yourself");
         }
+    }
 
-        // check user exists
-        Boolean userExists;
-        try {
-            userExists = userService.userExists(applicantId);
-        } catch (Exception e) {
-            throw new ServiceUnavailableException("User service is unavailable now");
-        }
-        if (userExists == null) throw new ServiceUnavailableException("User service is unavailable now");
-        if (!userExists) throw new NotFoundException("Applicant with this ID not found");
-
-        // check product exists
-        Boolean productExists;
-        try {
-            productExists = productService.productExists(productId);
-        } catch (Exception e) {
-            throw new ServiceUnavailableException("Product service is unavailable now");
-        }
-        if (productExists == null) throw new ServiceUnavailableException("Product service is unavailable now");
-        if (!productExists) throw new NotFoundException("Product with this ID not found");
+    private Application persist(ApplicationCreateCommand command, UUID actorId) {
+        List<UUID> files = command.getFiles() != null ? command.getFiles() : List.of();
+        List<String> tags = command.getTags() != null ? command.getTags() : List.of();
 
         // create domain application
         Application app = new Application();
-        app.setId(UUID.randomUUID());
-        app.setApplicantId(applicantId);
-        app.setProductId(productId);
+        app.setId(idGenerator.newId());
+        app.setApplicantId(command.getApplicantId());
+        app.setProductId(command.getProductId());
         app.setStatus(ApplicationStatus.SUBMITTED);
         app.setCreatedAt(Instant.now());
         app.setFiles(new HashSet<>(files));
@@ -91,13 +106,13 @@ public class CreateApplicationUseCase implements CreateApplicationUseCasePort {
 
         // persist history
         ApplicationHistory hist = new ApplicationHistory();
-        hist.setId(UUID.randomUUID());
+        hist.setId(idGenerator.newId());
         hist.setApplicationId(app.getId());
         hist.setOldStatus(null);
         hist.setNewStatus(app.getStatus());
         hist.setChangedBy(UserRole.ROLE_CLIENT);
         hist.setChangedAt(Instant.now());
-        historyRepository.save(hist);
+        historyRepository.saveAll(List.of(hist));
 
         // publish file attach event (non-blocking in adapters)
         try {
@@ -119,4 +134,15 @@ public class CreateApplicationUseCase implements CreateApplicationUseCasePort {
 
         return app;
     }
+
+    private static Boolean await(CompletableFuture<Boolean> check, String unavailableMessage) {
+        Boolean result;
+        try {
+            result = check.join();
+        } catch (Exception e) {
+            throw new ServiceUnavailableException(unavailableMessage);
+        }
+        if (result == null) throw new ServiceUnavailableException(unavailableMessage);
+        return result;
+    }
 }
@@ -0,0 +1,185 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.BadRequestException;
+import com.example.applicationservice.domain.dto.ApplicationBatchItemResult;
+import com.example.applicationservice.domain.dto.ApplicationCreateCommand;
+import com.example.applicationservice.domain.event.FileEvent;
+import com.example.applicationservice.domain.event.TagEvent;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import com.example.applicationservice.domain.model.enums.UserRole;
+import com.example.applicationservice.domain.port.inbound.CreateApplicationsBatchUseCasePort;
+import com.example.applicationservice.domain.port.outbound.*;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static com.example.applicationservice.domain.dto.ApplicationBatchItemResult.*;
+
+/**
+ * Пакетный вариант CreateApplicationUseCase.
+ * Каждый уникальный applicant/product проверяется один раз на пакет (параллельно), ошибки — по элементам.
+ * Прошедшие проверку заявки вставляются пачкой, события публикуются одной отправкой на топик.
+ */
+public class CreateApplicationsBatchUseCase implements CreateApplicationsBatchUseCasePort {
+
+    private final ApplicationRepositoryPort applicationRepository;
+    private final ApplicationHistoryRepositoryPort historyRepository;
+    private final UserServicePort userService;
+    private final ProductServicePort productService;
+    private final EventPublisherPort eventPublisher;
+    private final Executor downstreamExecutor;
+    private final int maxBatchSize;
+    private final IdGeneratorPort idGenerator;
+
+    public CreateApplicationsBatchUseCase(
+            ApplicationRepositoryPort applicationRepository,
+            ApplicationHistoryRepositoryPort historyRepository,
+            UserServicePort userService,
+            ProductServicePort productService,
+            EventPublisherPort eventPublisher,
+            Executor downstreamExecutor,
+            int maxBatchSize,
+            IdGeneratorPort idGenerator) {
+        this.applicationRepository = applicationRepository;
+        this.historyRepository = historyRepository;
+        this.userService = userService;
+        this.productService = productService;
+        this.eventPublisher = eventPublisher;
+        this.downstreamExecutor = downstreamExecutor;
+        this.maxBatchSize = maxBatchSize;
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public List<ApplicationBatchItemResult> createApplications(List<ApplicationCreateCommand> commands, UUID actorId, String actorRoleClaim) {
+        if (commands == null || commands.isEmpty()) throw new BadRequestException("At least one application is required");
+        if (commands.size() > maxBatchSize) {
+            throw new BadRequestException(String.format("Batch size cannot be greater than %d", maxBatchSize));
+        }
+
+        boolean isAdmin = "ROLE_ADMIN".equals(actorRoleClaim);
+        ApplicationBatchItemResult[] results = new ApplicationBatchItemResult[commands.size()];
+
+        // локальная валидация без обращения к соседним сервисам
+        Set<UUID> applicants = new HashSet<>();
+        Set<UUID> products = new HashSet<>();
+        for (int i = 0; i < commands.size(); i++) {
+            ApplicationCreateCommand command = commands.get(i);
+            if (command == null) {
+                results[i] = failed(i, BAD_REQUEST, "Request is required");
+            } else if (command.getApplicantId() == null || command.getProductId() == null) {
+                results[i] = failed(i, BAD_REQUEST, "Applicant ID and Product ID are required");
+            } else if (!isAdmin && !actorId.equals(command.getApplicantId())) {
+                results[i] = failed(i, FORBIDDEN, "You can create an application only for yourself");
+            } else {
+                applicants.add(command.getApplicantId());
+                products.add(command.getProductId());
+            }
+        }
+
+        Map<UUID, CompletableFuture<Boolean>> userChecks = checkAll(applicants, userService::userExists);
+        Map<UUID, CompletableFuture<Boolean>> productChecks = checkAll(products, productService::productExists);
+
+        List<Application> applications = new ArrayList<>();
+        List<ApplicationHistory> history = new ArrayList<>();
+        List<FileEvent> fileEvents = new ArrayList<>();
+        List<TagEvent> tagEvents = new ArrayList<>();
+        Instant now = Instant.now();
+
+        for (int i = 0; i < commands.size(); i++) {
+            if (results[i] != null) continue;
+            ApplicationCreateCommand command = commands.get(i);
+
+            // тот же порядок и те же сообщения, что и в одиночном create
+            Boolean userExists = await(userChecks.get(command.getApplicantId()));
+            if (userExists == null) {
+                results[i] = failed(i, SERVICE_UNAVAILABLE, "User service is unavailable now");
+                continue;
+            }
+            if (!userExists) {
+                results[i] = failed(i, NOT_FOUND, "Applicant with this ID not found");
+                continue;
+            }
+            Boolean productExists = await(productChecks.get(command.getProductId()));
+            if (productExists == null) {
+                results[i] = failed(i, SERVICE_UNAVAILABLE, "Product service is unavailable now");
+                continue;
+            }
+            if (!productExists) {
+                results[i] = failed(i, NOT_FOUND, "Product with this ID not found");
+                continue;
+            }
+
+            List<UUID> files = command.getFiles() != null ? command.getFiles() : List.of();
+            List<String> tags = command.getTags() != null ? command.getTags() : List.of();
+
+            Application app = new Application();
+            app.setId(idGenerator.newId());
+            app.setApplicantId(command.getApplicantId());
+            app.setProductId(command.getProductId());
+            app.setStatus(ApplicationStatus.SUBMITTED);
+            app.setCreatedAt(now);
+            app.setVersion(0L);
+            app.setFiles(new HashSet<>(files));
+            app.setTags(new HashSet<>(tags));
+            applications.add(app);
+
+            ApplicationHistory hist = new ApplicationHistory();
+            hist.setId(idGenerator.newId());
+            hist.setApplicationId(app.getId());
+            hist.setOldStatus(null);
+            hist.setNewStatus(app.getStatus());
+            hist.setChangedBy(UserRole.ROLE_CLIENT);
+            hist.setChangedAt(now);
+            history.add(hist);
+
+            fileEvents.add(new FileEvent(UUID.randomUUID(), "FILE_ATTACH_REQUEST", app.getId(), actorId, files));
+            if (!tags.isEmpty()) {
+                tagEvents.add(new TagEvent(UUID.randomUUID(), "TAG_CREATE_REQUEST", app.getId(), actorId, tags));
+            }
+            results[i] = created(i, app);
+        }
+
+        if (applications.isEmpty()) return Arrays.asList(results);
+
+        applicationRepository.insertAll(applications);
+        historyRepository.saveAll(history);
+
+        try {
+            eventPublisher.publishFileAttachRequests(fileEvents);
+        } catch (Exception e) {
+            // логируем в adapters; в application слое просто проигнорируем публикацию
+        }
+        if (!tagEvents.isEmpty()) {
+            try {
+                eventPublisher.publishTagCreateRequests(tagEvents);
+            } catch (Exception e) {
+                // ignore publishing error here
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private Map<UUID, CompletableFuture<Boolean>> checkAll(Set<UUID> ids, Function<UUID, Boolean> check) {
+        Map<UUID, CompletableFuture<Boolean>> checks = new HashMap<>();
+        for (UUID id : ids) {
+            checks.put(id, CompletableFuture.supplyAsync(() -> check.apply(id), downstreamExecutor));
+        }
+        return checks;
+    }
+
+    // null — сервис недоступен (ошибка или пустой ответ)
+    private static Boolean await(CompletableFuture<Boolean> check) {
+        try {
+            return check.join();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
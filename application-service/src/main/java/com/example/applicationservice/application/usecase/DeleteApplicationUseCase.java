@@ -2,6 +2,7 @@ package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.application.exception.*;
 import com.example.applicationservice.domain.port.inbound.DeleteApplicationUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 
@@ -14,10 +15,12 @@ public class DeleteApplicationUseCase implements DeleteApplicationUseCasePort {
 
     private final ApplicationRepositoryPort applicationRepository;
     private final ApplicationHistoryRepositoryPort historyRepository;
+    private final ApplicationCachePort applicationCache;
 
-    public DeleteApplicationUseCase(ApplicationRepositoryPort applicationRepository, ApplicationHistoryRepositoryPort historyRepository) {
+    public DeleteApplicationUseCase(ApplicationRepositoryPort applicationRepository, ApplicationHistoryRepositoryPort historyRepository, ApplicationCachePort applicationCache) {
         this.applicationRepository = applicationRepository;
         this.historyRepository = historyRepository;
+        this.applicationCache = applicationCache;
     }
 
     @Override
@@ -29,5 +32,6 @@ public class DeleteApplicationUseCase implements DeleteApplicationUseCasePort {
         historyRepository.deleteByApplicationId(applicationId);
         applicationRepository.deleteTagsByApplicationId(applicationId);
         applicationRepository.deleteById(applicationId);
+        applicationCache.evict(applicationId);
     }
 }
@@ -1,33 +1,49 @@
 package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.domain.port.inbound.DeleteApplicationsByProductIdUseCasePort;
-import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ApplicationBulkDeletionPort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Delete all applications by product id.
+ * Первая порция удаляется сразу в текущей транзакции; если заявок больше — в той же транзакции записывается
+ * задание на фоновое порционное удаление остатка.
  */
 public class DeleteApplicationsByProductIdUseCase implements DeleteApplicationsByProductIdUseCasePort {
 
     private final ApplicationRepositoryPort applicationRepository;
-    private final ApplicationHistoryRepositoryPort historyRepository;
+    private final ApplicationCachePort applicationCache;
+    private final ApplicationBulkDeletionPort bulkDeletion;
+    private final int chunkSize;
 
-    public DeleteApplicationsByProductIdUseCase(ApplicationRepositoryPort applicationRepository, ApplicationHistoryRepositoryPort historyRepository) {
+    public DeleteApplicationsByProductIdUseCase(ApplicationRepositoryPort applicationRepository,
+            ApplicationCachePort applicationCache,
+            ApplicationBulkDeletionPort bulkDeletion,
+            int chunkSize) {
         this.applicationRepository = applicationRepository;
-        this.historyRepository = historyRepository;
+        this.applicationCache = applicationCache;
+        this.bulkDeletion = bulkDeletion;
+        this.chunkSize = chunkSize;
     }
 
     @Override
     public void deleteApplicationsByProductId(UUID productId) {
-        List<UUID> appIds = applicationRepository.findIdsByProductId(productId);
-        for (UUID appId : appIds) {
-            applicationRepository.deleteFilesByApplicationId(appId);
-            historyRepository.deleteByApplicationId(appId);
-            applicationRepository.deleteTagsByApplicationId(appId);
-            applicationRepository.deleteById(appId);
+        deleteApplicationsByProductIds(List.of(productId));
+    }
+
+    @Override
+    public void deleteApplicationsByProductIds(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) return;
+        List<UUID> deleted = applicationRepository.deleteByProductIds(productIds, chunkSize);
+        deleted.forEach(applicationCache::evict);
+        if (deleted.size() == chunkSize) {
+            // порция заполнена целиком — возможно, осталось ещё; задание на остаток по каждому владельцу — в этой же транзакции
+            productIds.forEach(bulkDeletion::scheduleDeleteByProductId);
         }
     }
 }
@@ -1,33 +1,49 @@
 package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.domain.port.inbound.DeleteApplicationsByUserIdUseCasePort;
-import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ApplicationBulkDeletionPort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Delete all applications by user id.
+ * Первая порция удаляется сразу в текущей транзакции; если заявок больше — в той же транзакции записывается
+ * задание на фоновое порционное удаление остатка.
  */
 public class DeleteApplicationsByUserIdUseCase implements DeleteApplicationsByUserIdUseCasePort {
 
     private final ApplicationRepositoryPort applicationRepository;
-    private final ApplicationHistoryRepositoryPort historyRepository;
+    private final ApplicationCachePort applicationCache;
+    private final ApplicationBulkDeletionPort bulkDeletion;
+    private final int chunkSize;
 
-    public DeleteApplicationsByUserIdUseCase(ApplicationRepositoryPort applicationRepository, ApplicationHistoryRepositoryPort historyRepository) {
+    public DeleteApplicationsByUserIdUseCase(ApplicationRepositoryPort applicationRepository,
+            ApplicationCachePort applicationCache,
+            ApplicationBulkDeletionPort bulkDeletion,
+            int chunkSize) {
         this.applicationRepository = applicationRepository;
-        this.historyRepository = historyRepository;
+        this.applicationCache = applicationCache;
+        this.bulkDeletion = bulkDeletion;
+        this.chunkSize = chunkSize;
     }
 
     @Override
     public void deleteApplicationsByUserId(UUID userId) {
-        List<UUID> appIds = applicationRepository.findIdsByApplicantId(userId);
-        for (UUID appId : appIds) {
-            applicationRepository.deleteFilesByApplicationId(appId);
-            historyRepository.deleteByApplicationId(appId);
-            applicationRepository.deleteTagsByApplicationId(appId);
-            applicationRepository.deleteById(appId);
+        deleteApplicationsByUserIds(List.of(userId));
+    }
+
+    @Override
+    public void deleteApplicationsByUserIds(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) return;
+        List<UUID> deleted = applicationRepository.deleteByApplicantIds(userIds, chunkSize);
+        deleted.forEach(applicationCache::evict);
+        if (deleted.size() == chunkSize) {
+            // порция заполнена целиком — возможно, осталось ещё; задание на остаток по каждому владельцу — в этой же транзакции
+            userIds.forEach(bulkDeletion::scheduleDeleteByApplicantId);
         }
     }
 }
@@ -0,0 +1,52 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.BadRequestException;
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.port.inbound.ExportApplicationsUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Потоковая выгрузка заявок keyset-страницами поверх блокирующего репозитория (JPA-профиль).
+ * Каждая страница — отдельный короткий запрос на boundedElastic.
+ */
+public class ExportApplicationsUseCase implements ExportApplicationsUseCasePort {
+
+    private final ApplicationRepositoryPort applicationRepository;
+    private final int pageSize;
+
+    public ExportApplicationsUseCase(ApplicationRepositoryPort applicationRepository, int pageSize) {
+        this.applicationRepository = applicationRepository;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public Flux<ApplicationInfo> exportApplications(ApplicationFilter filter) {
+        ApplicationFilter f = filter != null ? filter : ApplicationFilter.none();
+        if (f.getCreatedFrom() != null && f.getCreatedTo() != null && !f.getCreatedFrom().isBefore(f.getCreatedTo())) {
+            return Flux.error(new BadRequestException("createdFrom must be before createdTo"));
+        }
+
+        // следующая страница запрашивается только после того, как подписчик разобрал предыдущую
+        return page(f, null, null)
+                .expand(page -> {
+                    if (page.size() < pageSize) return Mono.empty();
+                    ApplicationInfo last = page.get(page.size() - 1);
+                    return page(f, last.getCreatedAt(), last.getId());
+                })
+                .flatMapIterable(Function.identity(), 1);
+    }
+
+    private Mono<List<ApplicationInfo>> page(ApplicationFilter filter, Instant timestamp, UUID id) {
+        return Mono.fromCallable(() -> applicationRepository.findInfoPage(filter, timestamp, id, pageSize))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -2,13 +2,12 @@ package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.application.exception.BadRequestException;
 import com.example.applicationservice.domain.dto.ApplicationInfo;
-import com.example.applicationservice.domain.model.entity.Application;
 import com.example.applicationservice.domain.port.inbound.FindApplicationsByFileUseCasePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import com.example.applicationservice.domain.util.ApplicationPage;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 public class FindApplicationsByFileUseCase implements FindApplicationsByFileUseCasePort {
 
@@ -19,20 +18,17 @@ public class FindApplicationsByFileUseCase implements FindApplicationsByFileUseC
     }
 
     @Override
-    public List<ApplicationInfo> findApplicationsByFile(UUID fileId) {
+    public ApplicationPage findApplicationsByFile(UUID fileId, String cursor, int limit) {
+        if (limit <= 0) throw new BadRequestException("limit must be greater than 0");
+        int capped = Math.min(limit, 50);
+        UUID afterId = ReverseLookupCursor.decode(cursor);
+
+        List<ApplicationInfo> infos;
         try {
-            List<Application> apps = applicationRepository.findByFile(fileId);
-            return apps.stream().map(a -> {
-                ApplicationInfo ai = new ApplicationInfo();
-                ai.setId(a.getId());
-                ai.setApplicantId(a.getApplicantId());
-                ai.setProductId(a.getProductId());
-                ai.setStatus(a.getStatus() != null ? a.getStatus().name() : null);
-                ai.setCreatedAt(a.getCreatedAt());
-                return ai;
-            }).collect(Collectors.toList());
+            infos = applicationRepository.findInfoPageByFile(fileId, afterId, capped);
         } catch (Exception e) {
             throw new BadRequestException("Failed to get applications by file: " + e.getMessage());
         }
+        return ReverseLookupCursor.toPage(infos, capped);
     }
 }
@@ -2,15 +2,16 @@ package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.application.exception.BadRequestException;
 import com.example.applicationservice.domain.dto.ApplicationInfo;
-import com.example.applicationservice.domain.model.entity.Application;
 import com.example.applicationservice.domain.port.inbound.FindApplicationsByTagUseCasePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import com.example.applicationservice.domain.util.ApplicationPage;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
 /**
- * Find applications by tag and return ApplicationInfo domain DTOs.
+ * Find applications by tag and return a keyset page of ApplicationInfo domain DTOs.
+ * Курсор — id последней заявки страницы; null, если страница неполная.
  */
 public class FindApplicationsByTagUseCase implements FindApplicationsByTagUseCasePort {
 
@@ -21,20 +22,17 @@ public class FindApplicationsByTagUseCase implements FindApplicationsByTagUseCas
     }
 
     @Override
-    public List<ApplicationInfo> findApplicationsByTag(String tagName) {
+    public ApplicationPage findApplicationsByTag(String tagName, String cursor, int limit) {
+        if (limit <= 0) throw new BadRequestException("limit must be greater than 0");
+        int capped = Math.min(limit, 50);
+        UUID afterId = ReverseLookupCursor.decode(cursor);
+
+        List<ApplicationInfo> infos;
         try {
-            List<Application> apps = applicationRepository.findByTag(tagName);
-            return apps.stream().map(a -> {
-                ApplicationInfo ai = new ApplicationInfo();
-                ai.setId(a.getId());
-                ai.setApplicantId(a.getApplicantId());
-                ai.setProductId(a.getProductId());
-                ai.setStatus(a.getStatus() != null ? a.getStatus().name() : null);
-                ai.setCreatedAt(a.getCreatedAt());
-                return ai;
-            }).collect(Collectors.toList());
+            infos = applicationRepository.findInfoPageByTag(tagName, afterId, capped);
         } catch (Exception e) {
             throw new BadRequestException("Failed to get applications by tag: " + e.getMessage());
         }
+        return ReverseLookupCursor.toPage(infos, capped);
     }
 }
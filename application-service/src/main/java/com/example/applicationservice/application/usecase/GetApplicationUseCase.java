@@ -1,6 +1,8 @@
 package com.example.applicationservice.application.usecase;
 
+import com.example.applicationservice.domain.dto.ApplicationVersion;
 import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import com.example.applicationservice.domain.port.inbound.GetApplicationUseCasePort;
 
@@ -8,19 +10,33 @@ import java.util.Optional;
 import java.util.UUID;
 
 /**
- * Простая реализация поиска заявки.
+ * Простая реализация поиска заявки: сначала кэш, при промахе — БД с записью в кэш.
+ * Версия для условных GET всегда читается одной колонкой из БД, минуя кэш: запись в кэше может пережить
+ * коммит чужого изменения (evict и put гоняются), и 304 по ней отдал бы клиенту устаревшее тело.
  */
 public class GetApplicationUseCase implements GetApplicationUseCasePort {
 
     private final ApplicationRepositoryPort applicationRepository;
+    private final ApplicationCachePort applicationCache;
 
-    public GetApplicationUseCase(ApplicationRepositoryPort applicationRepository) {
+    public GetApplicationUseCase(ApplicationRepositoryPort applicationRepository, ApplicationCachePort applicationCache) {
         this.applicationRepository = applicationRepository;
+        this.applicationCache = applicationCache;
     }
 
     @Override
     public Optional<Application> findById(UUID id) {
-        return applicationRepository.findByIdWithFiles(id)
+        Optional<Application> cached = applicationCache.get(id);
+        if (cached.isPresent()) return cached;
+
+        Optional<Application> loaded = applicationRepository.findByIdWithFiles(id)
                 .or(() -> applicationRepository.findById(id));
+        loaded.ifPresent(applicationCache::put);
+        return loaded;
+    }
+
+    @Override
+    public Optional<Long> findVersion(UUID id) {
+        return applicationRepository.findVersionById(id).map(ApplicationVersion::getVersion);
     }
 }
@@ -0,0 +1,38 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.BadRequestException;
+import com.example.applicationservice.application.util.CursorUtil;
+import com.example.applicationservice.domain.dto.HistoryVersion;
+import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+import com.example.applicationservice.domain.util.HistoryPage;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Курсор истории заявки: (changed_at, id) последней строки, порядок — changed_at DESC, id DESC.
+ */
+final class HistoryCursor {
+
+    private HistoryCursor() {
+    }
+
+    static CursorUtil.Decoded decode(String cursor) {
+        if (cursor == null || cursor.trim().isEmpty()) return null;
+        CursorUtil.Decoded decoded = CursorUtil.decode(cursor);
+        if (decoded == null) throw new BadRequestException("Invalid cursor");
+        return decoded;
+    }
+
+    // неполная страница — последняя, курсор не нужен
+    static HistoryPage toPage(List<ApplicationHistory> items, int limit, HistoryVersion version) {
+        if (items == null || items.isEmpty()) return new HistoryPage(List.of(), null, version);
+        ApplicationHistory last = items.get(items.size() - 1);
+        String next = items.size() < limit ? null : CursorUtil.encode(last.getChangedAt(), last.getId());
+        return new HistoryPage(items, next, version);
+    }
+
+    static boolean canView(UUID applicantId, UUID actorId, String actorRoleClaim) {
+        return applicantId.equals(actorId) || "ROLE_ADMIN".equals(actorRoleClaim) || "ROLE_MANAGER".equals(actorRoleClaim);
+    }
+}
@@ -11,37 +11,35 @@ import java.util.stream.Collectors;
 /**
  * Возвращает list<Application> для данного page/size.
  * Логика фильтрации не-существующих файлов — сохраняем поведение: при ошибке file service считаем все файлы существующими.
+ * С read-моделью страница целиком (теги и проверенные файлы) читается из application_view.
  */
 public class ListApplicationsUseCase implements ListApplicationsUseCasePort {
 
     private final ApplicationRepositoryPort applicationRepository;
     private final FileServicePort fileService;
+    private final ApplicationReadModelPort readModel;
 
     public ListApplicationsUseCase(ApplicationRepositoryPort applicationRepository, FileServicePort fileService) {
+        this(applicationRepository, fileService, null);
+    }
+
+    public ListApplicationsUseCase(ApplicationRepositoryPort applicationRepository, FileServicePort fileService,
+                                   ApplicationReadModelPort readModel) {
         this.applicationRepository = applicationRepository;
         this.fileService = fileService;
+        this.readModel = readModel;
     }
 
     @Override
     public List<Application> listApplications(int page, int size) {
         if (size > 50) throw new BadRequestException("Page size cannot exceed 50");
+        if (readModel != null) return readModel.findAll(page, size);
 
-        List<Application> applications = applicationRepository.findAll(page, size);
-        if (applications == null || applications.isEmpty()) {
-            return List.of();
-        }
-
-        List<UUID> ids = applications.stream().map(Application::getId).collect(Collectors.toList());
-        List<Application> withTags = applicationRepository.findByIdsWithTags(ids);
-        Map<UUID, Set<String>> tagsMap = new HashMap<>();
-        for (Application a : withTags) tagsMap.put(a.getId(), a.getTags());
-
-        List<Application> withFiles = applicationRepository.findByIdsWithFiles(ids);
-        Map<UUID, Set<UUID>> filesMap = new HashMap<>();
-        for (Application a : withFiles) filesMap.put(a.getId(), a.getFiles());
+        List<Application> applications = load(page, size);
+        if (applications.isEmpty()) return applications;
 
         // check file existence
-        Set<UUID> allFileIds = filesMap.values().stream().flatMap(Set::stream).collect(Collectors.toSet());
+        Set<UUID> allFileIds = applications.stream().flatMap(a -> a.getFiles().stream()).collect(Collectors.toSet());
         Map<UUID, Boolean> existingFiles = new HashMap<>();
         if (!allFileIds.isEmpty()) {
             try {
@@ -56,17 +54,43 @@ public class ListApplicationsUseCase implements ListApplicationsUseCasePort {
             }
         }
 
-        // assign filtered files and tags
+        for (Application app : applications) {
+            Set<UUID> filtered = app.getFiles().stream().filter(fid -> existingFiles.getOrDefault(fid, true)).collect(Collectors.toSet());
+            app.setFiles(filtered);
+        }
+
+        return applications;
+    }
+
+    @Override
+    public List<Application> listApplicationsUnfiltered(int page, int size) {
+        if (size > 50) throw new BadRequestException("Page size cannot exceed 50");
+        if (readModel != null) return readModel.findAll(page, size);
+        return load(page, size);
+    }
+
+    // страница с тегами и всеми привязанными файлами, без обращения к file service
+    private List<Application> load(int page, int size) {
+        List<Application> applications = applicationRepository.findAll(page, size);
+        if (applications == null || applications.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> ids = applications.stream().map(Application::getId).collect(Collectors.toList());
+        List<Application> withTags = applicationRepository.findByIdsWithTags(ids);
+        Map<UUID, Set<String>> tagsMap = new HashMap<>();
+        for (Application a : withTags) tagsMap.put(a.getId(), a.getTags());
+
+        List<Application> withFiles = applicationRepository.findByIdsWithFiles(ids);
+        Map<UUID, Set<UUID>> filesMap = new HashMap<>();
+        for (Application a : withFiles) filesMap.put(a.getId(), a.getFiles());
+
         for (Application app : applications) {
             Set<String> tags = tagsMap.get(app.getId());
             if (tags != null) app.setTags(tags);
             Set<UUID> files = filesMap.get(app.getId());
-            if (files != null) {
-                Set<UUID> filtered = files.stream().filter(fid -> existingFiles.getOrDefault(fid, true)).collect(Collectors.toSet());
-                app.setFiles(filtered);
-            }
+            if (files != null) app.setFiles(files);
         }
-
         return applications;
     }
 }
@@ -1,18 +1,25 @@
 package com.example.applicationservice.application.usecase;
 
+import com.example.applicationservice.application.exception.BadRequestException;
 import com.example.applicationservice.application.exception.ForbiddenException;
 import com.example.applicationservice.application.exception.NotFoundException;
-import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.application.util.CursorUtil;
+import com.example.applicationservice.domain.dto.ApplicationVersion;
+import com.example.applicationservice.domain.dto.HistoryVersion;
 import com.example.applicationservice.domain.model.entity.ApplicationHistory;
 import com.example.applicationservice.domain.port.inbound.ListHistoryUseCasePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import com.example.applicationservice.domain.util.HistoryPage;
 
 import java.util.List;
 import java.util.UUID;
 
 /**
- * Returns history for a given application after validating actor's permissions.
+ * Returns a keyset page of history for a given application after validating actor's permissions.
+ * Для проверки прав читаются только applicant_id и version — заявка со всей историей не загружается.
+ * Версия и число строк истории читаются до страницы и возвращаются с ней как источник ETag:
+ * срок хранения (ApplicationHistoryPartitionMaintenance) убирает строки без смены версии.
  */
 public class ListHistoryUseCase implements ListHistoryUseCasePort {
 
@@ -25,10 +32,24 @@ public class ListHistoryUseCase implements ListHistoryUseCasePort {
     }
 
     @Override
-    public List<ApplicationHistory> listHistory(UUID applicationId, UUID actorId, String actorRoleClaim) {
-        Application app = applicationRepository.findById(applicationId).orElseThrow(() -> new NotFoundException("Application not found"));
-        boolean canView = app.getApplicantId().equals(actorId) || "ROLE_ADMIN".equals(actorRoleClaim) || "ROLE_MANAGER".equals(actorRoleClaim);
-        if (!canView) throw new ForbiddenException("Insufficient permissions to view history");
-        return historyRepository.findByApplicationIdOrderByChangedAtDesc(applicationId);
+    public HistoryPage listHistory(UUID applicationId, String cursor, int limit, UUID actorId, String actorRoleClaim) {
+        if (limit <= 0) throw new BadRequestException("limit must be greater than 0");
+        int capped = Math.min(limit, 50);
+        CursorUtil.Decoded after = HistoryCursor.decode(cursor);
+
+        HistoryVersion version = findVersion(applicationId, actorId, actorRoleClaim);
+        List<ApplicationHistory> items = historyRepository.findPageByApplicationId(applicationId,
+                after != null ? after.timestamp : null, after != null ? after.id : null, capped);
+        return HistoryCursor.toPage(items, capped, version);
+    }
+
+    @Override
+    public HistoryVersion findVersion(UUID applicationId, UUID actorId, String actorRoleClaim) {
+        ApplicationVersion app = applicationRepository.findVersionById(applicationId)
+                .orElseThrow(() -> new NotFoundException("Application not found"));
+        if (!HistoryCursor.canView(app.getApplicantId(), actorId, actorRoleClaim)) {
+            throw new ForbiddenException("Insufficient permissions to view history");
+        }
+        return new HistoryVersion(app.getVersion(), historyRepository.countByApplicationId(applicationId));
     }
 }
@@ -0,0 +1,107 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.*;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import com.example.applicationservice.domain.model.enums.UserRole;
+import com.example.applicationservice.domain.port.inbound.ReactiveChangeStatusUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
+import com.example.applicationservice.domain.port.outbound.IdGeneratorPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationHistoryRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Реактивная смена статуса: UPDATE только статуса с проверкой версии + запись истории.
+ * При конфликте версии заявка перечитывается и попытка повторяется (до maxAttempts), как в ChangeStatusUseCase.
+ */
+public class ReactiveChangeStatusUseCase implements ReactiveChangeStatusUseCasePort {
+
+    private final ReactiveApplicationRepositoryPort applicationRepository;
+    private final ReactiveApplicationHistoryRepositoryPort historyRepository;
+    private final ApplicationCachePort applicationCache;
+    private final int maxAttempts;
+    private final IdGeneratorPort idGenerator;
+
+    public ReactiveChangeStatusUseCase(ReactiveApplicationRepositoryPort applicationRepository,
+                                       ReactiveApplicationHistoryRepositoryPort historyRepository,
+                                       ApplicationCachePort applicationCache,
+                                       int maxAttempts,
+                                       IdGeneratorPort idGenerator) {
+        this.applicationRepository = applicationRepository;
+        this.historyRepository = historyRepository;
+        this.applicationCache = applicationCache;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public Mono<Application> changeStatus(UUID applicationId, String status, UUID actorId, String actorRoleClaim) {
+        if (actorId == null) return Mono.error(new UnauthorizedException("Authentication required"));
+
+        boolean isManager = "ROLE_MANAGER".equals(actorRoleClaim);
+        boolean isAdmin = "ROLE_ADMIN".equals(actorRoleClaim);
+        if (!isManager && !isAdmin) return Mono.error(new ForbiddenException("Only admin or manager can change application status"));
+
+        return load(applicationId)
+                .flatMap(app -> {
+                    if (app.getApplicantId().equals(actorId) && isManager) {
+                        return Mono.error(new ConflictException("Managers cannot change status of their own applications"));
+                    }
+
+                    ApplicationStatus newStatus;
+                    try {
+                        newStatus = ApplicationStatus.valueOf(status.trim().toUpperCase());
+                    } catch (Exception e) {
+                        return Mono.error(new ConflictException("Invalid status. Valid values: DRAFT, SUBMITTED, IN_REVIEW, APPROVED, REJECTED"));
+                    }
+                    return attempt(app, newStatus, actorRoleClaim, 1);
+                });
+    }
+
+    private Mono<Application> load(UUID applicationId) {
+        // один запрос со снимком версии, файлов и тегов — и для первого чтения, и для перечитывания при конфликте
+        return applicationRepository.findSnapshotById(applicationId)
+                .switchIfEmpty(Mono.error(new NotFoundException("Application not found")));
+    }
+
+    private Mono<Application> attempt(Application app, ApplicationStatus newStatus, String actorRoleClaim, int attempt) {
+        ApplicationStatus oldStatus = app.getStatus();
+        // в том числе если параллельный запрос уже выставил этот статус
+        if (oldStatus == newStatus) return Mono.just(app);
+
+        Instant now = Instant.now();
+        Long version = app.getVersion() != null ? app.getVersion() : 0L;
+        return applicationRepository.updateStatus(app.getId(), newStatus, now, version)
+                .flatMap(updated -> {
+                    if (!updated) {
+                        if (attempt >= maxAttempts) {
+                            return Mono.error(new ConflictException("Application was modified concurrently, retry the request"));
+                        }
+                        return load(app.getId()).flatMap(fresh -> attempt(fresh, newStatus, actorRoleClaim, attempt + 1));
+                    }
+                    applicationCache.evict(app.getId());
+                    app.setStatus(newStatus);
+                    app.setUpdatedAt(now);
+                    app.setVersion(version + 1);
+
+                    ApplicationHistory hist = new ApplicationHistory();
+                    hist.setId(idGenerator.newId());
+                    hist.setApplicationId(app.getId());
+                    hist.setOldStatus(oldStatus);
+                    hist.setNewStatus(newStatus);
+                    hist.setChangedBy(enumFromRoleString(actorRoleClaim));
+                    hist.setChangedAt(now);
+                    return historyRepository.save(hist).thenReturn(app);
+                });
+    }
+
+    private UserRole enumFromRoleString(String roleStr) {
+        if (roleStr == null) return UserRole.ROLE_ADMIN;
+        try { return UserRole.valueOf(roleStr); } catch (Exception e) { return UserRole.ROLE_ADMIN; }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.*;
+import com.example.applicationservice.domain.dto.ApplicationCreateCommand;
+import com.example.applicationservice.domain.port.outbound.ReactiveProductServicePort;
+import com.example.applicationservice.domain.port.outbound.ReactiveUserServicePort;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Проверки перед созданием заявки через неблокирующие порты: обязательные поля, право создавать за applicant,
+ * существование user и product. Ошибки те же и в том же порядке, что в CreateApplicationUseCase.
+ * Общие для ReactiveCreateApplicationUseCase и моста профиля по умолчанию (JpaReactiveUseCaseBridge).
+ */
+public class ReactiveCreateApplicationChecks {
+
+    private final ReactiveUserServicePort userService;
+    private final ReactiveProductServicePort productService;
+
+    public ReactiveCreateApplicationChecks(ReactiveUserServicePort userService, ReactiveProductServicePort productService) {
+        this.userService = userService;
+        this.productService = productService;
+    }
+
+    public Mono<Void> verify(ApplicationCreateCommand command, UUID actorId, String actorRoleClaim) {
+        if (command == null) return Mono.error(new BadRequestException("Request is required"));
+
+        UUID applicantId = command.getApplicantId();
+        UUID productId = command.getProductId();
+        if (applicantId == null || productId == null) {
+            return Mono.error(new BadRequestException("Applicant ID and Product ID are required"));
+        }
+
+        boolean isAdmin = "ROLE_ADMIN".equals(actorRoleClaim);
+        if (!isAdmin && !actorId.equals(applicantId)) {
+            return Mono.error(new ForbiddenException("You can create an application only for yourself"));
+        }
+
+        Mono<Void> userCheck = Mono.defer(() -> userService.userExists(applicantId))
+                .onErrorMap(e -> new ServiceUnavailableException("User service is unavailable now"))
+                .switchIfEmpty(Mono.error(new ServiceUnavailableException("User service is unavailable now")))
+                .flatMap(exists -> exists ? Mono.empty() : Mono.error(new NotFoundException("Applicant with this ID not found")));
+
+        Mono<Void> productCheck = Mono.defer(() -> productService.productExists(productId))
+                .onErrorMap(e -> new ServiceUnavailableException("Product service is unavailable now"))
+                .switchIfEmpty(Mono.error(new ServiceUnavailableException("Product service is unavailable now")))
+                .flatMap(exists -> exists ? Mono.empty() : Mono.error(new NotFoundException("Product with this ID not found")));
+
+        // обе проверки подписываются одновременно; materialize, чтобы ошибка product не обгоняла ошибку user
+        return Mono.zip(userCheck.materialize(), productCheck.materialize())
+                .flatMap(signals -> {
+                    if (signals.getT1().isOnError()) return Mono.error(signals.getT1().getThrowable());
+                    if (signals.getT2().isOnError()) return Mono.error(signals.getT2().getThrowable());
+                    return Mono.empty();
+                });
+    }
+}
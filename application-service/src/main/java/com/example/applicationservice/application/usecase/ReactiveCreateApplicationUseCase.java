@@ -0,0 +1,95 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.domain.dto.ApplicationCreateCommand;
+import com.example.applicationservice.domain.event.FileEvent;
+import com.example.applicationservice.domain.event.TagEvent;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import com.example.applicationservice.domain.model.enums.UserRole;
+import com.example.applicationservice.domain.port.inbound.ReactiveCreateApplicationUseCasePort;
+import com.example.applicationservice.domain.port.outbound.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Реактивный вариант CreateApplicationUseCase (R2DBC).
+ * Проверки user/product идут через неблокирующие порты и выполняются параллельно (ReactiveCreateApplicationChecks).
+ * События публикуются внутри той же цепочки: ошибка публикации (outbox) откатывает создание заявки.
+ */
+public class ReactiveCreateApplicationUseCase implements ReactiveCreateApplicationUseCasePort {
+
+    private final ReactiveApplicationRepositoryPort applicationRepository;
+    private final ReactiveApplicationHistoryRepositoryPort historyRepository;
+    private final ReactiveCreateApplicationChecks checks;
+    private final ReactiveEventPublisherPort eventPublisher;
+    private final IdGeneratorPort idGenerator;
+
+    public ReactiveCreateApplicationUseCase(
+            ReactiveApplicationRepositoryPort applicationRepository,
+            ReactiveApplicationHistoryRepositoryPort historyRepository,
+            ReactiveUserServicePort userService,
+            ReactiveProductServicePort productService,
+            ReactiveEventPublisherPort eventPublisher,
+            IdGeneratorPort idGenerator) {
+        this.applicationRepository = applicationRepository;
+        this.historyRepository = historyRepository;
+        this.checks = new ReactiveCreateApplicationChecks(userService, productService);
+        this.eventPublisher = eventPublisher;
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public Mono<Application> createApplication(ApplicationCreateCommand command, UUID actorId, String actorRoleClaim) {
+        return checks.verify(command, actorId, actorRoleClaim)
+                .then(Mono.defer(() -> createVerifiedApplication(command, actorId)));
+    }
+
+    /**
+     * Проверки, выполняемые до создания заявки; декоратор запускает их вне транзакции.
+     */
+    public ReactiveCreateApplicationChecks checks() {
+        return checks;
+    }
+
+    /**
+     * Создание без проверок: вызывающий уже выполнил checks().verify(...) (обычно вне транзакции,
+     * чтобы соединение R2DBC не держалось на время запросов к user/product-сервисам).
+     */
+    public Mono<Application> createVerifiedApplication(ApplicationCreateCommand command, UUID actorId) {
+        List<UUID> files = command.getFiles() != null ? command.getFiles() : List.of();
+        List<String> tags = command.getTags() != null ? command.getTags() : List.of();
+
+        return Mono.defer(() -> {
+            Application app = new Application();
+            app.setId(idGenerator.newId());
+            app.setApplicantId(command.getApplicantId());
+            app.setProductId(command.getProductId());
+            app.setStatus(ApplicationStatus.SUBMITTED);
+            app.setCreatedAt(Instant.now());
+            app.setFiles(new HashSet<>(files));
+            app.setTags(new HashSet<>(tags));
+
+            ApplicationHistory hist = new ApplicationHistory();
+            hist.setId(idGenerator.newId());
+            hist.setApplicationId(app.getId());
+            hist.setOldStatus(null);
+            hist.setNewStatus(app.getStatus());
+            hist.setChangedBy(UserRole.ROLE_CLIENT);
+            hist.setChangedAt(Instant.now());
+
+            return applicationRepository.insert(app)
+                    .flatMap(saved -> historyRepository.save(hist).thenReturn(saved));
+        }).flatMap(app -> publishEvents(app, actorId, files, tags).thenReturn(app));
+    }
+
+    private Mono<Void> publishEvents(Application app, UUID actorId, List<UUID> files, List<String> tags) {
+        Mono<Void> fileEvent = Mono.defer(() -> eventPublisher.publishFileAttachRequest(
+                new FileEvent(UUID.randomUUID(), "FILE_ATTACH_REQUEST", app.getId(), actorId, files)));
+        if (tags.isEmpty()) return fileEvent;
+        return fileEvent.then(Mono.defer(() -> eventPublisher.publishTagCreateRequest(
+                new TagEvent(UUID.randomUUID(), "TAG_CREATE_REQUEST", app.getId(), actorId, tags))));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.outbound.ReactiveFileServicePort;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Убирает из заявок несуществующие файлы одним запросом к file service через неблокирующий порт.
+ * При ошибке file service все файлы считаются существующими, пустой ответ — ни один не существует.
+ * Общий для реактивных list/stream и моста профиля по умолчанию (JpaReactiveUseCaseBridge).
+ */
+public class ReactiveFileFilter {
+
+    private final ReactiveFileServicePort fileService;
+
+    public ReactiveFileFilter(ReactiveFileServicePort fileService) {
+        this.fileService = fileService;
+    }
+
+    public Mono<List<Application>> filterApplications(List<Application> applications) {
+        Set<UUID> allFileIds = applications.stream()
+                .flatMap(a -> a.getFiles().stream())
+                .collect(Collectors.toSet());
+        return existing(allFileIds).map(existingSet -> {
+            for (Application app : applications) {
+                app.setFiles(app.getFiles().stream().filter(existingSet::contains).collect(Collectors.toSet()));
+            }
+            return applications;
+        }).defaultIfEmpty(applications);
+    }
+
+    public Mono<List<ApplicationInfo>> filterInfos(List<ApplicationInfo> infos) {
+        Set<UUID> allFileIds = infos.stream()
+                .map(ApplicationInfo::getFiles)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .collect(Collectors.toSet());
+        return existing(allFileIds).map(existingSet -> {
+            for (ApplicationInfo ai : infos) {
+                if (ai.getFiles() != null) {
+                    ai.setFiles(ai.getFiles().stream().filter(existingSet::contains).collect(Collectors.toList()));
+                }
+            }
+            return infos;
+        }).defaultIfEmpty(infos);
+    }
+
+    // пустой Mono — файлов нет, фильтровать нечего
+    private Mono<Set<UUID>> existing(Set<UUID> allFileIds) {
+        if (allFileIds.isEmpty()) return Mono.empty();
+        return fileService.checkFilesExist(new ArrayList<>(allFileIds))
+                .map(existing -> (Set<UUID>) new HashSet<>(existing))
+                .onErrorResume(e -> Mono.just(allFileIds))
+                .defaultIfEmpty(Collections.emptySet());
+    }
+}
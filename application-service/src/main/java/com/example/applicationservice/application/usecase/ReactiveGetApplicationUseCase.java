@@ -0,0 +1,38 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.domain.dto.ApplicationVersion;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.inbound.ReactiveGetApplicationUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Реактивный поиск заявки (R2DBC). Пустой Mono — заявка не найдена.
+ * findVersion, как и в GetApplicationUseCase, всегда читает версию из БД, минуя кэш.
+ */
+public class ReactiveGetApplicationUseCase implements ReactiveGetApplicationUseCasePort {
+
+    private final ReactiveApplicationRepositoryPort applicationRepository;
+    private final ApplicationCachePort applicationCache;
+
+    public ReactiveGetApplicationUseCase(ReactiveApplicationRepositoryPort applicationRepository,
+                                         ApplicationCachePort applicationCache) {
+        this.applicationRepository = applicationRepository;
+        this.applicationCache = applicationCache;
+    }
+
+    @Override
+    public Mono<Application> findById(UUID id) {
+        return Mono.defer(() -> Mono.justOrEmpty(applicationCache.get(id)))
+                .switchIfEmpty(Mono.defer(() -> applicationRepository.findById(id)
+                        .doOnNext(applicationCache::put)));
+    }
+
+    @Override
+    public Mono<Long> findVersion(UUID id) {
+        return applicationRepository.findVersionById(id).map(ApplicationVersion::getVersion);
+    }
+}
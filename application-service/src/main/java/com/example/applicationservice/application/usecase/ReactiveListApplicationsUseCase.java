@@ -0,0 +1,42 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.BadRequestException;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.inbound.ReactiveListApplicationsUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationReadModelPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveFileServicePort;
+import reactor.core.publisher.Flux;
+
+/**
+ * Реактивный вариант ListApplicationsUseCase.
+ * Поведение то же: при ошибке file service считаем все файлы существующими; с read-моделью — чтение из application_view.
+ */
+public class ReactiveListApplicationsUseCase implements ReactiveListApplicationsUseCasePort {
+
+    private final ReactiveApplicationRepositoryPort applicationRepository;
+    private final ReactiveFileFilter fileFilter;
+    private final ReactiveApplicationReadModelPort readModel;
+
+    public ReactiveListApplicationsUseCase(ReactiveApplicationRepositoryPort applicationRepository, ReactiveFileServicePort fileService) {
+        this(applicationRepository, fileService, null);
+    }
+
+    public ReactiveListApplicationsUseCase(ReactiveApplicationRepositoryPort applicationRepository, ReactiveFileServicePort fileService,
+                                           ReactiveApplicationReadModelPort readModel) {
+        this.applicationRepository = applicationRepository;
+        this.fileFilter = new ReactiveFileFilter(fileService);
+        this.readModel = readModel;
+    }
+
+    @Override
+    public Flux<Application> listApplications(int page, int size) {
+        if (size > 50) return Flux.error(new BadRequestException("Page size cannot exceed 50"));
+        if (readModel != null) return readModel.findAll(page, size);
+
+        return applicationRepository.findAll(page, size)
+                .collectList()
+                .flatMap(fileFilter::filterApplications)
+                .flatMapMany(Flux::fromIterable);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.BadRequestException;
+import com.example.applicationservice.application.exception.ForbiddenException;
+import com.example.applicationservice.application.exception.NotFoundException;
+import com.example.applicationservice.application.util.CursorUtil;
+import com.example.applicationservice.domain.dto.HistoryVersion;
+import com.example.applicationservice.domain.port.inbound.ReactiveListHistoryUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationHistoryRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import com.example.applicationservice.domain.util.HistoryPage;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Реактивный вариант ListHistoryUseCase.
+ */
+public class ReactiveListHistoryUseCase implements ReactiveListHistoryUseCasePort {
+
+    private final ReactiveApplicationRepositoryPort applicationRepository;
+    private final ReactiveApplicationHistoryRepositoryPort historyRepository;
+
+    public ReactiveListHistoryUseCase(ReactiveApplicationRepositoryPort applicationRepository,
+                                      ReactiveApplicationHistoryRepositoryPort historyRepository) {
+        this.applicationRepository = applicationRepository;
+        this.historyRepository = historyRepository;
+    }
+
+    @Override
+    public Mono<HistoryPage> listHistory(UUID applicationId, String cursor, int limit, UUID actorId, String actorRoleClaim) {
+        if (limit <= 0) return Mono.error(new BadRequestException("limit must be greater than 0"));
+        int capped = Math.min(limit, 50);
+        CursorUtil.Decoded after;
+        try {
+            after = HistoryCursor.decode(cursor);
+        } catch (BadRequestException e) {
+            return Mono.error(e);
+        }
+
+        return findVersion(applicationId, actorId, actorRoleClaim)
+                .flatMap(version -> historyRepository.findPageByApplicationId(applicationId,
+                                after != null ? after.timestamp : null, after != null ? after.id : null, capped)
+                        .collectList()
+                        .map(items -> HistoryCursor.toPage(items, capped, version)));
+    }
+
+    @Override
+    public Mono<HistoryVersion> findVersion(UUID applicationId, UUID actorId, String actorRoleClaim) {
+        return applicationRepository.findVersionById(applicationId)
+                .switchIfEmpty(Mono.error(new NotFoundException("Application not found")))
+                .flatMap(app -> HistoryCursor.canView(app.getApplicantId(), actorId, actorRoleClaim)
+                        ? historyRepository.countByApplicationId(applicationId).map(rows -> new HistoryVersion(app.getVersion(), rows))
+                        : Mono.error(new ForbiddenException("Insufficient permissions to view history")));
+    }
+}
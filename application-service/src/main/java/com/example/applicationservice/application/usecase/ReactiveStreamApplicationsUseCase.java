@@ -0,0 +1,81 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.BadRequestException;
+import com.example.applicationservice.application.util.CursorUtil;
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.port.inbound.ReactiveStreamApplicationsUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationReadModelPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveFileServicePort;
+import com.example.applicationservice.domain.util.ApplicationPage;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Реактивный keyset-стрим заявок: одна страница за запрос, курсор (created_at, id), необязательные фильтры.
+ * Файлы фильтруются через file service так же, как в StreamApplicationsUseCase; с read-моделью страница читается
+ * из application_view, где файлы уже проверены.
+ */
+public class ReactiveStreamApplicationsUseCase implements ReactiveStreamApplicationsUseCasePort {
+
+    private final ReactiveApplicationRepositoryPort applicationRepository;
+    private final ReactiveFileFilter fileFilter;
+    private final ReactiveApplicationReadModelPort readModel;
+
+    public ReactiveStreamApplicationsUseCase(ReactiveApplicationRepositoryPort applicationRepository,
+                                             ReactiveFileServicePort fileService) {
+        this(applicationRepository, fileService, null);
+    }
+
+    public ReactiveStreamApplicationsUseCase(ReactiveApplicationRepositoryPort applicationRepository,
+                                             ReactiveFileServicePort fileService,
+                                             ReactiveApplicationReadModelPort readModel) {
+        this.applicationRepository = applicationRepository;
+        this.fileFilter = new ReactiveFileFilter(fileService);
+        this.readModel = readModel;
+    }
+
+    @Override
+    public Mono<ApplicationPage> streamWithNextCursor(String cursor, int limit) {
+        return streamWithNextCursor(ApplicationFilter.none(), cursor, limit);
+    }
+
+    @Override
+    public Mono<ApplicationPage> streamWithNextCursor(ApplicationFilter filter, String cursor, int limit) {
+        if (limit <= 0) return Mono.error(new BadRequestException("limit must be greater than 0"));
+        ApplicationFilter f = filter != null ? filter : ApplicationFilter.none();
+        if (f.getCreatedFrom() != null && f.getCreatedTo() != null && !f.getCreatedFrom().isBefore(f.getCreatedTo())) {
+            return Mono.error(new BadRequestException("createdFrom must be before createdTo"));
+        }
+        int capped = Math.min(limit, 50);
+
+        Instant ts = null;
+        UUID id = null;
+        if (cursor != null && !cursor.trim().isEmpty()) {
+            CursorUtil.Decoded decoded = CursorUtil.decode(cursor);
+            if (decoded == null) {
+                return Mono.error(new BadRequestException("Invalid cursor"));
+            }
+            ts = decoded.timestamp;
+            id = decoded.id;
+        }
+
+        if (readModel != null) {
+            return readModel.findInfoPage(f, ts, id, capped).collectList().map(this::toPage);
+        }
+        return applicationRepository.findInfoPage(f, ts, id, capped)
+                .collectList()
+                .flatMap(fileFilter::filterInfos)
+                .map(this::toPage);
+    }
+
+    private ApplicationPage toPage(List<ApplicationInfo> infos) {
+        if (infos.isEmpty()) return new ApplicationPage(List.of(), null);
+        ApplicationInfo last = infos.get(infos.size() - 1);
+        return new ApplicationPage(infos, CursorUtil.encode(last.getCreatedAt(), last.getId()));
+    }
+}
@@ -1,33 +1,36 @@
 package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.application.exception.*;
-import com.example.applicationservice.domain.model.entity.Application;
 import com.example.applicationservice.domain.port.inbound.RemoveFilesUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 
 import java.util.List;
 import java.util.UUID;
 
 /**
- * Remove files from application.
+ * Remove files from application. Удаляются только перечисленные строки application_file.
  */
 public class RemoveFilesUseCase implements RemoveFilesUseCasePort {
 
     private final ApplicationRepositoryPort applicationRepository;
+    private final ApplicationCachePort applicationCache;
 
-    public RemoveFilesUseCase(ApplicationRepositoryPort applicationRepository) {
+    public RemoveFilesUseCase(ApplicationRepositoryPort applicationRepository, ApplicationCachePort applicationCache) {
         this.applicationRepository = applicationRepository;
+        this.applicationCache = applicationCache;
     }
 
     @Override
     public void removeFiles(UUID applicationId, List<UUID> fileIds, UUID actorId, String actorRoleClaim) {
-        Application app = applicationRepository.findByIdWithFiles(applicationId)
+        UUID applicantId = applicationRepository.findApplicantIdById(applicationId)
                 .orElseThrow(() -> new NotFoundException("Application not found"));
 
-        boolean allowed = app.getApplicantId().equals(actorId) || "ROLE_ADMIN".equals(actorRoleClaim) || "ROLE_MANAGER".equals(actorRoleClaim);
+        boolean allowed = applicantId.equals(actorId) || "ROLE_ADMIN".equals(actorRoleClaim) || "ROLE_MANAGER".equals(actorRoleClaim);
         if (!allowed) throw new ForbiddenException("Insufficient permissions");
 
-        if (app.getFiles() != null) fileIds.forEach(app.getFiles()::remove);
-        applicationRepository.save(app);
+        if (applicationRepository.removeFiles(applicationId, fileIds) > 0) {
+            applicationCache.evict(applicationId);
+        }
     }
 }
@@ -1,35 +1,36 @@
 package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.application.exception.*;
-import com.example.applicationservice.domain.model.entity.Application;
 import com.example.applicationservice.domain.port.inbound.RemoveTagsUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 
 import java.util.List;
 import java.util.UUID;
 
 /**
- * Remove tags.
+ * Remove tags. Удаляются только перечисленные строки application_tag.
  */
 public class RemoveTagsUseCase implements RemoveTagsUseCasePort {
 
     private final ApplicationRepositoryPort applicationRepository;
+    private final ApplicationCachePort applicationCache;
 
-    public RemoveTagsUseCase(ApplicationRepositoryPort applicationRepository) {
+    public RemoveTagsUseCase(ApplicationRepositoryPort applicationRepository, ApplicationCachePort applicationCache) {
         this.applicationRepository = applicationRepository;
+        this.applicationCache = applicationCache;
     }
 
     @Override
     public void removeTags(UUID applicationId, List<String> tagNames, UUID actorId, String actorRoleClaim) {
-        Application app = applicationRepository.findByIdWithTags(applicationId)
+        UUID applicantId = applicationRepository.findApplicantIdById(applicationId)
                 .orElseThrow(() -> new NotFoundException("Application not found"));
 
-        boolean allowed = app.getApplicantId().equals(actorId) || "ROLE_ADMIN".equals(actorRoleClaim) || "ROLE_MANAGER".equals(actorRoleClaim);
+        boolean allowed = applicantId.equals(actorId) || "ROLE_ADMIN".equals(actorRoleClaim) || "ROLE_MANAGER".equals(actorRoleClaim);
         if (!allowed) throw new ForbiddenException("Insufficient permissions");
 
-        if (app.getTags() != null) {
-            tagNames.forEach(n -> app.getTags().remove(n));
-            applicationRepository.save(app);
+        if (applicationRepository.removeTags(applicationId, tagNames) > 0) {
+            applicationCache.evict(applicationId);
         }
     }
 }
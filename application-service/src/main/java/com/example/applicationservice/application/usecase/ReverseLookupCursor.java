@@ -0,0 +1,33 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.BadRequestException;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.util.ApplicationPage;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Курсор выборок по тегу/файлу: id последней заявки, порядок — по application_id.
+ */
+final class ReverseLookupCursor {
+
+    private ReverseLookupCursor() {
+    }
+
+    static UUID decode(String cursor) {
+        if (cursor == null || cursor.trim().isEmpty()) return null;
+        try {
+            return UUID.fromString(cursor.trim());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    // неполная страница — последняя, курсор не нужен
+    static ApplicationPage toPage(List<ApplicationInfo> infos, int limit) {
+        if (infos == null || infos.isEmpty()) return new ApplicationPage(List.of(), null);
+        String next = infos.size() < limit ? null : infos.get(infos.size() - 1).getId().toString();
+        return new ApplicationPage(infos, next);
+    }
+}
@@ -1,12 +1,13 @@
 package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.application.exception.BadRequestException;
+import com.example.applicationservice.domain.dto.ApplicationFilter;
 import com.example.applicationservice.domain.dto.ApplicationInfo;
 import com.example.applicationservice.domain.port.inbound.StreamApplicationsUseCasePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationReadModelPort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.FileServicePort;
 import com.example.applicationservice.domain.util.ApplicationPage;
-import com.example.applicationservice.domain.model.entity.Application;
 import com.example.applicationservice.application.util.CursorUtil;
 
 import java.time.Instant;
@@ -17,55 +18,41 @@ public class StreamApplicationsUseCase implements StreamApplicationsUseCasePort
 
     private final ApplicationRepositoryPort applicationRepository;
     private final FileServicePort fileService;
+    private final ApplicationReadModelPort readModel;
 
     public StreamApplicationsUseCase(ApplicationRepositoryPort applicationRepository,
                                      FileServicePort fileService) {
+        this(applicationRepository, fileService, null);
+    }
+
+    /**
+     * @param readModel read-модель application_view; если задана, страница читается из неё и файлы уже проверены
+     */
+    public StreamApplicationsUseCase(ApplicationRepositoryPort applicationRepository,
+                                     FileServicePort fileService,
+                                     ApplicationReadModelPort readModel) {
         this.applicationRepository = applicationRepository;
         this.fileService = fileService;
+        this.readModel = readModel;
     }
 
     @Override
     public ApplicationPage streamWithNextCursor(String cursor, int limit) {
-        if (limit <= 0) throw new BadRequestException("limit must be greater than 0");
-        int capped = Math.min(limit, 50);
-
-        Instant ts = null;
-        UUID id = null;
-        if (cursor != null && !cursor.trim().isEmpty()) {
-            CursorUtil.Decoded decoded = CursorUtil.decode(cursor);
-            if (decoded == null) {
-                throw new BadRequestException("Invalid cursor");
-            }
-            ts = decoded.timestamp;
-            id = decoded.id;
-        }
-
-        List<UUID> appIds;
-        if (ts == null) {
-            appIds = applicationRepository.findIdsFirstPage(capped);
-        } else {
-            appIds = applicationRepository.findIdsByKeyset(ts, id, capped);
-        }
-
-        if (appIds == null || appIds.isEmpty()) {
-            return new ApplicationPage(List.of(), null);
-        }
-
-        List<Application> appsWithFiles = applicationRepository.findByIdsWithFiles(appIds);
-        List<Application> appsWithTags = applicationRepository.findByIdsWithTags(appIds);
+        return streamWithNextCursor(ApplicationFilter.none(), cursor, limit);
+    }
 
-        Map<UUID, Application> map = new HashMap<>();
-        for (Application a : appsWithFiles) map.put(a.getId(), a);
-        for (Application a : appsWithTags) {
-            Application exist = map.get(a.getId());
-            if (exist != null) exist.setTags(a.getTags());
-        }
+    @Override
+    public ApplicationPage streamWithNextCursor(ApplicationFilter filter, String cursor, int limit) {
+        // с read-моделью файлы в странице уже проверены
+        ApplicationPage page = streamUnfiltered(filter, cursor, limit);
+        List<ApplicationInfo> infos = page.getItems();
+        if (readModel != null || infos.isEmpty()) return page;
 
         // gather all file ids
-        Set<UUID> allFileIds = map.values().stream()
-                .map(Application::getFiles)
+        Set<UUID> allFileIds = infos.stream()
+                .map(ApplicationInfo::getFiles)
                 .filter(Objects::nonNull)
-                .flatMap(Set::stream)
+                .flatMap(List::stream)
                 .collect(Collectors.toSet());
 
         Map<UUID, Boolean> existingFiles = new HashMap<>();
@@ -81,32 +68,51 @@ public class StreamApplicationsUseCase implements StreamApplicationsUseCasePort
         }
 
         // filter files per application
-        for (Application a : map.values()) {
-            if (a.getFiles() != null) {
-                Set<UUID> filtered = a.getFiles().stream()
+        for (ApplicationInfo ai : infos) {
+            if (ai.getFiles() != null) {
+                ai.setFiles(ai.getFiles().stream()
                         .filter(fid -> existingFiles.getOrDefault(fid, true))
-                        .collect(Collectors.toSet());
-                a.setFiles(filtered);
+                        .collect(Collectors.toList()));
             }
         }
 
-        List<Application> ordered = appIds.stream().map(map::get).filter(Objects::nonNull).collect(Collectors.toList());
+        return page;
+    }
+
+    @Override
+    public ApplicationPage streamUnfiltered(ApplicationFilter filter, String cursor, int limit) {
+        if (limit <= 0) throw new BadRequestException("limit must be greater than 0");
+        ApplicationFilter effective = filter != null ? filter : ApplicationFilter.none();
+        if (effective.getCreatedFrom() != null && effective.getCreatedTo() != null
+                && !effective.getCreatedFrom().isBefore(effective.getCreatedTo())) {
+            throw new BadRequestException("createdFrom must be before createdTo");
+        }
+        int capped = Math.min(limit, 50);
+
+        Instant ts = null;
+        UUID id = null;
+        if (cursor != null && !cursor.trim().isEmpty()) {
+            CursorUtil.Decoded decoded = CursorUtil.decode(cursor);
+            if (decoded == null) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            ts = decoded.timestamp;
+            id = decoded.id;
+        }
 
-        String nextCursor = null;
-        if (!ordered.isEmpty()) {
-            Application last = ordered.get(ordered.size() - 1);
-            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+        // одна выборка: колонки + файлы + теги страницы; курсор действителен только с теми же фильтрами
+        if (readModel != null) {
+            return toPage(readModel.findInfoPage(effective, ts, id, capped));
         }
+        return toPage(applicationRepository.findInfoPage(effective, ts, id, capped));
+    }
 
-        List<ApplicationInfo> infos = ordered.stream().map(a -> {
-            ApplicationInfo ai = new ApplicationInfo();
-            ai.setId(a.getId());
-            ai.setApplicantId(a.getApplicantId());
-            ai.setProductId(a.getProductId());
-            ai.setStatus(a.getStatus() != null ? a.getStatus().name() : null);
-            ai.setCreatedAt(a.getCreatedAt());
-            return ai;
-        }).collect(Collectors.toList());
+    private ApplicationPage toPage(List<ApplicationInfo> infos) {
+        if (infos == null || infos.isEmpty()) {
+            return new ApplicationPage(List.of(), null);
+        }
+        ApplicationInfo last = infos.get(infos.size() - 1);
+        String nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
 
         return new ApplicationPage(infos, nextCursor);
     }
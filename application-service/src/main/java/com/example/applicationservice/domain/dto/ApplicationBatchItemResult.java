@@ -0,0 +1,45 @@
+package com.example.applicationservice.domain.dto;
+
+import com.example.applicationservice.domain.model.entity.Application;
+
+/**
+ * Результат одного элемента пакетного создания заявок.
+ * Либо application (создана), либо errorCode + errorMessage (элемент отклонён, остальные не затронуты).
+ */
+public class ApplicationBatchItemResult {
+
+    public static final String BAD_REQUEST = "BAD_REQUEST";
+    public static final String FORBIDDEN = "FORBIDDEN";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String SERVICE_UNAVAILABLE = "SERVICE_UNAVAILABLE";
+
+    private final int index;
+    private final Application application;
+    private final String errorCode;
+    private final String errorMessage;
+
+    private ApplicationBatchItemResult(int index, Application application, String errorCode, String errorMessage) {
+        this.index = index;
+        this.application = application;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
+    public static ApplicationBatchItemResult created(int index, Application application) {
+        return new ApplicationBatchItemResult(index, application, null, null);
+    }
+
+    public static ApplicationBatchItemResult failed(int index, String errorCode, String errorMessage) {
+        return new ApplicationBatchItemResult(index, null, errorCode, errorMessage);
+    }
+
+    public boolean isCreated() { return application != null; }
+
+    public int getIndex() { return index; }
+
+    public Application getApplication() { return application; }
+
+    public String getErrorCode() { return errorCode; }
+
+    public String getErrorMessage() { return errorMessage; }
+}
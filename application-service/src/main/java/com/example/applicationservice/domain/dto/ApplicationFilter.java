@@ -0,0 +1,39 @@
+package com.example.applicationservice.domain.dto;
+
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Необязательные фильтры выборки заявок. null-поле — фильтр не применяется.
+ * createdFrom включительно, createdTo — исключительно.
+ */
+public class ApplicationFilter {
+    private ApplicationStatus status;
+    private UUID productId;
+    private UUID applicantId;
+    private Instant createdFrom;
+    private Instant createdTo;
+
+    public ApplicationFilter() {}
+
+    public static ApplicationFilter none() {
+        return new ApplicationFilter();
+    }
+
+    public ApplicationStatus getStatus() { return status; }
+    public void setStatus(ApplicationStatus status) { this.status = status; }
+
+    public UUID getProductId() { return productId; }
+    public void setProductId(UUID productId) { this.productId = productId; }
+
+    public UUID getApplicantId() { return applicantId; }
+    public void setApplicantId(UUID applicantId) { this.applicantId = applicantId; }
+
+    public Instant getCreatedFrom() { return createdFrom; }
+    public void setCreatedFrom(Instant createdFrom) { this.createdFrom = createdFrom; }
+
+    public Instant getCreatedTo() { return createdTo; }
+    public void setCreatedTo(Instant createdTo) { this.createdTo = createdTo; }
+}
@@ -1,6 +1,7 @@
 package com.example.applicationservice.domain.dto;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -12,6 +13,8 @@ public class ApplicationInfo {
     private UUID productId;
     private String status;
     private Instant createdAt;
+    private List<UUID> files;
+    private List<String> tags;
 
     public ApplicationInfo() {}
 
@@ -29,4 +32,10 @@ public class ApplicationInfo {
 
     public Instant getCreatedAt() { return createdAt; }
     public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public List<UUID> getFiles() { return files; }
+    public void setFiles(List<UUID> files) { this.files = files; }
+
+    public List<String> getTags() { return tags; }
+    public void setTags(List<String> tags) { this.tags = tags; }
 }
@@ -0,0 +1,19 @@
+package com.example.applicationservice.domain.dto;
+
+import java.util.UUID;
+
+/**
+ * Версия заявки и её заявитель — всё, что нужно для ETag и проверки прав без загрузки агрегата.
+ */
+public class ApplicationVersion {
+    private final UUID applicantId;
+    private final long version;
+
+    public ApplicationVersion(UUID applicantId, long version) {
+        this.applicantId = applicantId;
+        this.version = version;
+    }
+
+    public UUID getApplicantId() { return applicantId; }
+    public long getVersion() { return version; }
+}
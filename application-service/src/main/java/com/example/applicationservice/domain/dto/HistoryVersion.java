@@ -0,0 +1,19 @@
+package com.example.applicationservice.domain.dto;
+
+/**
+ * Источник ETag истории заявки: версия заявки и число хранимых строк истории.
+ * Смена статуса повышает версию, а отсоединение старых секций по сроку хранения
+ * (ApplicationHistoryPartitionMaintenance) уменьшает число строк, не трогая версию.
+ */
+public class HistoryVersion {
+    private final long applicationVersion;
+    private final long rows;
+
+    public HistoryVersion(long applicationVersion, long rows) {
+        this.applicationVersion = applicationVersion;
+        this.rows = rows;
+    }
+
+    public long getApplicationVersion() { return applicationVersion; }
+    public long getRows() { return rows; }
+}
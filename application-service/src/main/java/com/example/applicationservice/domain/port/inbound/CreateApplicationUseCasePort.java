@@ -11,4 +11,10 @@ import java.util.UUID;
  */
 public interface CreateApplicationUseCasePort {
     Application createApplication(ApplicationCreateCommand command, UUID actorId, String actorRoleClaim);
+
+    /**
+     * То же без проверок user/product: вызывающий уже выполнил их сам (неблокирующими портами).
+     * Обязательные поля и право создавать за applicant проверяются как обычно.
+     */
+    Application createVerifiedApplication(ApplicationCreateCommand command, UUID actorId, String actorRoleClaim);
 }
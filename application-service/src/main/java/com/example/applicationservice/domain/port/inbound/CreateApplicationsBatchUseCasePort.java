@@ -0,0 +1,15 @@
+package com.example.applicationservice.domain.port.inbound;
+
+import com.example.applicationservice.domain.dto.ApplicationBatchItemResult;
+import com.example.applicationservice.domain.dto.ApplicationCreateCommand;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Пакетное создание заявок.
+ * Возвращает результат по каждому элементу в порядке входного списка.
+ */
+public interface CreateApplicationsBatchUseCasePort {
+    List<ApplicationBatchItemResult> createApplications(List<ApplicationCreateCommand> commands, UUID actorId, String actorRoleClaim);
+}
@@ -1,7 +1,13 @@
 package com.example.applicationservice.domain.port.inbound;
 
+import java.util.Collection;
 import java.util.UUID;
 
 public interface DeleteApplicationsByProductIdUseCasePort {
     void deleteApplicationsByProductId(UUID productId);
+
+    /**
+     * Удаление заявок сразу по нескольким продуктам (пакет событий из Kafka) — одна set-based команда.
+     */
+    void deleteApplicationsByProductIds(Collection<UUID> productIds);
 }
@@ -1,7 +1,13 @@
 package com.example.applicationservice.domain.port.inbound;
 
+import java.util.Collection;
 import java.util.UUID;
 
 public interface DeleteApplicationsByUserIdUseCasePort {
     void deleteApplicationsByUserId(UUID userId);
+
+    /**
+     * Удаление заявок сразу по нескольким пользователям (пакет событий из Kafka) — одна set-based команда.
+     */
+    void deleteApplicationsByUserIds(Collection<UUID> userIds);
 }
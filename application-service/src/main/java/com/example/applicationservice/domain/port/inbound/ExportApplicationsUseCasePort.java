@@ -0,0 +1,13 @@
+package com.example.applicationservice.domain.port.inbound;
+
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import reactor.core.publisher.Flux;
+
+/**
+ * Выгрузка всех заявок (с фильтрами) одним потоком.
+ * Страницы читаются по мере запроса подписчика (backpressure), в памяти — не больше пары страниц.
+ */
+public interface ExportApplicationsUseCasePort {
+    Flux<ApplicationInfo> exportApplications(ApplicationFilter filter);
+}
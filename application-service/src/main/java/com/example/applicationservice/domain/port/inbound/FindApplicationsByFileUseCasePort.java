@@ -1,10 +1,9 @@
 package com.example.applicationservice.domain.port.inbound;
 
-import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.util.ApplicationPage;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface FindApplicationsByFileUseCasePort {
-    List<ApplicationInfo> findApplicationsByFile(UUID fileId);
+    ApplicationPage findApplicationsByFile(UUID fileId, String cursor, int limit);
 }
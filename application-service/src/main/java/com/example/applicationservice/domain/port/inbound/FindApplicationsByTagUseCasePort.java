@@ -1,9 +1,7 @@
 package com.example.applicationservice.domain.port.inbound;
 
-import com.example.applicationservice.domain.dto.ApplicationInfo;
-
-import java.util.List;
+import com.example.applicationservice.domain.util.ApplicationPage;
 
 public interface FindApplicationsByTagUseCasePort {
-    List<ApplicationInfo> findApplicationsByTag(String tagName);
+    ApplicationPage findApplicationsByTag(String tagName, String cursor, int limit);
 }
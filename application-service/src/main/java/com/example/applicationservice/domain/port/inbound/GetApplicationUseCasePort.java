@@ -7,4 +7,9 @@ import java.util.UUID;
 
 public interface GetApplicationUseCasePort {
     Optional<Application> findById(UUID id);
+
+    /**
+     * Текущая версия заявки без сборки агрегата — для If-None-Match.
+     */
+    Optional<Long> findVersion(UUID id);
 }
@@ -9,4 +9,10 @@ import java.util.List;
  */
 public interface ListApplicationsUseCasePort {
     List<Application> listApplications(int page, int size);
+
+    /**
+     * Страница без проверки файлов через file service: её выполняет вызывающий (неблокирующим портом).
+     * С read-моделью совпадает с listApplications — файлы там уже проверены.
+     */
+    List<Application> listApplicationsUnfiltered(int page, int size);
 }
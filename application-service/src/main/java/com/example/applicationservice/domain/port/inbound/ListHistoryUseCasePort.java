@@ -1,10 +1,16 @@
 package com.example.applicationservice.domain.port.inbound;
 
-import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+import com.example.applicationservice.domain.dto.HistoryVersion;
+import com.example.applicationservice.domain.util.HistoryPage;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface ListHistoryUseCasePort {
-    List<ApplicationHistory> listHistory(UUID applicationId, UUID actorId, String actorRoleClaim);
+    HistoryPage listHistory(UUID applicationId, String cursor, int limit, UUID actorId, String actorRoleClaim);
+
+    /**
+     * Версия заявки и число строк истории с той же проверкой прав, что и listHistory, но без чтения страницы —
+     * для If-None-Match.
+     */
+    HistoryVersion findVersion(UUID applicationId, UUID actorId, String actorRoleClaim);
 }
@@ -0,0 +1,10 @@
+package com.example.applicationservice.domain.port.inbound;
+
+import com.example.applicationservice.domain.model.entity.Application;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveChangeStatusUseCasePort {
+    Mono<Application> changeStatus(UUID applicationId, String status, UUID actorId, String actorRoleClaim);
+}
@@ -0,0 +1,11 @@
+package com.example.applicationservice.domain.port.inbound;
+
+import com.example.applicationservice.domain.dto.ApplicationCreateCommand;
+import com.example.applicationservice.domain.model.entity.Application;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveCreateApplicationUseCasePort {
+    Mono<Application> createApplication(ApplicationCreateCommand command, UUID actorId, String actorRoleClaim);
+}
@@ -0,0 +1,12 @@
+package com.example.applicationservice.domain.port.inbound;
+
+import com.example.applicationservice.domain.model.entity.Application;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveGetApplicationUseCasePort {
+    Mono<Application> findById(UUID id);
+
+    Mono<Long> findVersion(UUID id);
+}
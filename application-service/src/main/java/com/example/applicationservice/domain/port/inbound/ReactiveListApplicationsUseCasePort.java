@@ -0,0 +1,8 @@
+package com.example.applicationservice.domain.port.inbound;
+
+import com.example.applicationservice.domain.model.entity.Application;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveListApplicationsUseCasePort {
+    Flux<Application> listApplications(int page, int size);
+}
@@ -0,0 +1,13 @@
+package com.example.applicationservice.domain.port.inbound;
+
+import com.example.applicationservice.domain.dto.HistoryVersion;
+import com.example.applicationservice.domain.util.HistoryPage;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveListHistoryUseCasePort {
+    Mono<HistoryPage> listHistory(UUID applicationId, String cursor, int limit, UUID actorId, String actorRoleClaim);
+
+    Mono<HistoryVersion> findVersion(UUID applicationId, UUID actorId, String actorRoleClaim);
+}
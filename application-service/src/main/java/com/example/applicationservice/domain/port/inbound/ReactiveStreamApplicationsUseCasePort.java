@@ -0,0 +1,11 @@
+package com.example.applicationservice.domain.port.inbound;
+
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.util.ApplicationPage;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveStreamApplicationsUseCasePort {
+    Mono<ApplicationPage> streamWithNextCursor(String cursor, int limit);
+
+    Mono<ApplicationPage> streamWithNextCursor(ApplicationFilter filter, String cursor, int limit);
+}
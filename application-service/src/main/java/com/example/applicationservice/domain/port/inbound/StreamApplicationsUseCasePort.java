@@ -1,8 +1,16 @@
 package com.example.applicationservice.domain.port.inbound;
 
-import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.dto.ApplicationFilter;
 import com.example.applicationservice.domain.util.ApplicationPage;
 
 public interface StreamApplicationsUseCasePort {
     ApplicationPage streamWithNextCursor(String cursor, int limit);
+
+    ApplicationPage streamWithNextCursor(ApplicationFilter filter, String cursor, int limit);
+
+    /**
+     * Страница без проверки файлов через file service: её выполняет вызывающий (неблокирующим портом).
+     * С read-моделью совпадает со streamWithNextCursor — файлы там уже проверены.
+     */
+    ApplicationPage streamUnfiltered(ApplicationFilter filter, String cursor, int limit);
 }
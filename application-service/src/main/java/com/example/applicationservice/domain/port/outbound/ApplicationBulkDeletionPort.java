@@ -0,0 +1,14 @@
+package com.example.applicationservice.domain.port.outbound;
+
+import java.util.UUID;
+
+/**
+ * Фоновое удаление большого числа заявок порциями (каждая порция — своя транзакция).
+ * Задание записывается в текущей транзакции и выполняется после её коммита; незавершённое переживает рестарт.
+ */
+public interface ApplicationBulkDeletionPort {
+
+    void scheduleDeleteByApplicantId(UUID applicantId);
+
+    void scheduleDeleteByProductId(UUID productId);
+}
@@ -0,0 +1,24 @@
+package com.example.applicationservice.domain.port.outbound;
+
+import com.example.applicationservice.domain.model.entity.Application;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Кэш собранных заявок (с файлами и тегами) по id.
+ */
+public interface ApplicationCachePort {
+
+    Optional<Application> get(UUID id);
+
+    /**
+     * Кладёт заявку в кэш, если там нет записи с более новой версией.
+     */
+    void put(Application application);
+
+    /**
+     * Инвалидирует запись. Внутри транзакции запись сбрасывается ещё раз после коммита.
+     */
+    void evict(UUID id);
+}
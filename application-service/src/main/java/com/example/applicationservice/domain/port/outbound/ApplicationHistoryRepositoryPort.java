@@ -2,14 +2,28 @@ package com.example.applicationservice.domain.port.outbound;
 
 import com.example.applicationservice.domain.model.entity.ApplicationHistory;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 public interface ApplicationHistoryRepositoryPort {
 
-    ApplicationHistory save(ApplicationHistory history);
+    /**
+     * Единственный путь записи истории: строки ставятся в persistence context и уходят JDBC batch-ами
+     * при flush транзакции, поэтому одиночные вызовы (смена статуса) в одной транзакции тоже
+     * собираются в общий batch.
+     */
+    List<ApplicationHistory> saveAll(List<ApplicationHistory> history);
 
-    List<ApplicationHistory> findByApplicationIdOrderByChangedAtDesc(UUID applicationId);
+    /**
+     * Keyset-страница истории (changed_at DESC, id DESC); changedAt/id — последняя строка предыдущей страницы или null.
+     */
+    List<ApplicationHistory> findPageByApplicationId(UUID applicationId, Instant changedAt, UUID id, int limit);
+
+    /**
+     * Число хранимых строк истории заявки (часть ETag истории, см. HistoryVersion).
+     */
+    long countByApplicationId(UUID applicationId);
 
     void deleteByApplicationId(UUID applicationId);
 }
@@ -0,0 +1,23 @@
+package com.example.applicationservice.domain.port.outbound;
+
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.model.entity.Application;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Денормализованная read-модель заявок для list/stream: одна таблица, файлы уже проверены в file service.
+ * Обновляется асинхронно после коммита записи, поэтому может отставать от ApplicationRepositoryPort.
+ */
+public interface ApplicationReadModelPort {
+
+    /**
+     * Keyset-страница (created_at DESC, id DESC) с необязательными фильтрами, как ApplicationRepositoryPort#findInfoPage.
+     */
+    List<ApplicationInfo> findInfoPage(ApplicationFilter filter, Instant timestamp, UUID id, int limit);
+
+    List<Application> findAll(int page, int size);
+}
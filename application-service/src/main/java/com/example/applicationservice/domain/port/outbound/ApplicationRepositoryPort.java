@@ -1,8 +1,13 @@
 package com.example.applicationservice.domain.port.outbound;
 
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.dto.ApplicationVersion;
 import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,25 +16,81 @@ public interface ApplicationRepositoryPort {
 
     Application save(Application application);
 
+    /**
+     * Пакетная вставка новых заявок вместе с файлами и тегами (batched statements, без чтения обратно).
+     */
+    void insertAll(List<Application> applications);
+
     Optional<Application> findById(UUID id);
 
     Optional<Application> findByIdWithFiles(UUID id);
 
     Optional<Application> findByIdWithTags(UUID id);
 
+    /**
+     * Только applicant_id — для проверки прав без загрузки агрегата.
+     */
+    Optional<UUID> findApplicantIdById(UUID id);
+
+    /**
+     * applicant_id и version одним чтением по PK — для ETag и условных GET.
+     */
+    Optional<ApplicationVersion> findVersionById(UUID id);
+
+    /**
+     * Добавляет только отсутствующие теги (INSERT ... ON CONFLICT DO NOTHING), остальные строки не трогает.
+     * Возвращает число добавленных; если оно больше нуля, версия заявки увеличивается.
+     */
+    int addTags(UUID applicationId, Collection<String> tagNames);
+
+    /**
+     * Удаляет только перечисленные теги. Возвращает число удалённых строк.
+     */
+    int removeTags(UUID applicationId, Collection<String> tagNames);
+
+    int addFiles(UUID applicationId, Collection<UUID> fileIds);
+
+    int removeFiles(UUID applicationId, Collection<UUID> fileIds);
+
+    /**
+     * Заявка с версией, файлами и тегами одним SQL-запросом, мимо persistence context:
+     * повторное чтение в той же транзакции видит закоммиченные чужие изменения.
+     */
+    Optional<Application> findSnapshotById(UUID id);
+
+    /**
+     * Обновляет статус, если версия совпадает (optimistic lock).
+     * Возвращает false, если заявку успели изменить.
+     */
+    boolean updateStatus(UUID id, ApplicationStatus status, Instant updatedAt, Long expectedVersion);
+
     List<Application> findAll(int page, int size);
 
-    List<UUID> findIdsFirstPage(int limit);
+    /**
+     * Keyset-страница (created_at DESC, id DESC) одним запросом: колонки заявки + файлы и теги.
+     * timestamp == null — первая страница.
+     */
+    List<ApplicationInfo> findInfoPage(Instant timestamp, UUID id, int limit);
 
-    List<UUID> findIdsByKeyset(Instant timestamp, UUID id, int limit);
+    /**
+     * То же, с необязательными фильтрами по статусу, продукту и диапазону created_at.
+     */
+    List<ApplicationInfo> findInfoPage(ApplicationFilter filter, Instant timestamp, UUID id, int limit);
 
     List<Application> findByIdsWithTags(List<UUID> ids);
 
     List<Application> findByIdsWithFiles(List<UUID> ids);
 
-    List<Application> findByTag(String tagName);
+    /**
+     * Заявки с тегом, keyset по application_id (индекс (tag_name, application_id)).
+     * Только колонки заявки — файлы и теги не загружаются. afterId == null — первая страница.
+     */
+    List<ApplicationInfo> findInfoPageByTag(String tagName, UUID afterId, int limit);
 
-    List<Application> findByFile(UUID fileId);
+    /**
+     * То же для файла (индекс (file_id, application_id)).
+     */
+    List<ApplicationInfo> findInfoPageByFile(UUID fileId, UUID afterId, int limit);
 
     void deleteFilesByApplicationId(UUID applicationId);
 
@@ -39,6 +100,14 @@ public interface ApplicationRepositoryPort {
 
     List<UUID> findIdsByApplicantId(UUID applicantId);
 
+    /**
+     * Удаляет не более limit заявок указанных заявителей одним запросом; файлы, теги и история уходят каскадом FK.
+     * Возвращает id удалённых заявок.
+     */
+    List<UUID> deleteByApplicantIds(Collection<UUID> applicantIds, int limit);
+
+    List<UUID> deleteByProductIds(Collection<UUID> productIds, int limit);
+
     List<UUID> findIdsByProductId(UUID productId);
 
     long count();
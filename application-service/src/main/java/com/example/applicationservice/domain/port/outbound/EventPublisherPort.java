@@ -3,6 +3,8 @@ package com.example.applicationservice.domain.port.outbound;
 import com.example.applicationservice.domain.event.FileEvent;
 import com.example.applicationservice.domain.event.TagEvent;
 
+import java.util.List;
+
 /**
  * Порт для публикации событий в шину (kafka).
  */
@@ -10,4 +12,8 @@ public interface EventPublisherPort {
     void publishTagCreateRequest(TagEvent event);
     void publishTagAttachRequest(TagEvent event);
     void publishFileAttachRequest(FileEvent event);
+
+    // пакетные варианты: одна отправка на топик вместо отправки на каждое событие
+    void publishTagCreateRequests(List<TagEvent> events);
+    void publishFileAttachRequests(List<FileEvent> events);
 }
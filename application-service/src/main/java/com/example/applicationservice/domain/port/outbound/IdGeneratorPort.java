@@ -0,0 +1,13 @@
+package com.example.applicationservice.domain.port.outbound;
+
+import java.util.UUID;
+
+/**
+ * Генератор первичных ключей для новых строк (заявки, история).
+ * Колонки остаются типа UUID; реализация выбирается свойством application.ids.generator.
+ */
+@FunctionalInterface
+public interface IdGeneratorPort {
+
+    UUID newId();
+}
@@ -0,0 +1,20 @@
+package com.example.applicationservice.domain.port.outbound;
+
+import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface ReactiveApplicationHistoryRepositoryPort {
+
+    Mono<ApplicationHistory> save(ApplicationHistory history);
+
+    Flux<ApplicationHistory> findPageByApplicationId(UUID applicationId, Instant changedAt, UUID id, int limit);
+
+    /**
+     * Число хранимых строк истории заявки (часть ETag истории, см. HistoryVersion).
+     */
+    Mono<Long> countByApplicationId(UUID applicationId);
+}
@@ -0,0 +1,19 @@
+package com.example.applicationservice.domain.port.outbound;
+
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.model.entity.Application;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Реактивный вариант ApplicationReadModelPort.
+ */
+public interface ReactiveApplicationReadModelPort {
+
+    Flux<ApplicationInfo> findInfoPage(ApplicationFilter filter, Instant timestamp, UUID id, int limit);
+
+    Flux<Application> findAll(int page, int size);
+}
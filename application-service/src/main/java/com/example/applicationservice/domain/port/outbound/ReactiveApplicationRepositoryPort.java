@@ -0,0 +1,50 @@
+package com.example.applicationservice.domain.port.outbound;
+
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.dto.ApplicationVersion;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Реактивный (неблокирующий) вариант ApplicationRepositoryPort.
+ * Все методы чтения возвращают полностью собранные заявки (с файлами и тегами).
+ */
+public interface ReactiveApplicationRepositoryPort {
+
+    Mono<Application> insert(Application application);
+
+    Mono<Application> findById(UUID id);
+
+    /**
+     * Заявка с версией, файлами и тегами одним SQL-запросом (вместо трёх в findById);
+     * используется для перечитывания в цикле повторов смены статуса.
+     */
+    Mono<Application> findSnapshotById(UUID id);
+
+    /**
+     * applicant_id и version одним чтением по PK, без файлов и тегов.
+     */
+    Mono<ApplicationVersion> findVersionById(UUID id);
+
+    Flux<Application> findAll(int page, int size);
+
+    /**
+     * Keyset-страница (created_at DESC, id DESC) одним запросом: колонки заявки + файлы и теги.
+     * timestamp == null — первая страница.
+     */
+    Flux<ApplicationInfo> findInfoPage(Instant timestamp, UUID id, int limit);
+
+    Flux<ApplicationInfo> findInfoPage(ApplicationFilter filter, Instant timestamp, UUID id, int limit);
+
+    /**
+     * Обновляет статус, если версия совпадает (optimistic lock).
+     * Возвращает false, если заявку успели изменить.
+     */
+    Mono<Boolean> updateStatus(UUID id, ApplicationStatus status, Instant updatedAt, Long expectedVersion);
+}
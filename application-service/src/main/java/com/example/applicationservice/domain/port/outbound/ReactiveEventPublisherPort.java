@@ -0,0 +1,14 @@
+package com.example.applicationservice.domain.port.outbound;
+
+import com.example.applicationservice.domain.event.FileEvent;
+import com.example.applicationservice.domain.event.TagEvent;
+import reactor.core.publisher.Mono;
+
+/**
+ * Реактивный вариант EventPublisherPort для R2DBC use case-ов.
+ * Ошибка публикации приходит в Mono: при outbox она откатывает реактивную транзакцию вместе с данными.
+ */
+public interface ReactiveEventPublisherPort {
+    Mono<Void> publishTagCreateRequest(TagEvent event);
+    Mono<Void> publishFileAttachRequest(FileEvent event);
+}
@@ -0,0 +1,14 @@
+package com.example.applicationservice.domain.port.outbound;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReactiveFileServicePort {
+    /**
+     * Возвращает список существующих из переданных идентификаторов.
+     * При недоступности — ошибка или пустой Mono.
+     */
+    Mono<List<UUID>> checkFilesExist(List<UUID> fileIds);
+}
@@ -0,0 +1,9 @@
+package com.example.applicationservice.domain.port.outbound;
+
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveProductServicePort {
+    Mono<Boolean> productExists(UUID productId);
+}
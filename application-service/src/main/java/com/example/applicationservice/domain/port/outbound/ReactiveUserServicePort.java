@@ -0,0 +1,13 @@
+package com.example.applicationservice.domain.port.outbound;
+
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Неблокирующий порт для user-service.
+ * true/false при успехе, пустой Mono или ошибка — на недоступность.
+ */
+public interface ReactiveUserServicePort {
+    Mono<Boolean> userExists(UUID userId);
+}
@@ -0,0 +1,32 @@
+package com.example.applicationservice.domain.util;
+
+import com.example.applicationservice.domain.dto.HistoryVersion;
+import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+
+import java.util.List;
+
+/**
+ * Страница истории заявки с cursor-ом (domain-level)
+ */
+public class HistoryPage {
+    private final List<ApplicationHistory> items;
+    private final String nextCursor;
+    private final HistoryVersion version;
+
+    public HistoryPage(List<ApplicationHistory> items, String nextCursor) {
+        this(items, nextCursor, null);
+    }
+
+    /**
+     * @param version версия заявки и число строк истории, прочитанные до страницы истории (источник ETag)
+     */
+    public HistoryPage(List<ApplicationHistory> items, String nextCursor, HistoryVersion version) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.version = version;
+    }
+
+    public List<ApplicationHistory> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+    public HistoryVersion getVersion() { return version; }
+}
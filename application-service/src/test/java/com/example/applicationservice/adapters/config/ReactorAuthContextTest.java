@@ -0,0 +1,63 @@
+package com.example.applicationservice.adapters.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactorAuthContextTest {
+
+    @Test
+    void propagate_addsAuthorizationFromContext_acrossThreadHop() {
+        AtomicReference<ClientRequest> sent = new AtomicReference<>();
+        WebClient client = WebClient.builder()
+                .filter(ReactorAuthContext.propagate())
+                .exchangeFunction(request -> {
+                    sent.set(request);
+                    return Mono.just(ClientResponse.create(HttpStatus.OK).body("true").build());
+                })
+                .build();
+
+        Mono<String> call = Mono.just("go")
+                .publishOn(Schedulers.parallel())
+                .flatMap(x -> client.get().uri("http://user-service/x").retrieve().bodyToMono(String.class))
+                .contextWrite(ReactorAuthContext.with("Bearer token"));
+
+        StepVerifier.create(call).expectNext("true").verifyComplete();
+        assertEquals("Bearer token", sent.get().headers().getFirst(HttpHeaders.AUTHORIZATION));
+    }
+
+    @Test
+    void propagate_withoutContext_sendsNoAuthorization() {
+        AtomicReference<ClientRequest> sent = new AtomicReference<>();
+        WebClient client = WebClient.builder()
+                .filter(ReactorAuthContext.propagate())
+                .exchangeFunction(request -> {
+                    sent.set(request);
+                    return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+                })
+                .build();
+
+        StepVerifier.create(client.get().uri("http://user-service/x").retrieve().toBodilessEntity())
+                .expectNextCount(1)
+                .verifyComplete();
+        assertNull(sent.get().headers().getFirst(HttpHeaders.AUTHORIZATION));
+    }
+
+    @Test
+    void blocking_setsAuthHeaderHolderOnWorkerThread() {
+        Mono<String> call = ReactorAuthContext.blocking(AuthHeaderHolder::get)
+                .contextWrite(ReactorAuthContext.with("Bearer token"));
+
+        StepVerifier.create(call).expectNext("Bearer token").verifyComplete();
+    }
+}
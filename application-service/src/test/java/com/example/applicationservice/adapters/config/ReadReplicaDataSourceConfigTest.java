@@ -0,0 +1,41 @@
+package com.example.applicationservice.adapters.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadReplicaDataSourceConfigTest {
+
+    @Test
+    void pool_inheritsSpringDatasourceHikariSettings() {
+        HikariConfig template = new ReadReplicaDataSourceConfig().readReplicaHikariConfig();
+        new Binder(new MapConfigurationPropertySource(Map.of(
+                "spring.datasource.hikari.maximum-pool-size", "25",
+                "spring.datasource.hikari.connection-timeout", "1500",
+                "spring.datasource.hikari.max-lifetime", "600000",
+                "spring.datasource.hikari.leak-detection-threshold", "20000",
+                "spring.datasource.hikari.pool-name", "ignored")))
+                .bind("spring.datasource.hikari", Bindable.ofInstance(template));
+
+        try (HikariDataSource pool = ReadReplicaDataSourceConfig.pool(template, "replica-0", "jdbc:postgresql://replica:5432/app",
+                "reader", "secret", "org.postgresql.Driver", new SimpleMeterRegistry())) {
+            assertEquals("replica-0", pool.getPoolName());
+            assertEquals("jdbc:postgresql://replica:5432/app", pool.getJdbcUrl());
+            assertEquals("reader", pool.getUsername());
+            assertEquals(25, pool.getMaximumPoolSize());
+            assertEquals(1500, pool.getConnectionTimeout());
+            assertEquals(600000, pool.getMaxLifetime());
+            assertEquals(20000, pool.getLeakDetectionThreshold());
+        }
+        // шаблон не меняется: каждый маршрут получает свою копию
+        assertEquals("ignored", template.getPoolName());
+    }
+}
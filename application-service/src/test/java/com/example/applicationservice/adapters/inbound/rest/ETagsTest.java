@@ -0,0 +1,35 @@
+package com.example.applicationservice.adapters.inbound.rest;
+
+import com.example.applicationservice.domain.dto.HistoryVersion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagsTest {
+
+    @Test
+    void of_quotesVersion_nullAsZero() {
+        assertEquals("\"5\"", ETags.of(5L));
+        assertEquals("\"0\"", ETags.of(null));
+    }
+
+    @Test
+    void of_historyVersion_changesWhenRetentionDropsRows() {
+        // отсоединение партиции не меняет версию заявки, но меняет число строк
+        assertEquals("\"5-12\"", ETags.ofHistory(new HistoryVersion(5L, 12L)));
+        assertNotEquals(ETags.ofHistory(new HistoryVersion(5L, 12L)), ETags.ofHistory(new HistoryVersion(5L, 7L)));
+    }
+
+    @Test
+    void matches_weakComparisonAndWildcard() {
+        String etag = ETags.of(5L);
+
+        assertTrue(ETags.matches(List.of("\"4\"", " \"5\""), etag));
+        assertTrue(ETags.matches(List.of("W/\"5\""), etag));
+        assertTrue(ETags.matches(List.of("*"), etag));
+        assertFalse(ETags.matches(List.of("\"6\""), etag));
+        assertFalse(ETags.matches(null, etag));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.applicationservice.adapters.inbound.transaction;
+
+import com.example.applicationservice.application.exception.ServiceUnavailableException;
+import com.example.applicationservice.domain.dto.ApplicationCreateCommand;
+import com.example.applicationservice.domain.port.outbound.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Проверки user/product выполняются до TransactionalOperator: соединение R2DBC берётся только под запись.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveCreateApplicationUseCaseTransactionalDecoratorTest {
+
+    @Mock ReactiveApplicationRepositoryPort repo;
+    @Mock ReactiveApplicationHistoryRepositoryPort historyRepo;
+    @Mock ReactiveUserServicePort userService;
+    @Mock ReactiveProductServicePort productService;
+    @Mock ReactiveEventPublisherPort eventPublisher;
+    @Mock TransactionalOperator tx;
+
+    ReactiveCreateApplicationUseCaseTransactionalDecorator decorator;
+
+    @BeforeEach
+    void setUp() {
+        decorator = new ReactiveCreateApplicationUseCaseTransactionalDecorator(repo, historyRepo, userService, productService,
+                eventPublisher, tx, UUID::randomUUID);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void create_checksRunBeforeTransaction() {
+        UUID applicant = UUID.randomUUID();
+        ApplicationCreateCommand cmd = command(applicant);
+        when(userService.userExists(applicant)).thenReturn(Mono.just(true));
+        when(productService.productExists(cmd.getProductId())).thenReturn(Mono.just(true));
+        when(tx.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(repo.insert(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        when(historyRepo.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        when(eventPublisher.publishFileAttachRequest(any())).thenReturn(Mono.empty());
+        when(eventPublisher.publishTagCreateRequest(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(decorator.createApplication(cmd, applicant, "ROLE_CLIENT"))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        InOrder order = inOrder(userService, productService, tx, repo);
+        order.verify(userService).userExists(applicant);
+        order.verify(tx).transactional(any(Mono.class));
+        order.verify(repo).insert(any());
+        verify(productService).productExists(cmd.getProductId());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void create_checkFails_noTransaction() {
+        UUID applicant = UUID.randomUUID();
+        ApplicationCreateCommand cmd = command(applicant);
+        when(userService.userExists(applicant)).thenReturn(Mono.error(new RuntimeException("down")));
+        when(productService.productExists(cmd.getProductId())).thenReturn(Mono.just(true));
+
+        StepVerifier.create(decorator.createApplication(cmd, applicant, "ROLE_CLIENT"))
+                .expectError(ServiceUnavailableException.class)
+                .verify();
+
+        verify(tx, never()).transactional(any(Mono.class));
+        verifyNoInteractions(repo, historyRepo, eventPublisher);
+    }
+
+    private ApplicationCreateCommand command(UUID applicant) {
+        ApplicationCreateCommand cmd = new ApplicationCreateCommand();
+        cmd.setApplicantId(applicant);
+        cmd.setProductId(UUID.randomUUID());
+        cmd.setFiles(List.of(UUID.randomUUID()));
+        cmd.setTags(List.of("t1"));
+        return cmd;
+    }
+}
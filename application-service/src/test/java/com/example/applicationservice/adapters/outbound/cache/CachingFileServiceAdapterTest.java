@@ -0,0 +1,90 @@
+package com.example.applicationservice.adapters.outbound.cache;
+
+import com.example.applicationservice.adapters.outbound.feign.FileServiceAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachingFileServiceAdapterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final FileServiceAdapter delegate = mock(FileServiceAdapter.class);
+    private CachingFileServiceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachingFileServiceAdapter(delegate, new SimpleMeterRegistry(), 1000,
+                Duration.ofMinutes(10), Duration.ofMinutes(1), nanos::get);
+    }
+
+    @Test
+    void checkFilesExist_asksOnlyForUnknownIds() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        when(delegate.checkFilesExist(List.of(a, b))).thenReturn(List.of(a));
+        when(delegate.checkFilesExist(List.of(c))).thenReturn(List.of(c));
+
+        assertEquals(List.of(a), adapter.checkFilesExist(List.of(a, b, a)));
+        assertEquals(List.of(a, c), adapter.checkFilesExist(List.of(a, b, c)));
+
+        verify(delegate).checkFilesExist(List.of(a, b));
+        verify(delegate).checkFilesExist(List.of(c));
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    void checkFilesExist_negativeExpiresBeforePositive() {
+        UUID present = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(delegate.checkFilesExist(List.of(present, missing))).thenReturn(List.of(present));
+        when(delegate.checkFilesExist(List.of(missing))).thenReturn(List.of(missing));
+
+        adapter.checkFilesExist(List.of(present, missing));
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        // «нет» истекло (1 мин), «есть» ещё живо (10 мин): в file-service уходит только missing
+        assertEquals(List.of(present, missing), adapter.checkFilesExist(List.of(present, missing)));
+        verify(delegate).checkFilesExist(List.of(missing));
+
+        nanos.addAndGet(Duration.ofMinutes(9).toNanos());
+        when(delegate.checkFilesExist(List.of(present))).thenReturn(List.of());
+        assertEquals(List.of(missing), adapter.checkFilesExist(List.of(present, missing)));
+    }
+
+    @Test
+    void checkFilesExist_nullOrErrorNotCached() {
+        UUID id = UUID.randomUUID();
+        when(delegate.checkFilesExist(List.of(id)))
+                .thenReturn(null)
+                .thenThrow(new IllegalStateException("down"))
+                .thenReturn(List.of(id));
+
+        assertNull(adapter.checkFilesExist(List.of(id)));
+        assertThrows(IllegalStateException.class, () -> adapter.checkFilesExist(List.of(id)));
+        assertEquals(List.of(id), adapter.checkFilesExist(List.of(id)));
+        assertEquals(List.of(id), adapter.checkFilesExist(List.of(id)));
+        verify(delegate, times(3)).checkFilesExist(any());
+    }
+
+    @Test
+    void markDeleted_overridesPositiveWithoutCallingFileService() {
+        UUID id = UUID.randomUUID();
+        when(delegate.checkFilesExist(List.of(id))).thenReturn(List.of(id));
+        adapter.checkFilesExist(List.of(id));
+
+        adapter.markDeleted(id);
+
+        assertEquals(List.of(), adapter.checkFilesExist(List.of(id)));
+        verify(delegate, times(1)).checkFilesExist(any());
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.applicationservice.adapters.outbound.cache;
+
+import com.example.applicationservice.adapters.outbound.feign.ProductServiceAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingProductServiceAdapterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final ProductServiceAdapter delegate = mock(ProductServiceAdapter.class);
+    private CachingProductServiceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachingProductServiceAdapter(delegate, new SimpleMeterRegistry(), 1000, Duration.ofMinutes(30), nanos::get);
+    }
+
+    @Test
+    void productExists_positiveCachedUntilTtl() {
+        UUID id = UUID.randomUUID();
+        when(delegate.productExists(id)).thenReturn(true);
+
+        assertTrue(adapter.productExists(id));
+        nanos.addAndGet(Duration.ofMinutes(29).toNanos());
+        assertTrue(adapter.productExists(id));
+        verify(delegate, times(1)).productExists(id);
+
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertTrue(adapter.productExists(id));
+        verify(delegate, times(2)).productExists(id);
+    }
+
+    @Test
+    void productExists_falseNullAndErrorNotCached() {
+        UUID id = UUID.randomUUID();
+        when(delegate.productExists(id))
+                .thenReturn(false)
+                .thenReturn(null)
+                .thenThrow(new IllegalStateException("down"))
+                .thenReturn(true);
+
+        assertFalse(adapter.productExists(id));
+        assertNull(adapter.productExists(id));
+        assertThrows(IllegalStateException.class, () -> adapter.productExists(id));
+        assertTrue(adapter.productExists(id));
+        assertTrue(adapter.productExists(id));
+        verify(delegate, times(4)).productExists(id);
+    }
+
+    @Test
+    void evict_forcesRecheck() {
+        UUID id = UUID.randomUUID();
+        when(delegate.productExists(id)).thenReturn(true, false);
+        adapter.productExists(id);
+
+        adapter.evict(id);
+
+        assertFalse(adapter.productExists(id));
+        verify(delegate, times(2)).productExists(id);
+    }
+}
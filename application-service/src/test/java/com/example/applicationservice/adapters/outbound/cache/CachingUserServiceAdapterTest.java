@@ -0,0 +1,69 @@
+package com.example.applicationservice.adapters.outbound.cache;
+
+import com.example.applicationservice.adapters.outbound.feign.UserServiceAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingUserServiceAdapterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final UserServiceAdapter delegate = mock(UserServiceAdapter.class);
+    private CachingUserServiceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachingUserServiceAdapter(delegate, new SimpleMeterRegistry(), 1000, Duration.ofMinutes(30), nanos::get);
+    }
+
+    @Test
+    void userExists_positiveCachedUntilTtl() {
+        UUID id = UUID.randomUUID();
+        when(delegate.userExists(id)).thenReturn(true);
+
+        assertTrue(adapter.userExists(id));
+        nanos.addAndGet(Duration.ofMinutes(29).toNanos());
+        assertTrue(adapter.userExists(id));
+        verify(delegate, times(1)).userExists(id);
+
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertTrue(adapter.userExists(id));
+        verify(delegate, times(2)).userExists(id);
+    }
+
+    @Test
+    void userExists_falseNullAndErrorNotCached() {
+        UUID id = UUID.randomUUID();
+        when(delegate.userExists(id))
+                .thenReturn(false)
+                .thenReturn(null)
+                .thenThrow(new IllegalStateException("down"))
+                .thenReturn(true);
+
+        assertFalse(adapter.userExists(id));
+        assertNull(adapter.userExists(id));
+        assertThrows(IllegalStateException.class, () -> adapter.userExists(id));
+        assertTrue(adapter.userExists(id));
+        assertTrue(adapter.userExists(id));
+        verify(delegate, times(4)).userExists(id);
+    }
+
+    @Test
+    void evict_forcesRecheck() {
+        UUID id = UUID.randomUUID();
+        when(delegate.userExists(id)).thenReturn(true, false);
+        adapter.userExists(id);
+
+        adapter.evict(id);
+
+        assertFalse(adapter.userExists(id));
+        verify(delegate, times(2)).userExists(id);
+    }
+}
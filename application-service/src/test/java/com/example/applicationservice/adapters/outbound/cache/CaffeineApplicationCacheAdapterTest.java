@@ -0,0 +1,100 @@
+package com.example.applicationservice.adapters.outbound.cache;
+
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaffeineApplicationCacheAdapterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private CaffeineApplicationCacheAdapter cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CaffeineApplicationCacheAdapter(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5), nanos::get);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void put_olderVersionDoesNotReplaceNewer() {
+        UUID id = UUID.randomUUID();
+        cache.put(application(id, 3L, ApplicationStatus.APPROVED));
+        cache.put(application(id, 2L, ApplicationStatus.SUBMITTED));
+
+        assertEquals(ApplicationStatus.APPROVED, cache.get(id).orElseThrow().getStatus());
+
+        cache.put(application(id, 4L, ApplicationStatus.REJECTED));
+        assertEquals(4L, cache.get(id).orElseThrow().getVersion());
+    }
+
+    @Test
+    void get_returnsCopy() {
+        UUID id = UUID.randomUUID();
+        Application original = application(id, 1L, ApplicationStatus.SUBMITTED);
+        cache.put(original);
+        original.setStatus(ApplicationStatus.APPROVED);
+
+        Application cached = cache.get(id).orElseThrow();
+        cached.getTags().add("mutated");
+
+        assertEquals(ApplicationStatus.SUBMITTED, cache.get(id).orElseThrow().getStatus());
+        assertEquals(Set.of("t1"), cache.get(id).orElseThrow().getTags());
+    }
+
+    @Test
+    void get_expiresAfterTtl() {
+        UUID id = UUID.randomUUID();
+        cache.put(application(id, 1L, ApplicationStatus.SUBMITTED));
+
+        nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+        assertTrue(cache.get(id).isPresent());
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertTrue(cache.get(id).isEmpty());
+    }
+
+    @Test
+    void evict_inTransaction_invalidatesAgainAfterCommit() {
+        UUID id = UUID.randomUUID();
+        cache.put(application(id, 1L, ApplicationStatus.SUBMITTED));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(id);
+        assertTrue(cache.get(id).isEmpty());
+
+        // параллельное чтение до коммита вернуло в кэш старую версию
+        cache.put(application(id, 1L, ApplicationStatus.SUBMITTED));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertTrue(cache.get(id).isEmpty());
+    }
+
+    private static Application application(UUID id, long version, ApplicationStatus status) {
+        Application a = new Application();
+        a.setId(id);
+        a.setApplicantId(UUID.randomUUID());
+        a.setProductId(UUID.randomUUID());
+        a.setStatus(status);
+        a.setVersion(version);
+        a.setTags(new HashSet<>(Set.of("t1")));
+        return a;
+    }
+}
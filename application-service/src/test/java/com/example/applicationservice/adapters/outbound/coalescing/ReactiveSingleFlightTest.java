@@ -0,0 +1,139 @@
+package com.example.applicationservice.adapters.outbound.coalescing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveSingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void execute_concurrentSubscriptions_shareOneCall() {
+        ReactiveSingleFlight<String, Boolean> singleFlight = new ReactiveSingleFlight<>("test", registry);
+        Sinks.One<Boolean> response = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+
+        Mono<Boolean> first = singleFlight.execute("p1", () -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        });
+        Mono<Boolean> second = singleFlight.execute("p1", () -> {
+            calls.incrementAndGet();
+            return Mono.just(false);
+        });
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> response.tryEmitValue(true))
+                .assertNext(both -> {
+                    assertTrue(both.getT1());
+                    assertTrue(both.getT2());
+                })
+                .verifyComplete();
+        assertEquals(1, calls.get());
+        assertEquals(1.0, registry.counter("application.downstream.coalesced", "call", "test").count());
+
+        // ключ освобождён — следующий запрос идёт заново
+        StepVerifier.create(singleFlight.execute("p1", () -> Mono.just(false))).expectNext(false).verifyComplete();
+    }
+
+    @Test
+    void execute_leaderContextIsUsedForSharedCall() {
+        ReactiveSingleFlight<String, String> singleFlight = new ReactiveSingleFlight<>("test", registry);
+
+        Mono<String> call = singleFlight.execute("p1", () -> Mono.deferContextual(ctx -> Mono.just(ctx.<String>get("auth"))))
+                .contextWrite(ctx -> ctx.put("auth", "Bearer leader"));
+
+        StepVerifier.create(call).expectNext("Bearer leader").verifyComplete();
+    }
+
+    @Test
+    void executeAll_overlappingKeys_onlyMissingKeysAreRequested() {
+        ReactiveSingleFlight<String, Set<String>> singleFlight = new ReactiveSingleFlight<>("batch", registry);
+        Sinks.One<Set<String>> firstResponse = Sinks.one();
+        List<List<String>> requested = new ArrayList<>();
+
+        Mono<Map<String, Set<String>>> first = singleFlight.executeAll(List.of("a", "b"), ids -> {
+            requested.add(ids);
+            return firstResponse.asMono();
+        });
+        Mono<Map<String, Set<String>>> second = singleFlight.executeAll(List.of("b", "c"), ids -> {
+            requested.add(ids);
+            return Mono.just(Set.of("c"));
+        });
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> firstResponse.tryEmitValue(Set.of("b")))
+                .assertNext(both -> {
+                    assertEquals(Set.of("b"), both.getT2().get("b"));
+                    assertEquals(Set.of("c"), both.getT2().get("c"));
+                })
+                .verifyComplete();
+        assertEquals(List.of(List.of("a", "b"), List.of("c")), requested);
+    }
+
+    @Test
+    void execute_leaderFailure_followerRetriesInOwnContext() {
+        ReactiveSingleFlight<String, String> singleFlight = new ReactiveSingleFlight<>("test", registry);
+        Sinks.One<String> leaderResponse = Sinks.one();
+
+        Mono<String> leader = singleFlight.execute("p1", leaderResponse::asMono);
+        Mono<String> follower = singleFlight.execute("p1", () -> Mono.deferContextual(ctx -> Mono.just(ctx.<String>get("auth"))))
+                .contextWrite(ctx -> ctx.put("auth", "Bearer follower"));
+
+        StepVerifier.create(Mono.zip(leader.onErrorReturn("leader failed"), follower))
+                .then(() -> leaderResponse.tryEmitError(new IllegalStateException("401")))
+                .assertNext(both -> {
+                    assertEquals("leader failed", both.getT1());
+                    assertEquals("Bearer follower", both.getT2());
+                })
+                .verifyComplete();
+        assertEquals(2.0, registry.counter("application.downstream.calls", "call", "test").count());
+    }
+
+    @Test
+    void executeAll_joinedEmpty_retriesJoinedKeysInOneCall() {
+        ReactiveSingleFlight<String, Set<String>> singleFlight = new ReactiveSingleFlight<>("batch", registry);
+        Sinks.One<Set<String>> firstResponse = Sinks.one();
+        List<List<String>> requested = new ArrayList<>();
+
+        Mono<Map<String, Set<String>>> first = singleFlight.executeAll(List.of("a", "b"), ids -> {
+            requested.add(ids);
+            return firstResponse.asMono();
+        });
+        Mono<Map<String, Set<String>>> second = singleFlight.executeAll(List.of("a", "b"), ids -> {
+            requested.add(ids);
+            return Mono.just(Set.of("a"));
+        });
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(firstResponse::tryEmitEmpty)
+                .assertNext(both -> {
+                    assertNull(both.getT1().get("a"));
+                    assertEquals(Set.of("a"), both.getT2().get("a"));
+                    assertEquals(Set.of("a"), both.getT2().get("b"));
+                })
+                .verifyComplete();
+        assertEquals(2, requested.size());
+        assertEquals(Set.of("a", "b"), new HashSet<>(requested.get(1)));
+    }
+
+    @Test
+    void executeAll_emptyResult_mapsKeysToNull() {
+        ReactiveSingleFlight<String, Set<String>> singleFlight = new ReactiveSingleFlight<>("batch", registry);
+
+        StepVerifier.create(singleFlight.executeAll(List.of("a"), ids -> Mono.empty()))
+                .assertNext(result -> {
+                    assertTrue(result.containsKey("a"));
+                    assertNull(result.get("a"));
+                })
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.applicationservice.adapters.outbound.coalescing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight<String, Boolean> singleFlight = new SingleFlight<>("test", registry);
+    private final ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void execute_concurrentSameKey_sharesOneCall() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Boolean> leader = pool.submit(() -> singleFlight.execute("p1", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return true;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Boolean> follower = pool.submit(() -> singleFlight.execute("p1", () -> {
+            calls.incrementAndGet();
+            return false;
+        }));
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertTrue(leader.get(5, TimeUnit.SECONDS));
+        assertTrue(follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        assertEquals(1.0, registry.counter("application.downstream.calls", "call", "test").count());
+    }
+
+    @Test
+    void execute_afterCompletion_callsAgain() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("p1", () -> calls.incrementAndGet() > 0);
+        singleFlight.execute("p1", () -> calls.incrementAndGet() > 0);
+
+        assertEquals(2, calls.get());
+        assertEquals(0.0, registry.counter("application.downstream.coalesced", "call", "test").count());
+    }
+
+    @Test
+    void execute_failure_followersRetryWithOwnCall() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Boolean> leader = pool.submit(() -> singleFlight.execute("p1", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("401 for leader's token");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Boolean> follower = pool.submit(() -> singleFlight.execute("p1", () -> true));
+        awaitCoalesced(1);
+        release.countDown();
+
+        ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+        // ошибка ведущего не достаётся ожидающему — он вызывает сам
+        assertTrue(follower.get(5, TimeUnit.SECONDS));
+        assertEquals(2.0, registry.counter("application.downstream.calls", "call", "test").count());
+    }
+
+    @Test
+    void execute_nullResult_followersRetryWithOwnCall() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Boolean> leader = pool.submit(() -> singleFlight.execute("p1", () -> {
+            started.countDown();
+            await(release);
+            return null;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Boolean> follower = pool.submit(() -> singleFlight.execute("p1", () -> false));
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertNull(leader.get(5, TimeUnit.SECONDS));
+        assertFalse(follower.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void executeAll_joinedFailure_retriesJoinedKeysInOneCall() throws Exception {
+        SingleFlight<String, Set<String>> batch = new SingleFlight<>("batch", registry);
+        List<List<String>> requested = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Map<String, Set<String>>> first = pool.submit(() -> batch.executeAll(List.of("a", "b"), ids -> {
+            requested.add(ids);
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("down");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Map<String, Set<String>>> second = pool.submit(() -> batch.executeAll(List.of("a", "b"), ids -> {
+            requested.add(ids);
+            return Set.of("a");
+        }));
+        while (registry.counter("application.downstream.coalesced", "call", "batch").count() < 2) Thread.onSpinWait();
+        release.countDown();
+
+        assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        Map<String, Set<String>> result = second.get(5, TimeUnit.SECONDS);
+        assertEquals(Set.of("a"), result.get("a"));
+        assertEquals(Set.of("a"), result.get("b"));
+        assertEquals(2, requested.size());
+        assertEquals(Set.of("a", "b"), new HashSet<>(requested.get(1)));
+    }
+
+    @Test
+    void executeAll_overlappingKeys_onlyMissingKeysAreRequested() throws Exception {
+        SingleFlight<String, Set<String>> batch = new SingleFlight<>("batch", registry);
+        List<List<String>> requested = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Map<String, Set<String>>> first = pool.submit(() -> batch.executeAll(List.of("a", "b"), ids -> {
+            requested.add(ids);
+            started.countDown();
+            await(release);
+            return Set.of("b");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Map<String, Set<String>>> second = pool.submit(() -> batch.executeAll(List.of("b", "c"), ids -> {
+            requested.add(ids);
+            return Set.of("c");
+        }));
+        // «c» уходит сразу, «b» ждёт первого запроса
+        while (requested.size() < 2) Thread.onSpinWait();
+        release.countDown();
+
+        Map<String, Set<String>> result = second.get(5, TimeUnit.SECONDS);
+        first.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(List.of("a", "b"), List.of("c")), requested);
+        assertEquals(Set.of("b"), result.get("b"));
+        assertEquals(Set.of("c"), result.get("c"));
+        assertEquals(1.0, registry.counter("application.downstream.coalesced", "call", "batch").count());
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.counter("application.downstream.coalesced", "call", "test").count() < expected) {
+            if (System.nanoTime() > deadline) fail("follower did not join the in-flight call");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
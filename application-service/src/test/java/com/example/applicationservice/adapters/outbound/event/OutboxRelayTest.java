@@ -0,0 +1,162 @@
+package com.example.applicationservice.adapters.outbound.event;
+
+import com.example.applicationservice.domain.event.TagEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Outbox на схеме из Liquibase (changesets 6 и 12): OutboxEventPublisherAdapter пишет события в транзакции вызывающего,
+ * OutboxRelay арендует пачку, удаляет подтверждённые записи и сразу освобождает неподтверждённые.
+ * Нужен Docker, без него тест пропускается.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("outbox")
+            .withUsername("outbox")
+            .withPassword("outbox");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    static class JdbcSlice {
+    }
+
+    @Autowired
+    NamedParameterJdbcTemplate jdbc;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @SuppressWarnings("unchecked")
+    KafkaSender<String, String> sender = mock(KafkaSender.class);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    OutboxEventPublisherAdapter publisher;
+    OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.getJdbcTemplate().execute("TRUNCATE outbox_event");
+        publisher = new OutboxEventPublisherAdapter(jdbc, new ObjectMapper().findAndRegisterModules());
+        relay = new OutboxRelay(jdbc, transactionManager, sender, registry, 10,
+                Duration.ofSeconds(5), 1000, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void publisher_rollback_leavesNoEvents() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            publisher.publishTagCreateRequests(List.of(tagEvent(), tagEvent()));
+            status.setRollbackOnly();
+        });
+        assertEquals(0, count("SELECT count(*) FROM outbox_event"));
+
+        tx.executeWithoutResult(status -> publisher.publishTagCreateRequests(List.of(tagEvent(), tagEvent())));
+        assertEquals(2, count("SELECT count(*) FROM outbox_event"));
+    }
+
+    @Test
+    void relay_partialFailure_deletesAckedAndReleasesFailed() {
+        TagEvent ok = tagEvent();
+        TagEvent broken = tagEvent();
+        publisher.publishTagCreateRequests(List.of(ok, broken));
+        // stopOnError(false): ошибка записи приходит в SenderResult, поток не обрывается
+        when(sender.send(any())).thenAnswer(inv -> {
+            Publisher<SenderRecord<String, String, Object>> records = inv.getArgument(0);
+            return Flux.from(records).map(r -> result(r.correlationMetadata(),
+                    r.key().equals(broken.getEventId().toString()) ? new RuntimeException("broker down") : null));
+        });
+
+        assertEquals(0, relay.relayBatch());
+
+        assertEquals(1, count("SELECT count(*) FROM outbox_event"));
+        assertEquals(1, count("SELECT count(*) FROM outbox_event WHERE id = '" + broken.getEventId() + "' AND claimed_until IS NULL"));
+        assertEquals(1.0, registry.get("application.outbox.relay.sent").counter().count());
+        assertEquals(1.0, registry.get("application.outbox.relay.failed").counter().count());
+    }
+
+    @Test
+    void relay_skipsRowsLeasedByAnotherInstance() {
+        TagEvent leased = tagEvent();
+        publisher.publishTagCreateRequests(List.of(leased, tagEvent()));
+        jdbc.update("UPDATE outbox_event SET claimed_until = now() + interval '1 minute' WHERE id = :id",
+                new MapSqlParameterSource("id", leased.getEventId()));
+        when(sender.send(any())).thenAnswer(inv -> {
+            Publisher<SenderRecord<String, String, Object>> records = inv.getArgument(0);
+            return Flux.from(records).map(r -> result(r.correlationMetadata(), null));
+        });
+
+        assertEquals(1, relay.relayBatch());
+
+        assertEquals(Set.of(leased.getEventId()), Set.copyOf(jdbc.getJdbcTemplate().queryForList("SELECT id FROM outbox_event", UUID.class)));
+    }
+
+    private static TagEvent tagEvent() {
+        return new TagEvent(UUID.randomUUID(), "TAG_CREATE_REQUEST", UUID.randomUUID(), UUID.randomUUID(), List.of("vip"));
+    }
+
+    private static <T> SenderResult<T> result(T correlation, Exception exception) {
+        return new SenderResult<>() {
+            @Override
+            public RecordMetadata recordMetadata() {
+                return null;
+            }
+
+            @Override
+            public Exception exception() {
+                return exception;
+            }
+
+            @Override
+            public T correlationMetadata() {
+                return correlation;
+            }
+        };
+    }
+
+    private int count(String sql) {
+        return jdbc.getJdbcTemplate().queryForObject(sql, Integer.class);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.applicationservice.adapters.outbound.hedge;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void execute_slowPrimary_hedgeWins() {
+        Hedger hedger = new Hedger("test", registry, 0.95, Duration.ofMillis(10), Duration.ofMillis(20), 1.0);
+
+        Mono<String> call = hedger.execute(attempt -> attempt == 0
+                ? Mono.just("slow").delayElement(Duration.ofSeconds(5))
+                : Mono.just("hedge"));
+
+        StepVerifier.create(call).expectNext("hedge").verifyComplete();
+        assertEquals(1.0, registry.get("application.downstream.hedge.wins").counter().count());
+    }
+
+    @Test
+    void execute_primaryFails_errorIsNotDelayed() {
+        Hedger hedger = new Hedger("test", registry, 0.95, Duration.ofSeconds(5), Duration.ofSeconds(5), 1.0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        Mono<String> call = hedger.execute(attempt -> {
+            attempts.incrementAndGet();
+            return Mono.error(new IllegalStateException("down"));
+        });
+
+        StepVerifier.create(call).expectError(IllegalStateException.class).verify(Duration.ofSeconds(1));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void execute_outage_hedgesCappedByBudget() {
+        Hedger hedger = new Hedger("test", registry, 0.95, Duration.ofMillis(1), Duration.ofMillis(1), 0.1);
+        AtomicInteger hedges = new AtomicInteger();
+
+        for (int i = 0; i < 50; i++) {
+            Mono<String> call = hedger.execute(attempt -> {
+                if (attempt == 1) hedges.incrementAndGet();
+                return Mono.just("late").delayElement(Duration.ofMillis(20));
+            });
+            StepVerifier.create(call).expectNext("late").verifyComplete();
+        }
+
+        assertTrue(hedges.get() <= 5, "hedges: " + hedges.get());
+        assertEquals(hedges.get(), registry.get("application.downstream.hedged").counter().count());
+        assertTrue(registry.get("application.downstream.hedge.denied").counter().count() >= 45);
+    }
+
+    @Test
+    void currentDelay_followsPercentileWithinBounds() {
+        Hedger hedger = new Hedger("test", registry, 0.5, Duration.ofMillis(1), Duration.ofSeconds(1), 0);
+        assertEquals(Duration.ofSeconds(1), hedger.currentDelay());
+
+        for (int i = 0; i < 16; i++) {
+            StepVerifier.create(hedger.execute(attempt -> Mono.just("ok"))).expectNext("ok").verifyComplete();
+        }
+
+        assertTrue(hedger.currentDelay().compareTo(Duration.ofMillis(100)) < 0, "delay: " + hedger.currentDelay());
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.applicationservice.adapters.outbound.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7IdGeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T10:15:30.123Z");
+
+    @Test
+    void newId_hasVersion7VariantAndTimestamp() {
+        UUID id = new UuidV7IdGenerator(Clock.fixed(NOW, ZoneOffset.UTC)).newId();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW.toEpochMilli(), id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void newId_monotonicWithinSameMillisecond() {
+        // фиксированные часы: все id в одной миллисекунде, порядок держит счётчик (и перенос в следующую мс)
+        UuidV7IdGenerator generator = new UuidV7IdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        UUID previous = generator.newId();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.newId();
+            assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), next.getMostSignificantBits()) < 0,
+                    "ids must be strictly increasing: " + previous + " -> " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    void newId_clockMovesBackwards_staysOrdered() {
+        Instant[] now = {NOW};
+        UuidV7IdGenerator generator = new UuidV7IdGenerator(new Clock() {
+            @Override public ZoneOffset getZone() { return ZoneOffset.UTC; }
+            @Override public Clock withZone(ZoneId zone) { return this; }
+            @Override public Instant instant() { return now[0]; }
+        });
+
+        UUID first = generator.newId();
+        now[0] = NOW.minusSeconds(5);
+        UUID second = generator.newId();
+
+        assertTrue(Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits()) < 0);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.applicationservice.adapters.outbound.limit;
+
+import com.example.applicationservice.application.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter(int initial) {
+        return new AdaptiveConcurrencyLimiter("user-service", "User service is unavailable now", registry,
+                initial, 1, 10, 0.5, Duration.ofMillis(100), nanos::get);
+    }
+
+    @Test
+    void call_limitReached_failsFastAndCountsRejection() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1);
+
+        ServiceUnavailableException e = assertThrows(ServiceUnavailableException.class,
+                () -> limiter.call(() -> limiter.call(() -> true)));
+
+        assertEquals("User service is unavailable now", e.getMessage());
+        assertEquals(1.0, registry.get("application.downstream.rejected").tag("downstream", "user-service").counter().count());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void call_slowOrFailed_decreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8);
+
+        limiter.call(() -> nanos.addAndGet(Duration.ofMillis(500).toNanos()));
+        assertEquals(4, limiter.getLimit());
+
+        assertThrows(IllegalStateException.class, () -> limiter.call(() -> { throw new IllegalStateException(); }));
+        assertEquals(2, limiter.getLimit());
+        assertEquals(2.0, registry.get("application.downstream.limit").tag("downstream", "user-service").gauge().value());
+    }
+
+    @Test
+    void call_fastWhileUtilized_increasesLimit_idleDoesNot() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+        limiter.call(() -> limiter.call(() -> true)); // вложенный вызов: загрузка 2 из 2
+        assertEquals(3, limiter.getLimit());
+
+        AdaptiveConcurrencyLimiter idle = new AdaptiveConcurrencyLimiter("product-service", "Product service is unavailable now",
+                registry, 8, 1, 10, 0.5, Duration.ofMillis(100), nanos::get);
+        idle.call(() -> true);
+        assertEquals(8, idle.getLimit());
+    }
+
+    @Test
+    void callReactive_holdsPermitUntilCompletion() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1);
+        Sinks.One<Boolean> response = Sinks.one();
+
+        StepVerifier.create(limiter.callReactive(response::asMono))
+                .then(() -> {
+                    assertEquals(1, limiter.getInFlight());
+                    StepVerifier.create(limiter.callReactive(() -> Mono.just(true)))
+                            .expectError(ServiceUnavailableException.class)
+                            .verify();
+                    response.tryEmitValue(true);
+                })
+                .expectNext(true)
+                .verifyComplete();
+
+        assertEquals(0, limiter.getInFlight());
+    }
+}
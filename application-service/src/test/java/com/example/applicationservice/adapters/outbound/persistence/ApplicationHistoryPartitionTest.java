@@ -0,0 +1,146 @@
+package com.example.applicationservice.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Секционированная application_history на схеме из Liquibase (changeset 9): создание месячных секций,
+ * отсоединение старых и keyset-страницы истории через границы секций. Нужен Docker, без него тест пропускается.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationHistoryPartitionTest {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("history")
+            .withUsername("history")
+            .withPassword("history");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    static class JdbcSlice {
+    }
+
+    @Autowired
+    NamedParameterJdbcTemplate jdbc;
+
+    @Test
+    void maintenance_createsUpcomingAndDetachesOld() {
+        ApplicationHistoryPartitionMaintenance maintenance = new ApplicationHistoryPartitionMaintenance(jdbc, 2, 6);
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        YearMonth old = current.minusMonths(12);
+
+        maintenance.createUpcoming(old);
+        maintenance.createUpcoming(current.plusMonths(4));
+        assertTrue(partitions().containsAll(List.of(name(old), name(current.plusMonths(6)))));
+
+        UUID appId = insertApplication();
+        insertHistory(appId, old.atDay(10).atStartOfDay().toInstant(ZoneOffset.UTC));
+        insertHistory(appId, Instant.now());
+        assertEquals(0, count("application_history_default"));
+
+        List<String> detached = maintenance.detachOlderThan(current.minusMonths(6));
+
+        assertTrue(detached.contains(name(old)));
+        assertFalse(partitions().contains(name(old)));
+        // строки отсоединённой секции не видны через application_history, но остаются в самой таблице
+        assertEquals(1, jdbc.queryForObject("SELECT count(*) FROM application_history WHERE application_id = :id",
+                new MapSqlParameterSource("id", appId), Integer.class));
+        assertEquals(1, count(name(old)));
+    }
+
+    @Test
+    void keysetPages_crossPartitionBoundaries() {
+        ApplicationHistoryPartitionMaintenance maintenance = new ApplicationHistoryPartitionMaintenance(jdbc, 3, 0);
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        maintenance.createUpcoming(current.minusMonths(3));
+
+        UUID appId = insertApplication();
+        Instant start = current.minusMonths(3).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+        for (int i = 0; i < 9; i++) {
+            insertHistory(appId, start.plusSeconds(i * 12L * 24 * 3600)); // каждые 12 дней — через три месяца
+        }
+
+        List<Instant> seen = new ArrayList<>();
+        Instant ts = null;
+        UUID id = null;
+        while (true) {
+            MapSqlParameterSource params = new MapSqlParameterSource("applicationId", appId).addValue("limit", 4);
+            if (ts != null) params.addValue("ts", ts.atOffset(ZoneOffset.UTC)).addValue("id", id);
+            List<Object[]> page = jdbc.query(ApplicationHistoryQuery.page(ts != null), params, (rs, i) -> new Object[]{
+                    rs.getObject("changed_at", OffsetDateTime.class).toInstant(), rs.getObject("id", UUID.class)});
+            page.forEach(row -> seen.add((Instant) row[0]));
+            if (page.size() < 4) break;
+            ts = (Instant) page.get(page.size() - 1)[0];
+            id = (UUID) page.get(page.size() - 1)[1];
+        }
+
+        assertEquals(9, seen.size());
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1).isAfter(seen.get(i)), "history must be ordered newest first");
+        }
+    }
+
+    private UUID insertApplication() {
+        UUID id = UUID.randomUUID();
+        jdbc.update("INSERT INTO application (id, applicant_id, product_id, status, created_at, version) " +
+                        "VALUES (:id, :applicant, :product, 'SUBMITTED', now(), 0)",
+                new MapSqlParameterSource("id", id).addValue("applicant", UUID.randomUUID()).addValue("product", UUID.randomUUID()));
+        return id;
+    }
+
+    private void insertHistory(UUID appId, Instant changedAt) {
+        jdbc.update("INSERT INTO application_history (id, application_id, new_status, changed_by, changed_at) " +
+                        "VALUES (:id, :appId, 'SUBMITTED', 'ROLE_ADMIN', :changedAt)",
+                new MapSqlParameterSource("id", UUID.randomUUID()).addValue("appId", appId)
+                        .addValue("changedAt", changedAt.atOffset(ZoneOffset.UTC)));
+    }
+
+    private List<String> partitions() {
+        return jdbc.getJdbcTemplate().queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = 'application_history'", String.class);
+    }
+
+    private int count(String table) {
+        return jdbc.getJdbcTemplate().queryForObject("SELECT count(*) FROM " + table, Integer.class);
+    }
+
+    private static String name(YearMonth month) {
+        return "application_history_p" + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.applicationservice.adapters.outbound.persistence;
+
+import com.example.applicationservice.adapters.outbound.persistence.entity.ApplicationEntity;
+import com.example.applicationservice.adapters.outbound.persistence.entity.ApplicationHistoryEntity;
+import com.example.applicationservice.adapters.outbound.persistence.jpa.ApplicationHistoryJpaRepository;
+import com.example.applicationservice.adapters.outbound.persistence.jpa.ApplicationJpaRepository;
+import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import com.example.applicationservice.domain.model.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationHistoryRepositoryAdapterTest {
+
+    @Mock ApplicationHistoryJpaRepository jpa;
+    @Mock ApplicationJpaRepository applicationJpa;
+    @Mock NamedParameterJdbcTemplate jdbc;
+
+    ApplicationHistoryRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ApplicationHistoryRepositoryAdapter(jpa, applicationJpa, jdbc);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveAll_oneJpaCallAndOneReferencePerApplication() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(applicationJpa.getReferenceById(any())).thenAnswer(inv -> parent(inv.getArgument(0)));
+        when(jpa.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        List<ApplicationHistory> saved = adapter.saveAll(List.of(history(first), history(first), history(second)));
+
+        ArgumentCaptor<List<ApplicationHistoryEntity>> entities = ArgumentCaptor.forClass(List.class);
+        verify(jpa).saveAll(entities.capture());
+        verify(jpa, never()).save(any());
+        assertEquals(3, entities.getValue().size());
+        assertSame(entities.getValue().get(0).getApplication(), entities.getValue().get(1).getApplication());
+        verify(applicationJpa).getReferenceById(first);
+        verify(applicationJpa).getReferenceById(second);
+
+        assertEquals(3, saved.size());
+        assertEquals(first, saved.get(0).getApplicationId());
+        assertEquals(ApplicationStatus.IN_REVIEW, saved.get(2).getNewStatus());
+        assertEquals(UserRole.ROLE_MANAGER, saved.get(2).getChangedBy());
+        verifyNoInteractions(jdbc);
+    }
+
+    @Test
+    void saveAll_empty_doesNothing() {
+        assertTrue(adapter.saveAll(List.of()).isEmpty());
+        verifyNoInteractions(jpa, applicationJpa, jdbc);
+    }
+
+    private static ApplicationHistory history(UUID applicationId) {
+        ApplicationHistory h = new ApplicationHistory();
+        h.setId(UUID.randomUUID());
+        h.setApplicationId(applicationId);
+        h.setOldStatus(ApplicationStatus.SUBMITTED);
+        h.setNewStatus(ApplicationStatus.IN_REVIEW);
+        h.setChangedBy(UserRole.ROLE_MANAGER);
+        h.setChangedAt(Instant.now());
+        return h;
+    }
+
+    private static ApplicationEntity parent(UUID id) {
+        ApplicationEntity e = new ApplicationEntity();
+        e.setId(id);
+        return e;
+    }
+}
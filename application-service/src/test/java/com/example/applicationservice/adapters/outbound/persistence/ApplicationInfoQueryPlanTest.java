@@ -0,0 +1,153 @@
+package com.example.applicationservice.adapters.outbound.persistence;
+
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Планы keyset-выборок ApplicationInfoQuery на схеме из Liquibase: каждая комбинация фильтров должна
+ * читаться диапазоном своего составного индекса (changeset 7) без Seq Scan и без сортировки.
+ * Нужен Docker, без него тест пропускается.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationInfoQueryPlanTest {
+
+    private static final int ROWS = 50_000;
+    private static final UUID APPLICANT = new UUID(0, 7);
+    private static final UUID PRODUCT = new UUID(1, 7);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("plan")
+            .withUsername("plan")
+            .withPassword("plan");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    static class JdbcSlice {
+    }
+
+    @Autowired
+    NamedParameterJdbcTemplate jdbc;
+
+    private static boolean seeded;
+
+    // 2000 заявителей, 50 продуктов, 5 статусов; файлы примерно у каждой десятой заявки
+    @BeforeEach
+    void seed() {
+        if (seeded) return;
+        jdbc.getJdbcTemplate().update(
+                "INSERT INTO application (id, applicant_id, product_id, status, created_at, version) " +
+                "SELECT gen_random_uuid(), " +
+                "       ('00000000-0000-0000-0000-' || lpad(to_hex(i % 2000), 12, '0'))::uuid, " +
+                "       ('00000000-0000-0001-0000-' || lpad(to_hex(i % 50), 12, '0'))::uuid, " +
+                "       (ARRAY['DRAFT','SUBMITTED','IN_REVIEW','APPROVED','REJECTED'])[1 + i % 5], " +
+                "       now() - i * interval '1 second', 0 " +
+                "FROM generate_series(1, ?) AS i", ROWS);
+        jdbc.getJdbcTemplate().update(
+                "INSERT INTO application_file (application_id, file_id) " +
+                "SELECT id, gen_random_uuid() FROM application WHERE random() < 0.1");
+        // VACUUM заполняет visibility map, иначе планировщик не выберет index-only scan
+        jdbc.getJdbcTemplate().execute("VACUUM ANALYZE application");
+        jdbc.getJdbcTemplate().execute("VACUUM ANALYZE application_file");
+        jdbc.getJdbcTemplate().execute("VACUUM ANALYZE application_tag");
+        seeded = true;
+    }
+
+    @Test
+    void noFilter_usesCreatedIdIndex() {
+        assertIndexRange(ApplicationFilter.none(), false, "idx_application_created_id");
+        assertIndexRange(ApplicationFilter.none(), true, "idx_application_created_id");
+    }
+
+    @Test
+    void statusFilter_usesStatusIndex() {
+        ApplicationFilter filter = new ApplicationFilter();
+        filter.setStatus(ApplicationStatus.SUBMITTED);
+        assertIndexRange(filter, false, "idx_application_status_created_id");
+        assertIndexRange(filter, true, "idx_application_status_created_id");
+    }
+
+    @Test
+    void productFilter_usesProductIndex() {
+        ApplicationFilter filter = new ApplicationFilter();
+        filter.setProductId(PRODUCT);
+        assertIndexRange(filter, true, "idx_application_product_created_id");
+    }
+
+    @Test
+    void applicantFilter_usesApplicantIndex() {
+        ApplicationFilter filter = new ApplicationFilter();
+        filter.setApplicantId(APPLICANT);
+        assertIndexRange(filter, true, "idx_application_applicant_created_id");
+    }
+
+    @Test
+    void statusAndCreatedRange_usesStatusIndex() {
+        ApplicationFilter filter = new ApplicationFilter();
+        filter.setStatus(ApplicationStatus.APPROVED);
+        filter.setCreatedFrom(Instant.now().minus(2, ChronoUnit.HOURS));
+        filter.setCreatedTo(Instant.now().minus(1, ChronoUnit.HOURS));
+        assertIndexRange(filter, true, "idx_application_status_created_id");
+    }
+
+    private void assertIndexRange(ApplicationFilter filter, boolean afterCursor, String index) {
+        String plan = explain(filter, afterCursor);
+
+        assertTrue(Pattern.compile("Index (Only )?Scan using " + index + " on application a").matcher(plan).find(),
+                () -> "expected range scan on " + index + ":\n" + plan);
+        assertFalse(plan.contains("Seq Scan on application a"), () -> "unexpected seq scan:\n" + plan);
+        assertFalse(plan.contains("Sort Key: a.created_at"), () -> "keyset order must come from the index:\n" + plan);
+        if (afterCursor) {
+            assertTrue(plan.contains("Index Cond:") && plan.contains("ROW(a.created_at, a.id) <"),
+                    () -> "cursor must be an index bound, not a filter:\n" + plan);
+        }
+    }
+
+    // параметры связываются так же, как в ApplicationRepositoryAdapter.findInfoPage
+    private String explain(ApplicationFilter filter, boolean afterCursor) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", 50);
+        if (filter.getStatus() != null) params.addValue("status", filter.getStatus().name());
+        if (filter.getProductId() != null) params.addValue("productId", filter.getProductId());
+        if (filter.getApplicantId() != null) params.addValue("applicantId", filter.getApplicantId());
+        if (filter.getCreatedFrom() != null) params.addValue("createdFrom", filter.getCreatedFrom().atOffset(ZoneOffset.UTC));
+        if (filter.getCreatedTo() != null) params.addValue("createdTo", filter.getCreatedTo().atOffset(ZoneOffset.UTC));
+        if (afterCursor) {
+            params.addValue("ts", Instant.now().minus(10, ChronoUnit.MINUTES).atOffset(ZoneOffset.UTC))
+                    .addValue("id", UUID.randomUUID());
+        }
+        String sql = "EXPLAIN " + ApplicationInfoQuery.page(filter, afterCursor);
+        return String.join("\n", jdbc.queryForList(sql, params, String.class));
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.applicationservice.adapters.outbound.persistence;
+
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.port.outbound.FileServicePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Read-модель application_view на схеме из Liquibase (changesets 10 и 13): триггеры, поставленные проектором, ставят заявки в очередь,
+ * проектор собирает строку с тегами и проверенными файлами и удаляет строки удалённых заявок.
+ * Нужен Docker, без него тест пропускается.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationViewProjectorTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("view")
+            .withUsername("view")
+            .withPassword("view");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    static class JdbcSlice {
+    }
+
+    @Autowired
+    NamedParameterJdbcTemplate jdbc;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    FileServicePort fileService = mock(FileServicePort.class);
+    ApplicationViewProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.getJdbcTemplate().execute("TRUNCATE application, application_view, application_view_pending CASCADE");
+        projector = new ApplicationViewProjector(jdbc, transactionManager, fileService, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        projector.installTriggers();
+    }
+
+    @Test
+    void installTriggers_afterCleanup_enqueuesApplicationsWrittenWithoutTriggers() {
+        new ApplicationViewTriggerCleanup(jdbc, transactionManager).dropTriggers();
+        insertApplication();
+        assertEquals(0, count("application_view_pending"));
+
+        projector.installTriggers();
+        assertEquals(1, count("application_view_pending"));
+
+        insertApplication();
+        assertEquals(2, count("application_view_pending"));
+    }
+
+    @Test
+    void cleanup_dropsTriggersAndQueue() {
+        insertApplication();
+        assertEquals(1, count("application_view_pending"));
+
+        new ApplicationViewTriggerCleanup(jdbc, transactionManager).dropTriggers();
+        insertApplication();
+
+        assertEquals(0, count("application_view_pending"));
+    }
+
+    @Test
+    void project_buildsRowWithTagsAndExistingFilesOnly() {
+        UUID appId = insertApplication();
+        UUID kept = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        insertFile(appId, kept);
+        insertFile(appId, missing);
+        jdbc.update("INSERT INTO application_tag (application_id, tag_name) VALUES (:id, 'vip')", new MapSqlParameterSource("id", appId));
+        when(fileService.checkFilesExist(anyList())).thenReturn(List.of(kept));
+
+        assertEquals(1, projector.projectBatch());
+
+        List<ApplicationInfo> page = new ApplicationViewRepositoryAdapter(jdbc).findInfoPage(ApplicationFilter.none(), null, null, 10);
+        assertEquals(1, page.size());
+        assertEquals(List.of(kept), page.get(0).getFiles());
+        assertEquals(List.of("vip"), page.get(0).getTags());
+        assertEquals(0, count("application_view_pending"));
+    }
+
+    @Test
+    void project_fileServiceDown_keepsFilesUnvalidated() {
+        UUID appId = insertApplication();
+        UUID file = UUID.randomUUID();
+        insertFile(appId, file);
+        when(fileService.checkFilesExist(anyList())).thenThrow(new RuntimeException("down"));
+
+        projector.projectBatch();
+
+        assertEquals(List.of(file), new ApplicationViewRepositoryAdapter(jdbc)
+                .findInfoPage(ApplicationFilter.none(), null, null, 10).get(0).getFiles());
+    }
+
+    @Test
+    void project_fileServiceCall_holdsNoLockAndDefersChangedFiles() {
+        UUID appId = insertApplication();
+        UUID first = UUID.randomUUID();
+        UUID added = UUID.randomUUID();
+        insertFile(appId, first);
+        // запись в заявку во время проверки: под FOR UPDATE она бы повисла на строке очереди
+        when(fileService.checkFilesExist(anyList())).thenAnswer(inv -> {
+            insertFile(appId, added);
+            return inv.getArgument(0);
+        }).thenAnswer(inv -> inv.getArgument(0));
+
+        projector.projectBatch();
+
+        assertEquals(0, count("application_view"));
+        assertEquals(1, count("application_view_pending"));
+
+        projector.projectBatch();
+
+        assertEquals(2, new ApplicationViewRepositoryAdapter(jdbc)
+                .findInfoPage(ApplicationFilter.none(), null, null, 10).get(0).getFiles().size());
+        assertEquals(0, count("application_view_pending"));
+    }
+
+    @Test
+    void project_secondInstance_skipsClaimedBatch() {
+        UUID appId = insertApplication();
+        insertFile(appId, UUID.randomUUID());
+        ApplicationViewProjector other = new ApplicationViewProjector(jdbc, transactionManager, fileService,
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        int[] otherClaimed = new int[1];
+        // пока первый инстанс проверяет файлы, второй не должен брать ту же заявку
+        when(fileService.checkFilesExist(anyList())).thenAnswer(inv -> {
+            otherClaimed[0] = other.projectBatch();
+            return inv.getArgument(0);
+        }).thenAnswer(inv -> inv.getArgument(0));
+
+        assertEquals(1, projector.projectBatch());
+
+        assertEquals(0, otherClaimed[0]);
+        verify(fileService, times(1)).checkFilesExist(anyList());
+        assertEquals(0, count("application_view_pending"));
+    }
+
+    @Test
+    void project_deletedApplication_removedFromView() {
+        UUID appId = insertApplication();
+        projector.projectBatch();
+        assertEquals(1, count("application_view"));
+
+        jdbc.update("DELETE FROM application WHERE id = :id", new MapSqlParameterSource("id", appId));
+        projector.projectBatch();
+
+        assertEquals(0, count("application_view"));
+    }
+
+    @Test
+    void rebuild_enqueuesEveryApplication() {
+        insertApplication();
+        insertApplication();
+        projector.projectBatch();
+
+        assertEquals(2, projector.rebuild());
+        assertEquals(2, count("application_view_pending"));
+    }
+
+    private UUID insertApplication() {
+        UUID id = UUID.randomUUID();
+        jdbc.update("INSERT INTO application (id, applicant_id, product_id, status, created_at, version) " +
+                        "VALUES (:id, :applicant, :product, 'SUBMITTED', now(), 0)",
+                new MapSqlParameterSource("id", id).addValue("applicant", UUID.randomUUID()).addValue("product", UUID.randomUUID()));
+        return id;
+    }
+
+    private void insertFile(UUID appId, UUID fileId) {
+        jdbc.update("INSERT INTO application_file (application_id, file_id) VALUES (:appId, :fileId)",
+                new MapSqlParameterSource("appId", appId).addValue("fileId", fileId));
+    }
+
+    private int count(String table) {
+        return jdbc.getJdbcTemplate().queryForObject("SELECT count(*) FROM " + table, Integer.class);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.applicationservice.adapters.outbound.persistence;
+
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
+import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Очередь application_bulk_delete_pending (changeset 11): задание, записанное в транзакции вызывающего,
+ * дочищается порциями и снимается с последней неполной порцией; откат вызывающего не оставляет задания.
+ * Нужен Docker, без него тест пропускается.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChunkedApplicationDeletionAdapterTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("bulk")
+            .withUsername("bulk")
+            .withPassword("bulk");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    static class JdbcSlice {
+    }
+
+    @Autowired
+    NamedParameterJdbcTemplate jdbc;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    ApplicationRepositoryPort repository = mock(ApplicationRepositoryPort.class);
+    ChunkedApplicationDeletionAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.getJdbcTemplate().execute("TRUNCATE application, application_bulk_delete_pending CASCADE");
+        // удаление порцией — тем же запросом, что и в ApplicationRepositoryAdapter, но без JPA
+        when(repository.deleteByApplicantIds(anyCollection(), anyInt())).thenAnswer(inv -> deleteChunk(inv.getArgument(0), inv.getArgument(1)));
+        adapter = new ChunkedApplicationDeletionAdapter(repository, mock(ApplicationCachePort.class), jdbc, transactionManager,
+                new SimpleMeterRegistry(), 2, Duration.ZERO);
+    }
+
+    @Test
+    void drain_deletesInChunksAndDequeuesOnShortChunk() {
+        UUID applicant = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) insertApplication(applicant);
+        adapter.scheduleDeleteByApplicantId(applicant);
+
+        adapter.drain();
+
+        assertEquals(0, count("application"));
+        assertEquals(0, count("application_bulk_delete_pending"));
+        verify(repository, times(3)).deleteByApplicantIds(List.of(applicant), 2);
+    }
+
+    @Test
+    void schedule_rolledBackWithCaller() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            adapter.scheduleDeleteByApplicantId(UUID.randomUUID());
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, count("application_bulk_delete_pending"));
+        assertFalse(adapter.deleteNextChunk());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<UUID> deleteChunk(Object applicantIds, int limit) {
+        return jdbc.queryForList("DELETE FROM application WHERE id IN (SELECT id FROM application " +
+                        "WHERE applicant_id IN (:ids) LIMIT :limit) RETURNING id",
+                new MapSqlParameterSource("ids", (Collection<UUID>) applicantIds).addValue("limit", limit), UUID.class);
+    }
+
+    private void insertApplication(UUID applicant) {
+        jdbc.update("INSERT INTO application (id, applicant_id, product_id, status, created_at, version) " +
+                        "VALUES (:id, :applicant, :product, 'SUBMITTED', now(), 0)",
+                new MapSqlParameterSource("id", UUID.randomUUID()).addValue("applicant", applicant).addValue("product", UUID.randomUUID()));
+    }
+
+    private int count(String table) {
+        return jdbc.getJdbcTemplate().queryForObject("SELECT count(*) FROM " + table, Integer.class);
+    }
+}
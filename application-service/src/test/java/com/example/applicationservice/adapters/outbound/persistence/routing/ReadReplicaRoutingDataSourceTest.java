@@ -0,0 +1,122 @@
+package com.example.applicationservice.adapters.outbound.persistence.routing;
+
+import com.example.applicationservice.adapters.config.AuthHeaderHolder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+
+    private Connection primaryConnection;
+    private Connection replica0Connection;
+    private Connection replica1Connection;
+    private ReadReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primaryConnection = mock(Connection.class);
+        replica0Connection = mock(Connection.class);
+        replica1Connection = mock(Connection.class);
+        routing = new ReadReplicaRoutingDataSource(dataSource(primaryConnection),
+                List.of(dataSource(replica0Connection), dataSource(replica1Connection)),
+                new ReadYourWritesTracker(Duration.ofSeconds(5), nanos::get), registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clear();
+        AuthHeaderHolder.clear();
+    }
+
+    @Test
+    void readOnlyTransactions_roundRobinOverReplicas() throws Exception {
+        assertSame(replica0Connection, inTransaction(true));
+        assertSame(replica1Connection, inTransaction(true));
+        assertSame(replica0Connection, inTransaction(true));
+        assertEquals(3.0, registry.get("application.datasource.routed").tag("route", "replica").counter().count());
+    }
+
+    @Test
+    void writeTransactionsAndNoTransaction_goToPrimary() throws Exception {
+        assertSame(primaryConnection, inTransaction(false));
+        assertSame(primaryConnection, routing.getConnection());
+    }
+
+    @Test
+    void readAfterOwnWrite_staysOnPrimaryWithinWindow() throws Exception {
+        AuthHeaderHolder.set("Bearer writer");
+        assertSame(primaryConnection, inTransaction(false));
+
+        assertSame(primaryConnection, inTransaction(true));
+        assertEquals(1.0, registry.get("application.datasource.routed").tag("reason", "read-your-writes").counter().count());
+
+        AuthHeaderHolder.set("Bearer someone-else");
+        assertSame(replica0Connection, inTransaction(true));
+
+        AuthHeaderHolder.set("Bearer writer");
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+        assertSame(replica1Connection, inTransaction(true));
+    }
+
+    @Test
+    void pinnedRead_goesToPrimaryWithoutOpeningWindow() throws Exception {
+        AuthHeaderHolder.set("Bearer reader");
+        Connection pinned = ReadReplicaRoutingDataSource.onPrimary(() -> {
+            try {
+                return inTransaction(true);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertSame(primaryConnection, pinned);
+        assertEquals(1.0, registry.get("application.datasource.routed").tag("reason", "pinned").counter().count());
+        assertSame(replica0Connection, inTransaction(true));
+    }
+
+    @Test
+    void rolledBackWrite_doesNotOpenWindow() throws Exception {
+        AuthHeaderHolder.set("Bearer writer");
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        routing.getConnection();
+        TransactionSynchronizationManager.clear(); // откат: afterCommit не вызывается
+
+        assertSame(replica0Connection, inTransaction(true));
+    }
+
+    // имитирует транзакцию JpaTransactionManager: флаги синхронизации выставлены, на коммите вызывается afterCommit
+    private Connection inTransaction(boolean readOnly) throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        try {
+            Connection connection = routing.getConnection();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            return connection;
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    private static DataSource dataSource(Connection connection) throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.applicationservice.adapters.outbound.webclient;
+
+import com.example.applicationservice.adapters.outbound.hedge.Hedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Два подставных инстанса file-service, один из которых отвечает за SLOW.
+ * Без хеджирования каждый второй запрос ждёт медленный инстанс; с хеджированием хвост ограничен задержкой дубля.
+ */
+class HedgedFileCheckClientTest {
+
+    private static final Duration SLOW = Duration.ofMillis(800);
+    private static final int REQUESTS = 10;
+
+    private DisposableServer fast;
+    private DisposableServer slow;
+    private DiscoveryClient discoveryClient;
+
+    @BeforeEach
+    void startInstances() {
+        fast = instance(Duration.ZERO);
+        slow = instance(SLOW);
+        discoveryClient = mock(DiscoveryClient.class);
+        List<ServiceInstance> instances = List.of(
+                new DefaultServiceInstance("file-1", HedgedFileCheckClient.SERVICE_ID, "localhost", slow.port(), false),
+                new DefaultServiceInstance("file-2", HedgedFileCheckClient.SERVICE_ID, "localhost", fast.port(), false));
+        when(discoveryClient.getInstances(HedgedFileCheckClient.SERVICE_ID)).thenReturn(instances);
+    }
+
+    @AfterEach
+    void stopInstances() {
+        fast.disposeNow();
+        slow.disposeNow();
+    }
+
+    @Test
+    void checkFilesExist_slowInstance_hedgingCutsTailLatency() {
+        UUID fileId = UUID.randomUUID();
+
+        List<Duration> withoutHedging = run(hedger(0), fileId);
+        List<Duration> withHedging = run(hedger(1.0), fileId);
+
+        System.out.printf("[latency] max without hedging=%d ms, with hedging=%d ms%n",
+                withoutHedging.get(REQUESTS - 1).toMillis(), withHedging.get(REQUESTS - 1).toMillis());
+        assertTrue(withoutHedging.get(REQUESTS - 1).compareTo(SLOW) >= 0);
+        assertTrue(withHedging.get(REQUESTS - 1).compareTo(SLOW.dividedBy(2)) < 0,
+                "max latency with hedging: " + withHedging.get(REQUESTS - 1));
+    }
+
+    private Hedger hedger(double budgetRatio) {
+        return new Hedger("files-check", new SimpleMeterRegistry(), 0.95,
+                Duration.ofMillis(50), Duration.ofMillis(100), budgetRatio);
+    }
+
+    // отсортированные задержки REQUESTS последовательных запросов
+    private List<Duration> run(Hedger hedger, UUID fileId) {
+        HedgedFileCheckClient client = new HedgedFileCheckClient(WebClient.create(), discoveryClient, hedger);
+        client.checkFilesExist(List.of(fileId)).block(); // прогрев соединений
+
+        List<Duration> latencies = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            long start = System.nanoTime();
+            assertEquals(List.of(fileId), client.checkFilesExist(List.of(fileId)).block());
+            latencies.add(Duration.ofNanos(System.nanoTime() - start));
+        }
+        Collections.sort(latencies);
+        return latencies;
+    }
+
+    private static DisposableServer instance(Duration delay) {
+        return HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .route(routes -> routes.post("/api/v1/files/check", (request, response) -> response
+                        .header("Content-Type", "application/json")
+                        .send(request.receive().aggregate().retain()
+                                .delayElement(delay))))
+                .bindNow();
+    }
+}
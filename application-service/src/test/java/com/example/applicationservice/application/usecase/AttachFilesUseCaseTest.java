@@ -3,7 +3,7 @@ package com.example.applicationservice.application.usecase;
 import com.example.applicationservice.application.exception.ForbiddenException;
 import com.example.applicationservice.application.exception.NotFoundException;
 import com.example.applicationservice.domain.event.FileEvent;
-import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.EventPublisherPort;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,25 +13,28 @@ import org.mockito.ArgumentCaptor;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 class AttachFilesUseCaseTest {
 
     private ApplicationRepositoryPort applicationRepository;
     private EventPublisherPort eventPublisher;
+    private ApplicationCachePort applicationCache;
     private AttachFilesUseCase useCase;
 
     @BeforeEach
     void setUp() {
         applicationRepository = mock(ApplicationRepositoryPort.class);
         eventPublisher = mock(EventPublisherPort.class);
-        useCase = new AttachFilesUseCase(applicationRepository, eventPublisher);
+        applicationCache = mock(ApplicationCachePort.class);
+        useCase = new AttachFilesUseCase(applicationRepository, eventPublisher, applicationCache);
     }
 
     @Test
     void attachFiles_applicationNotFound_throwsNotFoundException() {
         UUID appId = UUID.randomUUID();
-        when(applicationRepository.findByIdWithFiles(appId)).thenReturn(Optional.empty());
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () ->
                 useCase.attachFiles(appId, List.of(UUID.randomUUID()), UUID.randomUUID(), "ROLE_USER"));
@@ -40,34 +43,30 @@ class AttachFilesUseCaseTest {
     @Test
     void attachFiles_insufficientPermissions_throwsForbiddenException() {
         UUID appId = UUID.randomUUID();
-        UUID applicantId = UUID.randomUUID();
-        Application app = new Application();
-        app.setApplicantId(applicantId);
-        app.setFiles(new HashSet<>());
-        when(applicationRepository.findByIdWithFiles(appId)).thenReturn(Optional.of(app));
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(UUID.randomUUID()));
 
-        UUID actorId = UUID.randomUUID(); // не совпадает с applicantId
+        UUID actorId = UUID.randomUUID(); // не совпадает с заявителем
         assertThrows(ForbiddenException.class, () ->
                 useCase.attachFiles(appId, List.of(UUID.randomUUID()), actorId, "ROLE_USER"));
+        verify(applicationRepository, never()).addFiles(any(), any());
     }
 
     @Test
-    void attachFiles_success_addsFilesAndPublishesEvent() {
+    void attachFiles_success_insertsOnlyFileRowsAndPublishesEvent() {
         UUID appId = UUID.randomUUID();
         UUID actorId = UUID.randomUUID();
         UUID fileId = UUID.randomUUID();
 
-        Application app = new Application();
-        app.setApplicantId(actorId); // actor — заявитель
-        app.setFiles(new HashSet<>());
-
-        when(applicationRepository.findByIdWithFiles(appId)).thenReturn(Optional.of(app));
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(actorId)); // actor — заявитель
+        when(applicationRepository.addFiles(appId, List.of(fileId))).thenReturn(1);
 
         useCase.attachFiles(appId, List.of(fileId), actorId, "ROLE_USER");
 
-        // Проверяем, что файл добавлен
-        assertTrue(app.getFiles().contains(fileId));
-        verify(applicationRepository).save(app);
+        // только вставка новых строк, агрегат не загружается и не сохраняется
+        verify(applicationRepository).addFiles(appId, List.of(fileId));
+        verify(applicationRepository, never()).findByIdWithFiles(any());
+        verify(applicationRepository, never()).save(any());
+        verify(applicationCache).evict(appId);
 
         // Проверяем публикацию события
         ArgumentCaptor<FileEvent> captor = ArgumentCaptor.forClass(FileEvent.class);
@@ -79,16 +78,27 @@ class AttachFilesUseCaseTest {
     }
 
     @Test
-    void attachFiles_eventPublishingFails_exceptionIgnored() {
+    void attachFiles_alreadyAttached_doesNotEvictCache() {
         UUID appId = UUID.randomUUID();
         UUID actorId = UUID.randomUUID();
         UUID fileId = UUID.randomUUID();
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(actorId));
+        when(applicationRepository.addFiles(appId, List.of(fileId))).thenReturn(0);
+
+        useCase.attachFiles(appId, List.of(fileId), actorId, "ROLE_USER");
+
+        verifyNoInteractions(applicationCache);
+        verify(eventPublisher).publishFileAttachRequest(any());
+    }
 
-        Application app = new Application();
-        app.setApplicantId(actorId);
-        app.setFiles(new HashSet<>());
+    @Test
+    void attachFiles_eventPublishingFails_exceptionIgnored() {
+        UUID appId = UUID.randomUUID();
+        UUID actorId = UUID.randomUUID();
+        UUID fileId = UUID.randomUUID();
 
-        when(applicationRepository.findByIdWithFiles(appId)).thenReturn(Optional.of(app));
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(actorId));
+        when(applicationRepository.addFiles(appId, List.of(fileId))).thenReturn(1);
         doThrow(new RuntimeException("Publish failed")).when(eventPublisher).publishFileAttachRequest(any());
 
         // Метод должен завершиться без исключения
@@ -96,8 +106,7 @@ class AttachFilesUseCaseTest {
                 useCase.attachFiles(appId, List.of(fileId), actorId, "ROLE_USER"));
 
         // Файл всё равно добавлен
-        assertTrue(app.getFiles().contains(fileId));
-        verify(applicationRepository).save(app);
+        verify(applicationRepository).addFiles(appId, List.of(fileId));
         verify(eventPublisher).publishFileAttachRequest(any());
     }
 }
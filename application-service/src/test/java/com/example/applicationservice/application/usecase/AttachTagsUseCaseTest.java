@@ -3,7 +3,7 @@ package com.example.applicationservice.application.usecase;
 import com.example.applicationservice.application.exception.ForbiddenException;
 import com.example.applicationservice.application.exception.NotFoundException;
 import com.example.applicationservice.domain.event.TagEvent;
-import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.EventPublisherPort;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,25 +13,28 @@ import org.mockito.ArgumentCaptor;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 class AttachTagsUseCaseTest {
 
     private ApplicationRepositoryPort applicationRepository;
     private EventPublisherPort eventPublisher;
+    private ApplicationCachePort applicationCache;
     private AttachTagsUseCase useCase;
 
     @BeforeEach
     void setUp() {
         applicationRepository = mock(ApplicationRepositoryPort.class);
         eventPublisher = mock(EventPublisherPort.class);
-        useCase = new AttachTagsUseCase(applicationRepository, eventPublisher);
+        applicationCache = mock(ApplicationCachePort.class);
+        useCase = new AttachTagsUseCase(applicationRepository, eventPublisher, applicationCache);
     }
 
     @Test
     void attachTags_applicationNotFound_throwsNotFoundException() {
         UUID appId = UUID.randomUUID();
-        when(applicationRepository.findByIdWithTags(appId)).thenReturn(Optional.empty());
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () ->
                 useCase.attachTags(appId, List.of("tag1"), UUID.randomUUID(), "ROLE_USER"));
@@ -40,34 +43,30 @@ class AttachTagsUseCaseTest {
     @Test
     void attachTags_insufficientPermissions_throwsForbiddenException() {
         UUID appId = UUID.randomUUID();
-        UUID applicantId = UUID.randomUUID();
-        Application app = new Application();
-        app.setApplicantId(applicantId);
-        app.setTags(new HashSet<>());
-        when(applicationRepository.findByIdWithTags(appId)).thenReturn(Optional.of(app));
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(UUID.randomUUID()));
 
         UUID actorId = UUID.randomUUID(); // не совпадает с заявителем
         assertThrows(ForbiddenException.class, () ->
                 useCase.attachTags(appId, List.of("tag1"), actorId, "ROLE_USER"));
+        verify(applicationRepository, never()).addTags(any(), any());
     }
 
     @Test
-    void attachTags_success_addsTagsAndPublishesEvent() {
+    void attachTags_success_insertsOnlyTagRowsAndPublishesEvent() {
         UUID appId = UUID.randomUUID();
         UUID actorId = UUID.randomUUID();
         String tagName = "important";
 
-        Application app = new Application();
-        app.setApplicantId(actorId); // actor — заявитель
-        app.setTags(new HashSet<>());
-
-        when(applicationRepository.findByIdWithTags(appId)).thenReturn(Optional.of(app));
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(actorId)); // actor — заявитель
+        when(applicationRepository.addTags(appId, List.of(tagName))).thenReturn(1);
 
         useCase.attachTags(appId, List.of(tagName), actorId, "ROLE_USER");
 
-        // Проверяем, что тег добавлен
-        assertTrue(app.getTags().contains(tagName));
-        verify(applicationRepository).save(app);
+        // только вставка новых строк, агрегат не загружается и не сохраняется
+        verify(applicationRepository).addTags(appId, List.of(tagName));
+        verify(applicationRepository, never()).findByIdWithTags(any());
+        verify(applicationRepository, never()).save(any());
+        verify(applicationCache).evict(appId);
 
         // Проверяем публикацию события
         ArgumentCaptor<TagEvent> captor = ArgumentCaptor.forClass(TagEvent.class);
@@ -78,17 +77,27 @@ class AttachTagsUseCaseTest {
         assertTrue(event.getTagNames().contains(tagName));
     }
 
+    @Test
+    void attachTags_alreadyAttached_doesNotEvictCache() {
+        UUID appId = UUID.randomUUID();
+        UUID actorId = UUID.randomUUID();
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(actorId));
+        when(applicationRepository.addTags(appId, List.of("dup"))).thenReturn(0);
+
+        useCase.attachTags(appId, List.of("dup"), actorId, "ROLE_USER");
+
+        verifyNoInteractions(applicationCache);
+        verify(eventPublisher).publishTagAttachRequest(any());
+    }
+
     @Test
     void attachTags_eventPublishingFails_exceptionIgnored() {
         UUID appId = UUID.randomUUID();
         UUID actorId = UUID.randomUUID();
         String tagName = "urgent";
 
-        Application app = new Application();
-        app.setApplicantId(actorId);
-        app.setTags(new HashSet<>());
-
-        when(applicationRepository.findByIdWithTags(appId)).thenReturn(Optional.of(app));
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(actorId));
+        when(applicationRepository.addTags(appId, List.of(tagName))).thenReturn(1);
         doThrow(new RuntimeException("Publish failed")).when(eventPublisher).publishTagAttachRequest(any());
 
         // Метод должен завершиться без исключения
@@ -96,28 +105,22 @@ class AttachTagsUseCaseTest {
                 useCase.attachTags(appId, List.of(tagName), actorId, "ROLE_USER"));
 
         // Тег всё равно добавлен
-        assertTrue(app.getTags().contains(tagName));
-        verify(applicationRepository).save(app);
+        verify(applicationRepository).addTags(appId, List.of(tagName));
         verify(eventPublisher).publishTagAttachRequest(any());
     }
 
     @Test
     void attachTags_adminOrManager_canAttachTags() {
         UUID appId = UUID.randomUUID();
-        UUID applicantId = UUID.randomUUID();
         UUID adminId = UUID.randomUUID();
-
-        Application app = new Application();
-        app.setApplicantId(applicantId);
-        app.setTags(new HashSet<>());
-        when(applicationRepository.findByIdWithTags(appId)).thenReturn(Optional.of(app));
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(UUID.randomUUID()));
 
         // Admin
         useCase.attachTags(appId, List.of("adminTag"), adminId, "ROLE_ADMIN");
-        assertTrue(app.getTags().contains("adminTag"));
+        verify(applicationRepository).addTags(appId, List.of("adminTag"));
 
         // Manager
         useCase.attachTags(appId, List.of("managerTag"), adminId, "ROLE_MANAGER");
-        assertTrue(app.getTags().contains("managerTag"));
+        verify(applicationRepository).addTags(appId, List.of("managerTag"));
     }
 }
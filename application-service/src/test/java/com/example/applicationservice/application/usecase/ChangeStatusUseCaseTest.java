@@ -5,6 +5,7 @@ import com.example.applicationservice.domain.model.entity.Application;
 import com.example.applicationservice.domain.model.entity.ApplicationHistory;
 import com.example.applicationservice.domain.model.enums.ApplicationStatus;
 import com.example.applicationservice.domain.model.enums.UserRole;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,23 +13,27 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 class ChangeStatusUseCaseTest {
 
     private ApplicationRepositoryPort applicationRepository;
     private ApplicationHistoryRepositoryPort historyRepository;
+    private ApplicationCachePort applicationCache;
     private ChangeStatusUseCase useCase;
 
     @BeforeEach
     void setUp() {
         applicationRepository = mock(ApplicationRepositoryPort.class);
         historyRepository = mock(ApplicationHistoryRepositoryPort.class);
-        useCase = new ChangeStatusUseCase(applicationRepository, historyRepository);
+        applicationCache = mock(ApplicationCachePort.class);
+        useCase = new ChangeStatusUseCase(applicationRepository, historyRepository, applicationCache, 3, UUID::randomUUID);
     }
 
     @Test
@@ -48,7 +53,7 @@ class ChangeStatusUseCaseTest {
     void changeStatus_applicationNotFound_throwsNotFoundException() {
         UUID appId = UUID.randomUUID();
         UUID actorId = UUID.randomUUID();
-        when(applicationRepository.findById(appId)).thenReturn(Optional.empty());
+        when(applicationRepository.findSnapshotById(appId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () ->
                 useCase.changeStatus(appId, "APPROVED", actorId, "ROLE_ADMIN"));
@@ -61,7 +66,7 @@ class ChangeStatusUseCaseTest {
         app.setId(UUID.randomUUID());
         app.setApplicantId(actorId);
 
-        when(applicationRepository.findById(app.getId())).thenReturn(Optional.of(app));
+        when(applicationRepository.findSnapshotById(app.getId())).thenReturn(Optional.of(app));
 
         assertThrows(ConflictException.class, () ->
                 useCase.changeStatus(app.getId(), "APPROVED", actorId, "ROLE_MANAGER"));
@@ -74,13 +79,14 @@ class ChangeStatusUseCaseTest {
         app.setId(UUID.randomUUID());
         app.setApplicantId(UUID.randomUUID());
 
-        when(applicationRepository.findById(app.getId())).thenReturn(Optional.of(app));
+        when(applicationRepository.findSnapshotById(app.getId())).thenReturn(Optional.of(app));
 
         assertThrows(ConflictException.class, () ->
                 useCase.changeStatus(app.getId(), "INVALID_STATUS", actorId, "ROLE_ADMIN"));
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void changeStatus_successfulChange_savesApplicationAndHistory() {
         UUID actorId = UUID.randomUUID();
         UUID appId = UUID.randomUUID();
@@ -91,20 +97,24 @@ class ChangeStatusUseCaseTest {
         app.setStatus(ApplicationStatus.DRAFT);
         app.setUpdatedAt(Instant.now());
 
-        when(applicationRepository.findById(appId)).thenReturn(Optional.of(app));
-        when(applicationRepository.findByIdWithFiles(appId)).thenReturn(Optional.of(app));
-        when(applicationRepository.findByIdWithTags(appId)).thenReturn(Optional.of(app));
+        app.setVersion(2L);
+        when(applicationRepository.findSnapshotById(appId)).thenReturn(Optional.of(app));
+        when(applicationRepository.updateStatus(eq(appId), eq(ApplicationStatus.SUBMITTED), any(), eq(2L))).thenReturn(true);
 
         Application result = useCase.changeStatus(appId, "SUBMITTED", actorId, "ROLE_ADMIN");
 
-        // Проверка нового статуса
+        // Проверка нового статуса: узкий UPDATE, агрегат целиком не сохраняется
         assertEquals(ApplicationStatus.SUBMITTED, result.getStatus());
-        verify(applicationRepository).save(app);
+        assertEquals(3L, result.getVersion());
+        verify(applicationRepository, never()).save(any());
+        verify(applicationRepository, never()).findByIdWithFiles(any());
+        verify(applicationCache).evict(app.getId());
 
         // Проверка истории
-        ArgumentCaptor<ApplicationHistory> captor = ArgumentCaptor.forClass(ApplicationHistory.class);
-        verify(historyRepository).save(captor.capture());
-        ApplicationHistory hist = captor.getValue();
+        ArgumentCaptor<List<ApplicationHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(historyRepository).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        ApplicationHistory hist = captor.getValue().get(0);
         assertEquals(appId, hist.getApplicationId());
         assertEquals(ApplicationStatus.DRAFT, hist.getOldStatus());
         assertEquals(ApplicationStatus.SUBMITTED, hist.getNewStatus());
@@ -121,14 +131,15 @@ class ChangeStatusUseCaseTest {
         app.setApplicantId(UUID.randomUUID());
         app.setStatus(ApplicationStatus.DRAFT);
 
-        when(applicationRepository.findById(appId)).thenReturn(Optional.of(app));
+        when(applicationRepository.findSnapshotById(appId)).thenReturn(Optional.of(app));
 
         Application result = useCase.changeStatus(appId, "DRAFT", actorId, "ROLE_ADMIN");
 
         // Статус остался прежним
         assertEquals(ApplicationStatus.DRAFT, result.getStatus());
-        verify(applicationRepository, never()).save(app);
-        verify(historyRepository, never()).save(any());
+        verify(applicationRepository, never()).updateStatus(any(), any(), any(), any());
+        verify(applicationCache, never()).evict(any());
+        verify(historyRepository, never()).saveAll(any());
     }
 
     @Test
@@ -141,12 +152,70 @@ class ChangeStatusUseCaseTest {
         app.setApplicantId(UUID.randomUUID());
         app.setStatus(ApplicationStatus.DRAFT);
 
-        when(applicationRepository.findById(appId)).thenReturn(Optional.of(app));
+        when(applicationRepository.findSnapshotById(appId)).thenReturn(Optional.of(app));
+
+        when(applicationRepository.updateStatus(eq(appId), eq(ApplicationStatus.SUBMITTED), any(), any())).thenReturn(true);
 
         Application result = useCase.changeStatus(appId, " submitted ", actorId, "ROLE_ADMIN");
 
         assertEquals(ApplicationStatus.SUBMITTED, result.getStatus());
-        verify(applicationRepository).save(app);
-        verify(historyRepository).save(any());
+        verify(applicationRepository).updateStatus(eq(appId), eq(ApplicationStatus.SUBMITTED), any(), eq(0L));
+        verify(historyRepository).saveAll(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void changeStatus_versionConflict_rereadsAndRetries() {
+        UUID appId = UUID.randomUUID();
+        Application stale = application(appId, ApplicationStatus.SUBMITTED, 1L);
+        Application fresh = application(appId, ApplicationStatus.IN_REVIEW, 2L);
+
+        when(applicationRepository.findSnapshotById(appId)).thenReturn(Optional.of(stale), Optional.of(fresh));
+        when(applicationRepository.updateStatus(eq(appId), eq(ApplicationStatus.APPROVED), any(), eq(1L))).thenReturn(false);
+        when(applicationRepository.updateStatus(eq(appId), eq(ApplicationStatus.APPROVED), any(), eq(2L))).thenReturn(true);
+
+        Application result = useCase.changeStatus(appId, "APPROVED", UUID.randomUUID(), "ROLE_MANAGER");
+
+        assertEquals(ApplicationStatus.APPROVED, result.getStatus());
+        ArgumentCaptor<List<ApplicationHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(historyRepository).saveAll(captor.capture());
+        assertEquals(ApplicationStatus.IN_REVIEW, captor.getValue().get(0).getOldStatus());
+        assertEquals(UserRole.ROLE_MANAGER, captor.getValue().get(0).getChangedBy());
+    }
+
+    @Test
+    void changeStatus_concurrentlySetToSameStatus_returnsWithoutHistory() {
+        UUID appId = UUID.randomUUID();
+        when(applicationRepository.findSnapshotById(appId)).thenReturn(
+                Optional.of(application(appId, ApplicationStatus.SUBMITTED, 1L)),
+                Optional.of(application(appId, ApplicationStatus.REJECTED, 2L)));
+        when(applicationRepository.updateStatus(any(), any(), any(), any())).thenReturn(false);
+
+        Application result = useCase.changeStatus(appId, "REJECTED", UUID.randomUUID(), "ROLE_ADMIN");
+
+        assertEquals(ApplicationStatus.REJECTED, result.getStatus());
+        verify(applicationRepository, times(1)).updateStatus(any(), any(), any(), any());
+        verifyNoInteractions(historyRepository, applicationCache);
+    }
+
+    @Test
+    void changeStatus_conflictOnEveryAttempt_throwsConflictAfterMaxAttempts() {
+        UUID appId = UUID.randomUUID();
+        when(applicationRepository.findSnapshotById(appId)).thenReturn(Optional.of(application(appId, ApplicationStatus.SUBMITTED, 1L)));
+        when(applicationRepository.updateStatus(any(), any(), any(), any())).thenReturn(false);
+
+        assertThrows(ConflictException.class, () ->
+                useCase.changeStatus(appId, "APPROVED", UUID.randomUUID(), "ROLE_ADMIN"));
+        verify(applicationRepository, times(3)).updateStatus(any(), any(), any(), any());
+        verifyNoInteractions(historyRepository);
+    }
+
+    private static Application application(UUID id, ApplicationStatus status, Long version) {
+        Application app = new Application();
+        app.setId(id);
+        app.setApplicantId(UUID.randomUUID());
+        app.setStatus(status);
+        app.setVersion(version);
+        return app;
     }
 }
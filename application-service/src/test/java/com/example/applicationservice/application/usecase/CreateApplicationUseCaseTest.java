@@ -1,6 +1,9 @@
 package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.application.exception.BadRequestException;
+import com.example.applicationservice.application.exception.ForbiddenException;
+import com.example.applicationservice.application.exception.NotFoundException;
+import com.example.applicationservice.application.exception.ServiceUnavailableException;
 import com.example.applicationservice.application.usecase.CreateApplicationUseCase;
 import com.example.applicationservice.domain.dto.ApplicationInfo;
 import com.example.applicationservice.domain.model.entity.Application;
@@ -14,6 +17,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,11 +37,18 @@ class CreateApplicationUseCaseTest {
     @Mock EventPublisherPort eventPublisher;
     // if CreateApplicationUseCase depends on other ports (kafka) you can mock them as well
 
+    static final ExecutorService pool = Executors.newFixedThreadPool(2);
+
     CreateApplicationUseCase usecase;
 
     @BeforeEach
     void setUp() {
-        usecase = new CreateApplicationUseCase(repo, historyRepo, userService, productService, fileService, eventPublisher);
+        usecase = new CreateApplicationUseCase(repo, historyRepo, userService, productService, fileService, eventPublisher, pool, UUID::randomUUID);
+    }
+
+    @AfterAll
+    static void shutdown() {
+        pool.shutdownNow();
     }
 
     @Test
@@ -71,4 +85,87 @@ class CreateApplicationUseCaseTest {
         assertEquals(applicant, result.getApplicantId());
         assertEquals(product, result.getProductId());
     }
+
+    @Test
+    void create_checksUserAndProductConcurrently() {
+        UUID applicant = UUID.randomUUID();
+        var req = command(applicant);
+        CountDownLatch productStarted = new CountDownLatch(1);
+
+        // user-проверка завершится только после старта product-проверки — при последовательном вызове был бы таймаут
+        when(userService.userExists(applicant)).thenAnswer(inv -> productStarted.await(5, TimeUnit.SECONDS));
+        when(productService.productExists(req.getProductId())).thenAnswer(inv -> {
+            productStarted.countDown();
+            return true;
+        });
+        when(repo.save(any(Application.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        var result = usecase.createApplication(req, applicant, "ROLE_CLIENT");
+        assertEquals(applicant, result.getApplicantId());
+    }
+
+    @Test
+    void createVerified_skipsUserAndProductChecks() {
+        UUID applicant = UUID.randomUUID();
+        var req = command(applicant);
+        when(repo.save(any(Application.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        var result = usecase.createVerifiedApplication(req, applicant, "ROLE_CLIENT");
+
+        assertEquals(applicant, result.getApplicantId());
+        verifyNoInteractions(userService, productService);
+    }
+
+    @Test
+    void createVerified_stillChecksOwnership() {
+        var req = command(UUID.randomUUID());
+        assertThrows(ForbiddenException.class,
+                () -> usecase.createVerifiedApplication(req, UUID.randomUUID(), "ROLE_CLIENT"));
+        verifyNoInteractions(repo);
+    }
+
+    @Test
+    void create_userServiceDown_winsOverProductMissing() {
+        UUID applicant = UUID.randomUUID();
+        var req = command(applicant);
+        when(userService.userExists(applicant)).thenThrow(new RuntimeException("down"));
+        // product-проверка идёт параллельно и может не успеть стартовать до ответа
+        lenient().when(productService.productExists(req.getProductId())).thenReturn(false);
+
+        var ex = assertThrows(ServiceUnavailableException.class, () -> usecase.createApplication(req, applicant, "ROLE_CLIENT"));
+        assertEquals("User service is unavailable now", ex.getMessage());
+        verifyNoInteractions(repo);
+    }
+
+    @Test
+    void create_productServiceDown_shouldThrowServiceUnavailable() {
+        UUID applicant = UUID.randomUUID();
+        var req = command(applicant);
+        when(userService.userExists(applicant)).thenReturn(true);
+        when(productService.productExists(req.getProductId())).thenReturn(null);
+
+        var ex = assertThrows(ServiceUnavailableException.class, () -> usecase.createApplication(req, applicant, "ROLE_CLIENT"));
+        assertEquals("Product service is unavailable now", ex.getMessage());
+        verifyNoInteractions(repo);
+    }
+
+    @Test
+    void create_userMissing_shouldThrowNotFound() {
+        UUID applicant = UUID.randomUUID();
+        var req = command(applicant);
+        when(userService.userExists(applicant)).thenReturn(false);
+        lenient().when(productService.productExists(req.getProductId())).thenReturn(true);
+
+        assertThrows(NotFoundException.class, () -> usecase.createApplication(req, applicant, "ROLE_CLIENT"));
+        verifyNoInteractions(repo);
+    }
+
+    private static com.example.applicationservice.domain.dto.ApplicationCreateCommand command(UUID applicant) {
+        var req = new com.example.applicationservice.domain.dto.ApplicationCreateCommand();
+        req.setApplicantId(applicant);
+        req.setProductId(UUID.randomUUID());
+        req.setFiles(List.of());
+        req.setTags(List.of());
+        return req;
+    }
 }
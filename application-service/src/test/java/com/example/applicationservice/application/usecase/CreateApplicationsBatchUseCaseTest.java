@@ -0,0 +1,126 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.BadRequestException;
+import com.example.applicationservice.domain.dto.ApplicationBatchItemResult;
+import com.example.applicationservice.domain.dto.ApplicationCreateCommand;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+import com.example.applicationservice.domain.port.outbound.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateApplicationsBatchUseCaseTest {
+
+    @Mock ApplicationRepositoryPort repo;
+    @Mock ApplicationHistoryRepositoryPort historyRepo;
+    @Mock UserServicePort userService;
+    @Mock ProductServicePort productService;
+    @Mock EventPublisherPort eventPublisher;
+
+    CreateApplicationsBatchUseCase usecase;
+
+    @BeforeEach
+    void setUp() {
+        usecase = new CreateApplicationsBatchUseCase(repo, historyRepo, userService, productService, eventPublisher, Runnable::run, 3, UUID::randomUUID);
+    }
+
+    @Test
+    void createBatch_emptyOrTooLarge_shouldThrow() {
+        UUID admin = UUID.randomUUID();
+        assertThrows(BadRequestException.class, () -> usecase.createApplications(List.of(), admin, "ROLE_ADMIN"));
+        List<ApplicationCreateCommand> tooMany = List.of(command(admin, UUID.randomUUID()), command(admin, UUID.randomUUID()),
+                command(admin, UUID.randomUUID()), command(admin, UUID.randomUUID()));
+        assertThrows(BadRequestException.class, () -> usecase.createApplications(tooMany, admin, "ROLE_ADMIN"));
+        verifyNoInteractions(repo, userService, productService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createBatch_checksDistinctIdsOnce_andInsertsInOneBatch() {
+        UUID admin = UUID.randomUUID();
+        UUID applicant = UUID.randomUUID();
+        UUID product = UUID.randomUUID();
+        when(userService.userExists(applicant)).thenReturn(true);
+        when(productService.productExists(product)).thenReturn(true);
+
+        List<ApplicationCreateCommand> commands = List.of(command(applicant, product), command(applicant, product));
+        List<ApplicationBatchItemResult> results = usecase.createApplications(commands, admin, "ROLE_ADMIN");
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(ApplicationBatchItemResult::isCreated));
+        verify(userService, times(1)).userExists(applicant);
+        verify(productService, times(1)).productExists(product);
+
+        ArgumentCaptor<List<Application>> apps = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<ApplicationHistory>> history = ArgumentCaptor.forClass(List.class);
+        verify(repo).insertAll(apps.capture());
+        verify(historyRepo).saveAll(history.capture());
+        assertEquals(2, apps.getValue().size());
+        assertEquals(2, history.getValue().size());
+        verify(eventPublisher).publishFileAttachRequests(argThat(l -> l.size() == 2));
+        verify(eventPublisher).publishTagCreateRequests(argThat(l -> l.size() == 2));
+    }
+
+    @Test
+    void createBatch_reportsErrorsPerItem() {
+        UUID actor = UUID.randomUUID();
+        UUID missingProduct = UUID.randomUUID();
+        UUID okProduct = UUID.randomUUID();
+        UUID downProduct = UUID.randomUUID();
+        when(userService.userExists(actor)).thenReturn(true);
+        when(productService.productExists(okProduct)).thenReturn(true);
+        when(productService.productExists(missingProduct)).thenReturn(false);
+        when(productService.productExists(downProduct)).thenThrow(new RuntimeException("down"));
+
+        List<ApplicationCreateCommand> commands = Arrays.asList(
+                command(actor, okProduct),
+                command(UUID.randomUUID(), okProduct), // чужой applicant
+                command(actor, missingProduct),
+                command(actor, downProduct),
+                null);
+        usecase = new CreateApplicationsBatchUseCase(repo, historyRepo, userService, productService, eventPublisher, Runnable::run, 10, UUID::randomUUID);
+
+        List<ApplicationBatchItemResult> results = usecase.createApplications(commands, actor, "ROLE_CLIENT");
+
+        assertTrue(results.get(0).isCreated());
+        assertEquals(ApplicationBatchItemResult.FORBIDDEN, results.get(1).getErrorCode());
+        assertEquals(ApplicationBatchItemResult.NOT_FOUND, results.get(2).getErrorCode());
+        assertEquals(ApplicationBatchItemResult.SERVICE_UNAVAILABLE, results.get(3).getErrorCode());
+        assertEquals(ApplicationBatchItemResult.BAD_REQUEST, results.get(4).getErrorCode());
+        for (int i = 0; i < results.size(); i++) assertEquals(i, results.get(i).getIndex());
+        verify(repo).insertAll(argThat(l -> l.size() == 1));
+    }
+
+    @Test
+    void createBatch_allFailed_shouldNotInsert() {
+        UUID admin = UUID.randomUUID();
+        UUID applicant = UUID.randomUUID();
+        when(userService.userExists(applicant)).thenReturn(false);
+        when(productService.productExists(any())).thenReturn(true);
+
+        List<ApplicationBatchItemResult> results = usecase.createApplications(List.of(command(applicant, UUID.randomUUID())), admin, "ROLE_ADMIN");
+
+        assertEquals(ApplicationBatchItemResult.NOT_FOUND, results.get(0).getErrorCode());
+        verifyNoInteractions(repo, historyRepo, eventPublisher);
+    }
+
+    private static ApplicationCreateCommand command(UUID applicant, UUID product) {
+        ApplicationCreateCommand cmd = new ApplicationCreateCommand();
+        cmd.setApplicantId(applicant);
+        cmd.setProductId(product);
+        cmd.setFiles(List.of(UUID.randomUUID()));
+        cmd.setTags(List.of("t1"));
+        return cmd;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.application.exception.ForbiddenException;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,13 +16,15 @@ class DeleteApplicationUseCaseTest {
 
     private ApplicationRepositoryPort applicationRepository;
     private ApplicationHistoryRepositoryPort historyRepository;
+    private ApplicationCachePort applicationCache;
     private DeleteApplicationUseCase useCase;
 
     @BeforeEach
     void setUp() {
         applicationRepository = mock(ApplicationRepositoryPort.class);
         historyRepository = mock(ApplicationHistoryRepositoryPort.class);
-        useCase = new DeleteApplicationUseCase(applicationRepository, historyRepository);
+        applicationCache = mock(ApplicationCachePort.class);
+        useCase = new DeleteApplicationUseCase(applicationRepository, historyRepository, applicationCache);
     }
 
     @Test
@@ -44,5 +47,6 @@ class DeleteApplicationUseCaseTest {
         verify(historyRepository).deleteByApplicationId(appId);
         verify(applicationRepository).deleteTagsByApplicationId(appId);
         verify(applicationRepository).deleteById(appId);
+        verify(applicationCache).evict(appId);
     }
 }
@@ -1,6 +1,7 @@
 package com.example.applicationservice.application.usecase;
 
-import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ApplicationBulkDeletionPort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,47 +13,84 @@ import static org.mockito.Mockito.*;
 
 class DeleteApplicationsByProductIdUseCaseTest {
 
+    private static final int CHUNK_SIZE = 2;
+
     private ApplicationRepositoryPort applicationRepository;
-    private ApplicationHistoryRepositoryPort historyRepository;
+    private ApplicationCachePort applicationCache;
+    private ApplicationBulkDeletionPort bulkDeletion;
     private DeleteApplicationsByProductIdUseCase useCase;
 
     @BeforeEach
     void setUp() {
         applicationRepository = mock(ApplicationRepositoryPort.class);
-        historyRepository = mock(ApplicationHistoryRepositoryPort.class);
-        useCase = new DeleteApplicationsByProductIdUseCase(applicationRepository, historyRepository);
+        applicationCache = mock(ApplicationCachePort.class);
+        bulkDeletion = mock(ApplicationBulkDeletionPort.class);
+        useCase = new DeleteApplicationsByProductIdUseCase(applicationRepository, applicationCache, bulkDeletion, CHUNK_SIZE);
+    }
+
+    @Test
+    void deleteApplicationsByProductId_deletesSetBased() {
+        UUID productId = UUID.randomUUID();
+        UUID app1 = UUID.randomUUID();
+
+        when(applicationRepository.deleteByProductIds(List.of(productId), CHUNK_SIZE)).thenReturn(List.of(app1));
+
+        useCase.deleteApplicationsByProductId(productId);
+
+        // одна set-based команда вместо четырёх запросов на каждую заявку
+        verify(applicationRepository).deleteByProductIds(List.of(productId), CHUNK_SIZE);
+        verify(applicationRepository, never()).deleteById(any());
+        verify(applicationCache).evict(app1);
+        verifyNoInteractions(bulkDeletion);
     }
 
     @Test
-    void deleteApplicationsByProductId_deletesAllApplications() {
+    void deleteApplicationsByProductId_fullChunk_schedulesBackgroundDeletion() {
         UUID productId = UUID.randomUUID();
         UUID app1 = UUID.randomUUID();
         UUID app2 = UUID.randomUUID();
 
-        when(applicationRepository.findIdsByProductId(productId)).thenReturn(List.of(app1, app2));
+        when(applicationRepository.deleteByProductIds(List.of(productId), CHUNK_SIZE)).thenReturn(List.of(app1, app2));
 
         useCase.deleteApplicationsByProductId(productId);
 
-        // Проверяем, что все методы удаления вызваны для каждой заявки
-        for (UUID appId : List.of(app1, app2)) {
-            verify(applicationRepository).deleteFilesByApplicationId(appId);
-            verify(historyRepository).deleteByApplicationId(appId);
-            verify(applicationRepository).deleteTagsByApplicationId(appId);
-            verify(applicationRepository).deleteById(appId);
-        }
+        verify(applicationCache).evict(app1);
+        verify(applicationCache).evict(app2);
+        verify(bulkDeletion).scheduleDeleteByProductId(productId);
     }
 
     @Test
-    void deleteApplicationsByProductId_noApplications_nothingDeleted() {
+    void deleteApplicationsByProductId_noApplications_nothingScheduled() {
         UUID productId = UUID.randomUUID();
-        when(applicationRepository.findIdsByProductId(productId)).thenReturn(List.of());
+        when(applicationRepository.deleteByProductIds(List.of(productId), CHUNK_SIZE)).thenReturn(List.of());
 
         useCase.deleteApplicationsByProductId(productId);
 
-        // Проверяем, что ни один метод удаления не был вызван
-        verify(applicationRepository, never()).deleteFilesByApplicationId(any());
-        verify(historyRepository, never()).deleteByApplicationId(any());
-        verify(applicationRepository, never()).deleteTagsByApplicationId(any());
-        verify(applicationRepository, never()).deleteById(any());
+        verifyNoInteractions(applicationCache, bulkDeletion);
+    }
+
+    @Test
+    void deleteApplicationsByProductIds_batch_singleStatementForAll() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID app1 = UUID.randomUUID();
+        UUID app2 = UUID.randomUUID();
+        when(applicationRepository.deleteByProductIds(List.of(first, second), CHUNK_SIZE)).thenReturn(List.of(app1, app2));
+
+        useCase.deleteApplicationsByProductIds(List.of(first, second));
+
+        verify(applicationRepository, times(1)).deleteByProductIds(any(), anyInt());
+        verify(applicationCache).evict(app1);
+        verify(applicationCache).evict(app2);
+        // порция заполнена — остаток дочищается в фоне по каждому владельцу
+        verify(bulkDeletion).scheduleDeleteByProductId(first);
+        verify(bulkDeletion).scheduleDeleteByProductId(second);
+    }
+
+    @Test
+    void deleteApplicationsByProductIds_empty_noQuery() {
+        useCase.deleteApplicationsByProductIds(List.of());
+
+        verifyNoInteractions(applicationRepository, applicationCache, bulkDeletion);
     }
 }
@@ -1,6 +1,7 @@
 package com.example.applicationservice.application.usecase;
 
-import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ApplicationBulkDeletionPort;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,47 +13,84 @@ import static org.mockito.Mockito.*;
 
 class DeleteApplicationsByUserIdUseCaseTest {
 
+    private static final int CHUNK_SIZE = 2;
+
     private ApplicationRepositoryPort applicationRepository;
-    private ApplicationHistoryRepositoryPort historyRepository;
+    private ApplicationCachePort applicationCache;
+    private ApplicationBulkDeletionPort bulkDeletion;
     private DeleteApplicationsByUserIdUseCase useCase;
 
     @BeforeEach
     void setUp() {
         applicationRepository = mock(ApplicationRepositoryPort.class);
-        historyRepository = mock(ApplicationHistoryRepositoryPort.class);
-        useCase = new DeleteApplicationsByUserIdUseCase(applicationRepository, historyRepository);
+        applicationCache = mock(ApplicationCachePort.class);
+        bulkDeletion = mock(ApplicationBulkDeletionPort.class);
+        useCase = new DeleteApplicationsByUserIdUseCase(applicationRepository, applicationCache, bulkDeletion, CHUNK_SIZE);
+    }
+
+    @Test
+    void deleteApplicationsByUserId_deletesSetBased() {
+        UUID userId = UUID.randomUUID();
+        UUID app1 = UUID.randomUUID();
+
+        when(applicationRepository.deleteByApplicantIds(List.of(userId), CHUNK_SIZE)).thenReturn(List.of(app1));
+
+        useCase.deleteApplicationsByUserId(userId);
+
+        // одна set-based команда вместо четырёх запросов на каждую заявку
+        verify(applicationRepository).deleteByApplicantIds(List.of(userId), CHUNK_SIZE);
+        verify(applicationRepository, never()).deleteById(any());
+        verify(applicationCache).evict(app1);
+        verifyNoInteractions(bulkDeletion);
     }
 
     @Test
-    void deleteApplicationsByUserId_deletesAllApplications() {
+    void deleteApplicationsByUserId_fullChunk_schedulesBackgroundDeletion() {
         UUID userId = UUID.randomUUID();
         UUID app1 = UUID.randomUUID();
         UUID app2 = UUID.randomUUID();
 
-        when(applicationRepository.findIdsByApplicantId(userId)).thenReturn(List.of(app1, app2));
+        when(applicationRepository.deleteByApplicantIds(List.of(userId), CHUNK_SIZE)).thenReturn(List.of(app1, app2));
 
         useCase.deleteApplicationsByUserId(userId);
 
-        // Проверяем, что все методы удаления вызваны для каждой заявки
-        for (UUID appId : List.of(app1, app2)) {
-            verify(applicationRepository).deleteFilesByApplicationId(appId);
-            verify(historyRepository).deleteByApplicationId(appId);
-            verify(applicationRepository).deleteTagsByApplicationId(appId);
-            verify(applicationRepository).deleteById(appId);
-        }
+        verify(applicationCache).evict(app1);
+        verify(applicationCache).evict(app2);
+        verify(bulkDeletion).scheduleDeleteByApplicantId(userId);
     }
 
     @Test
-    void deleteApplicationsByUserId_noApplications_nothingDeleted() {
+    void deleteApplicationsByUserId_noApplications_nothingScheduled() {
         UUID userId = UUID.randomUUID();
-        when(applicationRepository.findIdsByApplicantId(userId)).thenReturn(List.of());
+        when(applicationRepository.deleteByApplicantIds(List.of(userId), CHUNK_SIZE)).thenReturn(List.of());
 
         useCase.deleteApplicationsByUserId(userId);
 
-        // Проверяем, что ни один метод удаления не был вызван
-        verify(applicationRepository, never()).deleteFilesByApplicationId(any());
-        verify(historyRepository, never()).deleteByApplicationId(any());
-        verify(applicationRepository, never()).deleteTagsByApplicationId(any());
-        verify(applicationRepository, never()).deleteById(any());
+        verifyNoInteractions(applicationCache, bulkDeletion);
+    }
+
+    @Test
+    void deleteApplicationsByUserIds_batch_singleStatementForAll() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID app1 = UUID.randomUUID();
+        UUID app2 = UUID.randomUUID();
+        when(applicationRepository.deleteByApplicantIds(List.of(first, second), CHUNK_SIZE)).thenReturn(List.of(app1, app2));
+
+        useCase.deleteApplicationsByUserIds(List.of(first, second));
+
+        verify(applicationRepository, times(1)).deleteByApplicantIds(any(), anyInt());
+        verify(applicationCache).evict(app1);
+        verify(applicationCache).evict(app2);
+        // порция заполнена — остаток дочищается в фоне по каждому владельцу
+        verify(bulkDeletion).scheduleDeleteByApplicantId(first);
+        verify(bulkDeletion).scheduleDeleteByApplicantId(second);
+    }
+
+    @Test
+    void deleteApplicationsByUserIds_empty_noQuery() {
+        useCase.deleteApplicationsByUserIds(List.of());
+
+        verifyNoInteractions(applicationRepository, applicationCache, bulkDeletion);
     }
 }
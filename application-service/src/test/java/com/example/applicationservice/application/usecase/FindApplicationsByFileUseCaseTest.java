@@ -2,9 +2,8 @@ package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.application.exception.BadRequestException;
 import com.example.applicationservice.domain.dto.ApplicationInfo;
-import com.example.applicationservice.domain.model.entity.Application;
-import com.example.applicationservice.domain.model.enums.ApplicationStatus;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import com.example.applicationservice.domain.util.ApplicationPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -27,51 +26,89 @@ class FindApplicationsByFileUseCaseTest {
     }
 
     @Test
-    void findApplicationsByFile_success_returnsApplicationInfoList() {
+    void findApplicationsByFile_success_returnsApplicationInfoPage() {
         UUID fileId = UUID.randomUUID();
-        UUID appId = UUID.randomUUID();
-        UUID applicantId = UUID.randomUUID();
-        UUID productId = UUID.randomUUID();
-
-        Application app = new Application();
-        app.setId(appId);
-        app.setApplicantId(applicantId);
-        app.setProductId(productId);
-        app.setStatus(ApplicationStatus.SUBMITTED);
-        app.setCreatedAt(Instant.now());
-
-        when(applicationRepository.findByFile(fileId)).thenReturn(List.of(app));
-
-        List<ApplicationInfo> result = useCase.findApplicationsByFile(fileId);
-
-        assertEquals(1, result.size());
-        ApplicationInfo info = result.get(0);
-        assertEquals(appId, info.getId());
-        assertEquals(applicantId, info.getApplicantId());
-        assertEquals(productId, info.getProductId());
+        ApplicationInfo app = info(UUID.randomUUID());
+        app.setApplicantId(UUID.randomUUID());
+        app.setProductId(UUID.randomUUID());
+        app.setStatus("SUBMITTED");
+
+        when(applicationRepository.findInfoPageByFile(fileId, null, 20)).thenReturn(List.of(app));
+
+        ApplicationPage result = useCase.findApplicationsByFile(fileId, null, 20);
+
+        assertEquals(1, result.getItems().size());
+        ApplicationInfo info = result.getItems().get(0);
+        assertEquals(app.getId(), info.getId());
+        assertEquals(app.getApplicantId(), info.getApplicantId());
+        assertEquals(app.getProductId(), info.getProductId());
         assertEquals("SUBMITTED", info.getStatus());
         assertEquals(app.getCreatedAt(), info.getCreatedAt());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void findApplicationsByFile_emptyList_returnsEmptyPage() {
+        UUID fileId = UUID.randomUUID();
+        when(applicationRepository.findInfoPageByFile(fileId, null, 20)).thenReturn(List.of());
+
+        ApplicationPage result = useCase.findApplicationsByFile(fileId, null, 20);
+
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void findApplicationsByFile_fullPage_returnsCursorOfLastItem_andResumesAfterIt() {
+        UUID fileId = UUID.randomUUID();
+        ApplicationInfo first = info(UUID.randomUUID());
+        ApplicationInfo second = info(UUID.randomUUID());
+        when(applicationRepository.findInfoPageByFile(fileId, null, 2)).thenReturn(List.of(first, second));
+        when(applicationRepository.findInfoPageByFile(fileId, second.getId(), 2)).thenReturn(List.of());
+
+        ApplicationPage page = useCase.findApplicationsByFile(fileId, null, 2);
+        assertEquals(second.getId().toString(), page.getNextCursor());
+
+        ApplicationPage next = useCase.findApplicationsByFile(fileId, page.getNextCursor(), 2);
+        assertTrue(next.getItems().isEmpty());
+        verify(applicationRepository).findInfoPageByFile(fileId, second.getId(), 2);
     }
 
     @Test
-    void findApplicationsByFile_emptyList_returnsEmptyList() {
+    void findApplicationsByFile_limitIsCappedAt50() {
         UUID fileId = UUID.randomUUID();
-        when(applicationRepository.findByFile(fileId)).thenReturn(List.of());
+        when(applicationRepository.findInfoPageByFile(fileId, null, 50)).thenReturn(List.of());
 
-        List<ApplicationInfo> result = useCase.findApplicationsByFile(fileId);
+        useCase.findApplicationsByFile(fileId, null, 500);
 
-        assertTrue(result.isEmpty());
+        verify(applicationRepository).findInfoPageByFile(fileId, null, 50);
+    }
+
+    @Test
+    void findApplicationsByFile_invalidCursorOrLimit_throwsBadRequest() {
+        UUID fileId = UUID.randomUUID();
+
+        assertThrows(BadRequestException.class, () -> useCase.findApplicationsByFile(fileId, "not-a-uuid", 20));
+        assertThrows(BadRequestException.class, () -> useCase.findApplicationsByFile(fileId, null, 0));
+        verifyNoInteractions(applicationRepository);
     }
 
     @Test
     void findApplicationsByFile_repositoryThrowsException_throwsBadRequestException() {
         UUID fileId = UUID.randomUUID();
-        when(applicationRepository.findByFile(fileId)).thenThrow(new RuntimeException("DB error"));
+        when(applicationRepository.findInfoPageByFile(fileId, null, 20)).thenThrow(new RuntimeException("DB error"));
 
         BadRequestException ex = assertThrows(BadRequestException.class, () ->
-                useCase.findApplicationsByFile(fileId));
+                useCase.findApplicationsByFile(fileId, null, 20));
 
         assertTrue(ex.getMessage().contains("Failed to get applications by file"));
         assertTrue(ex.getMessage().contains("DB error"));
     }
+
+    private static ApplicationInfo info(UUID id) {
+        ApplicationInfo ai = new ApplicationInfo();
+        ai.setId(id);
+        ai.setCreatedAt(Instant.now());
+        return ai;
+    }
 }
@@ -2,9 +2,8 @@ package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.application.exception.BadRequestException;
 import com.example.applicationservice.domain.dto.ApplicationInfo;
-import com.example.applicationservice.domain.model.entity.Application;
-import com.example.applicationservice.domain.model.enums.ApplicationStatus;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import com.example.applicationservice.domain.util.ApplicationPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -27,70 +26,89 @@ class FindApplicationsByTagUseCaseTest {
     }
 
     @Test
-    void findApplicationsByTag_success_returnsApplicationInfoList() {
-        UUID appId = UUID.randomUUID();
-        UUID applicantId = UUID.randomUUID();
-        UUID productId = UUID.randomUUID();
-        String tagName = "important";
-
-        Application app = new Application();
-        app.setId(appId);
-        app.setApplicantId(applicantId);
-        app.setProductId(productId);
-        app.setStatus(ApplicationStatus.APPROVED);
-        app.setCreatedAt(Instant.now());
-
-        when(applicationRepository.findByTag(tagName)).thenReturn(List.of(app));
-
-        List<ApplicationInfo> result = useCase.findApplicationsByTag(tagName);
-
-        assertEquals(1, result.size());
-        ApplicationInfo info = result.get(0);
-        assertEquals(appId, info.getId());
-        assertEquals(applicantId, info.getApplicantId());
-        assertEquals(productId, info.getProductId());
-        assertEquals("APPROVED", info.getStatus());
+    void findApplicationsByTag_success_returnsApplicationInfoPage() {
+        String tagName = "urgent";
+        ApplicationInfo app = info(UUID.randomUUID());
+        app.setApplicantId(UUID.randomUUID());
+        app.setProductId(UUID.randomUUID());
+        app.setStatus("SUBMITTED");
+
+        when(applicationRepository.findInfoPageByTag(tagName, null, 20)).thenReturn(List.of(app));
+
+        ApplicationPage result = useCase.findApplicationsByTag(tagName, null, 20);
+
+        assertEquals(1, result.getItems().size());
+        ApplicationInfo info = result.getItems().get(0);
+        assertEquals(app.getId(), info.getId());
+        assertEquals(app.getApplicantId(), info.getApplicantId());
+        assertEquals(app.getProductId(), info.getProductId());
+        assertEquals("SUBMITTED", info.getStatus());
         assertEquals(app.getCreatedAt(), info.getCreatedAt());
+        assertNull(result.getNextCursor());
     }
 
     @Test
-    void findApplicationsByTag_emptyList_returnsEmptyList() {
-        String tagName = "nonexistent";
-        when(applicationRepository.findByTag(tagName)).thenReturn(List.of());
+    void findApplicationsByTag_emptyList_returnsEmptyPage() {
+        String tagName = "urgent";
+        when(applicationRepository.findInfoPageByTag(tagName, null, 20)).thenReturn(List.of());
 
-        List<ApplicationInfo> result = useCase.findApplicationsByTag(tagName);
+        ApplicationPage result = useCase.findApplicationsByTag(tagName, null, 20);
 
-        assertTrue(result.isEmpty());
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNextCursor());
     }
 
     @Test
-    void findApplicationsByTag_repositoryThrowsException_throwsBadRequestException() {
-        String tagName = "failtag";
-        when(applicationRepository.findByTag(tagName)).thenThrow(new RuntimeException("DB error"));
+    void findApplicationsByTag_fullPage_returnsCursorOfLastItem_andResumesAfterIt() {
+        String tagName = "urgent";
+        ApplicationInfo first = info(UUID.randomUUID());
+        ApplicationInfo second = info(UUID.randomUUID());
+        when(applicationRepository.findInfoPageByTag(tagName, null, 2)).thenReturn(List.of(first, second));
+        when(applicationRepository.findInfoPageByTag(tagName, second.getId(), 2)).thenReturn(List.of());
+
+        ApplicationPage page = useCase.findApplicationsByTag(tagName, null, 2);
+        assertEquals(second.getId().toString(), page.getNextCursor());
+
+        ApplicationPage next = useCase.findApplicationsByTag(tagName, page.getNextCursor(), 2);
+        assertTrue(next.getItems().isEmpty());
+        verify(applicationRepository).findInfoPageByTag(tagName, second.getId(), 2);
+    }
 
-        BadRequestException ex = assertThrows(BadRequestException.class, () ->
-                useCase.findApplicationsByTag(tagName));
+    @Test
+    void findApplicationsByTag_limitIsCappedAt50() {
+        String tagName = "urgent";
+        when(applicationRepository.findInfoPageByTag(tagName, null, 50)).thenReturn(List.of());
 
-        assertTrue(ex.getMessage().contains("Failed to get applications by tag"));
-        assertTrue(ex.getMessage().contains("DB error"));
+        useCase.findApplicationsByTag(tagName, null, 500);
+
+        verify(applicationRepository).findInfoPageByTag(tagName, null, 50);
     }
 
     @Test
-    void findApplicationsByTag_statusNull_setsStatusNull() {
-        String tagName = "nullstatus";
-        UUID appId = UUID.randomUUID();
-        Application app = new Application();
-        app.setId(appId);
-        app.setApplicantId(UUID.randomUUID());
-        app.setProductId(UUID.randomUUID());
-        app.setStatus(null);
-        app.setCreatedAt(Instant.now());
+    void findApplicationsByTag_invalidCursorOrLimit_throwsBadRequest() {
+        String tagName = "urgent";
+
+        assertThrows(BadRequestException.class, () -> useCase.findApplicationsByTag(tagName, "not-a-uuid", 20));
+        assertThrows(BadRequestException.class, () -> useCase.findApplicationsByTag(tagName, null, 0));
+        verifyNoInteractions(applicationRepository);
+    }
 
-        when(applicationRepository.findByTag(tagName)).thenReturn(List.of(app));
+    @Test
+    void findApplicationsByTag_repositoryThrowsException_throwsBadRequestException() {
+        String tagName = "urgent";
+        when(applicationRepository.findInfoPageByTag(tagName, null, 20)).thenThrow(new RuntimeException("DB error"));
 
-        List<ApplicationInfo> result = useCase.findApplicationsByTag(tagName);
+        BadRequestException ex = assertThrows(BadRequestException.class, () ->
+                useCase.findApplicationsByTag(tagName, null, 20));
+
+        assertTrue(ex.getMessage().contains("Failed to get applications by tag"));
+        assertTrue(ex.getMessage().contains("DB error"));
+    }
 
-        assertEquals(1, result.size());
-        assertNull(result.get(0).getStatus());
+    private static ApplicationInfo info(UUID id) {
+        ApplicationInfo ai = new ApplicationInfo();
+        ai.setId(id);
+        ai.setCreatedAt(Instant.now());
+        return ai;
     }
 }
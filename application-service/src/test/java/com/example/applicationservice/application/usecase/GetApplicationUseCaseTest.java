@@ -1,6 +1,8 @@
 package com.example.applicationservice.application.usecase;
 
+import com.example.applicationservice.domain.dto.ApplicationVersion;
 import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,12 +16,14 @@ import static org.mockito.Mockito.*;
 class GetApplicationUseCaseTest {
 
     private ApplicationRepositoryPort applicationRepository;
+    private ApplicationCachePort applicationCache;
     private GetApplicationUseCase useCase;
 
     @BeforeEach
     void setUp() {
         applicationRepository = mock(ApplicationRepositoryPort.class);
-        useCase = new GetApplicationUseCase(applicationRepository);
+        applicationCache = mock(ApplicationCachePort.class);
+        useCase = new GetApplicationUseCase(applicationRepository, applicationCache);
     }
 
     @Test
@@ -63,4 +67,49 @@ class GetApplicationUseCaseTest {
         verify(applicationRepository).findByIdWithFiles(appId);
         verify(applicationRepository).findById(appId);
     }
+
+    @Test
+    void findById_cached_doesNotHitRepository() {
+        UUID appId = UUID.randomUUID();
+        Application app = new Application();
+        when(applicationCache.get(appId)).thenReturn(Optional.of(app));
+
+        Optional<Application> result = useCase.findById(appId);
+
+        assertEquals(app, result.orElseThrow());
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void findById_loadedFromRepository_isPutIntoCache() {
+        UUID appId = UUID.randomUUID();
+        Application app = new Application();
+        when(applicationRepository.findByIdWithFiles(appId)).thenReturn(Optional.of(app));
+
+        useCase.findById(appId);
+
+        verify(applicationCache).put(app);
+    }
+
+    @Test
+    void findVersion_cacheMiss_readsVersionOnly() {
+        UUID appId = UUID.randomUUID();
+        when(applicationRepository.findVersionById(appId)).thenReturn(Optional.of(new ApplicationVersion(UUID.randomUUID(), 4L)));
+
+        assertEquals(Optional.of(4L), useCase.findVersion(appId));
+        verify(applicationRepository).findVersionById(appId);
+        verifyNoMoreInteractions(applicationRepository);
+    }
+
+    @Test
+    void findVersion_staleCacheEntry_ignored() {
+        UUID appId = UUID.randomUUID();
+        Application stale = new Application();
+        stale.setVersion(2L);
+        when(applicationCache.get(appId)).thenReturn(Optional.of(stale));
+        when(applicationRepository.findVersionById(appId)).thenReturn(Optional.of(new ApplicationVersion(UUID.randomUUID(), 3L)));
+
+        assertEquals(Optional.of(3L), useCase.findVersion(appId));
+        verify(applicationCache, never()).get(appId);
+    }
 }
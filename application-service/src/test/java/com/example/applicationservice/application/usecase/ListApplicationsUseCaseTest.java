@@ -54,7 +54,7 @@ class ListApplicationsUseCaseTest {
         when(applicationRepository.findAll(0, 10)).thenReturn(List.of(app));
         when(applicationRepository.findByIdsWithTags(List.of(appId))).thenReturn(List.of(app));
         when(applicationRepository.findByIdsWithFiles(List.of(appId))).thenReturn(List.of(app));
-        when(fileService.checkFilesExist(List.of(file1, file2))).thenReturn(List.of(file1)); // file2 не существует
+        when(fileService.checkFilesExist(anyOrder(file1, file2))).thenReturn(List.of(file1)); // file2 не существует
 
         List<Application> result = useCase.listApplications(0, 10);
 
@@ -108,7 +108,7 @@ class ListApplicationsUseCaseTest {
         when(applicationRepository.findAll(0, 10)).thenReturn(List.of(app1, app2));
         when(applicationRepository.findByIdsWithTags(List.of(app1Id, app2Id))).thenReturn(List.of(app1, app2));
         when(applicationRepository.findByIdsWithFiles(List.of(app1Id, app2Id))).thenReturn(List.of(app1, app2));
-        when(fileService.checkFilesExist(List.of(f1, f2))).thenReturn(List.of(f1, f2));
+        when(fileService.checkFilesExist(anyOrder(f1, f2))).thenReturn(List.of(f1, f2));
 
         List<Application> result = useCase.listApplications(0, 10);
 
@@ -118,4 +118,10 @@ class ListApplicationsUseCaseTest {
         assertEquals(Set.of("t1"), result.get(0).getTags());
         assertEquals(Set.of("t2"), result.get(1).getTags());
     }
+
+    // порядок id зависит от итерации Set — сравниваем как множества
+    private static List<UUID> anyOrder(UUID... ids) {
+        Set<UUID> expected = Set.of(ids);
+        return argThat(list -> list != null && list.size() == expected.size() && expected.containsAll(list));
+    }
 }
@@ -1,18 +1,26 @@
 package com.example.applicationservice.application.usecase;
 
+import com.example.applicationservice.application.exception.BadRequestException;
 import com.example.applicationservice.application.exception.ForbiddenException;
 import com.example.applicationservice.application.exception.NotFoundException;
-import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.application.util.CursorUtil;
+import com.example.applicationservice.domain.dto.ApplicationVersion;
+import com.example.applicationservice.domain.dto.HistoryVersion;
 import com.example.applicationservice.domain.model.entity.ApplicationHistory;
 import com.example.applicationservice.domain.port.outbound.ApplicationHistoryRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
+import com.example.applicationservice.domain.util.HistoryPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 class ListHistoryUseCaseTest {
@@ -31,68 +39,120 @@ class ListHistoryUseCaseTest {
     @Test
     void listHistory_applicationNotFound_throwsNotFoundException() {
         UUID appId = UUID.randomUUID();
-        when(applicationRepository.findById(appId)).thenReturn(java.util.Optional.empty());
+        when(applicationRepository.findVersionById(appId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () ->
-                useCase.listHistory(appId, UUID.randomUUID(), "ROLE_USER"));
+                useCase.listHistory(appId, null, 20, UUID.randomUUID(), "ROLE_USER"));
     }
 
     @Test
     void listHistory_insufficientPermissions_throwsForbiddenException() {
         UUID appId = UUID.randomUUID();
-        UUID applicantId = UUID.randomUUID();
-        Application app = new Application();
-        app.setId(appId);
-        app.setApplicantId(applicantId);
-
-        when(applicationRepository.findById(appId)).thenReturn(java.util.Optional.of(app));
+        when(applicationRepository.findVersionById(appId)).thenReturn(Optional.of(new ApplicationVersion(UUID.randomUUID(), 3L)));
 
         UUID actorId = UUID.randomUUID(); // не заявитель
         assertThrows(ForbiddenException.class, () ->
-                useCase.listHistory(appId, actorId, "ROLE_USER"));
+                useCase.listHistory(appId, null, 20, actorId, "ROLE_USER"));
+        verifyNoInteractions(historyRepository);
     }
 
     @Test
-    void listHistory_success_returnsHistory_forApplicant() {
+    void listHistory_success_returnsFirstPage_forApplicant() {
         UUID appId = UUID.randomUUID();
         UUID actorId = UUID.randomUUID();
-        Application app = new Application();
-        app.setId(appId);
-        app.setApplicantId(actorId);
+        ApplicationHistory hist1 = history(Instant.parse("2026-10-02T00:00:00Z"));
+        ApplicationHistory hist2 = history(Instant.parse("2026-10-01T00:00:00Z"));
+
+        when(applicationRepository.findVersionById(appId)).thenReturn(Optional.of(new ApplicationVersion(actorId, 3L)));
+        when(historyRepository.findPageByApplicationId(appId, null, null, 2)).thenReturn(List.of(hist1, hist2));
+        when(historyRepository.countByApplicationId(appId)).thenReturn(5L);
+
+        HistoryPage page = useCase.listHistory(appId, null, 2, actorId, "ROLE_USER");
+
+        assertEquals(2, page.getItems().size());
+        // страница полная — курсор указывает на последнюю строку
+        CursorUtil.Decoded next = CursorUtil.decode(page.getNextCursor());
+        assertEquals(hist2.getChangedAt(), next.timestamp);
+        assertEquals(hist2.getId(), next.id);
+        assertEquals(3L, page.getVersion().getApplicationVersion());
+        assertEquals(5L, page.getVersion().getRows());
+        verify(applicationRepository, never()).findById(any());
+    }
 
-        ApplicationHistory hist1 = new ApplicationHistory();
-        ApplicationHistory hist2 = new ApplicationHistory();
+    @Test
+    void listHistory_cursor_passedAsKeysetBound_lastPageHasNoCursor() {
+        UUID appId = UUID.randomUUID();
+        UUID actorId = UUID.randomUUID();
+        Instant ts = Instant.parse("2026-09-15T10:00:00Z");
+        UUID lastId = UUID.randomUUID();
 
-        when(applicationRepository.findById(appId)).thenReturn(java.util.Optional.of(app));
-        when(historyRepository.findByApplicationIdOrderByChangedAtDesc(appId))
-                .thenReturn(List.of(hist1, hist2));
+        when(applicationRepository.findVersionById(appId)).thenReturn(Optional.of(new ApplicationVersion(UUID.randomUUID(), 3L)));
+        when(historyRepository.findPageByApplicationId(appId, ts, lastId, 20))
+                .thenReturn(List.of(history(ts.minusSeconds(60))));
 
-        List<ApplicationHistory> result = useCase.listHistory(appId, actorId, "ROLE_USER");
+        HistoryPage page = useCase.listHistory(appId, CursorUtil.encode(ts, lastId), 20, actorId, "ROLE_MANAGER");
 
-        assertEquals(2, result.size());
-        verify(historyRepository).findByApplicationIdOrderByChangedAtDesc(appId);
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
     }
 
     @Test
     void listHistory_success_returnsHistory_forAdminOrManager() {
         UUID appId = UUID.randomUUID();
         UUID actorId = UUID.randomUUID();
-        Application app = new Application();
-        app.setId(appId);
-        app.setApplicantId(UUID.randomUUID());
-
-        ApplicationHistory hist = new ApplicationHistory();
-
-        when(applicationRepository.findById(appId)).thenReturn(java.util.Optional.of(app));
-        when(historyRepository.findByApplicationIdOrderByChangedAtDesc(appId))
-                .thenReturn(List.of(hist));
+        when(applicationRepository.findVersionById(appId)).thenReturn(Optional.of(new ApplicationVersion(UUID.randomUUID(), 3L)));
+        when(historyRepository.findPageByApplicationId(appId, null, null, 20))
+                .thenReturn(List.of(history(Instant.now())));
 
         // Admin
-        List<ApplicationHistory> resultAdmin = useCase.listHistory(appId, actorId, "ROLE_ADMIN");
-        assertEquals(1, resultAdmin.size());
+        assertEquals(1, useCase.listHistory(appId, null, 20, actorId, "ROLE_ADMIN").getItems().size());
 
         // Manager
-        List<ApplicationHistory> resultManager = useCase.listHistory(appId, actorId, "ROLE_MANAGER");
-        assertEquals(1, resultManager.size());
+        assertEquals(1, useCase.listHistory(appId, null, 20, actorId, "ROLE_MANAGER").getItems().size());
+    }
+
+    @Test
+    void listHistory_limitCappedAt50() {
+        UUID appId = UUID.randomUUID();
+        UUID actorId = UUID.randomUUID();
+        when(applicationRepository.findVersionById(appId)).thenReturn(Optional.of(new ApplicationVersion(actorId, 3L)));
+        when(historyRepository.findPageByApplicationId(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        HistoryPage page = useCase.listHistory(appId, null, 500, actorId, "ROLE_USER");
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(historyRepository).findPageByApplicationId(appId, null, null, 50);
+    }
+
+    @Test
+    void findVersion_countsHistoryRowsAfterPermissionCheck() {
+        UUID appId = UUID.randomUUID();
+        UUID owner = UUID.randomUUID();
+        when(applicationRepository.findVersionById(appId)).thenReturn(Optional.of(new ApplicationVersion(owner, 7L)));
+        when(historyRepository.countByApplicationId(appId)).thenReturn(4L);
+
+        HistoryVersion version = useCase.findVersion(appId, owner, "ROLE_CLIENT");
+        assertEquals(7L, version.getApplicationVersion());
+        assertEquals(4L, version.getRows());
+        assertThrows(ForbiddenException.class, () -> useCase.findVersion(appId, UUID.randomUUID(), "ROLE_CLIENT"));
+        // чужому пользователю история не считается; страницы не читаются вовсе
+        verify(historyRepository, times(1)).countByApplicationId(appId);
+        verify(historyRepository, never()).findPageByApplicationId(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void listHistory_invalidCursorOrLimit_throwsBadRequest() {
+        UUID appId = UUID.randomUUID();
+        assertThrows(BadRequestException.class, () -> useCase.listHistory(appId, "not-a-cursor", 20, UUID.randomUUID(), "ROLE_ADMIN"));
+        assertThrows(BadRequestException.class, () -> useCase.listHistory(appId, null, 0, UUID.randomUUID(), "ROLE_ADMIN"));
+        verifyNoInteractions(applicationRepository, historyRepository);
+    }
+
+    private static ApplicationHistory history(Instant changedAt) {
+        ApplicationHistory h = new ApplicationHistory();
+        h.setId(UUID.randomUUID());
+        h.setChangedAt(changedAt);
+        return h;
     }
 }
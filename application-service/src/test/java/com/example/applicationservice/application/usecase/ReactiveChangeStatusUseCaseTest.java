@@ -0,0 +1,129 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.*;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationHistoryRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveChangeStatusUseCaseTest {
+
+    private ReactiveApplicationRepositoryPort applicationRepository;
+    private ReactiveApplicationHistoryRepositoryPort historyRepository;
+    private ApplicationCachePort applicationCache;
+    private ReactiveChangeStatusUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository = mock(ReactiveApplicationRepositoryPort.class);
+        historyRepository = mock(ReactiveApplicationHistoryRepositoryPort.class);
+        applicationCache = mock(ApplicationCachePort.class);
+        useCase = new ReactiveChangeStatusUseCase(applicationRepository, historyRepository, applicationCache, 3, UUID::randomUUID);
+    }
+
+    @Test
+    void changeStatus_unauthenticated_emitsUnauthorized() {
+        StepVerifier.create(useCase.changeStatus(UUID.randomUUID(), "APPROVED", null, "ROLE_ADMIN"))
+                .expectError(UnauthorizedException.class)
+                .verify();
+    }
+
+    @Test
+    void changeStatus_client_emitsForbidden() {
+        StepVerifier.create(useCase.changeStatus(UUID.randomUUID(), "APPROVED", UUID.randomUUID(), "ROLE_CLIENT"))
+                .expectError(ForbiddenException.class)
+                .verify();
+    }
+
+    @Test
+    void changeStatus_success_updatesStatusAndWritesHistory() {
+        Application app = submittedApplication(3L);
+        when(applicationRepository.findSnapshotById(app.getId())).thenReturn(Mono.just(app));
+        when(applicationRepository.updateStatus(eq(app.getId()), eq(ApplicationStatus.APPROVED), any(), eq(3L)))
+                .thenReturn(Mono.just(true));
+        when(historyRepository.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+
+        StepVerifier.create(useCase.changeStatus(app.getId(), "approved", UUID.randomUUID(), "ROLE_ADMIN"))
+                .assertNext(a -> {
+                    assertEquals(ApplicationStatus.APPROVED, a.getStatus());
+                    assertEquals(4L, a.getVersion());
+                })
+                .verifyComplete();
+        verify(applicationCache).evict(app.getId());
+
+        ArgumentCaptor<ApplicationHistory> captor = ArgumentCaptor.forClass(ApplicationHistory.class);
+        verify(historyRepository).save(captor.capture());
+        assertEquals(ApplicationStatus.SUBMITTED, captor.getValue().getOldStatus());
+        assertEquals(ApplicationStatus.APPROVED, captor.getValue().getNewStatus());
+    }
+
+    @Test
+    void changeStatus_versionMismatch_emitsConflict() {
+        Application app = submittedApplication(1L);
+        when(applicationRepository.findSnapshotById(app.getId())).thenReturn(Mono.just(app));
+        when(applicationRepository.updateStatus(any(), any(), any(), any())).thenReturn(Mono.just(false));
+
+        StepVerifier.create(useCase.changeStatus(app.getId(), "REJECTED", UUID.randomUUID(), "ROLE_MANAGER"))
+                .expectError(ConflictException.class)
+                .verify();
+        verify(applicationRepository, times(3)).updateStatus(any(), any(), any(), any());
+        verifyNoInteractions(historyRepository);
+    }
+
+    @Test
+    void changeStatus_versionConflict_rereadsAndRetries() {
+        Application stale = submittedApplication(1L);
+        Application fresh = submittedApplication(2L);
+        fresh.setId(stale.getId());
+        fresh.setStatus(ApplicationStatus.IN_REVIEW);
+        when(applicationRepository.findSnapshotById(stale.getId())).thenReturn(Mono.just(stale), Mono.just(fresh));
+        when(applicationRepository.updateStatus(eq(stale.getId()), eq(ApplicationStatus.APPROVED), any(), eq(1L)))
+                .thenReturn(Mono.just(false));
+        when(applicationRepository.updateStatus(eq(stale.getId()), eq(ApplicationStatus.APPROVED), any(), eq(2L)))
+                .thenReturn(Mono.just(true));
+        when(historyRepository.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+
+        StepVerifier.create(useCase.changeStatus(stale.getId(), "APPROVED", UUID.randomUUID(), "ROLE_ADMIN"))
+                .assertNext(a -> assertEquals(3L, a.getVersion()))
+                .verifyComplete();
+
+        ArgumentCaptor<ApplicationHistory> captor = ArgumentCaptor.forClass(ApplicationHistory.class);
+        verify(historyRepository).save(captor.capture());
+        assertEquals(ApplicationStatus.IN_REVIEW, captor.getValue().getOldStatus());
+        verify(applicationRepository, times(2)).findSnapshotById(stale.getId());
+        verify(applicationRepository, never()).findById(any());
+    }
+
+    @Test
+    void changeStatus_sameStatus_noUpdate() {
+        Application app = submittedApplication(0L);
+        when(applicationRepository.findSnapshotById(app.getId())).thenReturn(Mono.just(app));
+
+        StepVerifier.create(useCase.changeStatus(app.getId(), "SUBMITTED", UUID.randomUUID(), "ROLE_ADMIN"))
+                .expectNext(app)
+                .verifyComplete();
+        verify(applicationRepository, never()).updateStatus(any(), any(), any(), any());
+    }
+
+    private Application submittedApplication(Long version) {
+        Application app = new Application();
+        app.setId(UUID.randomUUID());
+        app.setApplicantId(UUID.randomUUID());
+        app.setStatus(ApplicationStatus.SUBMITTED);
+        app.setVersion(version);
+        return app;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.*;
+import com.example.applicationservice.domain.dto.ApplicationCreateCommand;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import com.example.applicationservice.domain.port.outbound.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCreateApplicationUseCaseTest {
+
+    @Mock ReactiveApplicationRepositoryPort repo;
+    @Mock ReactiveApplicationHistoryRepositoryPort historyRepo;
+    @Mock ReactiveUserServicePort userService;
+    @Mock ReactiveProductServicePort productService;
+    @Mock ReactiveEventPublisherPort eventPublisher;
+
+    ReactiveCreateApplicationUseCase usecase;
+
+    @BeforeEach
+    void setUp() {
+        usecase = new ReactiveCreateApplicationUseCase(repo, historyRepo, userService, productService, eventPublisher, UUID::randomUUID);
+    }
+
+    @Test
+    void create_nullRequest_emitsBadRequest() {
+        StepVerifier.create(usecase.createApplication(null, UUID.randomUUID(), "ROLE_CLIENT"))
+                .expectError(BadRequestException.class)
+                .verify();
+    }
+
+    @Test
+    void create_success_insertsAndPublishes() {
+        UUID applicant = UUID.randomUUID();
+        ApplicationCreateCommand cmd = command(applicant);
+
+        when(userService.userExists(applicant)).thenReturn(Mono.just(true));
+        when(productService.productExists(cmd.getProductId())).thenReturn(Mono.just(true));
+        when(repo.insert(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        when(historyRepo.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        when(eventPublisher.publishFileAttachRequest(any())).thenReturn(Mono.empty());
+        when(eventPublisher.publishTagCreateRequest(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(usecase.createApplication(cmd, applicant, "ROLE_CLIENT"))
+                .assertNext(app -> {
+                    assertEquals(applicant, app.getApplicantId());
+                    assertEquals(ApplicationStatus.SUBMITTED, app.getStatus());
+                })
+                .verifyComplete();
+
+        verify(eventPublisher).publishFileAttachRequest(any());
+        verify(eventPublisher).publishTagCreateRequest(any());
+    }
+
+    @Test
+    void create_outboxFailure_propagatesError() {
+        // ошибка outbox не глотается: TransactionalOperator откатывает заявку вместе с событиями
+        UUID applicant = UUID.randomUUID();
+        ApplicationCreateCommand cmd = command(applicant);
+        when(userService.userExists(applicant)).thenReturn(Mono.just(true));
+        when(productService.productExists(cmd.getProductId())).thenReturn(Mono.just(true));
+        when(repo.insert(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        when(historyRepo.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        when(eventPublisher.publishFileAttachRequest(any())).thenReturn(Mono.error(new IllegalStateException("outbox down")));
+
+        StepVerifier.create(usecase.createApplication(cmd, applicant, "ROLE_CLIENT"))
+                .expectError(IllegalStateException.class)
+                .verify();
+        verify(eventPublisher, never()).publishTagCreateRequest(any());
+    }
+
+    @Test
+    void create_userServiceDown_emitsServiceUnavailable() {
+        UUID applicant = UUID.randomUUID();
+        when(userService.userExists(applicant)).thenReturn(Mono.error(new RuntimeException("down")));
+
+        StepVerifier.create(usecase.createApplication(command(applicant), applicant, "ROLE_CLIENT"))
+                .expectError(ServiceUnavailableException.class)
+                .verify();
+        verifyNoInteractions(repo);
+    }
+
+    @Test
+    void create_productMissing_emitsNotFound() {
+        UUID applicant = UUID.randomUUID();
+        ApplicationCreateCommand cmd = command(applicant);
+        when(userService.userExists(applicant)).thenReturn(Mono.just(true));
+        when(productService.productExists(cmd.getProductId())).thenReturn(Mono.just(false));
+
+        StepVerifier.create(usecase.createApplication(cmd, applicant, "ROLE_CLIENT"))
+                .expectError(NotFoundException.class)
+                .verify();
+        verifyNoInteractions(repo);
+    }
+
+    @Test
+    void create_userServiceDown_winsOverProductMissing() {
+        UUID applicant = UUID.randomUUID();
+        ApplicationCreateCommand cmd = command(applicant);
+        // product-ошибка приходит раньше, но приоритет у user
+        when(userService.userExists(applicant)).thenReturn(Mono.delay(Duration.ofMillis(50))
+                .then(Mono.error(new RuntimeException("down"))));
+        when(productService.productExists(cmd.getProductId())).thenReturn(Mono.just(false));
+
+        StepVerifier.create(usecase.createApplication(cmd, applicant, "ROLE_CLIENT"))
+                .expectErrorMatches(e -> e instanceof ServiceUnavailableException
+                        && "User service is unavailable now".equals(e.getMessage()))
+                .verify();
+        verifyNoInteractions(repo);
+    }
+
+    private ApplicationCreateCommand command(UUID applicant) {
+        ApplicationCreateCommand cmd = new ApplicationCreateCommand();
+        cmd.setApplicantId(applicant);
+        cmd.setProductId(UUID.randomUUID());
+        cmd.setFiles(List.of(UUID.randomUUID()));
+        cmd.setTags(List.of("t1"));
+        return cmd;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.BadRequestException;
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveExportApplicationsUseCaseTest {
+
+    private ReactiveApplicationRepositoryPort applicationRepository;
+    private ReactiveExportApplicationsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository = mock(ReactiveApplicationRepositoryPort.class);
+        useCase = new ReactiveExportApplicationsUseCase(applicationRepository, 2);
+    }
+
+    @Test
+    void export_walksKeysetPagesUntilShortPage() {
+        ApplicationFilter filter = new ApplicationFilter();
+        filter.setStatus(ApplicationStatus.SUBMITTED);
+        ApplicationInfo a = info(3), b = info(2), c = info(1);
+        when(applicationRepository.findInfoPage(filter, null, null, 2)).thenReturn(Flux.just(a, b));
+        when(applicationRepository.findInfoPage(filter, b.getCreatedAt(), b.getId(), 2)).thenReturn(Flux.just(c));
+
+        StepVerifier.create(useCase.exportApplications(filter))
+                .expectNext(a, b, c)
+                .verifyComplete();
+    }
+
+    @Test
+    void export_readsAheadAtMostOnePage() {
+        ApplicationInfo a = info(5), b = info(4), c = info(3), d = info(2), e = info(1);
+        when(applicationRepository.findInfoPage(any(ApplicationFilter.class), isNull(), isNull(), eq(2))).thenReturn(Flux.just(a, b));
+        when(applicationRepository.findInfoPage(any(ApplicationFilter.class), eq(b.getCreatedAt()), eq(b.getId()), eq(2))).thenReturn(Flux.just(c, d));
+        when(applicationRepository.findInfoPage(any(ApplicationFilter.class), eq(d.getCreatedAt()), eq(d.getId()), eq(2))).thenReturn(Flux.just(e));
+
+        // подписчик взял один элемент — третья страница ещё не читалась
+        StepVerifier.create(useCase.exportApplications(null), 1)
+                .expectNext(a)
+                .then(() -> verify(applicationRepository, never()).findInfoPage(any(ApplicationFilter.class), eq(d.getCreatedAt()), any(), anyInt()))
+                .thenRequest(Long.MAX_VALUE)
+                .expectNext(b, c, d, e)
+                .verifyComplete();
+    }
+
+    @Test
+    void export_invalidRange_emitsBadRequest() {
+        ApplicationFilter filter = new ApplicationFilter();
+        filter.setCreatedFrom(Instant.parse("2024-02-01T00:00:00Z"));
+        filter.setCreatedTo(Instant.parse("2024-01-01T00:00:00Z"));
+
+        StepVerifier.create(useCase.exportApplications(filter))
+                .expectError(BadRequestException.class)
+                .verify();
+        verifyNoInteractions(applicationRepository);
+    }
+
+    private static ApplicationInfo info(int minutes) {
+        ApplicationInfo ai = new ApplicationInfo();
+        ai.setId(UUID.randomUUID());
+        ai.setCreatedAt(Instant.parse("2024-01-01T00:00:00Z").plusSeconds(60L * minutes));
+        return ai;
+    }
+}
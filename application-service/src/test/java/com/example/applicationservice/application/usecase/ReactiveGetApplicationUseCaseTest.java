@@ -0,0 +1,61 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+class ReactiveGetApplicationUseCaseTest {
+
+    private ReactiveApplicationRepositoryPort applicationRepository;
+    private ApplicationCachePort applicationCache;
+    private ReactiveGetApplicationUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository = mock(ReactiveApplicationRepositoryPort.class);
+        applicationCache = mock(ApplicationCachePort.class);
+        useCase = new ReactiveGetApplicationUseCase(applicationRepository, applicationCache);
+    }
+
+    @Test
+    void findById_existing_emitsApplication() {
+        Application app = new Application();
+        app.setId(UUID.randomUUID());
+        when(applicationRepository.findById(app.getId())).thenReturn(Mono.just(app));
+
+        StepVerifier.create(useCase.findById(app.getId()))
+                .expectNext(app)
+                .verifyComplete();
+        verify(applicationCache).put(app);
+    }
+
+    @Test
+    void findById_missing_completesEmpty() {
+        UUID id = UUID.randomUUID();
+        when(applicationRepository.findById(id)).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.findById(id))
+                .verifyComplete();
+    }
+
+    @Test
+    void findById_cached_doesNotHitRepository() {
+        Application app = new Application();
+        app.setId(UUID.randomUUID());
+        when(applicationCache.get(app.getId())).thenReturn(Optional.of(app));
+
+        StepVerifier.create(useCase.findById(app.getId()))
+                .expectNext(app)
+                .verifyComplete();
+        verifyNoInteractions(applicationRepository);
+    }
+}
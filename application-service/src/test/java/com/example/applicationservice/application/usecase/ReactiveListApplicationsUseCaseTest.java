@@ -0,0 +1,72 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.BadRequestException;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveFileServicePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ReactiveListApplicationsUseCaseTest {
+
+    private ReactiveApplicationRepositoryPort applicationRepository;
+    private ReactiveFileServicePort fileService;
+    private ReactiveListApplicationsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository = mock(ReactiveApplicationRepositoryPort.class);
+        fileService = mock(ReactiveFileServicePort.class);
+        useCase = new ReactiveListApplicationsUseCase(applicationRepository, fileService);
+    }
+
+    @Test
+    void listApplications_sizeTooLarge_emitsBadRequest() {
+        StepVerifier.create(useCase.listApplications(0, 51))
+                .expectError(BadRequestException.class)
+                .verify();
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void listApplications_filtersMissingFiles() {
+        UUID kept = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+        Application app = new Application();
+        app.setId(UUID.randomUUID());
+        app.setFiles(Set.of(kept, removed));
+
+        when(applicationRepository.findAll(0, 10)).thenReturn(Flux.just(app));
+        when(fileService.checkFilesExist(anyList())).thenReturn(Mono.just(List.of(kept)));
+
+        StepVerifier.create(useCase.listApplications(0, 10))
+                .assertNext(a -> assertEquals(Set.of(kept), a.getFiles()))
+                .verifyComplete();
+    }
+
+    @Test
+    void listApplications_fileServiceFails_keepsAllFiles() {
+        UUID fileId = UUID.randomUUID();
+        Application app = new Application();
+        app.setId(UUID.randomUUID());
+        app.setFiles(Set.of(fileId));
+
+        when(applicationRepository.findAll(0, 10)).thenReturn(Flux.just(app));
+        when(fileService.checkFilesExist(anyList())).thenReturn(Mono.error(new RuntimeException("down")));
+
+        StepVerifier.create(useCase.listApplications(0, 10))
+                .assertNext(a -> assertEquals(Set.of(fileId), a.getFiles()))
+                .verifyComplete();
+    }
+}
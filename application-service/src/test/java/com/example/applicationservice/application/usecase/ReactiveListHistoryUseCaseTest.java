@@ -0,0 +1,89 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.BadRequestException;
+import com.example.applicationservice.application.exception.ForbiddenException;
+import com.example.applicationservice.application.exception.NotFoundException;
+import com.example.applicationservice.application.util.CursorUtil;
+import com.example.applicationservice.domain.dto.ApplicationVersion;
+import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationHistoryRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReactiveListHistoryUseCaseTest {
+
+    private ReactiveApplicationRepositoryPort applicationRepository;
+    private ReactiveApplicationHistoryRepositoryPort historyRepository;
+    private ReactiveListHistoryUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository = mock(ReactiveApplicationRepositoryPort.class);
+        historyRepository = mock(ReactiveApplicationHistoryRepositoryPort.class);
+        useCase = new ReactiveListHistoryUseCase(applicationRepository, historyRepository);
+    }
+
+    @Test
+    void listHistory_applicationNotFound_emitsNotFound() {
+        UUID appId = UUID.randomUUID();
+        when(applicationRepository.findVersionById(appId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.listHistory(appId, null, 20, UUID.randomUUID(), "ROLE_ADMIN"))
+                .expectError(NotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void listHistory_foreignClient_emitsForbidden() {
+        UUID appId = UUID.randomUUID();
+        when(applicationRepository.findVersionById(appId)).thenReturn(Mono.just(new ApplicationVersion(UUID.randomUUID(), 0L)));
+
+        StepVerifier.create(useCase.listHistory(appId, null, 20, UUID.randomUUID(), "ROLE_CLIENT"))
+                .expectError(ForbiddenException.class)
+                .verify();
+        verifyNoInteractions(historyRepository);
+    }
+
+    @Test
+    void listHistory_owner_emitsPageWithCursor() {
+        UUID owner = UUID.randomUUID();
+        UUID appId = UUID.randomUUID();
+        ApplicationHistory h = new ApplicationHistory();
+        h.setId(UUID.randomUUID());
+        h.setChangedAt(Instant.parse("2026-10-01T12:00:00Z"));
+
+        when(applicationRepository.findVersionById(appId)).thenReturn(Mono.just(new ApplicationVersion(owner, 2L)));
+        when(historyRepository.findPageByApplicationId(appId, null, null, 1)).thenReturn(Flux.just(h));
+        when(historyRepository.countByApplicationId(appId)).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(useCase.listHistory(appId, null, 1, owner, "ROLE_CLIENT"))
+                .assertNext(page -> {
+                    assertEquals(List.of(h), page.getItems());
+                    assertEquals(CursorUtil.encode(h.getChangedAt(), h.getId()), page.getNextCursor());
+                    assertEquals(2L, page.getVersion().getApplicationVersion());
+                    assertEquals(1L, page.getVersion().getRows());
+                })
+                .verifyComplete();
+        verify(applicationRepository, never()).findById(any());
+    }
+
+    @Test
+    void listHistory_invalidCursor_emitsBadRequest() {
+        StepVerifier.create(useCase.listHistory(UUID.randomUUID(), "garbage", 20, UUID.randomUUID(), "ROLE_ADMIN"))
+                .expectError(BadRequestException.class)
+                .verify();
+        verifyNoInteractions(applicationRepository, historyRepository);
+    }
+}
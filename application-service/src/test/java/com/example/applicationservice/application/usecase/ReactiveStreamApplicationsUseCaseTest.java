@@ -0,0 +1,114 @@
+package com.example.applicationservice.application.usecase;
+
+import com.example.applicationservice.application.exception.BadRequestException;
+import com.example.applicationservice.application.util.CursorUtil;
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import com.example.applicationservice.domain.port.outbound.ReactiveApplicationRepositoryPort;
+import com.example.applicationservice.domain.port.outbound.ReactiveFileServicePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class ReactiveStreamApplicationsUseCaseTest {
+
+    private ReactiveApplicationRepositoryPort applicationRepository;
+    private ReactiveFileServicePort fileService;
+    private ReactiveStreamApplicationsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository = mock(ReactiveApplicationRepositoryPort.class);
+        fileService = mock(ReactiveFileServicePort.class);
+        useCase = new ReactiveStreamApplicationsUseCase(applicationRepository, fileService);
+    }
+
+    @Test
+    void stream_invalidLimit_emitsBadRequest() {
+        StepVerifier.create(useCase.streamWithNextCursor(null, 0))
+                .expectError(BadRequestException.class)
+                .verify();
+    }
+
+    @Test
+    void stream_invalidCursor_emitsBadRequest() {
+        StepVerifier.create(useCase.streamWithNextCursor("not-a-cursor", 10))
+                .expectError(BadRequestException.class)
+                .verify();
+    }
+
+    @Test
+    void stream_firstPage_returnsCursorOfLastItem() {
+        UUID kept = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        ApplicationInfo app = new ApplicationInfo();
+        app.setId(UUID.randomUUID());
+        app.setStatus("SUBMITTED");
+        app.setCreatedAt(Instant.now());
+        app.setFiles(List.of(kept, missing));
+        app.setTags(List.of("t1"));
+
+        when(applicationRepository.findInfoPage(any(ApplicationFilter.class), isNull(), isNull(), eq(10))).thenReturn(Flux.just(app));
+        when(fileService.checkFilesExist(anyList())).thenReturn(Mono.just(List.of(kept)));
+
+        StepVerifier.create(useCase.streamWithNextCursor(null, 10))
+                .assertNext(page -> {
+                    assertEquals(1, page.getItems().size());
+                    assertEquals("SUBMITTED", page.getItems().get(0).getStatus());
+                    assertEquals(List.of(kept), page.getItems().get(0).getFiles());
+                    assertEquals(CursorUtil.encode(app.getCreatedAt(), app.getId()), page.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void stream_limitIsCappedAt50() {
+        when(applicationRepository.findInfoPage(any(ApplicationFilter.class), any(), any(), eq(50))).thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.streamWithNextCursor(null, 500))
+                .assertNext(page -> {
+                    assertTrue(page.getItems().isEmpty());
+                    assertNull(page.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void stream_filter_passedToRepository() {
+        ApplicationFilter filter = new ApplicationFilter();
+        filter.setStatus(ApplicationStatus.APPROVED);
+        filter.setProductId(UUID.randomUUID());
+        when(applicationRepository.findInfoPage(filter, null, null, 10)).thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.streamWithNextCursor(filter, null, 10))
+                .assertNext(page -> assertTrue(page.getItems().isEmpty()))
+                .verifyComplete();
+        verify(applicationRepository).findInfoPage(filter, null, null, 10);
+    }
+
+    @Test
+    void stream_invalidRange_emitsBadRequest() {
+        ApplicationFilter filter = new ApplicationFilter();
+        filter.setCreatedFrom(Instant.parse("2024-02-01T00:00:00Z"));
+        filter.setCreatedTo(Instant.parse("2024-02-01T00:00:00Z"));
+
+        StepVerifier.create(useCase.streamWithNextCursor(filter, null, 10))
+                .expectError(BadRequestException.class)
+                .verify();
+        verifyNoInteractions(applicationRepository);
+    }
+}
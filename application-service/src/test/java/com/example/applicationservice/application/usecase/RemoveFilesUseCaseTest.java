@@ -2,33 +2,36 @@ package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.application.exception.ForbiddenException;
 import com.example.applicationservice.application.exception.NotFoundException;
-import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 class RemoveFilesUseCaseTest {
 
     private ApplicationRepositoryPort applicationRepository;
+    private ApplicationCachePort applicationCache;
     private RemoveFilesUseCase useCase;
 
     @BeforeEach
     void setUp() {
         applicationRepository = mock(ApplicationRepositoryPort.class);
-        useCase = new RemoveFilesUseCase(applicationRepository);
+        applicationCache = mock(ApplicationCachePort.class);
+        useCase = new RemoveFilesUseCase(applicationRepository, applicationCache);
     }
 
     @Test
     void removeFiles_applicationNotFound_throwsNotFoundException() {
         UUID appId = UUID.randomUUID();
-        when(applicationRepository.findByIdWithFiles(appId)).thenReturn(java.util.Optional.empty());
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () ->
                 useCase.removeFiles(appId, List.of(UUID.randomUUID()), UUID.randomUUID(), "ROLE_USER"));
@@ -38,51 +41,38 @@ class RemoveFilesUseCaseTest {
     void removeFiles_insufficientPermissions_throwsForbiddenException() {
         UUID appId = UUID.randomUUID();
         UUID actorId = UUID.randomUUID();
-        Application app = new Application();
-        app.setId(appId);
-        app.setApplicantId(UUID.randomUUID());
-        app.setFiles(Set.of(UUID.randomUUID()));
-
-        when(applicationRepository.findByIdWithFiles(appId)).thenReturn(java.util.Optional.of(app));
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(UUID.randomUUID()));
 
         assertThrows(ForbiddenException.class, () ->
                 useCase.removeFiles(appId, List.of(UUID.randomUUID()), actorId, "ROLE_USER"));
+        verify(applicationRepository, never()).removeFiles(any(), any());
     }
 
     @Test
-    void removeFiles_success_removesSpecifiedFiles() {
+    void removeFiles_success_deletesOnlySpecifiedRows() {
         UUID appId = UUID.randomUUID();
         UUID actorId = UUID.randomUUID();
         UUID file1 = UUID.randomUUID();
-        UUID file2 = UUID.randomUUID();
-
-        Application app = new Application();
-        app.setId(appId);
-        app.setApplicantId(actorId);
-        app.setFiles(Set.of(file1, file2));
 
-        when(applicationRepository.findByIdWithFiles(appId)).thenReturn(java.util.Optional.of(app));
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(actorId));
+        when(applicationRepository.removeFiles(appId, List.of(file1))).thenReturn(1);
 
         useCase.removeFiles(appId, List.of(file1), actorId, "ROLE_USER");
 
-        assertEquals(Set.of(file2), app.getFiles());
-        verify(applicationRepository).save(app);
+        verify(applicationRepository).removeFiles(appId, List.of(file1));
+        verify(applicationRepository, never()).save(any());
+        verify(applicationCache).evict(appId);
     }
 
     @Test
-    void removeFiles_filesNull_doesNotThrow() {
+    void removeFiles_nothingRemoved_doesNotEvictCache() {
         UUID appId = UUID.randomUUID();
         UUID actorId = UUID.randomUUID();
-
-        Application app = new Application();
-        app.setId(appId);
-        app.setApplicantId(actorId);
-        app.setFiles(null);
-
-        when(applicationRepository.findByIdWithFiles(appId)).thenReturn(java.util.Optional.of(app));
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(actorId));
+        when(applicationRepository.removeFiles(any(), any())).thenReturn(0);
 
         assertDoesNotThrow(() -> useCase.removeFiles(appId, List.of(UUID.randomUUID()), actorId, "ROLE_USER"));
-        verify(applicationRepository).save(app);
+        verifyNoInteractions(applicationCache);
     }
 
     @Test
@@ -91,16 +81,12 @@ class RemoveFilesUseCaseTest {
         UUID actorId = UUID.randomUUID();
         UUID fileId = UUID.randomUUID();
 
-        Application app = new Application();
-        app.setId(appId);
-        app.setApplicantId(UUID.randomUUID());
-        app.setFiles(Set.of(fileId));
-
-        when(applicationRepository.findByIdWithFiles(appId)).thenReturn(java.util.Optional.of(app));
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(UUID.randomUUID()));
+        when(applicationRepository.removeFiles(appId, List.of(fileId))).thenReturn(1);
 
         useCase.removeFiles(appId, List.of(fileId), actorId, "ROLE_ADMIN");
 
-        assertTrue(app.getFiles().isEmpty());
-        verify(applicationRepository).save(app);
+        verify(applicationRepository).removeFiles(appId, List.of(fileId));
+        verify(applicationCache).evict(appId);
     }
 }
@@ -2,33 +2,36 @@ package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.application.exception.ForbiddenException;
 import com.example.applicationservice.application.exception.NotFoundException;
-import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.Set;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 class RemoveTagsUseCaseTest {
 
     private ApplicationRepositoryPort applicationRepository;
+    private ApplicationCachePort applicationCache;
     private RemoveTagsUseCase useCase;
 
     @BeforeEach
     void setUp() {
         applicationRepository = mock(ApplicationRepositoryPort.class);
-        useCase = new RemoveTagsUseCase(applicationRepository);
+        applicationCache = mock(ApplicationCachePort.class);
+        useCase = new RemoveTagsUseCase(applicationRepository, applicationCache);
     }
 
     @Test
     void removeTags_applicationNotFound_throwsNotFoundException() {
         UUID appId = UUID.randomUUID();
-        when(applicationRepository.findByIdWithTags(appId)).thenReturn(java.util.Optional.empty());
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () ->
                 useCase.removeTags(appId, List.of("tag1"), UUID.randomUUID(), "ROLE_USER"));
@@ -38,68 +41,64 @@ class RemoveTagsUseCaseTest {
     void removeTags_insufficientPermissions_throwsForbiddenException() {
         UUID appId = UUID.randomUUID();
         UUID actorId = UUID.randomUUID();
-        Application app = new Application();
-        app.setId(appId);
-        app.setApplicantId(UUID.randomUUID());
-        app.setTags(Set.of("tag1"));
-
-        when(applicationRepository.findByIdWithTags(appId)).thenReturn(java.util.Optional.of(app));
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(UUID.randomUUID()));
 
         assertThrows(ForbiddenException.class, () ->
                 useCase.removeTags(appId, List.of("tag1"), actorId, "ROLE_USER"));
+        verify(applicationRepository, never()).removeTags(any(), any());
     }
 
     @Test
-    void removeTags_success_removesSpecifiedTags() {
+    void removeTags_success_deletesOnlySpecifiedRows() {
         UUID appId = UUID.randomUUID();
         UUID actorId = UUID.randomUUID();
 
-        Application app = new Application();
-        app.setId(appId);
-        app.setApplicantId(actorId);
-        app.setTags(Set.of("tag1", "tag2"));
-
-        when(applicationRepository.findByIdWithTags(appId)).thenReturn(java.util.Optional.of(app));
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(actorId));
+        when(applicationRepository.removeTags(appId, List.of("tag1"))).thenReturn(1);
 
         useCase.removeTags(appId, List.of("tag1"), actorId, "ROLE_USER");
 
-        assertEquals(Set.of("tag2"), app.getTags());
-        verify(applicationRepository).save(app);
+        verify(applicationRepository).removeTags(appId, List.of("tag1"));
+        verify(applicationRepository, never()).findByIdWithTags(any());
+        verify(applicationRepository, never()).save(any());
+        verify(applicationCache).evict(appId);
     }
 
     @Test
-    void removeTags_adminCanRemoveTags() {
+    void removeTags_nothingRemoved_doesNotEvictCache() {
         UUID appId = UUID.randomUUID();
         UUID actorId = UUID.randomUUID();
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(actorId));
+        when(applicationRepository.removeTags(appId, List.of("missing"))).thenReturn(0);
 
-        Application app = new Application();
-        app.setId(appId);
-        app.setApplicantId(UUID.randomUUID());
-        app.setTags(Set.of("tag1"));
+        useCase.removeTags(appId, List.of("missing"), actorId, "ROLE_USER");
 
-        when(applicationRepository.findByIdWithTags(appId)).thenReturn(java.util.Optional.of(app));
+        verifyNoInteractions(applicationCache);
+    }
+
+    @Test
+    void removeTags_adminCanRemoveTags() {
+        UUID appId = UUID.randomUUID();
+        UUID actorId = UUID.randomUUID();
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(UUID.randomUUID()));
+        when(applicationRepository.removeTags(appId, List.of("tag1"))).thenReturn(1);
 
         useCase.removeTags(appId, List.of("tag1"), actorId, "ROLE_ADMIN");
 
-        assertTrue(app.getTags().isEmpty());
-        verify(applicationRepository).save(app);
+        verify(applicationRepository).removeTags(appId, List.of("tag1"));
+        verify(applicationCache).evict(appId);
     }
 
     @Test
     void removeTags_managerCanRemoveTags() {
         UUID appId = UUID.randomUUID();
         UUID actorId = UUID.randomUUID();
-
-        Application app = new Application();
-        app.setId(appId);
-        app.setApplicantId(UUID.randomUUID());
-        app.setTags(Set.of("tag1"));
-
-        when(applicationRepository.findByIdWithTags(appId)).thenReturn(java.util.Optional.of(app));
+        when(applicationRepository.findApplicantIdById(appId)).thenReturn(Optional.of(UUID.randomUUID()));
+        when(applicationRepository.removeTags(appId, List.of("tag1"))).thenReturn(1);
 
         useCase.removeTags(appId, List.of("tag1"), actorId, "ROLE_MANAGER");
 
-        assertTrue(app.getTags().isEmpty());
-        verify(applicationRepository).save(app);
+        verify(applicationRepository).removeTags(appId, List.of("tag1"));
+        verify(applicationCache).evict(appId);
     }
 }
@@ -2,8 +2,10 @@ package com.example.applicationservice.application.usecase;
 
 import com.example.applicationservice.application.exception.BadRequestException;
 import com.example.applicationservice.application.usecase.StreamApplicationsUseCase;
-import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.dto.ApplicationFilter;
+import com.example.applicationservice.domain.dto.ApplicationInfo;
 import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import com.example.applicationservice.domain.port.outbound.ApplicationReadModelPort;
 import com.example.applicationservice.domain.port.outbound.ApplicationRepositoryPort;
 import com.example.applicationservice.domain.port.outbound.FileServicePort;
 import com.example.applicationservice.application.util.CursorUtil;
@@ -16,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Instant;
 import java.util.*;
 
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -40,14 +43,9 @@ class StreamApplicationsUseCaseTest {
     void stream_firstPage_success() {
         UUID app1 = UUID.randomUUID();
         UUID f1 = UUID.randomUUID();
-        Application a1 = new Application();
-        a1.setId(app1);
-        a1.setCreatedAt(Instant.parse("2024-01-01T00:00:00Z"));
-        a1.setFiles(new HashSet<>(List.of(f1)));
-
-        when(repo.findIdsFirstPage(5)).thenReturn(List.of(app1));
-        when(repo.findByIdsWithFiles(List.of(app1))).thenReturn(List.of(a1));
-        when(repo.findByIdsWithTags(List.of(app1))).thenReturn(List.of(a1));
+        ApplicationInfo a1 = info(app1, Instant.parse("2024-01-01T00:00:00Z"), f1);
+
+        when(repo.findInfoPage(any(ApplicationFilter.class), isNull(), isNull(), eq(5))).thenReturn(List.of(a1));
         when(fileService.checkFilesExist(List.of(f1))).thenReturn(List.of(f1));
 
         var page = usecase.streamWithNextCursor(null, 5);
@@ -64,17 +62,97 @@ class StreamApplicationsUseCaseTest {
         UUID appId = UUID.randomUUID();
         UUID f1 = UUID.randomUUID();
 
-        when(repo.findIdsByKeyset(ts, cursorId, 5)).thenReturn(List.of(appId));
-        Application a = new Application();
-        a.setId(appId);
-        a.setCreatedAt(Instant.parse("2024-01-01T00:00:04Z"));
-        a.setFiles(new HashSet<>(List.of(f1)));
-        when(repo.findByIdsWithFiles(List.of(appId))).thenReturn(List.of(a));
-        when(repo.findByIdsWithTags(List.of(appId))).thenReturn(List.of(a));
+        ApplicationInfo a = info(appId, Instant.parse("2024-01-01T00:00:04Z"), f1);
+        when(repo.findInfoPage(any(ApplicationFilter.class), eq(ts), eq(cursorId), eq(5))).thenReturn(List.of(a));
         when(fileService.checkFilesExist(List.of(f1))).thenReturn(List.of(f1));
 
         var page = usecase.streamWithNextCursor(cursor, 5);
         assertNotNull(page);
         assertEquals(1, page.getItems().size());
     }
+
+    @Test
+    void stream_singleRepositoryCall_filtersMissingFiles() {
+        UUID appId = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        ApplicationInfo a = info(appId, Instant.parse("2024-01-01T00:00:00Z"), kept, missing);
+        a.setTags(List.of("t1"));
+
+        when(repo.findInfoPage(any(ApplicationFilter.class), isNull(), isNull(), eq(5))).thenReturn(List.of(a));
+        when(fileService.checkFilesExist(anyList())).thenReturn(List.of(kept));
+
+        var page = usecase.streamWithNextCursor(null, 5);
+
+        assertEquals(List.of(kept), page.getItems().get(0).getFiles());
+        assertEquals(List.of("t1"), page.getItems().get(0).getTags());
+        verify(repo).findInfoPage(any(ApplicationFilter.class), isNull(), isNull(), eq(5));
+        verifyNoMoreInteractions(repo);
+    }
+
+    @Test
+    void streamUnfiltered_keepsFilesWithoutFileService() {
+        UUID f1 = UUID.randomUUID();
+        ApplicationInfo a = info(UUID.randomUUID(), Instant.parse("2024-01-01T00:00:00Z"), f1);
+        when(repo.findInfoPage(any(ApplicationFilter.class), isNull(), isNull(), eq(5))).thenReturn(List.of(a));
+
+        var page = usecase.streamUnfiltered(null, null, 5);
+
+        assertEquals(List.of(f1), page.getItems().get(0).getFiles());
+        assertNotNull(page.getNextCursor());
+        verifyNoInteractions(fileService);
+    }
+
+    @Test
+    void stream_filterAndCursor_passedToRepository() {
+        Instant ts = Instant.parse("2024-01-01T00:00:05Z");
+        UUID cursorId = UUID.randomUUID();
+        ApplicationFilter filter = new ApplicationFilter();
+        filter.setStatus(ApplicationStatus.SUBMITTED);
+        filter.setApplicantId(UUID.randomUUID());
+        when(repo.findInfoPage(filter, ts, cursorId, 5)).thenReturn(List.of());
+
+        var page = usecase.streamWithNextCursor(filter, CursorUtil.encode(ts, cursorId), 5);
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(repo).findInfoPage(filter, ts, cursorId, 5);
+        verifyNoInteractions(fileService);
+    }
+
+    @Test
+    void stream_withReadModel_readsViewWithoutFileService() {
+        ApplicationReadModelPort readModel = mock(ApplicationReadModelPort.class);
+        StreamApplicationsUseCase viewUsecase = new StreamApplicationsUseCase(repo, fileService, readModel);
+        UUID appId = UUID.randomUUID();
+        UUID file = UUID.randomUUID();
+        Instant createdAt = Instant.parse("2024-01-01T00:00:00Z");
+        when(readModel.findInfoPage(any(ApplicationFilter.class), isNull(), isNull(), eq(5)))
+                .thenReturn(List.of(info(appId, createdAt, file)));
+
+        var page = viewUsecase.streamWithNextCursor(null, 5);
+
+        assertEquals(List.of(file), page.getItems().get(0).getFiles());
+        assertEquals(CursorUtil.encode(createdAt, appId), page.getNextCursor());
+        verifyNoInteractions(repo, fileService);
+    }
+
+    @Test
+    void stream_invalidRange_throws() {
+        ApplicationFilter filter = new ApplicationFilter();
+        filter.setCreatedFrom(Instant.parse("2024-02-01T00:00:00Z"));
+        filter.setCreatedTo(Instant.parse("2024-01-01T00:00:00Z"));
+
+        assertThrows(BadRequestException.class, () -> usecase.streamWithNextCursor(filter, null, 5));
+        verifyNoInteractions(repo);
+    }
+
+    private static ApplicationInfo info(UUID id, Instant createdAt, UUID... files) {
+        ApplicationInfo ai = new ApplicationInfo();
+        ai.setId(id);
+        ai.setCreatedAt(createdAt);
+        ai.setFiles(new ArrayList<>(List.of(files)));
+        ai.setTags(List.of());
+        return ai;
+    }
 }
@@ -0,0 +1,142 @@
+package com.example.applicationservice.benchmark;
+
+import com.example.applicationservice.adapters.outbound.persistence.ApplicationHistoryRepositoryAdapter;
+import com.example.applicationservice.adapters.outbound.persistence.ApplicationRepositoryAdapter;
+import com.example.applicationservice.adapters.outbound.persistence.entity.ApplicationEntity;
+import com.example.applicationservice.adapters.outbound.persistence.jpa.ApplicationJpaRepository;
+import com.example.applicationservice.application.usecase.CreateApplicationUseCase;
+import com.example.applicationservice.application.usecase.CreateApplicationsBatchUseCase;
+import com.example.applicationservice.domain.dto.ApplicationBatchItemResult;
+import com.example.applicationservice.domain.dto.ApplicationCreateCommand;
+import com.example.applicationservice.domain.port.outbound.*;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Пропускная способность создания заявок: по одной (CreateApplicationUseCase, транзакция на заявку)
+ * против пакетного CreateApplicationsBatchUseCase. Соседние сервисы и Kafka — заглушки, меряется только БД.
+ * Запуск: mvn test -Pbenchmark (нужен Docker).
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BatchCreateBenchmarkTest {
+
+    private static final int ITEMS = 5_000;
+    private static final int BATCH_SIZE = 500;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("bench")
+            .withUsername("bench")
+            .withPassword("bench");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        // без reWriteBatchedInserts драйвер отправляет batch построчно
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = ApplicationEntity.class)
+    @EnableJpaRepositories(basePackageClasses = ApplicationJpaRepository.class)
+    @Import({ApplicationRepositoryAdapter.class, ApplicationHistoryRepositoryAdapter.class})
+    static class JpaSlice {
+    }
+
+    @Autowired
+    ApplicationRepositoryAdapter applicationRepository;
+
+    @Autowired
+    ApplicationHistoryRepositoryAdapter historyRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void create_singleVsBatch() {
+        UserServicePort userService = mock(UserServicePort.class);
+        ProductServicePort productService = mock(ProductServicePort.class);
+        when(userService.userExists(any())).thenReturn(true);
+        when(productService.productExists(any())).thenReturn(true);
+        EventPublisherPort events = mock(EventPublisherPort.class);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        CreateApplicationUseCase single = new CreateApplicationUseCase(applicationRepository, historyRepository,
+                userService, productService, mock(FileServicePort.class), events, Runnable::run, UUID::randomUUID);
+        CreateApplicationsBatchUseCase batch = new CreateApplicationsBatchUseCase(applicationRepository, historyRepository,
+                userService, productService, events, Runnable::run, BATCH_SIZE, UUID::randomUUID);
+
+        UUID admin = UUID.randomUUID();
+        List<ApplicationCreateCommand> commands = commands(ITEMS);
+
+        // прогрев
+        commands(BATCH_SIZE).forEach(c -> tx.executeWithoutResult(s -> single.createApplication(c, admin, "ROLE_ADMIN")));
+        tx.executeWithoutResult(s -> batch.createApplications(commands(BATCH_SIZE), admin, "ROLE_ADMIN"));
+
+        long t0 = System.nanoTime();
+        for (ApplicationCreateCommand c : commands) {
+            tx.executeWithoutResult(s -> single.createApplication(c, admin, "ROLE_ADMIN"));
+        }
+        print("create single", ITEMS, System.nanoTime() - t0);
+
+        List<ApplicationCreateCommand> batchCommands = commands(ITEMS);
+        t0 = System.nanoTime();
+        for (int from = 0; from < ITEMS; from += BATCH_SIZE) {
+            List<ApplicationCreateCommand> chunk = batchCommands.subList(from, Math.min(from + BATCH_SIZE, ITEMS));
+            List<ApplicationBatchItemResult> results = tx.execute(s -> batch.createApplications(chunk, admin, "ROLE_ADMIN"));
+            assertTrue(results.stream().allMatch(ApplicationBatchItemResult::isCreated));
+        }
+        print("create batch(" + BATCH_SIZE + ")", ITEMS, System.nanoTime() - t0);
+    }
+
+    private static List<ApplicationCreateCommand> commands(int n) {
+        List<ApplicationCreateCommand> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            ApplicationCreateCommand cmd = new ApplicationCreateCommand();
+            cmd.setApplicantId(UUID.randomUUID());
+            cmd.setProductId(UUID.randomUUID());
+            cmd.setFiles(List.of(UUID.randomUUID(), UUID.randomUUID()));
+            cmd.setTags(List.of("bench", "tag-" + (i % 100)));
+            result.add(cmd);
+        }
+        return result;
+    }
+
+    private static void print(String name, int items, long elapsedNanos) {
+        System.out.printf("[benchmark] %s: %d items in %.0f ms, throughput=%.0f items/s%n",
+                name, items, elapsedNanos / 1e6, items / (elapsedNanos / 1e9));
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.applicationservice.benchmark;
+
+import com.example.applicationservice.adapters.config.JpaBatchConfig;
+import com.example.applicationservice.adapters.outbound.persistence.ApplicationHistoryRepositoryAdapter;
+import com.example.applicationservice.adapters.outbound.persistence.ApplicationRepositoryAdapter;
+import com.example.applicationservice.adapters.outbound.persistence.entity.ApplicationEntity;
+import com.example.applicationservice.adapters.outbound.persistence.entity.ApplicationHistoryEntity;
+import com.example.applicationservice.adapters.outbound.persistence.jpa.ApplicationJpaRepository;
+import com.example.applicationservice.application.usecase.ChangeStatusUseCase;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.model.entity.ApplicationHistory;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import com.example.applicationservice.domain.model.enums.UserRole;
+import com.example.applicationservice.domain.port.outbound.ApplicationCachePort;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Запись истории при массовой смене статуса: прежний путь (merge на каждую строку — SELECT + INSERT)
+ * против persist с JDBC batch (save по одной, saveAll), плюс сквозной ChangeStatusUseCase пачками в транзакции.
+ * Печатает время и throughput; ничего не утверждает о скорости.
+ * Запуск: mvn test -Pbenchmark (нужен Docker).
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BulkStatusChangeBenchmarkTest {
+
+    private static final int ITEMS = 5_000;
+    private static final int CHUNK = 500;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("bench")
+            .withUsername("bench")
+            .withPassword("bench");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        // без reWriteBatchedInserts драйвер отправляет batch построчно
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = ApplicationEntity.class)
+    @EnableJpaRepositories(basePackageClasses = ApplicationJpaRepository.class)
+    @Import({ApplicationRepositoryAdapter.class, ApplicationHistoryRepositoryAdapter.class, JpaBatchConfig.class})
+    static class JpaSlice {
+    }
+
+    @Autowired
+    ApplicationRepositoryAdapter applicationRepository;
+
+    @Autowired
+    ApplicationHistoryRepositoryAdapter historyRepository;
+
+    @Autowired
+    ApplicationJpaRepository applicationJpa;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private static final List<UUID> ids = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        if (!ids.isEmpty()) return;
+        List<Application> apps = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            Application app = new Application();
+            app.setId(UUID.randomUUID());
+            app.setApplicantId(UUID.randomUUID());
+            app.setProductId(UUID.randomUUID());
+            app.setStatus(ApplicationStatus.SUBMITTED);
+            app.setCreatedAt(Instant.now());
+            app.setFiles(Set.of());
+            app.setTags(Set.of());
+            apps.add(app);
+            ids.add(app.getId());
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(s -> applicationRepository.insertAll(apps));
+    }
+
+    @Test
+    void historyWrites_mergeVsBatched() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        // прогрев
+        tx.executeWithoutResult(s -> history(CHUNK).forEach(h -> entityManager.merge(toEntity(h))));
+        tx.executeWithoutResult(s -> historyRepository.saveAll(history(CHUNK)));
+
+        List<ApplicationHistory> merged = history(ITEMS);
+        long t0 = System.nanoTime();
+        tx.executeWithoutResult(s -> merged.forEach(h -> entityManager.merge(toEntity(h))));
+        print("history merge per row (old save)", ITEMS, System.nanoTime() - t0);
+
+        List<ApplicationHistory> single = history(ITEMS);
+        t0 = System.nanoTime();
+        tx.executeWithoutResult(s -> single.forEach(h -> historyRepository.saveAll(List.of(h))));
+        print("history saveAll per row (batched at flush)", ITEMS, System.nanoTime() - t0);
+
+        List<ApplicationHistory> all = history(ITEMS);
+        t0 = System.nanoTime();
+        tx.executeWithoutResult(s -> historyRepository.saveAll(all));
+        print("history saveAll", ITEMS, System.nanoTime() - t0);
+    }
+
+    @Test
+    void changeStatus_bulkInChunks() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        ChangeStatusUseCase useCase = new ChangeStatusUseCase(applicationRepository, historyRepository,
+                mock(ApplicationCachePort.class), 3, UUID::randomUUID);
+        UUID admin = UUID.randomUUID();
+
+        long t0 = System.nanoTime();
+        for (int from = 0; from < ITEMS; from += CHUNK) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + CHUNK, ITEMS));
+            tx.executeWithoutResult(s -> chunk.forEach(id -> useCase.changeStatus(id, "IN_REVIEW", admin, "ROLE_ADMIN")));
+        }
+        print("changeStatus chunk(" + CHUNK + ")", ITEMS, System.nanoTime() - t0);
+
+        assertEquals(ApplicationStatus.IN_REVIEW, applicationRepository.findSnapshotById(ids.get(0)).orElseThrow().getStatus());
+    }
+
+    private ApplicationHistoryEntity toEntity(ApplicationHistory h) {
+        ApplicationHistoryEntity e = new ApplicationHistoryEntity();
+        e.setId(h.getId());
+        e.setApplication(applicationJpa.getReferenceById(h.getApplicationId()));
+        e.setOldStatus(h.getOldStatus());
+        e.setNewStatus(h.getNewStatus());
+        e.setChangedBy(h.getChangedBy());
+        e.setChangedAt(h.getChangedAt());
+        return e;
+    }
+
+    private static List<ApplicationHistory> history(int n) {
+        List<ApplicationHistory> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            ApplicationHistory h = new ApplicationHistory();
+            h.setId(UUID.randomUUID());
+            h.setApplicationId(ids.get(i % ids.size()));
+            h.setOldStatus(ApplicationStatus.SUBMITTED);
+            h.setNewStatus(ApplicationStatus.IN_REVIEW);
+            h.setChangedBy(UserRole.ROLE_ADMIN);
+            h.setChangedAt(Instant.now());
+            result.add(h);
+        }
+        return result;
+    }
+
+    private static void print(String name, int items, long elapsedNanos) {
+        System.out.printf("[benchmark] %s: %d items in %.0f ms, throughput=%.0f items/s%n",
+                name, items, elapsedNanos / 1e6, items / (elapsedNanos / 1e9));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.applicationservice.benchmark;
+
+import com.example.applicationservice.application.usecase.CreateApplicationUseCase;
+import com.example.applicationservice.domain.dto.ApplicationCreateCommand;
+import com.example.applicationservice.domain.port.outbound.*;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Латентность createApplication с медленными user-service и product-service (sleep вместо Feign).
+ * Сравнивает последовательные проверки (executor в вызывающем потоке) с параллельными (пул).
+ * Печатает p50/p99; запуск: mvn test -Pbenchmark.
+ */
+@Tag("benchmark")
+class CreateApplicationLatencyBenchmarkTest {
+
+    private static final int REQUESTS = 400;
+    private static final int CONCURRENCY = 16;
+    private static final long USER_DELAY_MS = 40;
+    private static final long PRODUCT_DELAY_MS = 60;
+
+    @Test
+    void create_sequentialVsConcurrentChecks() throws Exception {
+        print(run("create sequential", Runnable::run));
+
+        ExecutorService downstream = Executors.newFixedThreadPool(CONCURRENCY * 2);
+        try {
+            print(run("create concurrent", downstream));
+        } finally {
+            downstream.shutdownNow();
+        }
+    }
+
+    private Result run(String name, Executor downstreamExecutor) throws Exception {
+        UserServicePort userService = mock(UserServicePort.class);
+        ProductServicePort productService = mock(ProductServicePort.class);
+        ApplicationRepositoryPort repo = mock(ApplicationRepositoryPort.class);
+        when(userService.userExists(any())).thenAnswer(inv -> sleep(USER_DELAY_MS));
+        when(productService.productExists(any())).thenAnswer(inv -> sleep(PRODUCT_DELAY_MS));
+        when(repo.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        CreateApplicationUseCase usecase = new CreateApplicationUseCase(repo,
+                mock(ApplicationHistoryRepositoryPort.class), userService, productService,
+                mock(FileServicePort.class), mock(EventPublisherPort.class), downstreamExecutor, UUID::randomUUID);
+
+        long[] latencies = new long[REQUESTS];
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                int n = i;
+                futures.add(callers.submit(() -> {
+                    UUID applicant = UUID.randomUUID();
+                    long t0 = System.nanoTime();
+                    usecase.createApplication(command(applicant), applicant, "ROLE_CLIENT");
+                    latencies[n] = System.nanoTime() - t0;
+                }));
+            }
+            for (Future<?> f : futures) f.get(1, TimeUnit.MINUTES);
+        } finally {
+            callers.shutdownNow();
+        }
+        Arrays.sort(latencies);
+        return new Result(name, REQUESTS, latencies);
+    }
+
+    private static boolean sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+        return true;
+    }
+
+    private static ApplicationCreateCommand command(UUID applicant) {
+        ApplicationCreateCommand cmd = new ApplicationCreateCommand();
+        cmd.setApplicantId(applicant);
+        cmd.setProductId(UUID.randomUUID());
+        cmd.setFiles(List.of());
+        cmd.setTags(List.of());
+        return cmd;
+    }
+
+    private static void print(Result r) {
+        System.out.printf("[benchmark] %s: %d req, p50=%.2f ms, p99=%.2f ms%n",
+                r.name, r.requests,
+                r.latencies[r.requests / 2] / 1e6,
+                r.latencies[(int) (r.requests * 0.99) - 1] / 1e6);
+    }
+
+    private record Result(String name, int requests, long[] latencies) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.applicationservice.benchmark;
+
+import com.example.applicationservice.adapters.outbound.id.RandomUuidIdGenerator;
+import com.example.applicationservice.adapters.outbound.id.UuidV7IdGenerator;
+import com.example.applicationservice.domain.port.outbound.IdGeneratorPort;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Вставка заявок с UUID v4 против UUIDv7 на схеме из Liquibase: время батчевой вставки
+ * и размер первичного индекса application после неё. Случайные ключи раскидывают вставки по всему
+ * B-tree (page split, страницы заполнены наполовину), упорядоченные по времени дописываются в правый край.
+ * Печатает время, throughput и размер индекса; ничего не утверждает о скорости.
+ * Запуск: mvn test -Pbenchmark (нужен Docker).
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdGeneratorBenchmarkTest {
+
+    private static final int ITEMS = 200_000;
+    private static final int BATCH = 1_000;
+
+    private static final String INSERT =
+            "INSERT INTO application (id, applicant_id, product_id, status, created_at, version) VALUES (?, ?, ?, 'SUBMITTED', ?, 0)";
+
+    private static final String PK_INDEX_SIZE =
+            "SELECT pg_relation_size(indexrelid) FROM pg_index WHERE indrelid = 'application'::regclass AND indisprimary";
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("bench")
+            .withUsername("bench")
+            .withPassword("bench");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    static class JdbcSlice {
+    }
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @Test
+    void insertThroughputAndIndexSize_v4VsV7() {
+        // прогрев
+        insert(new RandomUuidIdGenerator(), 10 * BATCH);
+
+        run("uuid v4", new RandomUuidIdGenerator());
+        run("uuid v7", new UuidV7IdGenerator());
+    }
+
+    private void run(String name, IdGeneratorPort generator) {
+        jdbc.execute("TRUNCATE application CASCADE");
+
+        long t0 = System.nanoTime();
+        insert(generator, ITEMS);
+        long elapsed = System.nanoTime() - t0;
+
+        assertEquals(ITEMS, jdbc.queryForObject("SELECT count(*) FROM application", Integer.class));
+        long indexBytes = jdbc.queryForObject(PK_INDEX_SIZE, Long.class);
+        System.out.printf("[benchmark] %s: %d rows in %.0f ms, throughput=%.0f rows/s, pk index=%.1f MB%n",
+                name, ITEMS, elapsed / 1e6, ITEMS / (elapsed / 1e9), indexBytes / (1024.0 * 1024.0));
+    }
+
+    private void insert(IdGeneratorPort generator, int items) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        for (int from = 0; from < items; from += BATCH) {
+            List<Object[]> rows = new ArrayList<>(BATCH);
+            for (int i = 0; i < BATCH; i++) {
+                rows.add(new Object[]{generator.newId(), UUID.randomUUID(), UUID.randomUUID(), now});
+            }
+            jdbc.batchUpdate(INSERT, rows);
+        }
+    }
+}
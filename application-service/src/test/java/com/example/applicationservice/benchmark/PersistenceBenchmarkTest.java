@@ -0,0 +1,178 @@
+package com.example.applicationservice.benchmark;
+
+import com.example.applicationservice.adapters.outbound.persistence.ApplicationHistoryRepositoryAdapter;
+import com.example.applicationservice.adapters.outbound.persistence.ApplicationRepositoryAdapter;
+import com.example.applicationservice.adapters.outbound.persistence.entity.ApplicationEntity;
+import com.example.applicationservice.adapters.outbound.persistence.jpa.ApplicationJpaRepository;
+import com.example.applicationservice.adapters.outbound.persistence.r2dbc.ApplicationR2dbcRepositoryAdapter;
+import com.example.applicationservice.domain.model.entity.Application;
+import com.example.applicationservice.domain.model.enums.ApplicationStatus;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Сравнение JPA-пути (блокирующий адаптер на boundedElastic, как в контроллере) и R2DBC-адаптера
+ * на одной и той же БД. Печатает p50/p99 и throughput; ничего не утверждает о скорости.
+ * Запуск: mvn test -Pbenchmark (нужен Docker).
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.datasource.hikari.maximum-pool-size=20"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PersistenceBenchmarkTest {
+
+    private static final int SEED = 2_000;
+    private static final int REQUESTS = 5_000;
+    private static final int CONCURRENCY = 64;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("bench")
+            .withUsername("bench")
+            .withPassword("bench");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = ApplicationEntity.class)
+    @EnableJpaRepositories(basePackageClasses = ApplicationJpaRepository.class)
+    @Import({ApplicationRepositoryAdapter.class, ApplicationHistoryRepositoryAdapter.class})
+    static class JpaSlice {
+    }
+
+    @Autowired
+    ApplicationRepositoryAdapter jpaAdapter;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    static ApplicationR2dbcRepositoryAdapter r2dbcAdapter;
+    static final List<UUID> ids = new ArrayList<>();
+
+    @BeforeAll
+    static void setUpR2dbc() {
+        // пул такого же размера, как у Hikari выше
+        ConnectionFactory cf = ConnectionFactories.get(String.format(
+                "r2dbc:pool:postgresql://%s:%s@%s:%d/%s?maxSize=20",
+                POSTGRES.getUsername(), POSTGRES.getPassword(), POSTGRES.getHost(),
+                POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), POSTGRES.getDatabaseName()));
+        r2dbcAdapter = new ApplicationR2dbcRepositoryAdapter(DatabaseClient.create(cf));
+    }
+
+    @BeforeEach
+    void seed() {
+        if (!ids.isEmpty()) return;
+        Flux.range(0, SEED)
+                .map(i -> newApplication())
+                .flatMap(r2dbcAdapter::insert, 16)
+                .doOnNext(a -> ids.add(a.getId()))
+                .blockLast(Duration.ofMinutes(2));
+        assertEquals(SEED, ids.size());
+    }
+
+    @Test
+    void findById_jpaVsR2dbc() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Function<UUID, Mono<?>> jpa = id -> Mono.fromCallable(() -> readOnly.execute(s -> jpaAdapter.findById(id).orElseThrow()))
+                .subscribeOn(Schedulers.boundedElastic());
+        Function<UUID, Mono<?>> r2dbc = id -> r2dbcAdapter.findById(id);
+
+        run("findById JPA ", jpa, REQUESTS / 5);
+        run("findById R2DBC", r2dbc, REQUESTS / 5);
+        print(run("findById JPA ", jpa, REQUESTS));
+        print(run("findById R2DBC", r2dbc, REQUESTS));
+    }
+
+    @Test
+    void insert_jpaVsR2dbc() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        Function<UUID, Mono<?>> jpa = ignored -> Mono.fromCallable(() -> tx.execute(s -> jpaAdapter.save(newApplication())))
+                .subscribeOn(Schedulers.boundedElastic());
+        Function<UUID, Mono<?>> r2dbc = ignored -> r2dbcAdapter.insert(newApplication());
+
+        print(run("insert JPA ", jpa, REQUESTS / 5));
+        print(run("insert R2DBC", r2dbc, REQUESTS / 5));
+    }
+
+    private Result run(String name, Function<UUID, Mono<?>> call, int requests) {
+        long[] latencies = new long[requests];
+        long start = System.nanoTime();
+        Flux.range(0, requests)
+                .flatMap(i -> {
+                    UUID id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                    return Mono.defer(() -> {
+                        long t0 = System.nanoTime();
+                        return call.apply(id).doOnSuccess(r -> latencies[i] = System.nanoTime() - t0);
+                    });
+                }, CONCURRENCY)
+                .blockLast(Duration.ofMinutes(5));
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        return new Result(name, requests, elapsed, latencies);
+    }
+
+    private static void print(Result r) {
+        System.out.printf("[benchmark] %s: %d req, p50=%.2f ms, p99=%.2f ms, throughput=%.0f req/s%n",
+                r.name, r.requests,
+                r.latencies[r.requests / 2] / 1e6,
+                r.latencies[(int) (r.requests * 0.99) - 1] / 1e6,
+                r.requests / (r.elapsedNanos / 1e9));
+    }
+
+    private static Application newApplication() {
+        Application app = new Application();
+        app.setId(UUID.randomUUID());
+        app.setApplicantId(UUID.randomUUID());
+        app.setProductId(UUID.randomUUID());
+        app.setStatus(ApplicationStatus.SUBMITTED);
+        app.setCreatedAt(Instant.now());
+        app.setFiles(new HashSet<>(List.of(UUID.randomUUID(), UUID.randomUUID())));
+        app.setTags(new HashSet<>(List.of("bench", "tag-" + ThreadLocalRandom.current().nextInt(100))));
+        return app;
+    }
+
+    private record Result(String name, int requests, long elapsedNanos, long[] latencies) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.assignmentservice.adapters.infrastructure.id;
+
+import com.example.assignmentservice.domain.ports.IdGeneratorPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Прежнее поведение — случайные UUID v4 (application.ids.generator=random).
+ */
+@Component
+@ConditionalOnProperty(name = "application.ids.generator", havingValue = "random")
+public class RandomUuidIdGenerator implements IdGeneratorPort {
+
+    @Override
+    public UUID newId() {
+        return UUID.randomUUID();
+    }
+}
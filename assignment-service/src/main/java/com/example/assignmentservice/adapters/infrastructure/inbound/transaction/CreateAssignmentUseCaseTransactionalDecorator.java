@@ -9,6 +9,7 @@ import com.example.assignmentservice.domain.model.entity.UserProductAssignment;
 import com.example.assignmentservice.domain.model.enums.AssignmentRole;
 import com.example.assignmentservice.domain.ports.CreateAssignmentUseCasePort;
 import com.example.assignmentservice.domain.ports.ExistenceValidatorPort;
+import com.example.assignmentservice.domain.ports.IdGeneratorPort;
 import com.example.assignmentservice.domain.ports.RightsValidatorPort;
 import com.example.assignmentservice.domain.repository.UserProductAssignmentRepository;
 import org.springframework.stereotype.Service;
@@ -23,10 +24,11 @@ public class CreateAssignmentUseCaseTransactionalDecorator implements CreateAssi
 
     public CreateAssignmentUseCaseTransactionalDecorator(UserProductAssignmentRepository repo,
                                                          UserExistencePort userExistencePort,
-                                                         ProductExistencePort productExistencePort) {
+                                                         ProductExistencePort productExistencePort,
+                                                         IdGeneratorPort idGeneratorPort) {
         ExistenceValidator existenceValidator = new ExistenceValidator(repo, userExistencePort, productExistencePort);
         RightsValidator rightsValidator = new RightsValidator(repo);
-        this.delegate = new CreateAssignmentUseCase(repo, existenceValidator, rightsValidator);
+        this.delegate = new CreateAssignmentUseCase(repo, existenceValidator, rightsValidator, idGeneratorPort);
     }
 
     @Override
@@ -6,6 +6,7 @@ import com.example.assignmentservice.domain.model.entity.UserProductAssignment;
 import com.example.assignmentservice.domain.model.enums.AssignmentRole;
 import com.example.assignmentservice.domain.ports.CreateAssignmentUseCasePort;
 import com.example.assignmentservice.domain.ports.ExistenceValidatorPort;
+import com.example.assignmentservice.domain.ports.IdGeneratorPort;
 import com.example.assignmentservice.domain.ports.RightsValidatorPort;
 import com.example.assignmentservice.domain.repository.UserProductAssignmentRepository;
 import org.slf4j.Logger;
@@ -21,14 +22,17 @@ public class CreateAssignmentUseCase implements CreateAssignmentUseCasePort {
     private final UserProductAssignmentRepository repo;
     private final ExistenceValidator checkExistence;
     private final RightsValidator checkRights;
+    private final IdGeneratorPort idGenerator;
 
     public CreateAssignmentUseCase(
             UserProductAssignmentRepository repo,
             ExistenceValidator checkExistence,
-            RightsValidator checkRights) {
+            RightsValidator checkRights,
+            IdGeneratorPort idGenerator) {
         this.repo = repo;
         this.checkExistence = checkExistence;
         this.checkRights = checkRights;
+        this.idGenerator = idGenerator;
     }
 
     @Override
@@ -48,7 +52,7 @@ public class CreateAssignmentUseCase implements CreateAssignmentUseCasePort {
             assignment.setAssignedAt(Instant.now());
             logger.info("Updating existing assignment: {}", assignment.getId());
         } else {
-            assignment.setId(UUID.randomUUID());
+            assignment.setId(idGenerator.newId());
             assignment.setUserId(userId);
             assignment.setProductId(productId);
             assignment.setRoleOnProduct(role);
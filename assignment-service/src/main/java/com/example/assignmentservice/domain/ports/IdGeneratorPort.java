@@ -0,0 +1,13 @@
+package com.example.assignmentservice.domain.ports;
+
+import java.util.UUID;
+
+/**
+ * Генератор первичных ключей для новых строк.
+ * Колонки остаются типа UUID; реализация выбирается свойством application.ids.generator.
+ */
+@FunctionalInterface
+public interface IdGeneratorPort {
+
+    UUID newId();
+}
@@ -2,6 +2,7 @@ package com.example.fileservice.adapters.inbound.transaction;
 
 import com.example.fileservice.application.usecase.DeleteFileUseCase;
 import com.example.fileservice.domain.port.inbound.DeleteFileUseCasePort;
+import com.example.fileservice.domain.port.outbound.FileEventPublisherPort;
 import com.example.fileservice.domain.port.outbound.FileRepositoryPort;
 import com.example.fileservice.domain.port.outbound.StoragePort;
 import org.springframework.stereotype.Service;
@@ -15,8 +16,10 @@ public class DeleteFileUseCaseTransactionalDecorator implements DeleteFileUseCas
 
     private final DeleteFileUseCase delegate;
 
-    public DeleteFileUseCaseTransactionalDecorator(FileRepositoryPort fileRepositoryPort, StoragePort storagePort) {
-        this.delegate = new DeleteFileUseCase(fileRepositoryPort, storagePort);
+    public DeleteFileUseCaseTransactionalDecorator(FileRepositoryPort fileRepositoryPort,
+                                                   StoragePort storagePort,
+                                                   FileEventPublisherPort fileEventPublisherPort) {
+        this.delegate = new DeleteFileUseCase(fileRepositoryPort, storagePort, fileEventPublisherPort);
     }
 
     @Override
@@ -5,6 +5,7 @@ import com.example.fileservice.application.usecase.UploadFileUseCase;
 import com.example.fileservice.domain.model.File;
 import com.example.fileservice.domain.port.inbound.UploadFileUseCasePort;
 import com.example.fileservice.domain.port.outbound.FileRepositoryPort;
+import com.example.fileservice.domain.port.outbound.IdGeneratorPort;
 import com.example.fileservice.domain.port.outbound.StoragePort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,8 +16,9 @@ public class UploadFileUseCaseTransactionalDecorator implements UploadFileUseCas
 
     private final UploadFileUseCase delegate;
 
-    public UploadFileUseCaseTransactionalDecorator(FileRepositoryPort fileRepositoryPort, StoragePort storagePort) {
-        this.delegate = new UploadFileUseCase(fileRepositoryPort, storagePort);
+    public UploadFileUseCaseTransactionalDecorator(FileRepositoryPort fileRepositoryPort, StoragePort storagePort,
+                                                  IdGeneratorPort idGeneratorPort) {
+        this.delegate = new UploadFileUseCase(fileRepositoryPort, storagePort, idGeneratorPort);
     }
 
     @Override
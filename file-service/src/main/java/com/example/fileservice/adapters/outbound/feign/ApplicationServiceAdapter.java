@@ -1,27 +1,43 @@
 package com.example.fileservice.adapters.outbound.feign;
 
 import com.example.fileservice.application.dto.ApplicationInfoDto;
+import com.example.fileservice.application.exception.ServiceUnavailableException;
 import com.example.fileservice.domain.model.ApplicationInfo;
 import com.example.fileservice.domain.port.outbound.ApplicationServicePort;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 public class ApplicationServiceAdapter implements ApplicationServicePort {
 
+    private static final String NEXT_CURSOR = "X-Next-Cursor";
+    private static final int PAGE_SIZE = 50;
+
     private final ApplicationServiceClientFeign feignClient;
 
     public ApplicationServiceAdapter(ApplicationServiceClientFeign feignClient) {
         this.feignClient = feignClient;
     }
 
+    // application-service отдаёт заявки постранично; собираем все страницы, чтобы порт по-прежнему возвращал полный список.
+    // Заглушка на первой странице — прежнее поведение (пустой список); на следующих — ошибка, а не обрезанный список
     @Override
     public List<ApplicationInfo> getApplicationsByFile(java.util.UUID fileId) {
-        List<ApplicationInfoDto> dtos = feignClient.getApplicationsByFile(fileId);
-        if (dtos == null) return List.of();
-        return dtos.stream().map(this::toDomain).collect(Collectors.toList());
+        List<ApplicationInfo> result = new ArrayList<>();
+        String cursor = null;
+        do {
+            ResponseEntity<List<ApplicationInfoDto>> page = feignClient.getApplicationsByFile(fileId, cursor, PAGE_SIZE);
+            if (page == null || page.getBody() == null || page.getHeaders().containsKey(ApplicationServiceClientFallbackFactory.FALLBACK_HEADER)) {
+                if (cursor == null) return result;
+                throw new ServiceUnavailableException("Application service became unavailable while paging applications of file " + fileId);
+            }
+            page.getBody().stream().map(this::toDomain).forEach(result::add);
+            cursor = page.getHeaders().getFirst(NEXT_CURSOR);
+        } while (cursor != null);
+        return result;
     }
 
     private ApplicationInfo toDomain(ApplicationInfoDto dto) {
@@ -2,6 +2,7 @@ package com.example.fileservice.adapters.outbound.feign;
 
 import com.example.fileservice.application.dto.ApplicationInfoDto;
 import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -9,12 +10,16 @@ import java.util.UUID;
 
 @Component
 public class ApplicationServiceClientFallbackFactory implements FallbackFactory<ApplicationServiceClientFeign> {
+
+    // помечает ответ-заглушку: адаптер отличает его от настоящей пустой страницы
+    static final String FALLBACK_HEADER = "X-Fallback";
+
     @Override
     public ApplicationServiceClientFeign create(Throwable cause) {
         return new ApplicationServiceClientFeign() {
             @Override
-            public List<ApplicationInfoDto> getApplicationsByFile(UUID fileId) {
-                return List.of(); // возвращаем пустой список при недоступности
+            public ResponseEntity<List<ApplicationInfoDto>> getApplicationsByFile(UUID fileId, String cursor, int limit) {
+                return ResponseEntity.ok().header(FALLBACK_HEADER, "true").body(List.of()); // возвращаем пустой список при недоступности
             }
         };
     }
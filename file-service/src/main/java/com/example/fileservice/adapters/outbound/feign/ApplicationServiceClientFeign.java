@@ -2,6 +2,7 @@ package com.example.fileservice.adapters.outbound.feign;
 
 import com.example.fileservice.application.dto.ApplicationInfoDto;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -14,6 +15,11 @@ import java.util.UUID;
 )
 public interface ApplicationServiceClientFeign {
 
+    /**
+     * Одна keyset-страница; курсор следующей — в заголовке X-Next-Cursor (нет заголовка — страница последняя).
+     */
     @GetMapping("/api/v1/applications/by-file")
-    List<ApplicationInfoDto> getApplicationsByFile(@RequestParam("file") UUID fileId);
+    ResponseEntity<List<ApplicationInfoDto>> getApplicationsByFile(@RequestParam("file") UUID fileId,
+                                                                  @RequestParam(value = "cursor", required = false) String cursor,
+                                                                  @RequestParam("limit") int limit);
 }
@@ -0,0 +1,57 @@
+package com.example.fileservice.adapters.outbound.messaging;
+
+import com.example.fileservice.domain.port.outbound.FileEventPublisherPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Публикует file.deleted (ключ и payload — id файла), чтобы потребители могли сбросить свои кэши.
+ * Внутри транзакции событие уходит только после коммита: при откате удаления потребители не должны
+ * пометить файл отсутствующим.
+ */
+@Component
+public class KafkaFileEventPublisherAdapter implements FileEventPublisherPort {
+
+    private static final Logger log = LoggerFactory.getLogger(KafkaFileEventPublisherAdapter.class);
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    @Value("${spring.kafka.topics.file-deleted:file.deleted}")
+    private String fileDeletedTopic;
+
+    public KafkaFileEventPublisherAdapter(KafkaTemplate<String, String> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    @Override
+    public void publishFileDeleted(UUID fileId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(fileId);
+                }
+            });
+        } else {
+            send(fileId);
+        }
+    }
+
+    private void send(UUID fileId) {
+        kafkaTemplate.send(fileDeletedTopic, fileId.toString(), fileId.toString())
+                .whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        log.info("file.deleted sent for {}", fileId);
+                    } else {
+                        log.error("Failed sending file.deleted for {}: {}", fileId, ex.getMessage());
+                    }
+                });
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.fileservice.application.usecase;
 
 import com.example.fileservice.domain.model.File;
+import com.example.fileservice.domain.port.outbound.FileEventPublisherPort;
 import com.example.fileservice.domain.port.outbound.FileRepositoryPort;
 import com.example.fileservice.domain.port.outbound.StoragePort;
 import com.example.fileservice.domain.port.inbound.DeleteFileUseCasePort;
@@ -13,10 +14,12 @@ public class DeleteFileUseCase implements DeleteFileUseCasePort {
 
     private final FileRepositoryPort fileRepository;
     private final StoragePort storagePort;
+    private final FileEventPublisherPort eventPublisher;
 
-    public DeleteFileUseCase(FileRepositoryPort fileRepository, StoragePort storagePort) {
+    public DeleteFileUseCase(FileRepositoryPort fileRepository, StoragePort storagePort, FileEventPublisherPort eventPublisher) {
         this.fileRepository = fileRepository;
         this.storagePort = storagePort;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -36,5 +39,6 @@ public class DeleteFileUseCase implements DeleteFileUseCasePort {
         }
 
         fileRepository.delete(file);
+        eventPublisher.publishFileDeleted(fileId);
     }
 }
@@ -3,6 +3,7 @@ package com.example.fileservice.application.usecase;
 import com.example.fileservice.application.command.UploadFileCommand;
 import com.example.fileservice.domain.model.File;
 import com.example.fileservice.domain.port.outbound.FileRepositoryPort;
+import com.example.fileservice.domain.port.outbound.IdGeneratorPort;
 import com.example.fileservice.domain.port.outbound.StoragePort;
 import com.example.fileservice.domain.port.inbound.UploadFileUseCasePort;
 
@@ -10,10 +11,12 @@ public class UploadFileUseCase implements UploadFileUseCasePort {
 
     private final FileRepositoryPort fileRepository;
     private final StoragePort storagePort;
+    private final IdGeneratorPort idGenerator;
 
-    public UploadFileUseCase(FileRepositoryPort fileRepository, StoragePort storagePort) {
+    public UploadFileUseCase(FileRepositoryPort fileRepository, StoragePort storagePort, IdGeneratorPort idGenerator) {
         this.fileRepository = fileRepository;
         this.storagePort = storagePort;
+        this.idGenerator = idGenerator;
     }
 
     @Override
@@ -23,7 +26,7 @@ public class UploadFileUseCase implements UploadFileUseCasePort {
         if (command.getOriginalName() == null || command.getOriginalName().trim().isEmpty())
             throw new IllegalArgumentException("Original name required");
 
-        File file = File.createNew(command.getOriginalName(), command.getSize(), command.getContentType(), command.getUploaderId());
+        File file = File.createNew(idGenerator.newId(), command.getOriginalName(), command.getSize(), command.getContentType(), command.getUploaderId());
         file.setDescription(command.getDescription());
 
         try {
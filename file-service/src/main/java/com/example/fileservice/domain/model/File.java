@@ -35,11 +35,10 @@ public class File {
         this.storageKey = generateStorageKey(id, extension);
     }
 
-    public static File createNew(String originalName, Long size, String mimeType, UUID uploaderId) {
+    public static File createNew(UUID id, String originalName, Long size, String mimeType, UUID uploaderId) {
         if (originalName == null || originalName.trim().isEmpty()) {
             throw new IllegalArgumentException("Original name required");
         }
-        UUID id = UUID.randomUUID();
         return new File(id, originalName.trim(), size, mimeType, uploaderId);
     }
 
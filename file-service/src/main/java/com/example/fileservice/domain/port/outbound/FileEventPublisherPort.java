@@ -0,0 +1,8 @@
+package com.example.fileservice.domain.port.outbound;
+
+import java.util.UUID;
+
+public interface FileEventPublisherPort {
+
+    void publishFileDeleted(UUID fileId);
+}
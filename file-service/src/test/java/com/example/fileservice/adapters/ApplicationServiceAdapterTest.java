@@ -0,0 +1,68 @@
+package com.example.fileservice.adapters;
+
+import com.example.fileservice.adapters.outbound.feign.ApplicationServiceAdapter;
+import com.example.fileservice.adapters.outbound.feign.ApplicationServiceClientFallbackFactory;
+import com.example.fileservice.adapters.outbound.feign.ApplicationServiceClientFeign;
+import com.example.fileservice.application.dto.ApplicationInfoDto;
+import com.example.fileservice.application.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ApplicationServiceAdapterTest {
+
+    @Test
+    void followsNextCursorUntilLastPage() {
+        ApplicationServiceClientFeign client = mock(ApplicationServiceClientFeign.class);
+        UUID fileId = UUID.randomUUID();
+        ApplicationInfoDto first = dto();
+        ApplicationInfoDto second = dto();
+        when(client.getApplicationsByFile(eq(fileId), isNull(), anyInt()))
+                .thenReturn(ResponseEntity.ok().header("X-Next-Cursor", "c1").body(List.of(first)));
+        when(client.getApplicationsByFile(eq(fileId), eq("c1"), anyInt()))
+                .thenReturn(ResponseEntity.ok(List.of(second)));
+
+        var apps = new ApplicationServiceAdapter(client).getApplicationsByFile(fileId);
+
+        assertEquals(List.of(first.getId(), second.getId()), apps.stream().map(a -> a.getId()).toList());
+        verify(client, times(2)).getApplicationsByFile(any(), any(), anyInt());
+    }
+
+    @Test
+    void fallbackOnFirstPage_returnsEmpty() {
+        ApplicationServiceClientFeign client = mock(ApplicationServiceClientFeign.class);
+        UUID fileId = UUID.randomUUID();
+        when(client.getApplicationsByFile(eq(fileId), isNull(), anyInt())).thenReturn(fallback(fileId));
+
+        assertTrue(new ApplicationServiceAdapter(client).getApplicationsByFile(fileId).isEmpty());
+    }
+
+    @Test
+    void fallbackOnLaterPage_failsInsteadOfTruncating() {
+        ApplicationServiceClientFeign client = mock(ApplicationServiceClientFeign.class);
+        UUID fileId = UUID.randomUUID();
+        when(client.getApplicationsByFile(eq(fileId), isNull(), anyInt()))
+                .thenReturn(ResponseEntity.ok().header("X-Next-Cursor", "c1").body(List.of(dto())));
+        when(client.getApplicationsByFile(eq(fileId), eq("c1"), anyInt())).thenReturn(fallback(fileId));
+
+        ApplicationServiceAdapter adapter = new ApplicationServiceAdapter(client);
+        assertThrows(ServiceUnavailableException.class, () -> adapter.getApplicationsByFile(fileId));
+    }
+
+    private static ResponseEntity<List<ApplicationInfoDto>> fallback(UUID fileId) {
+        return new ApplicationServiceClientFallbackFactory().create(new RuntimeException("down"))
+                .getApplicationsByFile(fileId, "c1", 50);
+    }
+
+    private static ApplicationInfoDto dto() {
+        ApplicationInfoDto dto = new ApplicationInfoDto();
+        dto.setId(UUID.randomUUID());
+        return dto;
+    }
+}
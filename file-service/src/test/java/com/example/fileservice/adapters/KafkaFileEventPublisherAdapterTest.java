@@ -0,0 +1,62 @@
+package com.example.fileservice.adapters;
+
+import com.example.fileservice.adapters.outbound.messaging.KafkaFileEventPublisherAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class KafkaFileEventPublisherAdapterTest {
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+    private final KafkaFileEventPublisherAdapter adapter = new KafkaFileEventPublisherAdapter(kafkaTemplate);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publishFileDeleted_inTransaction_sendsOnlyAfterCommit() {
+        when(kafkaTemplate.send(any(), any(), any())).thenReturn(new CompletableFuture<>());
+        UUID fileId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        adapter.publishFileDeleted(fileId);
+        verifyNoInteractions(kafkaTemplate);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(kafkaTemplate).send(any(), eq(fileId.toString()), eq(fileId.toString()));
+    }
+
+    @Test
+    void publishFileDeleted_rolledBack_sendsNothing() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        adapter.publishFileDeleted(UUID.randomUUID());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void publishFileDeleted_withoutTransaction_sendsImmediately() {
+        when(kafkaTemplate.send(any(), any(), any())).thenReturn(new CompletableFuture<>());
+        UUID fileId = UUID.randomUUID();
+
+        adapter.publishFileDeleted(fileId);
+
+        verify(kafkaTemplate).send(any(), eq(fileId.toString()), eq(fileId.toString()));
+    }
+}
@@ -38,6 +38,7 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
 
@@ -113,8 +114,8 @@ public class FileIntegrationTest {
         minioService.initializeBucket();
 
         // Mock Feign client to return empty applications
-        when(applicationServiceClient.getApplicationsByFile(any(UUID.class)))
-                .thenReturn(Collections.emptyList());
+        when(applicationServiceClient.getApplicationsByFile(any(UUID.class), any(), anyInt()))
+                .thenReturn(ResponseEntity.ok(Collections.emptyList()));
 
         // Enable PATCH support in RestTemplate if needed
         restTemplate.getRestTemplate().setRequestFactory(new HttpComponentsClientHttpRequestFactory());
@@ -4,6 +4,7 @@ import com.example.fileservice.application.exception.ForbiddenException;
 import com.example.fileservice.application.exception.NotFoundException;
 import com.example.fileservice.application.usecase.DeleteFileUseCase;
 import com.example.fileservice.domain.model.File;
+import com.example.fileservice.domain.port.outbound.FileEventPublisherPort;
 import com.example.fileservice.domain.port.outbound.FileRepositoryPort;
 import com.example.fileservice.domain.port.outbound.StoragePort;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,11 +28,14 @@ public class DeleteFileUseCaseTest {
     @Mock
     private StoragePort storagePort;
 
+    @Mock
+    private FileEventPublisherPort eventPublisher;
+
     private DeleteFileUseCase useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new DeleteFileUseCase(fileRepository, storagePort);
+        useCase = new DeleteFileUseCase(fileRepository, storagePort, eventPublisher);
     }
 
     @Test
@@ -61,6 +65,7 @@ public class DeleteFileUseCaseTest {
         assertThrows(ForbiddenException.class, () -> useCase.deleteFile(id, other, false));
         verify(storagePort, never()).delete(anyString(), anyString());
         verify(fileRepository, never()).delete(any());
+        verify(eventPublisher, never()).publishFileDeleted(any());
     }
 
     @Test
@@ -81,5 +86,6 @@ public class DeleteFileUseCaseTest {
 
         verify(storagePort).delete(f.getBucketName(), f.getStorageKey());
         verify(fileRepository).delete(f);
+        verify(eventPublisher).publishFileDeleted(id);
     }
 }
@@ -31,7 +31,7 @@ public class UploadFileUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new UploadFileUseCase(fileRepository, storagePort);
+        useCase = new UploadFileUseCase(fileRepository, storagePort, UUID::randomUUID);
     }
 
     @Test
@@ -3,6 +3,7 @@ package com.example.tagservice.adapters.inbound.transaction;
 import com.example.tagservice.application.usecase.CreateOrGetTagsBatchUseCase;
 import com.example.tagservice.domain.model.Tag;
 import com.example.tagservice.domain.port.inbound.CreateOrGetTagsBatchUseCasePort;
+import com.example.tagservice.domain.port.outbound.IdGeneratorPort;
 import com.example.tagservice.domain.port.outbound.TagRepositoryPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,9 +17,9 @@ public class CreateOrGetTagsBatchUseCaseTxDecorator implements CreateOrGetTagsBa
 
     private final CreateOrGetTagsBatchUseCase delegate;
 
-    public CreateOrGetTagsBatchUseCaseTxDecorator(TagRepositoryPort tagRepositoryPort) {
+    public CreateOrGetTagsBatchUseCaseTxDecorator(TagRepositoryPort tagRepositoryPort, IdGeneratorPort idGeneratorPort) {
         // delegate — чистый объект application-layer, создаём его вручную
-        this.delegate = new CreateOrGetTagsBatchUseCase(tagRepositoryPort);
+        this.delegate = new CreateOrGetTagsBatchUseCase(tagRepositoryPort, idGeneratorPort);
     }
 
     @Override
@@ -1,12 +1,14 @@
 package com.example.tagservice.adapters.outbound.feign;
 
 import com.example.tagservice.application.dto.ApplicationInfoDto;
+import com.example.tagservice.application.exception.ServiceUnavailableException;
 import com.example.tagservice.domain.model.ApplicationInfo;
 import com.example.tagservice.domain.port.outbound.ApplicationServicePort;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Адаптер реализует доменный порт ApplicationServicePort, использует Feign client,
@@ -15,17 +17,31 @@ import java.util.stream.Collectors;
 @Component
 public class ApplicationServiceAdapter implements ApplicationServicePort {
 
+    private static final String NEXT_CURSOR = "X-Next-Cursor";
+    private static final int PAGE_SIZE = 50;
+
     private final ApplicationServiceClientFeign feignClient;
 
     public ApplicationServiceAdapter(ApplicationServiceClientFeign feignClient) {
         this.feignClient = feignClient;
     }
 
+    // application-service отдаёт заявки постранично; собираем все страницы, чтобы порт по-прежнему возвращал полный список.
+    // Заглушка на первой странице — прежнее поведение (пустой список); на следующих — ошибка, а не обрезанный список
     @Override
     public List<ApplicationInfo> getApplicationsByTag(String tagName) {
-        List<ApplicationInfoDto> dtos = feignClient.getApplicationsByTag(tagName);
-        if (dtos == null) return List.of();
-        return dtos.stream().map(this::toDomain).collect(Collectors.toList());
+        List<ApplicationInfo> result = new ArrayList<>();
+        String cursor = null;
+        do {
+            ResponseEntity<List<ApplicationInfoDto>> page = feignClient.getApplicationsByTag(tagName, cursor, PAGE_SIZE);
+            if (page == null || page.getBody() == null || page.getHeaders().containsKey(ApplicationServiceClientFallbackFactory.FALLBACK_HEADER)) {
+                if (cursor == null) return result;
+                throw new ServiceUnavailableException("Application service became unavailable while paging applications of tag " + tagName);
+            }
+            page.getBody().stream().map(this::toDomain).forEach(result::add);
+            cursor = page.getHeaders().getFirst(NEXT_CURSOR);
+        } while (cursor != null);
+        return result;
     }
 
     private ApplicationInfo toDomain(ApplicationInfoDto dto) {
@@ -2,6 +2,7 @@ package com.example.tagservice.adapters.outbound.feign;
 
 import com.example.tagservice.application.dto.ApplicationInfoDto;
 import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
@@ -9,13 +10,17 @@ import java.util.List;
 
 @Component
 public class ApplicationServiceClientFallbackFactory implements FallbackFactory<ApplicationServiceClientFeign> {
+
+    // помечает ответ-заглушку: адаптер отличает его от настоящей пустой страницы
+    static final String FALLBACK_HEADER = "X-Fallback";
+
     @Override
     public ApplicationServiceClientFeign create(Throwable cause) {
         return new ApplicationServiceClientFeign() {
             @Override
-            public List<ApplicationInfoDto> getApplicationsByTag(String tagName) {
+            public ResponseEntity<List<ApplicationInfoDto>> getApplicationsByTag(String tagName, String cursor, int limit) {
                 // при недоступности возвращаем пустой список, адаптеры обработают это соответствующим образом
-                return Collections.emptyList();
+                return ResponseEntity.ok().header(FALLBACK_HEADER, "true").body(Collections.emptyList());
             }
         };
     }
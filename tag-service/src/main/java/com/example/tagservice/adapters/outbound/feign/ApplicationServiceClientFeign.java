@@ -2,6 +2,7 @@ package com.example.tagservice.adapters.outbound.feign;
 
 import com.example.tagservice.application.dto.ApplicationInfoDto;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -13,6 +14,11 @@ import java.util.List;
 )
 public interface ApplicationServiceClientFeign {
 
+    /**
+     * Одна keyset-страница; курсор следующей — в заголовке X-Next-Cursor (нет заголовка — страница последняя).
+     */
     @GetMapping("/api/v1/applications/by-tag")
-    List<ApplicationInfoDto> getApplicationsByTag(@RequestParam("tag") String tagName);
+    ResponseEntity<List<ApplicationInfoDto>> getApplicationsByTag(@RequestParam("tag") String tagName,
+                                                                 @RequestParam(value = "cursor", required = false) String cursor,
+                                                                 @RequestParam("limit") int limit);
 }
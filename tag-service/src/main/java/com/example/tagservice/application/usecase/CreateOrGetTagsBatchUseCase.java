@@ -1,6 +1,7 @@
 package com.example.tagservice.application.usecase;
 
 import com.example.tagservice.domain.model.Tag;
+import com.example.tagservice.domain.port.outbound.IdGeneratorPort;
 import com.example.tagservice.domain.port.outbound.TagRepositoryPort;
 import com.example.tagservice.domain.port.inbound.CreateOrGetTagsBatchUseCasePort;
 import org.slf4j.Logger;
@@ -16,9 +17,11 @@ public class CreateOrGetTagsBatchUseCase implements CreateOrGetTagsBatchUseCaseP
 
     private static final Logger log = LoggerFactory.getLogger(CreateOrGetTagsBatchUseCase.class);
     private final TagRepositoryPort tagRepositoryPort;
+    private final IdGeneratorPort idGenerator;
 
-    public CreateOrGetTagsBatchUseCase(TagRepositoryPort tagRepositoryPort) {
+    public CreateOrGetTagsBatchUseCase(TagRepositoryPort tagRepositoryPort, IdGeneratorPort idGenerator) {
         this.tagRepositoryPort = tagRepositoryPort;
+        this.idGenerator = idGenerator;
     }
 
     @Override
@@ -43,7 +46,7 @@ public class CreateOrGetTagsBatchUseCase implements CreateOrGetTagsBatchUseCaseP
 
         List<Tag> toCreate = unique.stream()
                 .filter(n -> !existingNames.contains(n))
-                .map(Tag::createNew)
+                .map(n -> Tag.createNew(idGenerator.newId(), n))
                 .collect(Collectors.toList());
 
         if (!toCreate.isEmpty()) {
@@ -1,6 +1,7 @@
 package com.example.tagservice.application.usecase;
 
 import com.example.tagservice.domain.model.Tag;
+import com.example.tagservice.domain.port.outbound.IdGeneratorPort;
 import com.example.tagservice.domain.port.outbound.TagRepositoryPort;
 import com.example.tagservice.domain.port.inbound.CreateTagUseCasePort;
 import org.slf4j.Logger;
@@ -15,9 +16,11 @@ public class CreateTagUseCase implements CreateTagUseCasePort {
 
     private static final Logger log = LoggerFactory.getLogger(CreateTagUseCase.class);
     private final TagRepositoryPort tagRepositoryPort;
+    private final IdGeneratorPort idGenerator;
 
-    public CreateTagUseCase(TagRepositoryPort tagRepositoryPort) {
+    public CreateTagUseCase(TagRepositoryPort tagRepositoryPort, IdGeneratorPort idGenerator) {
         this.tagRepositoryPort = tagRepositoryPort;
+        this.idGenerator = idGenerator;
     }
 
     @Override
@@ -29,7 +32,7 @@ public class CreateTagUseCase implements CreateTagUseCasePort {
 
         return tagRepositoryPort.findByName(trimmed)
                 .orElseGet(() -> {
-                    Tag newTag = Tag.createNew(trimmed);
+                    Tag newTag = Tag.createNew(idGenerator.newId(), trimmed);
                     Tag saved = tagRepositoryPort.save(newTag);
                     log.info("Created tag: {}", saved.getName());
                     return saved;
@@ -22,11 +22,11 @@ public class Tag {
         this.name = name;
     }
 
-    public static Tag createNew(String name) {
+    public static Tag createNew(UUID id, String name) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Tag name required");
         }
-        return new Tag(UUID.randomUUID(), name.trim());
+        return new Tag(id, name.trim());
     }
 
     public UUID getId() { return id; }
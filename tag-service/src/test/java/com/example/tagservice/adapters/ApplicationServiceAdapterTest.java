@@ -0,0 +1,65 @@
+package com.example.tagservice.adapters;
+
+import com.example.tagservice.adapters.outbound.feign.ApplicationServiceAdapter;
+import com.example.tagservice.adapters.outbound.feign.ApplicationServiceClientFallbackFactory;
+import com.example.tagservice.adapters.outbound.feign.ApplicationServiceClientFeign;
+import com.example.tagservice.application.dto.ApplicationInfoDto;
+import com.example.tagservice.application.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ApplicationServiceAdapterTest {
+
+    @Test
+    void followsNextCursorUntilLastPage() {
+        ApplicationServiceClientFeign client = mock(ApplicationServiceClientFeign.class);
+        ApplicationInfoDto first = dto();
+        ApplicationInfoDto second = dto();
+        when(client.getApplicationsByTag(eq("vip"), isNull(), anyInt()))
+                .thenReturn(ResponseEntity.ok().header("X-Next-Cursor", "c1").body(List.of(first)));
+        when(client.getApplicationsByTag(eq("vip"), eq("c1"), anyInt()))
+                .thenReturn(ResponseEntity.ok(List.of(second)));
+
+        var apps = new ApplicationServiceAdapter(client).getApplicationsByTag("vip");
+
+        assertEquals(List.of(first.getId(), second.getId()), apps.stream().map(a -> a.getId()).toList());
+        verify(client, times(2)).getApplicationsByTag(any(), any(), anyInt());
+    }
+
+    @Test
+    void fallbackOnFirstPage_returnsEmpty() {
+        ApplicationServiceClientFeign client = mock(ApplicationServiceClientFeign.class);
+        when(client.getApplicationsByTag(eq("vip"), isNull(), anyInt())).thenReturn(fallback("vip"));
+
+        assertTrue(new ApplicationServiceAdapter(client).getApplicationsByTag("vip").isEmpty());
+    }
+
+    @Test
+    void fallbackOnLaterPage_failsInsteadOfTruncating() {
+        ApplicationServiceClientFeign client = mock(ApplicationServiceClientFeign.class);
+        when(client.getApplicationsByTag(eq("vip"), isNull(), anyInt()))
+                .thenReturn(ResponseEntity.ok().header("X-Next-Cursor", "c1").body(List.of(dto())));
+        when(client.getApplicationsByTag(eq("vip"), eq("c1"), anyInt())).thenReturn(fallback("vip"));
+
+        ApplicationServiceAdapter adapter = new ApplicationServiceAdapter(client);
+        assertThrows(ServiceUnavailableException.class, () -> adapter.getApplicationsByTag("vip"));
+    }
+
+    private static ResponseEntity<List<ApplicationInfoDto>> fallback(String tagName) {
+        return new ApplicationServiceClientFallbackFactory().create(new RuntimeException("down"))
+                .getApplicationsByTag(tagName, "c1", 50);
+    }
+
+    private static ApplicationInfoDto dto() {
+        ApplicationInfoDto dto = new ApplicationInfoDto();
+        dto.setId(UUID.randomUUID());
+        return dto;
+    }
+}
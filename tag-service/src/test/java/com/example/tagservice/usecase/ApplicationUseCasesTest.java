@@ -37,8 +37,8 @@ public class ApplicationUseCasesTest {
 
     @BeforeEach
     void setUp() {
-        createTagUseCase = new CreateTagUseCase(tagRepositoryPort);
-        createOrGetTagsBatchUseCase = new CreateOrGetTagsBatchUseCase(tagRepositoryPort);
+        createTagUseCase = new CreateTagUseCase(tagRepositoryPort, UUID::randomUUID);
+        createOrGetTagsBatchUseCase = new CreateOrGetTagsBatchUseCase(tagRepositoryPort, UUID::randomUUID);
         listTagsUseCase = new ListTagsUseCase(tagRepositoryPort);
         getTagUseCase = new GetTagUseCase(tagRepositoryPort);
 
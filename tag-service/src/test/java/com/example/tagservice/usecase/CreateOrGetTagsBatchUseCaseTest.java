@@ -24,7 +24,7 @@ public class CreateOrGetTagsBatchUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new CreateOrGetTagsBatchUseCase(tagRepositoryPort);
+        useCase = new CreateOrGetTagsBatchUseCase(tagRepositoryPort, UUID::randomUUID);
     }
 
     @Test
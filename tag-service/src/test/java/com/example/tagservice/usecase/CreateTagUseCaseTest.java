@@ -25,7 +25,7 @@ public class CreateTagUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new CreateTagUseCase(tagRepositoryPort);
+        useCase = new CreateTagUseCase(tagRepositoryPort, UUID::randomUUID);
     }
 
     @Test